@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Per-request heap allocation of the list endpoints, from RequestAllocationFilter.
+#
+# Start the app with app.diagnostics.allocation-logging=true, logging to $LOG_FILE,
+# on a database filled by the datagen profile, then run:
+#
+#   BASE_URL=http://localhost:8080 FARMER_TOKEN=... ADMIN_TOKEN=... \
+#   SEASON_ID=1 LOT_ID=1 LOG_FILE=app.log scripts/perf/list-allocation.sh
+#
+# Run it once on the commit before the projection rewrite and once after, on the
+# same data, and compare the two tables. The first WARMUP rounds are not counted.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+LOG_FILE=${LOG_FILE:?path of the application log}
+ROUNDS=${ROUNDS:-50}
+WARMUP=${WARMUP:-10}
+SEASON_ID=${SEASON_ID:-1}
+LOT_ID=${LOT_ID:-1}
+
+FARMER_ENDPOINTS=(
+  "/api/v1/seasons?size=20"
+  "/api/v1/farms?size=20"
+  "/api/v1/seasons/${SEASON_ID}/tasks?size=20"
+)
+ADMIN_ENDPOINTS=(
+  "/api/v1/admin/farms?size=20"
+  "/api/v1/admin/plots?size=20"
+  "/api/v1/admin/incidents?size=20"
+  "/api/v1/admin/suppliers/lots/${LOT_ID}/movements?size=20"
+)
+
+call() {
+  curl -s -o /dev/null -H "Authorization: Bearer $1" "${BASE_URL}$2"
+}
+
+round() {
+  for endpoint in "${FARMER_ENDPOINTS[@]}"; do call "${FARMER_TOKEN:?}" "$endpoint"; done
+  for endpoint in "${ADMIN_ENDPOINTS[@]}"; do call "${ADMIN_TOKEN:?}" "$endpoint"; done
+}
+
+for ((i = 0; i < WARMUP; i++)); do round; done
+start=$(wc -c < "$LOG_FILE")
+for ((i = 0; i < ROUNDS; i++)); do round; done
+sleep 1
+
+# Lines look like: GET /api/v1/seasons?size=20 -> 200 in 12 ms, allocated 345 KB
+tail -c +"$((start + 1))" "$LOG_FILE" \
+  | grep -o 'GET /api/[^ ]* -> [0-9]* in [0-9]* ms, allocated [0-9]* KB' \
+  | awk '{ print $2, $6, $9 }' \
+  | sort -k1,1 -k3,3n \
+  | awk '
+      function flush() {
+        if (n == 0) return
+        printf "%-60s %6d %10d %10d %8.1f\n", key, n, kb[int((n + 1) / 2)], kb[int(n * 0.95 + 0.5)], ms / n
+      }
+      BEGIN { printf "%-60s %6s %10s %10s %8s\n", "endpoint", "calls", "p50 KB", "p95 KB", "avg ms" }
+      $1 != key { flush(); key = $1; n = 0; ms = 0 }
+      { kb[++n] = $3; ms += $2 }
+      END { flush() }'
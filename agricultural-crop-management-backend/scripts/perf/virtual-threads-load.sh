@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Throughput and latency of the farmer workspace endpoints under concurrent load,
+# for comparing spring.threads.virtual.enabled=false against =true.
+#
+# Start the app on a Java 21+ runtime, on a database filled by the datagen profile,
+# once with each setting (everything else unchanged), and run against each:
+#
+#   BASE_URL=http://localhost:8080 FARMER_TOKEN=... SEASON_ID=1 \
+#   CONCURRENCY=200 REQUESTS=20000 scripts/perf/virtual-threads-load.sh
+#
+# Keep CONCURRENCY above server.tomcat.threads.max (200 by default) so the platform
+# thread pool, not the client, is the limit in the first run. The first WARMUP
+# requests are not counted.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+FARMER_TOKEN=${FARMER_TOKEN:?bearer token of a farmer with data}
+SEASON_ID=${SEASON_ID:-1}
+CONCURRENCY=${CONCURRENCY:-200}
+REQUESTS=${REQUESTS:-20000}
+WARMUP=${WARMUP:-1000}
+
+ENDPOINTS=(
+  "/api/v1/seasons?size=20"
+  "/api/v1/seasons/${SEASON_ID}/tasks?size=20"
+  "/api/v1/seasons/${SEASON_ID}/progress"
+  "/api/v1/seasons/${SEASON_ID}/incidents?size=20"
+)
+
+results=$(mktemp)
+trap 'rm -f "$results"' EXIT
+
+# Prints "<status> <seconds>" for each request
+load() {
+  local count=$1
+  for ((i = 0; i < count; i++)); do
+    echo "${ENDPOINTS[i % ${#ENDPOINTS[@]}]}"
+  done | xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null \
+    -H "Authorization: Bearer ${FARMER_TOKEN}" -w '%{http_code} %{time_total}\n' "${BASE_URL}{}"
+}
+
+load "$WARMUP" > /dev/null
+started=$(date +%s.%N)
+load "$REQUESTS" > "$results"
+finished=$(date +%s.%N)
+
+sort -k2,2n "$results" | awk -v started="$started" -v finished="$finished" '
+  BEGIN { elapsed = finished - started }
+  { ms[++n] = $2 * 1000; if ($1 !~ /^2/) errors++ }
+  END {
+    printf "%-12s %8s %8s %10s %8s %8s %8s\n", "requests", "errors", "seconds", "req/s", "p50 ms", "p95 ms", "p99 ms"
+    printf "%-12d %8d %8.1f %10.1f %8.1f %8.1f %8.1f\n", n, errors, elapsed, n / elapsed,
+      ms[int((n + 1) / 2)], ms[int(n * 0.95 + 0.5)], ms[int(n * 0.99 + 0.5)]
+  }'
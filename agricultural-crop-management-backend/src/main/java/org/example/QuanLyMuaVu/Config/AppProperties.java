@@ -3,6 +3,12 @@ package org.example.QuanLyMuaVu.Config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
@@ -10,6 +16,13 @@ public class AppProperties {
     private Jwt jwt = new Jwt();
     private Mail mail = new Mail();
     private Ai ai = new Ai();
+    private DataGen datagen = new DataGen();
+    private ReadReplicas readReplicas = new ReadReplicas();
+    private CacheSettings cache = new CacheSettings();
+    private Storage storage = new Storage();
+    private Reports reports = new Reports();
+    private YieldModel yieldModel = new YieldModel();
+    private Qa qa = new Qa();
 
     public Jwt getJwt() {
         return jwt;
@@ -35,6 +48,62 @@ public class AppProperties {
         this.ai = ai;
     }
 
+    public DataGen getDatagen() {
+        return datagen;
+    }
+
+    public void setDatagen(DataGen datagen) {
+        this.datagen = datagen;
+    }
+
+    public ReadReplicas getReadReplicas() {
+        return readReplicas;
+    }
+
+    public void setReadReplicas(ReadReplicas readReplicas) {
+        this.readReplicas = readReplicas;
+    }
+
+    public CacheSettings getCache() {
+        return cache;
+    }
+
+    public void setCache(CacheSettings cache) {
+        this.cache = cache;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    public Reports getReports() {
+        return reports;
+    }
+
+    public void setReports(Reports reports) {
+        this.reports = reports;
+    }
+
+    public YieldModel getYieldModel() {
+        return yieldModel;
+    }
+
+    public void setYieldModel(YieldModel yieldModel) {
+        this.yieldModel = yieldModel;
+    }
+
+    public Qa getQa() {
+        return qa;
+    }
+
+    public void setQa(Qa qa) {
+        this.qa = qa;
+    }
+
     public static class Jwt {
         private String secret;
         private long expirationMs;
@@ -56,8 +125,23 @@ public class AppProperties {
         }
     }
 
+    /**
+     * Email notifications. SMTP itself is configured under {@code spring.mail.*};
+     * without {@code spring.mail.host} notifications are only logged.
+     */
     public static class Mail {
         private String from;
+        /** How often queued notifications are sent. */
+        private Duration dispatchInterval = Duration.ofSeconds(30);
+        /** Notifications read per dispatch round. */
+        private int batchSize = 200;
+        /** Attempts before a notification is marked FAILED. */
+        private int maxAttempts = 5;
+        /** Delay before the first retry; doubled on each further attempt. */
+        private Duration retryBackoff = Duration.ofMinutes(1);
+        private Duration maxBackoff = Duration.ofHours(1);
+        /** Sent notifications older than this are deleted. */
+        private Duration retention = Duration.ofDays(7);
 
         public String getFrom() {
             return from;
@@ -66,10 +150,72 @@ public class AppProperties {
         public void setFrom(String from) {
             this.from = from;
         }
+
+        public Duration getDispatchInterval() {
+            return dispatchInterval;
+        }
+
+        public void setDispatchInterval(Duration dispatchInterval) {
+            this.dispatchInterval = dispatchInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
     }
 
+    /**
+     * Remote AI service; without a base URL the local heuristics answer.
+     */
     public static class Ai {
         private String baseUrl;
+        /** TCP connect timeout. */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /** Limit for a whole call, including the wait for a pooled connection. */
+        private Duration callTimeout = Duration.ofSeconds(5);
+        private int maxConnections = 20;
+        /** Calls in flight at once; further calls get the local answer. */
+        private int maxConcurrentCalls = 10;
+        /** Consecutive failures that open the circuit breaker. */
+        private int failureThreshold = 5;
+        /** How long an open circuit answers locally before trying the service again. */
+        private Duration openDuration = Duration.ofSeconds(30);
 
         public String getBaseUrl() {
             return baseUrl;
@@ -78,5 +224,544 @@ public class AppProperties {
         public void setBaseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
         }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getCallTimeout() {
+            return callTimeout;
+        }
+
+        public void setCallTimeout(Duration callTimeout) {
+            this.callTimeout = callTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+    }
+
+    /**
+     * Sizing knobs for the synthetic dataset generator (profile {@code datagen}).
+     * Per-farm and per-season values are means; farm sizes are skewed so the
+     * largest farms are up to {@code maxFarmScale} times the smallest.
+     */
+    public static class DataGen {
+        private int users = 1000;
+        private int farms = 1000;
+        private int plotsPerFarm = 5;
+        private int seasonsPerPlot = 4;
+        private int tasksPerSeason = 12;
+        private int fieldLogsPerSeason = 8;
+        private int expensesPerSeason = 6;
+        private int harvestsPerSeason = 2;
+        private double incidentsPerSeason = 0.3;
+        private int suppliers = 100;
+        private int supplyItems = 300;
+        private int supplyLots = 2000;
+        private int movementsPerFarm = 40;
+        private double maxFarmScale = 100;
+        private int years = 3;
+        private int batchSize = 1000;
+        private long seed = 42L;
+
+        public int getUsers() {
+            return users;
+        }
+
+        public void setUsers(int users) {
+            this.users = users;
+        }
+
+        public int getFarms() {
+            return farms;
+        }
+
+        public void setFarms(int farms) {
+            this.farms = farms;
+        }
+
+        public int getPlotsPerFarm() {
+            return plotsPerFarm;
+        }
+
+        public void setPlotsPerFarm(int plotsPerFarm) {
+            this.plotsPerFarm = plotsPerFarm;
+        }
+
+        public int getSeasonsPerPlot() {
+            return seasonsPerPlot;
+        }
+
+        public void setSeasonsPerPlot(int seasonsPerPlot) {
+            this.seasonsPerPlot = seasonsPerPlot;
+        }
+
+        public int getTasksPerSeason() {
+            return tasksPerSeason;
+        }
+
+        public void setTasksPerSeason(int tasksPerSeason) {
+            this.tasksPerSeason = tasksPerSeason;
+        }
+
+        public int getFieldLogsPerSeason() {
+            return fieldLogsPerSeason;
+        }
+
+        public void setFieldLogsPerSeason(int fieldLogsPerSeason) {
+            this.fieldLogsPerSeason = fieldLogsPerSeason;
+        }
+
+        public int getExpensesPerSeason() {
+            return expensesPerSeason;
+        }
+
+        public void setExpensesPerSeason(int expensesPerSeason) {
+            this.expensesPerSeason = expensesPerSeason;
+        }
+
+        public int getHarvestsPerSeason() {
+            return harvestsPerSeason;
+        }
+
+        public void setHarvestsPerSeason(int harvestsPerSeason) {
+            this.harvestsPerSeason = harvestsPerSeason;
+        }
+
+        public double getIncidentsPerSeason() {
+            return incidentsPerSeason;
+        }
+
+        public void setIncidentsPerSeason(double incidentsPerSeason) {
+            this.incidentsPerSeason = incidentsPerSeason;
+        }
+
+        public int getSuppliers() {
+            return suppliers;
+        }
+
+        public void setSuppliers(int suppliers) {
+            this.suppliers = suppliers;
+        }
+
+        public int getSupplyItems() {
+            return supplyItems;
+        }
+
+        public void setSupplyItems(int supplyItems) {
+            this.supplyItems = supplyItems;
+        }
+
+        public int getSupplyLots() {
+            return supplyLots;
+        }
+
+        public void setSupplyLots(int supplyLots) {
+            this.supplyLots = supplyLots;
+        }
+
+        public int getMovementsPerFarm() {
+            return movementsPerFarm;
+        }
+
+        public void setMovementsPerFarm(int movementsPerFarm) {
+            this.movementsPerFarm = movementsPerFarm;
+        }
+
+        public double getMaxFarmScale() {
+            return maxFarmScale;
+        }
+
+        public void setMaxFarmScale(double maxFarmScale) {
+            this.maxFarmScale = maxFarmScale;
+        }
+
+        public int getYears() {
+            return years;
+        }
+
+        public void setYears(int years) {
+            this.years = years;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+    }
+
+    /**
+     * Read replicas used for {@code @Transactional(readOnly = true)} work.
+     * A replica whose reported lag exceeds {@code maxLagSeconds}, or that fails
+     * its health check, is skipped until it recovers; with no healthy replica,
+     * reads go to the primary.
+     */
+    public static class ReadReplicas {
+        private boolean enabled = false;
+        private List<Node> nodes = new ArrayList<>();
+        private long healthCheckIntervalMs = 5000;
+        private long maxLagSeconds = 10;
+        /** Optional query returning replication lag in seconds, e.g. SHOW REPLICA STATUS. */
+        private String lagQuery;
+        /** Column holding the lag in the lag query result; the first column when empty. */
+        private String lagColumn;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Node> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        public long getHealthCheckIntervalMs() {
+            return healthCheckIntervalMs;
+        }
+
+        public void setHealthCheckIntervalMs(long healthCheckIntervalMs) {
+            this.healthCheckIntervalMs = healthCheckIntervalMs;
+        }
+
+        public long getMaxLagSeconds() {
+            return maxLagSeconds;
+        }
+
+        public void setMaxLagSeconds(long maxLagSeconds) {
+            this.maxLagSeconds = maxLagSeconds;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public String getLagColumn() {
+            return lagColumn;
+        }
+
+        public void setLagColumn(String lagColumn) {
+            this.lagColumn = lagColumn;
+        }
+
+        /**
+         * Connection settings of a single replica. Username, password and driver
+         * default to the primary {@code spring.datasource} values.
+         */
+        public static class Node {
+            private String name;
+            private String url;
+            private String username;
+            private String password;
+            private String driverClassName;
+            private int maximumPoolSize = 10;
+            private long connectionTimeoutMs = 3000;
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                this.name = name;
+            }
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public String getDriverClassName() {
+                return driverClassName;
+            }
+
+            public void setDriverClassName(String driverClassName) {
+                this.driverClassName = driverClassName;
+            }
+
+            public int getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(int maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+
+            public long getConnectionTimeoutMs() {
+                return connectionTimeoutMs;
+            }
+
+            public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+                this.connectionTimeoutMs = connectionTimeoutMs;
+            }
+        }
+    }
+
+    /**
+     * Size and TTL limits for {@code @Cacheable} caches, keyed by cache name.
+     * Caches without an entry use {@code defaults}.
+     */
+    public static class CacheSettings {
+        private Spec defaults = new Spec();
+        private Map<String, Spec> specs = new LinkedHashMap<>();
+
+        public Spec getDefaults() {
+            return defaults;
+        }
+
+        public void setDefaults(Spec defaults) {
+            this.defaults = defaults;
+        }
+
+        public Map<String, Spec> getSpecs() {
+            return specs;
+        }
+
+        public void setSpecs(Map<String, Spec> specs) {
+            this.specs = specs;
+        }
+
+        public static class Spec {
+            private long maximumSize = 1000;
+            /** Time to live after write; zero disables expiry. */
+            private Duration ttl = Duration.ofMinutes(30);
+
+            public long getMaximumSize() {
+                return maximumSize;
+            }
+
+            public void setMaximumSize(long maximumSize) {
+                this.maximumSize = maximumSize;
+            }
+
+            public Duration getTtl() {
+                return ttl;
+            }
+
+            public void setTtl(Duration ttl) {
+                this.ttl = ttl;
+            }
+        }
+    }
+
+    /**
+     * Local filesystem store for uploaded document files.
+     */
+    public static class Storage {
+        /** Root directory; files live under {@code <root>/<hash[0..2]>/<hash>}. */
+        private String root = "data/documents";
+
+        public String getRoot() {
+            return root;
+        }
+
+        public void setRoot(String root) {
+            this.root = root;
+        }
+    }
+
+    /**
+     * Background report jobs: worker pool size, pending queue bound, and how
+     * long finished results are kept on disk; plus the pool for the parallel
+     * aggregate queries inside a report.
+     */
+    public static class Reports {
+        private String root = "data/reports";
+        private int workers = 2;
+        private int queueCapacity = 20;
+        private Duration resultTtl = Duration.ofHours(1);
+        /** Threads running independent report aggregate queries side by side. */
+        private int queryParallelism = 4;
+        /** Limit for a group of parallel report queries, queueing included. */
+        private Duration queryTimeout = Duration.ofMinutes(2);
+
+        public String getRoot() {
+            return root;
+        }
+
+        public void setRoot(String root) {
+            this.root = root;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getResultTtl() {
+            return resultTtl;
+        }
+
+        public void setResultTtl(Duration resultTtl) {
+            this.resultTtl = resultTtl;
+        }
+
+        public int getQueryParallelism() {
+            return queryParallelism;
+        }
+
+        public void setQueryParallelism(int queryParallelism) {
+            this.queryParallelism = queryParallelism;
+        }
+
+        public Duration getQueryTimeout() {
+            return queryTimeout;
+        }
+
+        public void setQueryTimeout(Duration queryTimeout) {
+            this.queryTimeout = queryTimeout;
+        }
+    }
+
+    /**
+     * In-process yield prediction: how often changed seasons are folded into
+     * the models, how often they are rebuilt from scratch, and how many
+     * finished seasons a model needs before it is used.
+     */
+    public static class YieldModel {
+        private Duration refreshInterval = Duration.ofMinutes(1);
+        private Duration rebuildInterval = Duration.ofHours(24);
+        private int minSamples = 5;
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getRebuildInterval() {
+            return rebuildInterval;
+        }
+
+        public void setRebuildInterval(Duration rebuildInterval) {
+            this.rebuildInterval = rebuildInterval;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
+
+    public static class Qa {
+        /** Passages returned with an answer unless the request asks for fewer or more. */
+        private int topK = 5;
+        /** Target passage length; sentences are kept whole where they fit. */
+        private int passageWords = 80;
+        /** Leading bytes of an uploaded text file that are indexed. */
+        private int maxTextBytes = 1024 * 1024;
+
+        public int getTopK() {
+            return topK;
+        }
+
+        public void setTopK(int topK) {
+            this.topK = topK;
+        }
+
+        public int getPassageWords() {
+            return passageWords;
+        }
+
+        public void setPassageWords(int passageWords) {
+            this.passageWords = passageWords;
+        }
+
+        public int getMaxTextBytes() {
+            return maxTextBytes;
+        }
+
+        public void setMaxTextBytes(int maxTextBytes) {
+            this.maxTextBytes = maxTextBytes;
+        }
     }
 }
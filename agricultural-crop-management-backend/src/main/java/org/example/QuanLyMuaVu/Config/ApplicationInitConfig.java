@@ -6,9 +6,11 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.example.QuanLyMuaVu.Constant.PredefinedRole;
 import org.example.QuanLyMuaVu.Entity.Role;
+import org.example.QuanLyMuaVu.Entity.Season;
 import org.example.QuanLyMuaVu.Entity.User;
 import org.example.QuanLyMuaVu.Enums.UserStatus;
 import org.example.QuanLyMuaVu.Repository.RoleRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
@@ -30,7 +32,8 @@ public class ApplicationInitConfig {
     static final String ADMIN_PASSWORD = "12345678";
 
     @Bean
-    ApplicationRunner applicationRunner(UserRepository userRepository, RoleRepository roleRepository) {
+    ApplicationRunner applicationRunner(UserRepository userRepository, RoleRepository roleRepository,
+            SeasonRepository seasonRepository) {
         log.info("Dang khoi tao du lieu mac dinh (vai tro va nguoi dung admin)...");
         return args -> {
             // 1. Ensure default roles exist
@@ -56,6 +59,12 @@ public class ApplicationInitConfig {
             // 2. Ensure default admin user exists (and has ADMIN role)
             ensureAdminUserExists(adminRole, userRepository);
 
+            // 3. Fill effective_end_date for seasons created before the column existed
+            int backfilled = seasonRepository.backfillEffectiveEndDates(Season.OPEN_END_DATE);
+            if (backfilled > 0) {
+                log.info("Backfilled effective_end_date for {} seasons", backfilled);
+            }
+
             log.info("Khoi tao du lieu mac dinh hoan tat.");
         };
     }
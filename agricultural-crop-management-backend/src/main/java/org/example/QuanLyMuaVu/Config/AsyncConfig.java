@@ -0,0 +1,32 @@
+package org.example.QuanLyMuaVu.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Turns on {@code @Async} so domain event listeners (task template expansion,
+ * notifications) run off the request thread. Uses Spring Boot's
+ * auto-configured executor, tuned with {@code spring.task.execution.*}.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} on a Java 21+ runtime,
+ * Tomcat requests, {@code @Async} listeners and the report executors run on
+ * virtual threads. On Java 17 the property has no effect.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public AsyncConfig(Environment environment) {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Virtual threads enabled for request handling and async work");
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled is set, but Java {} has no virtual threads; "
+                    + "using platform threads", Runtime.version().feature());
+        }
+    }
+}
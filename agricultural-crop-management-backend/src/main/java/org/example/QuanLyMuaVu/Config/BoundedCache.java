@@ -0,0 +1,203 @@
+package org.example.QuanLyMuaVu.Config;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory cache bounded by entry count (LRU eviction) and by time since
+ * write. Keeps hit, miss, eviction and expiration counters.
+ * <p>
+ * Intended for small reference-data caches; every operation takes the cache
+ * monitor, so loaders run outside of it. Concurrent misses on the same key
+ * share one load: the first caller runs the loader and the others wait for
+ * its result, so an expired entry does not send every caller to the database.
+ */
+public class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final long maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Object, Entry> store;
+    /** Loads in progress, by key; removed once the value is stored. */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedCache(String name, long maximumSize, Duration ttl, boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.maximumSize = Math.max(1, maximumSize);
+        this.ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : ttl.toNanos();
+        // Access order turns the map into an LRU list: the eldest entry is the least recently used
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > BoundedCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        synchronized (store) {
+            Entry entry = store.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (isExpired(entry)) {
+                store.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return (T) fromStoreValue(await(inFlight, key, valueLoader));
+        }
+        try {
+            // A load that finished between the lookup and putIfAbsent has already stored the value
+            Object stored = peek(key);
+            if (stored == null) {
+                stored = toStoreValue(valueLoader.call());
+                synchronized (store) {
+                    store.put(key, new Entry(stored, System.nanoTime()));
+                }
+            }
+            load.complete(stored);
+            return (T) fromStoreValue(stored);
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Entry entry = new Entry(toStoreValue(value), System.nanoTime());
+        synchronized (store) {
+            store.put(key, entry);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        synchronized (store) {
+            Entry existing = store.get(key);
+            if (existing != null && !isExpired(existing)) {
+                return toValueWrapper(existing.value());
+            }
+            store.put(key, new Entry(toStoreValue(value), System.nanoTime()));
+            return null;
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        synchronized (store) {
+            store.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (store) {
+            store.clear();
+        }
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttlNanos == 0 ? Duration.ZERO : Duration.ofNanos(ttlNanos);
+    }
+
+    public int size() {
+        synchronized (store) {
+            return store.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Like {@link #lookup} but without touching the counters.
+     */
+    private Object peek(Object key) {
+        synchronized (store) {
+            Entry entry = store.get(key);
+            return entry == null || isExpired(entry) ? null : entry.value();
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> load, Object key, Callable<?> valueLoader) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttlNanos > 0 && System.nanoTime() - entry.writtenAt() > ttlNanos;
+    }
+
+    private record Entry(Object value, long writtenAt) {
+    }
+}
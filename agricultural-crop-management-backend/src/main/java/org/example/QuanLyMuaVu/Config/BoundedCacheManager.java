@@ -0,0 +1,48 @@
+package org.example.QuanLyMuaVu.Config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cache manager creating {@link BoundedCache} instances.
+ * <p>
+ * Caches listed under {@code app.cache.specs} get their own size and TTL; any
+ * other cache name used in {@code @Cacheable} is created on first use with
+ * {@code app.cache.defaults}.
+ */
+public class BoundedCacheManager extends AbstractCacheManager {
+
+    private final AppProperties.CacheSettings settings;
+
+    public BoundedCacheManager(AppProperties.CacheSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return settings.getSpecs().keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    public List<BoundedCache> getBoundedCaches() {
+        return getCacheNames().stream()
+                .map(this::lookupCache)
+                .filter(BoundedCache.class::isInstance)
+                .map(BoundedCache.class::cast)
+                .toList();
+    }
+
+    private BoundedCache createCache(String name) {
+        AppProperties.CacheSettings.Spec spec = settings.getSpecs().getOrDefault(name, settings.getDefaults());
+        return new BoundedCache(name, spec.getMaximumSize(), spec.getTtl(), true);
+    }
+}
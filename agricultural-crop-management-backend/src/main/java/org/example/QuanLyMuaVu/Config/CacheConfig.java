@@ -1,37 +1,31 @@
 package org.example.QuanLyMuaVu.Config;
 
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Cache configuration for the application.
- * Uses simple in-memory caching for address data (countries, provinces, wards).
+ * Uses bounded in-memory caches: each cache has a maximum entry count (least
+ * recently used entries are evicted first) and a time to live, configured under
+ * {@code app.cache.*}. Any {@code @Cacheable} cache name works; names without an
+ * explicit spec get {@code app.cache.defaults}.
  * <p>
  * For production with high traffic, consider switching to Redis:
  * 1. Add spring-boot-starter-data-redis dependency
  * 2. Configure Redis connection in application.properties
- * 3. Replace ConcurrentMapCacheManager with RedisCacheManager
+ * 3. Replace BoundedCacheManager with RedisCacheManager
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     /**
-     * Configure in-memory cache manager for address data.
-     * Cache entries will persist until application restart or manual eviction.
+     * Configure bounded cache manager for address data and other reference data.
+     * Hit/miss/eviction statistics are exposed at /api/v1/admin/caches.
      */
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-                "countries", // All countries list
-                "country", // Single country by ID
-                "provinces", // All provinces list
-                "province", // Single province by ID
-                "wards", // Wards by province ID
-                "ward" // Single ward by ID
-        );
+    public BoundedCacheManager cacheManager(AppProperties appProperties) {
+        return new BoundedCacheManager(appProperties.getCache());
     }
 }
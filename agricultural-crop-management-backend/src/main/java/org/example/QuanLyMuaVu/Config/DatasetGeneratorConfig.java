@@ -0,0 +1,33 @@
+package org.example.QuanLyMuaVu.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Service.DatasetGeneratorService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Runs the synthetic dataset generator when the {@code datagen} profile is active.
+ * <p>
+ * Example:
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=datagen --app.datagen.farms=20000 --app.datagen.users=20000
+ * </pre>
+ * For MySQL add {@code rewriteBatchedStatements=true} to the JDBC URL, otherwise
+ * batches are sent row by row.
+ */
+@Configuration
+@Profile("datagen")
+@Slf4j
+public class DatasetGeneratorConfig {
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    ApplicationRunner datasetGeneratorRunner(DatasetGeneratorService datasetGeneratorService) {
+        log.info("Profile datagen active, synthetic data will be generated on startup");
+        return args -> datasetGeneratorService.generate();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.QuanLyMuaVu.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits database traffic between the primary and read replicas.
+ * <p>
+ * Enabled with {@code app.read-replicas.enabled=true}. The primary pool is still
+ * configured through {@code spring.datasource.*}; replicas are listed under
+ * {@code app.read-replicas.nodes}. Work inside {@code @Transactional(readOnly = true)}
+ * (including Spring Data's default read-only repository methods) is served by a
+ * replica, writes always go to the primary.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties properties, AppProperties appProperties) {
+        AppProperties.ReadReplicas config = appProperties.getReadReplicas();
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+
+        int index = 0;
+        for (AppProperties.ReadReplicas.Node node : config.getNodes()) {
+            index++;
+            if (!StringUtils.hasText(node.getUrl())) {
+                log.warn("Skipping read replica #{} without url", index);
+                continue;
+            }
+            String name = StringUtils.hasText(node.getName()) ? node.getName() : "replica-" + index;
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, createReplicaPool(name, node, properties)));
+        }
+
+        log.info("Read replica routing enabled with {} replica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, config);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createReplicaPool(String name, AppProperties.ReadReplicas.Node node,
+            DataSourceProperties primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(StringUtils.hasText(node.getUsername())
+                ? node.getUsername() : primary.determineUsername());
+        dataSource.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+        dataSource.setDriverClassName(StringUtils.hasText(node.getDriverClassName())
+                ? node.getDriverClassName() : primary.determineDriverClassName());
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(node.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        // Do not fail startup when a replica is down; the health check keeps it out of rotation
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
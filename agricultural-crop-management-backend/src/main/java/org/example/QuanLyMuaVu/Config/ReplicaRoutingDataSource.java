@@ -0,0 +1,168 @@
+package org.example.QuanLyMuaVu.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Util.ThreadFactories;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to healthy replicas in round-robin order and
+ * everything else to the primary.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the JPA transaction manager opens its connection before the read-only flag is
+ * bound to the thread, so the physical connection has to be fetched lazily on
+ * the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AppProperties.ReadReplicas config;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, AppProperties.ReadReplicas config) {
+        this.replicas = List.copyOf(replicas);
+        this.config = config;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        // A platform thread: one long-lived checker gains nothing from being virtual
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactories.named("replica-health-check-", false));
+        // Replicas start unhealthy, so reads use the primary until the first check passes
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                Math.max(500, config.getHealthCheckIntervalMs()), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica.name();
+            }
+        }
+        return PRIMARY;
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy = probe(replica);
+            if (replica.setHealthy(healthy)) {
+                if (healthy) {
+                    log.info("Read replica {} is healthy, routing read-only transactions to it", replica.name());
+                } else {
+                    log.warn("Read replica {} is unhealthy or lagging, excluded from routing", replica.name());
+                }
+            }
+        }
+    }
+
+    private boolean probe(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            if (!StringUtils.hasText(config.getLagQuery())) {
+                return connection.isValid(2);
+            }
+            try (ResultSet rs = statement.executeQuery(config.getLagQuery())) {
+                if (!rs.next()) {
+                    // No replication status means the node is not replicating at all
+                    return false;
+                }
+                Object lag = StringUtils.hasText(config.getLagColumn())
+                        ? rs.getObject(config.getLagColumn())
+                        : rs.getObject(1);
+                if (!(lag instanceof Number number)) {
+                    return false;
+                }
+                replica.setLagSeconds(number.longValue());
+                return number.longValue() <= config.getMaxLagSeconds();
+            }
+        } catch (Exception e) {
+            log.debug("Health check failed for read replica {}: {}", replica.name(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * A replica pool together with its last observed health.
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public long getLagSeconds() {
+            return lagSeconds;
+        }
+
+        void setLagSeconds(long lagSeconds) {
+            this.lagSeconds = lagSeconds;
+        }
+
+        /**
+         * @return true when the health state changed
+         */
+        boolean setHealthy(boolean healthy) {
+            boolean changed = this.healthy != healthy;
+            this.healthy = healthy;
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.QuanLyMuaVu.Config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Logs the heap allocated by the request thread for each API call, to compare
+ * list endpoints before and after a change (e.g. entity vs. projection reads).
+ * <p>
+ * Enabled with {@code app.diagnostics.allocation-logging=true}. Counts only
+ * the servlet thread, so work handed to other executors is not included.
+ * The JVM may not count allocations of virtual threads; such requests are
+ * logged without a figure.
+ * Requires a HotSpot-based JVM; elsewhere the filter just passes through.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.diagnostics", name = "allocation-logging", havingValue = "true")
+public class RequestAllocationFilter extends OncePerRequestFilter {
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    public RequestAllocationFilter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            this.threads = bean;
+        } else {
+            log.warn("Per-thread allocation counters are not available on this JVM, allocation logging is off");
+            this.threads = null;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threads == null || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long bytesAfter = threads.getThreadAllocatedBytes(threadId);
+            long millis = (System.nanoTime() - startedAt) / 1_000_000;
+            // -1 when the JVM does not count for this thread (a virtual thread)
+            log.info("{} {}{} -> {} in {} ms, allocated {} KB",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getQueryString() != null ? "?" + request.getQueryString() : "",
+                    response.getStatus(),
+                    millis,
+                    bytesBefore < 0 || bytesAfter < 0 ? "n/a" : (bytesAfter - bytesBefore) / 1024);
+        }
+    }
+}
@@ -1,47 +1,59 @@
 package org.example.QuanLyMuaVu.Controller;
 
+import lombok.RequiredArgsConstructor;
 import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.DTO.Response.AgronomyAnswerResponse;
+import org.example.QuanLyMuaVu.DTO.Response.YieldPredictionResponse;
+import org.example.QuanLyMuaVu.Service.AgronomyQaService;
+import org.example.QuanLyMuaVu.Service.AiBackendClient;
+import org.example.QuanLyMuaVu.Service.YieldModelService;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1")
+@RequiredArgsConstructor
 public class AIController {
 
+    private final YieldModelService yieldModelService;
+    private final AgronomyQaService agronomyQaService;
+    private final AiBackendClient aiBackendClient;
+
     @PreAuthorize("hasRole('FARMER')")
     @GetMapping("/farmer/ai/suggestions")
-    public ApiResponse<Map<String, Object>> suggestions(@RequestParam(required = false) String crop,
-                                                        @RequestParam(required = false) String soil,
-                                                        @RequestParam(required = false) String season) {
-        Map<String, Object> payload = Map.of(
-                "crop", crop,
-                "soil", soil,
-                "season", season,
-                "suggestions", new String[]{
-                        "Use drip irrigation to optimize water",
-                        "Apply NPK 16-16-8 at early growth"
-                }
-        );
-        return ApiResponse.success(payload);
+    public Mono<ApiResponse<Map<String, Object>>> suggestions(@RequestParam(required = false) String crop,
+                                                              @RequestParam(required = false) String soil,
+                                                              @RequestParam(required = false) String season) {
+        return aiBackendClient.suggestions(crop, soil, season).map(result -> {
+            // Any parameter may be absent, so no Map.of
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("crop", crop);
+            payload.put("soil", soil);
+            payload.put("season", season);
+            payload.put("suggestions", result.suggestions());
+            payload.put("source", result.source());
+            return ApiResponse.success(payload);
+        });
     }
 
     @PreAuthorize("hasRole('FARMER')")
     @GetMapping("/farmer/ai/predict-yield")
-    public ApiResponse<Map<String, Object>> predictYield(@RequestParam BigDecimal area,
-                                                         @RequestParam String crop) {
-        BigDecimal estimated = area.multiply(BigDecimal.valueOf(2.5));
-        Map<String, Object> payload = Map.of(
-                "crop", crop,
-                "area", area,
-                "estimatedYieldTon", estimated
-        );
-        return ApiResponse.success(payload);
+    public ApiResponse<YieldPredictionResponse> predictYield(@RequestParam BigDecimal area,
+                                                            @RequestParam(required = false) String crop,
+                                                            @RequestParam(required = false) Integer cropId,
+                                                            @RequestParam(required = false) Integer varietyId,
+                                                            @RequestParam(required = false) String soilType,
+                                                            @RequestParam(required = false) Integer plantCount) {
+        return ApiResponse.success(
+                yieldModelService.predict(crop, cropId, varietyId, soilType, area, plantCount));
     }
 
     @PreAuthorize("hasRole('FARMER')")
@@ -62,11 +74,8 @@ public class AIController {
 
     @PreAuthorize("hasAnyRole('ADMIN','BUYER')")
     @GetMapping("/ai/qa")
-    public ApiResponse<Map<String, Object>> qa(@RequestParam String question) {
-        Map<String, Object> payload = Map.of(
-                "question", question,
-                "answer", "AI agronomy Q&A placeholder answer for: " + question
-        );
-        return ApiResponse.success(payload);
+    public ApiResponse<AgronomyAnswerResponse> qa(@RequestParam String question,
+                                                  @RequestParam(required = false) Integer limit) {
+        return ApiResponse.success(agronomyQaService.answer(question, limit));
     }
 }
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -12,6 +13,10 @@ import org.example.QuanLyMuaVu.DTO.Response.ProvinceResponse;
 import org.example.QuanLyMuaVu.DTO.Response.WardResponse;
 import org.example.QuanLyMuaVu.Service.AddressImportService;
 import org.example.QuanLyMuaVu.Service.AddressService;
+import org.example.QuanLyMuaVu.Service.ReferenceDataVersionService;
+import org.example.QuanLyMuaVu.Util.HttpCacheUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -37,8 +43,14 @@ import java.util.List;
 @Tag(name = "Address", description = "Address lookup and import operations")
 public class AddressController {
 
+    // Public address data only changes on admin reimport; allow shared caches for a short while
+    static final CacheControl ADDRESS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10))
+            .cachePublic()
+            .mustRevalidate();
+
     AddressService addressService;
     AddressImportService addressImportService;
+    ReferenceDataVersionService referenceDataVersionService;
 
     // ==================== PROVINCE ENDPOINTS ====================
 
@@ -47,10 +59,13 @@ public class AddressController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
     })
     @GetMapping("/provinces")
-    public ApiResponse<List<ProvinceResponse>> listProvinces(
+    public ResponseEntity<ApiResponse<List<ProvinceResponse>>> listProvinces(
             @Parameter(description = "Optional keyword to search by province name") @RequestParam(value = "keyword", required = false) String keyword,
-            @Parameter(description = "Optional type filter: 'thanh-pho' (city) or 'tinh' (province)") @RequestParam(value = "type", required = false) String type) {
-        return ApiResponse.success(addressService.getAllProvinces(keyword, type));
+            @Parameter(description = "Optional type filter: 'thanh-pho' (city) or 'tinh' (province)") @RequestParam(value = "type", required = false) String type,
+            HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "provinces",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.PROVINCES),
+                ADDRESS_CACHE_CONTROL, () -> addressService.getAllProvinces(keyword, type));
     }
 
     @Operation(summary = "Get province by ID", description = "Get a single province by its ID")
@@ -59,8 +74,11 @@ public class AddressController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Province not found")
     })
     @GetMapping("/provinces/{id}")
-    public ApiResponse<ProvinceResponse> getProvince(@PathVariable Integer id) {
-        return ApiResponse.success(addressService.getProvinceById(id));
+    public ResponseEntity<ApiResponse<ProvinceResponse>> getProvince(@PathVariable Integer id,
+            HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "provinces",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.PROVINCES),
+                ADDRESS_CACHE_CONTROL, () -> addressService.getProvinceById(id));
     }
 
     // ==================== WARD ENDPOINTS ====================
@@ -71,10 +89,13 @@ public class AddressController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Province not found")
     })
     @GetMapping("/provinces/{provinceId}/wards")
-    public ApiResponse<List<WardResponse>> listWardsByProvince(
+    public ResponseEntity<ApiResponse<List<WardResponse>>> listWardsByProvince(
             @PathVariable Integer provinceId,
-            @Parameter(description = "Optional keyword to search by ward name") @RequestParam(value = "keyword", required = false) String keyword) {
-        return ApiResponse.success(addressService.getWardsByProvinceId(provinceId, keyword));
+            @Parameter(description = "Optional keyword to search by ward name") @RequestParam(value = "keyword", required = false) String keyword,
+            HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "wards",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.WARDS),
+                ADDRESS_CACHE_CONTROL, () -> addressService.getWardsByProvinceId(provinceId, keyword));
     }
 
     @Operation(summary = "Get ward by ID", description = "Get a single ward by its ID")
@@ -83,8 +104,10 @@ public class AddressController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Ward not found")
     })
     @GetMapping("/wards/{id}")
-    public ApiResponse<WardResponse> getWard(@PathVariable Integer id) {
-        return ApiResponse.success(addressService.getWardById(id));
+    public ResponseEntity<ApiResponse<WardResponse>> getWard(@PathVariable Integer id, HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "wards",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.WARDS),
+                ADDRESS_CACHE_CONTROL, () -> addressService.getWardById(id));
     }
 
     // ==================== STATISTICS ENDPOINT ====================
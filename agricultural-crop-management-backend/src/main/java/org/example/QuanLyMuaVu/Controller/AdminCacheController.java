@@ -0,0 +1,62 @@
+package org.example.QuanLyMuaVu.Controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.Config.BoundedCache;
+import org.example.QuanLyMuaVu.Config.BoundedCacheManager;
+import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.DTO.Response.CacheStatsResponse;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Admin endpoint exposing application cache statistics.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCacheController {
+
+    BoundedCacheManager cacheManager;
+
+    @Operation(summary = "Cache statistics", description = "Get size, hit/miss and eviction counters of every cache")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @GetMapping
+    public ApiResponse<List<CacheStatsResponse>> getCacheStats() {
+        return ApiResponse.success(cacheManager.getBoundedCaches().stream()
+                .sorted(Comparator.comparing(BoundedCache::getName))
+                .map(this::toResponse)
+                .toList());
+    }
+
+    private CacheStatsResponse toResponse(BoundedCache cache) {
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        long requests = hits + misses;
+        return CacheStatsResponse.builder()
+                .name(cache.getName())
+                .size(cache.size())
+                .maximumSize(cache.getMaximumSize())
+                .ttlSeconds(cache.getTtl().toSeconds())
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(requests == 0 ? 0.0 : (double) hits / requests)
+                .evictionCount(cache.getEvictionCount())
+                .expirationCount(cache.getExpirationCount())
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package org.example.QuanLyMuaVu.Controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -12,17 +14,25 @@ import org.example.QuanLyMuaVu.DTO.Common.PageResponse;
 import org.example.QuanLyMuaVu.DTO.Request.AdminDocumentCreateRequest;
 import org.example.QuanLyMuaVu.DTO.Request.AdminDocumentUpdateRequest;
 import org.example.QuanLyMuaVu.DTO.Response.AdminDocumentResponse;
+import org.example.QuanLyMuaVu.Enums.PageTotalMode;
 import org.example.QuanLyMuaVu.Service.AdminDocumentService;
+import org.example.QuanLyMuaVu.Service.DocumentContentStore;
+import org.example.QuanLyMuaVu.Service.DocumentService;
+import org.example.QuanLyMuaVu.Util.FileDownloadUtils;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
 
 /**
  * Admin REST endpoints for system-wide document management.
  * All endpoints require ADMIN role.
- * Documents are stored as external links (URLs) for policies, guides, manuals,
- * etc.
+ * Documents are external links (URLs) or uploaded files for policies, guides,
+ * manuals, etc.
  */
 @RestController
 @RequestMapping("/api/v1/admin/documents")
@@ -32,6 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminDocumentController {
 
     AdminDocumentService adminDocumentService;
+    DocumentService documentService;
 
     // ═══════════════════════════════════════════════════════════════
     // LIST DOCUMENTS (PAGINATED)
@@ -55,7 +66,18 @@ public class AdminDocumentController {
 
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
 
-            @Parameter(description = "Sort field and direction (e.g., 'createdAt,desc')") @RequestParam(required = false) String sort) {
+            @Parameter(description = "Sort field and direction (e.g., 'createdAt,desc')") @RequestParam(required = false) String sort,
+
+            @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(defaultValue = "EXACT") PageTotalMode total) {
+        if (cursor != null) {
+            return ApiResponse.success(adminDocumentService.scrollDocuments(q, type, status, cursor, size, sort));
+        }
+        if (total != PageTotalMode.EXACT) {
+            return ApiResponse.success(adminDocumentService.sliceDocuments(q, type, status, page, size, sort,
+                    total == PageTotalMode.APPROXIMATE));
+        }
         return ApiResponse.success(adminDocumentService.listDocuments(q, type, status, page, size, sort));
     }
 
@@ -148,6 +170,41 @@ public class AdminDocumentController {
         return ApiResponse.success(null);
     }
 
+    // ═══════════════════════════════════════════════════════════════
+    // DOCUMENT FILE
+    // ═══════════════════════════════════════════════════════════════
+
+    @Operation(summary = "Upload document file (Admin)", description = "Upload or replace the file of a document. Identical files are stored once.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty file"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Document not found")
+    })
+    @PostMapping(value = "/{id}/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<AdminDocumentResponse> uploadFile(
+            @PathVariable Long id,
+            @RequestPart("file") MultipartFile file) {
+        return ApiResponse.success(adminDocumentService.uploadFile(id, file));
+    }
+
+    @Operation(summary = "Download document file (Admin)", description = "Download the file of any document, including inactive ones. Supports Range requests.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "206", description = "Partial content"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Document or file not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "416", description = "Range not satisfiable")
+    })
+    @GetMapping("/{id}/content")
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        DocumentContentStore.DocumentFile file = documentService.getFile(id, true);
+        FileDownloadUtils.serve(file.path(), file.contentType(), file.filename(), file.hash(), request, response);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // HELPER METHODS
     // ═══════════════════════════════════════════════════════════════
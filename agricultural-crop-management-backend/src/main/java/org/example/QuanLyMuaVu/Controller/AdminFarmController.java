@@ -14,6 +14,7 @@ import org.example.QuanLyMuaVu.DTO.Request.AdminPlotCreateRequest;
 import org.example.QuanLyMuaVu.DTO.Response.FarmResponse;
 import org.example.QuanLyMuaVu.DTO.Response.FarmDetailResponse;
 import org.example.QuanLyMuaVu.DTO.Response.PlotResponse;
+import org.example.QuanLyMuaVu.Enums.PageTotalMode;
 import org.example.QuanLyMuaVu.Service.AdminFarmService;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -42,7 +43,16 @@ public class AdminFarmController {
             @Parameter(description = "Keyword to search by farm name or owner name") @RequestParam(value = "keyword", required = false) String keyword,
             @Parameter(description = "Filter by active status") @RequestParam(value = "active", required = false) Boolean active,
             @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(value = "total", defaultValue = "EXACT") PageTotalMode total) {
+        if (cursor != null) {
+            return ApiResponse.success(adminFarmService.scrollAllFarms(keyword, active, cursor, size));
+        }
+        if (total != PageTotalMode.EXACT) {
+            return ApiResponse.success(adminFarmService.sliceAllFarms(keyword, active, page, size,
+                    total == PageTotalMode.APPROXIMATE));
+        }
         return ApiResponse.success(adminFarmService.getAllFarms(keyword, active, page, size));
     }
 
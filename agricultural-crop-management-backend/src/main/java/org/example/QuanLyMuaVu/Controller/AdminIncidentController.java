@@ -48,7 +48,11 @@ public class AdminIncidentController {
             @Parameter(description = "Filter by severity (LOW, MEDIUM, HIGH)") @RequestParam(value = "severity", required = false) String severity,
             @Parameter(description = "Filter by incident type") @RequestParam(value = "type", required = false) String type,
             @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor) {
+        if (cursor != null) {
+            return ApiResponse.success(adminIncidentService.scrollAllIncidents(status, severity, type, cursor, size));
+        }
         return ApiResponse.success(adminIncidentService.getAllIncidents(status, severity, type, page, size));
     }
 
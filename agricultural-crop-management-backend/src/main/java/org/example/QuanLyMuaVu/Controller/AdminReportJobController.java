@@ -0,0 +1,99 @@
+package org.example.QuanLyMuaVu.Controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.DTO.Request.ReportJobRequest;
+import org.example.QuanLyMuaVu.DTO.Response.ReportJobResponse;
+import org.example.QuanLyMuaVu.Service.ReportJobService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Admin endpoints for running the yield, cost, revenue and profit reports in
+ * the background: submit, poll, fetch the result, cancel.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/reports/jobs")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin Report Jobs", description = "Background execution of the admin reports")
+public class AdminReportJobController {
+
+        ReportJobService reportJobService;
+
+        @Operation(summary = "Submit report job", description = "Queue a report; an identical queued, running or recent job is returned instead of a new one")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Accepted"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Job queue is full")
+        })
+        @PostMapping
+        @ResponseStatus(HttpStatus.ACCEPTED)
+        public ApiResponse<ReportJobResponse> submit(@Valid @RequestBody ReportJobRequest request) {
+                return ApiResponse.success(reportJobService.submit(request));
+        }
+
+        @Operation(summary = "Report job status", description = "Status and progress of a report job")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Unknown or expired job")
+        })
+        @GetMapping("/{id}")
+        public ApiResponse<ReportJobResponse> get(@PathVariable String id) {
+                return ApiResponse.success(reportJobService.get(id));
+        }
+
+        @Operation(summary = "Report job result", description = "Report rows of a succeeded job, in the same body as the synchronous report endpoint")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Unknown or expired job"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Job has not succeeded")
+        })
+        @GetMapping("/{id}/result")
+        public void getResult(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+                        throws IOException {
+                Path result = reportJobService.getResult(id);
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+                String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+                        // Stored compressed, so gzip-capable clients get the file as is
+                        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                        response.setContentLengthLong(Files.size(result));
+                        Files.copy(result, response.getOutputStream());
+                } else {
+                        try (InputStream in = new GZIPInputStream(Files.newInputStream(result))) {
+                                in.transferTo(response.getOutputStream());
+                        }
+                }
+        }
+
+        @Operation(summary = "Cancel report job", description = "Cancel a queued or running report job")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Unknown or expired job")
+        })
+        @PostMapping("/{id}/cancel")
+        public ApiResponse<ReportJobResponse> cancel(@PathVariable String id) {
+                return ApiResponse.success(reportJobService.cancel(id));
+        }
+}
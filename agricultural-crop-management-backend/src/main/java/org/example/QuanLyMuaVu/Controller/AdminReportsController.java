@@ -3,16 +3,27 @@ package org.example.QuanLyMuaVu.Controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
 import org.example.QuanLyMuaVu.DTO.Request.AdminReportFilter;
 import org.example.QuanLyMuaVu.DTO.Response.AdminReportResponse;
+import org.example.QuanLyMuaVu.Enums.ExportFormat;
+import org.example.QuanLyMuaVu.Enums.TimeBucket;
+import org.example.QuanLyMuaVu.Service.AdminReportExportService;
+import org.example.QuanLyMuaVu.Service.AdminReportTimeSeriesService;
 import org.example.QuanLyMuaVu.Service.AdminReportsService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -26,6 +37,8 @@ import java.util.List;
 public class AdminReportsController {
 
         AdminReportsService adminReportsService;
+        AdminReportExportService adminReportExportService;
+        AdminReportTimeSeriesService adminReportTimeSeriesService;
 
         // ═══════════════════════════════════════════════════════════════
         // LEGACY ENDPOINTS (backward compatibility)
@@ -219,4 +232,187 @@ public class AdminReportsController {
                         @Parameter(description = "Year to filter by incident created date") @RequestParam(value = "year", required = false) Integer year) {
                 return ApiResponse.success(adminReportsService.getIncidentStatistics(year));
         }
+
+        @Operation(summary = "Time Series", description = "Expenses, harvest quantity, revenue and stock in/out per day, week, month or quarter; coarsened automatically to at most maxPoints points")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid date range"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/time-series")
+        public ApiResponse<AdminReportResponse.TimeSeries> getTimeSeries(
+                        @Parameter(description = "Bucket size") @RequestParam(value = "bucket", defaultValue = "MONTH") TimeBucket bucket,
+                        @Parameter(description = "Maximum number of points (default 200)") @RequestParam(value = "maxPoints", required = false) Integer maxPoints,
+                        @Parameter(description = "Year (used when no dates are given; default last 12 months)") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD)") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date, exclusive (YYYY-MM-DD)") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        @Parameter(description = "Crop ID filter") @RequestParam(value = "cropId", required = false) Integer cropId,
+                        @Parameter(description = "Farm ID filter") @RequestParam(value = "farmId", required = false) Integer farmId,
+                        @Parameter(description = "Plot ID filter") @RequestParam(value = "plotId", required = false) Integer plotId) {
+                var filter = buildFilter(year, fromDateStr, toDateStr, cropId, farmId, plotId);
+                return ApiResponse.success(adminReportTimeSeriesService.getTimeSeries(filter, bucket, maxPoints));
+        }
+
+        // ═══════════════════════════════════════════════════════════════
+        // FILE EXPORTS (streamed, no row limit)
+        // ═══════════════════════════════════════════════════════════════
+
+        @Operation(summary = "Export Yield Report", description = "Stream the yield report as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/yield/export")
+        public void exportYieldReport(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by season start date") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD)") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD)") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        @Parameter(description = "Crop ID filter") @RequestParam(value = "cropId", required = false) Integer cropId,
+                        @Parameter(description = "Farm ID filter") @RequestParam(value = "farmId", required = false) Integer farmId,
+                        @Parameter(description = "Plot ID filter") @RequestParam(value = "plotId", required = false) Integer plotId,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, cropId, farmId, plotId);
+                adminReportExportService.exportYield(filter, format, startDownload(response, "yield-report", format));
+        }
+
+        @Operation(summary = "Export Cost Report", description = "Stream the cost report as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/cost/export")
+        public void exportCostReport(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by season start date") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD)") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD)") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        @Parameter(description = "Crop ID filter") @RequestParam(value = "cropId", required = false) Integer cropId,
+                        @Parameter(description = "Farm ID filter") @RequestParam(value = "farmId", required = false) Integer farmId,
+                        @Parameter(description = "Plot ID filter") @RequestParam(value = "plotId", required = false) Integer plotId,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, cropId, farmId, plotId);
+                adminReportExportService.exportCost(filter, format, startDownload(response, "cost-report", format));
+        }
+
+        @Operation(summary = "Export Revenue Report", description = "Stream the revenue report as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/revenue/export")
+        public void exportRevenueReport(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by season start date") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD)") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD)") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        @Parameter(description = "Crop ID filter") @RequestParam(value = "cropId", required = false) Integer cropId,
+                        @Parameter(description = "Farm ID filter") @RequestParam(value = "farmId", required = false) Integer farmId,
+                        @Parameter(description = "Plot ID filter") @RequestParam(value = "plotId", required = false) Integer plotId,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, cropId, farmId, plotId);
+                adminReportExportService.exportRevenue(filter, format,
+                                startDownload(response, "revenue-report", format));
+        }
+
+        @Operation(summary = "Export Profit Report", description = "Stream the profit report as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/profit/export")
+        public void exportProfitReport(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by season start date") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD)") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD)") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        @Parameter(description = "Crop ID filter") @RequestParam(value = "cropId", required = false) Integer cropId,
+                        @Parameter(description = "Farm ID filter") @RequestParam(value = "farmId", required = false) Integer farmId,
+                        @Parameter(description = "Plot ID filter") @RequestParam(value = "plotId", required = false) Integer plotId,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, cropId, farmId, plotId);
+                adminReportExportService.exportProfit(filter, format, startDownload(response, "profit-report", format));
+        }
+
+        @Operation(summary = "Export Inventory On-Hand", description = "Stream current stock per lot and warehouse as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/inventory-onhand/export")
+        public void exportInventoryOnHand(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        HttpServletResponse response) throws IOException {
+                adminReportExportService.exportInventoryOnHand(format,
+                                startDownload(response, "inventory-onhand", format));
+        }
+
+        @Operation(summary = "Export Task Performance", description = "Stream the tasks behind the task performance report as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/task-performance/export")
+        public void exportTaskPerformance(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by task created date (default: current year)") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD), overrides year") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD, exclusive), overrides year") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, null, null, null);
+                adminReportExportService.exportTasks(filter, format, startDownload(response, "task-performance", format));
+        }
+
+        @Operation(summary = "Export Incident Statistics", description = "Stream the incidents behind the incident statistics as CSV or XLSX")
+        @ApiResponses({
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+        })
+        @GetMapping("/incident-statistics/export")
+        public void exportIncidentStatistics(
+                        @Parameter(description = "File format: CSV or XLSX") @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                        @Parameter(description = "Year to filter by incident created date (default: current year)") @RequestParam(value = "year", required = false) Integer year,
+                        @Parameter(description = "From date (YYYY-MM-DD), overrides year") @RequestParam(value = "fromDate", required = false) String fromDateStr,
+                        @Parameter(description = "To date (YYYY-MM-DD, exclusive), overrides year") @RequestParam(value = "toDate", required = false) String toDateStr,
+                        HttpServletResponse response) throws IOException {
+                var filter = buildFilter(year, fromDateStr, toDateStr, null, null, null);
+                adminReportExportService.exportIncidents(filter, format,
+                                startDownload(response, "incident-statistics", format));
+        }
+
+        private static AdminReportFilter buildFilter(Integer year, String fromDateStr, String toDateStr,
+                        Integer cropId, Integer farmId, Integer plotId) {
+                return AdminReportFilter.builder()
+                                .year(year)
+                                .fromDate(fromDateStr != null && !fromDateStr.isEmpty() ? LocalDate.parse(fromDateStr)
+                                                : null)
+                                .toDate(toDateStr != null && !toDateStr.isEmpty() ? LocalDate.parse(toDateStr) : null)
+                                .cropId(cropId).farmId(farmId).plotId(plotId)
+                                .build();
+        }
+
+        /**
+         * Sets the download headers and hands out the response body. Rows are
+         * written on the request thread, so the export is not cut off by the
+         * async request timeout.
+         */
+        private static OutputStream startDownload(HttpServletResponse response, String name, ExportFormat format)
+                        throws IOException {
+                String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+                response.setContentType(format.getContentType());
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(filename, StandardCharsets.UTF_8)
+                                .build()
+                                .toString());
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+                return response.getOutputStream();
+        }
 }
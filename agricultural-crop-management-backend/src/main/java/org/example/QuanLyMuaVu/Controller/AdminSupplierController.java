@@ -20,6 +20,7 @@ import org.example.QuanLyMuaVu.DTO.Response.StockMovementResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplierResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplyItemResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplyLotResponse;
+import org.example.QuanLyMuaVu.Enums.PageTotalMode;
 import org.example.QuanLyMuaVu.Service.AdminSupplierService;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -52,7 +53,16 @@ public class AdminSupplierController {
         public ApiResponse<PageResponse<SupplierResponse>> listSuppliers(
                         @Parameter(description = "Search by name") @RequestParam(value = "keyword", required = false) String keyword,
                         @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+                        @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor,
+                        @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(value = "total", defaultValue = "EXACT") PageTotalMode total) {
+                if (cursor != null) {
+                        return ApiResponse.success(adminSupplierService.scrollSuppliers(keyword, cursor, size));
+                }
+                if (total != PageTotalMode.EXACT) {
+                        return ApiResponse.success(adminSupplierService.sliceSuppliers(keyword, page, size,
+                                        total == PageTotalMode.APPROXIMATE));
+                }
                 return ApiResponse.success(adminSupplierService.listSuppliers(keyword, page, size));
         }
 
@@ -103,7 +113,17 @@ public class AdminSupplierController {
                         @Parameter(description = "Filter by category") @RequestParam(value = "category", required = false) String category,
                         @Parameter(description = "Filter by restricted flag") @RequestParam(value = "restricted", required = false) Boolean restricted,
                         @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+                        @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor,
+                        @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(value = "total", defaultValue = "EXACT") PageTotalMode total) {
+                if (cursor != null) {
+                        return ApiResponse.success(
+                                        adminSupplierService.scrollSupplyItems(keyword, category, restricted, cursor, size));
+                }
+                if (total != PageTotalMode.EXACT) {
+                        return ApiResponse.success(adminSupplierService.sliceSupplyItems(keyword, category, restricted,
+                                        page, size, total == PageTotalMode.APPROXIMATE));
+                }
                 return ApiResponse.success(
                                 adminSupplierService.listSupplyItems(keyword, category, restricted, page, size));
         }
@@ -151,7 +171,17 @@ public class AdminSupplierController {
                         @Parameter(description = "Filter by supply item ID") @RequestParam(value = "itemId", required = false) Integer itemId,
                         @Parameter(description = "Filter by status") @RequestParam(value = "status", required = false) String status,
                         @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+                        @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor,
+                        @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(value = "total", defaultValue = "EXACT") PageTotalMode total) {
+                if (cursor != null) {
+                        return ApiResponse.success(
+                                        adminSupplierService.scrollSupplyLots(supplierId, itemId, status, cursor, size));
+                }
+                if (total != PageTotalMode.EXACT) {
+                        return ApiResponse.success(adminSupplierService.sliceSupplyLots(supplierId, itemId, status,
+                                        page, size, total == PageTotalMode.APPROXIMATE));
+                }
                 return ApiResponse.success(adminSupplierService.listSupplyLots(supplierId, itemId, status, page, size));
         }
 
@@ -42,7 +42,12 @@ public class AdminTaskController {
                         @Parameter(description = "Filter by season ID") @RequestParam(value = "seasonId", required = false) Integer seasonId,
                         @Parameter(description = "Filter by status") @RequestParam(value = "status", required = false) String status,
                         @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+                        @Parameter(description = "Keyset cursor from nextCursor/prevCursor; send it empty for the first page. Replaces page and skips the total count") @RequestParam(value = "cursor", required = false) String cursor) {
+                if (cursor != null) {
+                        return ApiResponse.success(
+                                        adminTaskService.scrollAllTasks(farmId, cropId, seasonId, status, cursor, size));
+                }
                 return ApiResponse.success(adminTaskService.getAllTasks(farmId, cropId, seasonId, status, page, size));
         }
 
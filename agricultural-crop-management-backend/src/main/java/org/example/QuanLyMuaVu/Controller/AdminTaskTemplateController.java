@@ -0,0 +1,84 @@
+package org.example.QuanLyMuaVu.Controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.DTO.Request.TaskTemplateRequest;
+import org.example.QuanLyMuaVu.DTO.Response.TaskTemplateResponse;
+import org.example.QuanLyMuaVu.Service.TaskTemplateService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Admin REST endpoints for crop/variety task templates, which are expanded
+ * into the task list of every newly created season.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/task-templates")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminTaskTemplateController {
+
+    TaskTemplateService taskTemplateService;
+
+    @Operation(summary = "List task templates (Admin)", description = "Get task templates of a crop ordered by offset")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping
+    public ApiResponse<List<TaskTemplateResponse>> listTemplates(
+            @Parameter(description = "Crop ID") @RequestParam("cropId") Integer cropId) {
+        return ApiResponse.success(taskTemplateService.getByCropId(cropId));
+    }
+
+    @Operation(summary = "Create task template (Admin)", description = "Create a task template for a crop or one of its varieties")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PostMapping
+    public ApiResponse<TaskTemplateResponse> createTemplate(@Valid @RequestBody TaskTemplateRequest request) {
+        return ApiResponse.success(taskTemplateService.create(request));
+    }
+
+    @Operation(summary = "Update task template (Admin)", description = "Update an existing task template")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PutMapping("/{id}")
+    public ApiResponse<TaskTemplateResponse> updateTemplate(
+            @PathVariable Integer id,
+            @Valid @RequestBody TaskTemplateRequest request) {
+        return ApiResponse.success(taskTemplateService.update(id, request));
+    }
+
+    @Operation(summary = "Delete task template (Admin)", description = "Delete a task template. Tasks already generated are kept.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @DeleteMapping("/{id}")
+    public ApiResponse<Void> deleteTemplate(@PathVariable Integer id) {
+        taskTemplateService.delete(id);
+        return ApiResponse.success(null);
+    }
+}
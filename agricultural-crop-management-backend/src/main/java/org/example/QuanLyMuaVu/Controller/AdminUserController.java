@@ -14,6 +14,7 @@ import org.example.QuanLyMuaVu.DTO.Request.FarmerUpdateRolesRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UserUpdateRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UserStatusUpdateRequest;
 import org.example.QuanLyMuaVu.DTO.Response.FarmerResponse;
+import org.example.QuanLyMuaVu.Enums.PageTotalMode;
 import org.example.QuanLyMuaVu.Service.UserService;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -52,7 +53,12 @@ public class AdminUserController {
                         @Parameter(description = "Free-text search on username, email, fullName") @RequestParam(value = "keyword", required = false) String keyword,
                         @Parameter(description = "User status: ACTIVE/INACTIVE/LOCKED") @RequestParam(value = "status", required = false) String status,
                         @Parameter(description = "Page index (0-based)") @RequestParam(value = "page", defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size) {
+                        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") int size,
+                        @Parameter(description = "Total count: EXACT (default), NONE (hasNext only) or APPROXIMATE (cached, may be stale)") @RequestParam(value = "total", defaultValue = "EXACT") PageTotalMode total) {
+                if (total != PageTotalMode.EXACT) {
+                        return ApiResponse.success(userService.sliceAllUsers(keyword, status, page, size,
+                                        total == PageTotalMode.APPROXIMATE));
+                }
                 return ApiResponse.success(userService.searchAllUsers(keyword, status, page, size));
         }
 
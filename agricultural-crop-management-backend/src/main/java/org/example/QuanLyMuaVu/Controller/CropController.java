@@ -2,6 +2,7 @@ package org.example.QuanLyMuaVu.Controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,10 @@ import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
 import org.example.QuanLyMuaVu.DTO.Request.CropRequest;
 import org.example.QuanLyMuaVu.DTO.Response.CropResponse;
 import org.example.QuanLyMuaVu.Service.CropService;
+import org.example.QuanLyMuaVu.Service.ReferenceDataVersionService;
+import org.example.QuanLyMuaVu.Util.HttpCacheUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,17 +34,24 @@ import java.util.List;
 @PreAuthorize("hasRole('FARMER')")
 public class CropController {
 
+    // Private and always revalidated: admins may edit crops at any time
+    static final CacheControl CROP_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     CropService cropService;
+    ReferenceDataVersionService referenceDataVersionService;
 
     @Operation(summary = "List crops", description = "List crops for farmer workspace")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @GetMapping
-    public ApiResponse<List<CropResponse>> listCrops() {
-        return ApiResponse.success(cropService.getAll());
+    public ResponseEntity<ApiResponse<List<CropResponse>>> listCrops(HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "crops",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.CROPS),
+                CROP_CACHE_CONTROL, cropService::getAll);
     }
 
     @Operation(summary = "Create crop", description = "Create a new crop definition (farmer-specific if allowed)")
@@ -58,13 +70,16 @@ public class CropController {
     @Operation(summary = "Get crop detail", description = "Get crop detail")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
     })
     @GetMapping("/{id}")
-    public ApiResponse<CropResponse> getCrop(@PathVariable Integer id) {
-        return ApiResponse.success(cropService.getById(id));
+    public ResponseEntity<ApiResponse<CropResponse>> getCrop(@PathVariable Integer id, HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "crops",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.CROPS),
+                CROP_CACHE_CONTROL, () -> cropService.getById(id));
     }
 
     @Operation(summary = "Update crop", description = "Update crop information")
@@ -1,14 +1,21 @@
 package org.example.QuanLyMuaVu.Controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
 import org.example.QuanLyMuaVu.DTO.Response.DocumentResponse;
+import org.example.QuanLyMuaVu.Service.DocumentContentStore;
 import org.example.QuanLyMuaVu.Service.DocumentService;
+import org.example.QuanLyMuaVu.Util.FileDownloadUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -25,7 +32,23 @@ public class DocumentController {
 
     @PreAuthorize("hasAnyRole('ADMIN','FARMER')")
     @GetMapping
-    public ApiResponse<List<DocumentResponse>> list() {
+    public ApiResponse<List<DocumentResponse>> list(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (q != null && q.trim().length() >= 2) {
+            return ApiResponse.success(documentService.search(q, Math.max(1, Math.min(limit, 200))));
+        }
         return ApiResponse.success(documentService.getAll());
     }
+
+    /**
+     * Streams the uploaded file of an active document, honouring Range requests.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','FARMER')")
+    @GetMapping("/{id}/content")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        DocumentContentStore.DocumentFile file = documentService.getFile(id, false);
+        FileDownloadUtils.serve(file.path(), file.contentType(), file.filename(), file.hash(), request, response);
+    }
 }
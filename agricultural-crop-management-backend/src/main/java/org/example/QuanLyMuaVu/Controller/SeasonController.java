@@ -9,11 +9,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
 import org.example.QuanLyMuaVu.DTO.Common.PageResponse;
+import org.example.QuanLyMuaVu.DTO.Request.BulkCreateSeasonRequest;
 import org.example.QuanLyMuaVu.DTO.Request.CreateSeasonRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UpdateSeasonRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UpdateSeasonStatusRequest;
+import org.example.QuanLyMuaVu.DTO.Response.BulkCreateSeasonResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonDetailResponse;
+import org.example.QuanLyMuaVu.DTO.Response.SeasonProgressResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonResponse;
+import org.example.QuanLyMuaVu.Service.SeasonBulkPlanningService;
 import org.example.QuanLyMuaVu.Service.SeasonService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -43,6 +47,7 @@ import java.time.LocalDate;
 public class SeasonController {
 
     SeasonService seasonService;
+    SeasonBulkPlanningService seasonBulkPlanningService;
 
     @Operation(summary = "Search seasons", description = "Search seasons of the current farmer by plot, crop, status and date range")
     @ApiResponses({
@@ -79,6 +84,18 @@ public class SeasonController {
         return ApiResponse.success(seasonService.getSeasonForCurrentFarmer(id));
     }
 
+    @Operation(summary = "Get season progress", description = "Task and open incident counts of a season, with the share of tasks done")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping("/{id}/progress")
+    public ApiResponse<SeasonProgressResponse> getSeasonProgress(@PathVariable Integer id) {
+        return ApiResponse.success(seasonService.getSeasonProgressForCurrentFarmer(id));
+    }
+
     @Operation(summary = "Create season", description = "Create a new season for a given plot and crop")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
@@ -93,6 +110,19 @@ public class SeasonController {
         return ApiResponse.success(seasonService.createSeason(request));
     }
 
+    @Operation(summary = "Bulk plan seasons", description = "Create the same season on many plots at once and return a result per plot")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PostMapping("/bulk")
+    public ApiResponse<BulkCreateSeasonResponse> bulkCreateSeasons(@Valid @RequestBody BulkCreateSeasonRequest request) {
+        return ApiResponse.success(seasonBulkPlanningService.planSeasons(request));
+    }
+
     @Operation(summary = "Update season", description = "Update season details while status is still editable")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
@@ -2,6 +2,7 @@ package org.example.QuanLyMuaVu.Controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,11 @@ import lombok.experimental.FieldDefaults;
 import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
 import org.example.QuanLyMuaVu.DTO.Request.VarietyRequest;
 import org.example.QuanLyMuaVu.DTO.Response.VarietyResponse;
+import org.example.QuanLyMuaVu.Service.ReferenceDataVersionService;
 import org.example.QuanLyMuaVu.Service.VarietyService;
+import org.example.QuanLyMuaVu.Util.HttpCacheUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,7 +33,10 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class VarietyController {
 
+    static final CacheControl VARIETY_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     VarietyService varietyService;
+    ReferenceDataVersionService referenceDataVersionService;
 
     @Operation(summary = "Create crop variety", description = "Create a new variety for a crop")
     @ApiResponses({
@@ -64,15 +72,22 @@ public class VarietyController {
     @Operation(summary = "Get crop variety", description = "Get a single crop variety by id")
     @PreAuthorize("hasAnyRole('ADMIN','FARMER')")
     @GetMapping("/{id}")
-    public ApiResponse<VarietyResponse> get(@PathVariable Integer id) {
-        return ApiResponse.success(varietyService.get(id));
+    public ResponseEntity<ApiResponse<VarietyResponse>> get(@PathVariable Integer id, HttpServletRequest request) {
+        return HttpCacheUtils.conditional(request, "varieties",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.VARIETIES),
+                VARIETY_CACHE_CONTROL, () -> varietyService.get(id));
     }
 
     @Operation(summary = "List varieties of crop", description = "List all varieties belonging to a crop")
     @PreAuthorize("hasAnyRole('ADMIN','FARMER')")
     @GetMapping("/by-crop/{cropId}")
-    public ApiResponse<List<VarietyResponse>> listByCrop(@PathVariable Integer cropId) {
-        return ApiResponse.success(varietyService.listByCrop(cropId));
+    public ResponseEntity<ApiResponse<List<VarietyResponse>>> listByCrop(
+            @PathVariable Integer cropId,
+            HttpServletRequest request
+    ) {
+        return HttpCacheUtils.conditional(request, "varieties",
+                referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.VARIETIES),
+                VARIETY_CACHE_CONTROL, () -> varietyService.listByCrop(cropId));
     }
 }
 
@@ -1,16 +1,38 @@
 package org.example.QuanLyMuaVu.DTO.Common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+/**
+ * One page of a list endpoint.
+ * <p>
+ * Offset pages carry {@code page}, {@code totalElements} and
+ * {@code totalPages}. Cursor pages (see
+ * {@link org.example.QuanLyMuaVu.Util.CursorPaging}) carry opaque
+ * {@code nextCursor}/{@code prevCursor} tokens and the matching {@code next}/
+ * {@code prev} links instead, and never count the table. Slice pages carry
+ * {@code page} and {@code hasNext}, optionally with a cached
+ * {@code approximateTotal} that is flagged {@code totalStale} while a refresh
+ * is pending.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     private List<T> items;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private String nextCursor;
+    private String prevCursor;
+    private String next;
+    private String prev;
+    private Boolean hasNext;
+    private Long approximateTotal;
+    private Boolean totalStale;
 
     public List<T> getItems() {
         return items;
@@ -20,7 +42,7 @@ public class PageResponse<T> {
         this.items = items;
     }
 
-    public int getPage() {
+    public Integer getPage() {
         return page;
     }
 
@@ -36,7 +58,7 @@ public class PageResponse<T> {
         this.size = size;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
@@ -44,7 +66,7 @@ public class PageResponse<T> {
         this.totalElements = totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
@@ -52,6 +74,62 @@ public class PageResponse<T> {
         this.totalPages = totalPages;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    public String getPrev() {
+        return prev;
+    }
+
+    public void setPrev(String prev) {
+        this.prev = prev;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+    public void setApproximateTotal(Long approximateTotal) {
+        this.approximateTotal = approximateTotal;
+    }
+
+    public Boolean getTotalStale() {
+        return totalStale;
+    }
+
+    public void setTotalStale(Boolean totalStale) {
+        this.totalStale = totalStale;
+    }
+
     public static <T> PageResponse<T> of(Page<?> pageData, List<T> items) {
         PageResponse<T> response = new PageResponse<>();
         response.setItems(items);
@@ -61,4 +139,26 @@ public class PageResponse<T> {
         response.setTotalPages(pageData.getTotalPages());
         return response;
     }
+
+    /**
+     * A page without totals; the query fetched one extra row to know whether
+     * another page follows.
+     */
+    public static <T> PageResponse<T> ofSlice(Slice<?> sliceData, List<T> items) {
+        PageResponse<T> response = new PageResponse<>();
+        response.setItems(items);
+        response.setPage(sliceData.getNumber());
+        response.setSize(sliceData.getSize());
+        response.setHasNext(sliceData.hasNext());
+        return response;
+    }
+
+    public static <T> PageResponse<T> ofCursor(List<T> items, int size, String nextCursor, String prevCursor) {
+        PageResponse<T> response = new PageResponse<>();
+        response.setItems(items);
+        response.setSize(size);
+        response.setNextCursor(nextCursor);
+        response.setPrevCursor(prevCursor);
+        return response;
+    }
 }
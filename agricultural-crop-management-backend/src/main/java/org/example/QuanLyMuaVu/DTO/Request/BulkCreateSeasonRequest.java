@@ -0,0 +1,55 @@
+package org.example.QuanLyMuaVu.DTO.Request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Plans the same season on many plots at once. Every field except plotIds has
+ * the same meaning as in {@link CreateSeasonRequest}; seasonName is optional
+ * and generated from the start date when blank.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkCreateSeasonRequest {
+
+    @NotEmpty(message = "KEY_INVALID")
+    @Size(max = 1000, message = "KEY_INVALID")
+    List<@NotNull(message = "KEY_INVALID") Integer> plotIds;
+
+    @NotNull(message = "KEY_INVALID")
+    Integer cropId;
+
+    Integer varietyId;
+
+    String seasonName;
+
+    @NotNull(message = "KEY_INVALID")
+    LocalDate startDate;
+
+    LocalDate plannedHarvestDate;
+
+    LocalDate endDate;
+
+    @NotNull(message = "KEY_INVALID")
+    @Min(value = 1, message = "KEY_INVALID")
+    Integer initialPlantCount;
+
+    BigDecimal expectedYieldKg;
+
+    String notes;
+}
@@ -0,0 +1,18 @@
+package org.example.QuanLyMuaVu.DTO.Request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.example.QuanLyMuaVu.Enums.ReportType;
+
+/**
+ * Request DTO for submitting a background report job.
+ */
+@Data
+public class ReportJobRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportType type;
+
+    /** Same filter as the synchronous report endpoints; empty means all data */
+    private AdminReportFilter filter;
+}
@@ -0,0 +1,45 @@
+package org.example.QuanLyMuaVu.DTO.Request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TaskTemplateRequest {
+
+    @NotNull(message = "KEY_INVALID")
+    Integer cropId;
+
+    Integer varietyId;
+
+    @NotBlank(message = "KEY_INVALID")
+    @Size(max = 255, message = "KEY_INVALID")
+    String title;
+
+    @Size(max = 4000, message = "KEY_INVALID")
+    String description;
+
+    @NotNull(message = "KEY_INVALID")
+    Integer offsetDays;
+
+    @NotNull(message = "KEY_INVALID")
+    @Min(value = 0, message = "KEY_INVALID")
+    Integer durationDays;
+
+    Integer sortOrder;
+
+    Boolean active;
+}
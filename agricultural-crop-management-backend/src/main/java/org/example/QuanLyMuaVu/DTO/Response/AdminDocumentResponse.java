@@ -23,4 +23,7 @@ public class AdminDocumentResponse {
     String createdAt;
     String updatedAt;
     Long createdBy;
+    String fileName;
+    String contentType;
+    Long contentLength;
 }
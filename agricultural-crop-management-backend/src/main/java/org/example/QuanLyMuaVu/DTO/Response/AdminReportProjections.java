@@ -1,6 +1,13 @@
 package org.example.QuanLyMuaVu.DTO.Response;
 
+import org.example.QuanLyMuaVu.Enums.IncidentSeverity;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Enums.StockMovementType;
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Projection interfaces for Admin Reports aggregation queries.
@@ -39,4 +46,134 @@ public class AdminReportProjections {
 
         BigDecimal getTotalRevenue();
     }
+
+    /**
+     * One season with its harvest and expense totals.
+     * Used by: SeasonRepository.streamReportRows() for report exports
+     */
+    public interface SeasonReportRow {
+        Integer getSeasonId();
+
+        String getSeasonName();
+
+        String getCropName();
+
+        String getPlotName();
+
+        String getFarmName();
+
+        BigDecimal getExpectedYieldKg();
+
+        BigDecimal getTotalQuantity();
+
+        BigDecimal getTotalRevenue();
+
+        BigDecimal getTotalExpense();
+    }
+
+    /**
+     * One positive stock balance of a lot in a warehouse.
+     * Used by: InventoryBalanceRepository.streamOnHandRows()
+     */
+    public interface InventoryOnHandRow {
+        Integer getWarehouseId();
+
+        String getWarehouseName();
+
+        String getFarmName();
+
+        Integer getLotId();
+
+        String getBatchCode();
+
+        String getItemName();
+
+        String getUnit();
+
+        LocalDate getExpiryDate();
+
+        BigDecimal getQuantity();
+    }
+
+    /**
+     * Task row for the task performance export.
+     * Used by: TaskRepository.streamReportRows()
+     */
+    public interface TaskReportRow {
+        Integer getTaskId();
+
+        String getTitle();
+
+        TaskStatus getStatus();
+
+        String getSeasonName();
+
+        String getFarmName();
+
+        String getAssignee();
+
+        LocalDate getPlannedDate();
+
+        LocalDate getDueDate();
+
+        LocalDate getActualEndDate();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Incident row for the incident statistics export.
+     * Used by: IncidentRepository.streamReportRows()
+     */
+    public interface IncidentReportRow {
+        Integer getIncidentId();
+
+        String getIncidentType();
+
+        IncidentSeverity getSeverity();
+
+        IncidentStatus getStatus();
+
+        String getSeasonName();
+
+        String getReportedBy();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getResolvedAt();
+    }
+
+    /**
+     * Sum of one amount per calendar day.
+     * Used by: ExpenseRepository.sumTotalCostByDay() for the time series
+     */
+    public interface DailyTotal {
+        LocalDate getDay();
+
+        BigDecimal getTotal();
+    }
+
+    /**
+     * Harvest quantity and revenue per calendar day.
+     * Used by: HarvestRepository.sumByDay() for the time series
+     */
+    public interface DailyHarvest {
+        LocalDate getDay();
+
+        BigDecimal getTotalQuantity();
+
+        BigDecimal getTotalRevenue();
+    }
+
+    /**
+     * Stock movement quantity per calendar day and movement type.
+     * Used by: StockMovementRepository.sumQuantityByDayAndType() for the time series
+     */
+    public interface DailyMovement {
+        LocalDate getDay();
+
+        StockMovementType getMovementType();
+
+        BigDecimal getTotalQuantity();
+    }
 }
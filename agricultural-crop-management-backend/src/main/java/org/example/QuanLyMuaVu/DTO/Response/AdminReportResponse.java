@@ -5,7 +5,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import org.example.QuanLyMuaVu.Enums.TimeBucket;
+
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -196,4 +200,35 @@ public class AdminReportResponse {
         private Long resolvedCount;
         private BigDecimal averageResolutionDays; // nullable if no resolved incidents
     }
+
+    /**
+     * Time Series Report: expense, harvest and stock movement totals per
+     * calendar bucket. Each point covers {@code span} buckets of {@code bucket}
+     * starting at {@code start}; buckets without data are zero.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeSeries {
+        private LocalDate fromDate;
+        private LocalDate toDate; // exclusive
+        private TimeBucket requestedBucket;
+        private TimeBucket bucket; // coarser than requested when downsampled
+        private Integer span;
+        private List<TimeSeriesPoint> points;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeSeriesPoint {
+        private LocalDate start;
+        private BigDecimal expenses;
+        private BigDecimal harvestQuantity;
+        private BigDecimal revenue;
+        private BigDecimal stockIn;
+        private BigDecimal stockOut;
+    }
 }
@@ -0,0 +1,41 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Answer to an agronomy question with the document passages it is based on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AgronomyAnswerResponse {
+    String question;
+    String answer;
+    /** Answer generator used, e.g. "extractive" */
+    String generator;
+    /** Retrieved passages, best match first */
+    List<Source> sources;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Source {
+        Long documentId;
+        String title;
+        String documentUrl;
+        String passage;
+        /** BM25 score; only comparable within one answer */
+        double score;
+    }
+}
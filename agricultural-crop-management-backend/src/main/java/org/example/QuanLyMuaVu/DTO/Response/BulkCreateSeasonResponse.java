@@ -0,0 +1,43 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk season plan, one entry per distinct requested plot in
+ * request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkCreateSeasonResponse {
+
+    int requested;
+    int created;
+    int rejected;
+    List<PlotResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class PlotResult {
+        Integer plotId;
+        /**
+         * CREATED or REJECTED.
+         */
+        String status;
+        Integer seasonId;
+        String errorCode;
+        String message;
+    }
+}
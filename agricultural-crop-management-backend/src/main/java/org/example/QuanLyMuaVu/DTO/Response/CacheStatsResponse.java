@@ -0,0 +1,28 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Usage statistics of a single application cache.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheStatsResponse {
+    String name;
+    long size;
+    long maximumSize;
+    long ttlSeconds;
+    long hitCount;
+    long missCount;
+    double hitRate;
+    long evictionCount;
+    long expirationCount;
+}
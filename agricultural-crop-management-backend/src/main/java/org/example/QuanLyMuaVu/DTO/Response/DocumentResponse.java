@@ -23,4 +23,7 @@ public class DocumentResponse {
     String createdAt;
     String updatedAt;
     Long createdBy;
+    String fileName;
+    String contentType;
+    Long contentLength;
 }
@@ -0,0 +1,35 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.DTO.Request.AdminReportFilter;
+import org.example.QuanLyMuaVu.Enums.ReportJobStatus;
+import org.example.QuanLyMuaVu.Enums.ReportType;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of a background report job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReportJobResponse {
+    String id;
+    ReportType type;
+    AdminReportFilter filter;
+    ReportJobStatus status;
+    /** 0-100 */
+    int progress;
+    LocalDateTime createdAt;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+    /** Failure message when status is FAILED */
+    String error;
+}
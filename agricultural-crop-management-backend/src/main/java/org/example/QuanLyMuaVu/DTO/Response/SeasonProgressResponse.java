@@ -0,0 +1,31 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task and incident counts of a season, for progress bars and risk widgets.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SeasonProgressResponse {
+    Integer seasonId;
+    int totalTasks;
+    int doneTasks;
+    int overdueTasks;
+    int cancelledTasks;
+    /** Incidents that are OPEN or IN_PROGRESS */
+    int openIncidents;
+    /** Done tasks as a percentage of the tasks that were not cancelled */
+    double progressPercent;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TaskTemplateResponse {
+
+    Integer id;
+    Integer cropId;
+    Integer varietyId;
+    String title;
+    String description;
+    Integer offsetDays;
+    Integer durationDays;
+    Integer sortOrder;
+    Boolean active;
+}
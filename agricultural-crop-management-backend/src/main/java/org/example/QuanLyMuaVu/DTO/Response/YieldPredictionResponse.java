@@ -0,0 +1,32 @@
+package org.example.QuanLyMuaVu.DTO.Response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+/**
+ * Yield estimate for a planting, with the model it came from.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class YieldPredictionResponse {
+    String crop;
+    BigDecimal area;
+    BigDecimal estimatedYieldKg;
+    BigDecimal estimatedYieldTon;
+    /**
+     * CROP_VARIETY_SOIL, CROP_VARIETY, CROP_SOIL or CROP for a fitted model;
+     * DEFAULT for the flat per-area estimate used without enough history.
+     */
+    String model;
+    /** Finished seasons behind the model */
+    long sampleCount;
+}
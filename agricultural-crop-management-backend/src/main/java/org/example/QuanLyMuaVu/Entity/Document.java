@@ -11,7 +11,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 /**
- * Entity representing a system-wide document stored as an external link.
+ * Entity representing a system-wide document stored as an external link or
+ * as an uploaded file in the local content store.
  * Used for policy documents, guides, manuals, legal terms, etc.
  */
 @Getter
@@ -55,4 +56,20 @@ public class Document {
 
     @Column(name = "created_by", nullable = false)
     Long createdBy;
+
+    /**
+     * SHA-256 of the uploaded file, which is also its key in the content
+     * store. Documents with identical files share one stored copy.
+     */
+    @Column(name = "content_hash", length = 64)
+    String contentHash;
+
+    @Column(name = "content_type", length = 255)
+    String contentType;
+
+    @Column(name = "content_length")
+    Long contentLength;
+
+    @Column(name = "original_filename", length = 255)
+    String originalFilename;
 }
@@ -0,0 +1,76 @@
+package org.example.QuanLyMuaVu.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.Enums.NotificationStatus;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outgoing email notification, queued until the dispatcher sends it.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    Long id;
+
+    @Column(name = "recipient_email", nullable = false, length = 255)
+    String recipientEmail;
+
+    @Column(name = "subject", nullable = false, length = 255)
+    String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    String body;
+
+    // VARCHAR rather than a MySQL ENUM, so adding a status needs no ALTER
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", nullable = false, length = 20)
+    NotificationStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    LocalDateTime sentAt;
+}
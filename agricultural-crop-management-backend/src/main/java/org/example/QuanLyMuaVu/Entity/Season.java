@@ -7,8 +7,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -30,8 +33,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
-@Table(name = "seasons")
+@Table(name = "seasons", indexes = {
+        @Index(name = "idx_seasons_plot_status_range", columnList = "plot_id, status, start_date, effective_end_date")
+})
 public class Season {
+    /**
+     * Stand-in end date for open-ended seasons in overlap checks.
+     */
+    public static final LocalDate OPEN_END_DATE = LocalDate.of(9999, 12, 31);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "season_id")
@@ -87,4 +97,25 @@ public class Season {
 
     @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     LocalDateTime createdAt;
+
+    /**
+     * Denormalized end of the season for overlap checks:
+     * endDate, else plannedHarvestDate, else {@link #OPEN_END_DATE}.
+     * Kept in sync on every write so the overlap query can use an index.
+     */
+    @Column(name = "effective_end_date")
+    LocalDate effectiveEndDate;
+
+    public static LocalDate effectiveEndOf(LocalDate endDate, LocalDate plannedHarvestDate) {
+        if (endDate != null) {
+            return endDate;
+        }
+        return plannedHarvestDate != null ? plannedHarvestDate : OPEN_END_DATE;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncEffectiveEndDate() {
+        effectiveEndDate = effectiveEndOf(endDate, plannedHarvestDate);
+    }
 }
@@ -0,0 +1,52 @@
+package org.example.QuanLyMuaVu.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running task and incident counts of a season, kept up to date by the
+ * services that change them so progress reads are a single-row lookup.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "season_progress")
+public class SeasonProgress {
+
+    @Id
+    @Column(name = "season_id")
+    Integer seasonId;
+
+    @Column(name = "total_tasks", nullable = false)
+    int totalTasks;
+
+    @Column(name = "done_tasks", nullable = false)
+    int doneTasks;
+
+    @Column(name = "overdue_tasks", nullable = false)
+    int overdueTasks;
+
+    @Column(name = "cancelled_tasks", nullable = false)
+    int cancelledTasks;
+
+    @Column(name = "open_incidents", nullable = false)
+    int openIncidents;
+
+    @Column(name = "updated_at", nullable = false)
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,75 @@
+package org.example.QuanLyMuaVu.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Standard task of a crop (optionally of a single variety), expanded into a
+ * season's task list when the season is created.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "task_templates", indexes = {
+        @Index(name = "idx_task_templates_crop_variety", columnList = "crop_id, variety_id")
+})
+public class TaskTemplate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_template_id")
+    Integer id;
+
+    @ManyToOne
+    @JoinColumn(name = "crop_id", nullable = false)
+    Crop crop;
+
+    /**
+     * When set, the template only applies to seasons of this variety;
+     * otherwise it applies to every season of the crop.
+     */
+    @ManyToOne
+    @JoinColumn(name = "variety_id")
+    Variety variety;
+
+    @Column(nullable = false)
+    String title;
+
+    @Column(columnDefinition = "TEXT")
+    String description;
+
+    /**
+     * Planned date of the generated task, in days from the season start date.
+     */
+    @Column(name = "offset_days", nullable = false)
+    Integer offsetDays;
+
+    /**
+     * Days between the planned date and the due date of the generated task.
+     */
+    @Column(name = "duration_days", nullable = false)
+    Integer durationDays;
+
+    @Column(name = "sort_order", nullable = false)
+    Integer sortOrder;
+
+    @Column(name = "active", nullable = false)
+    Boolean active;
+}
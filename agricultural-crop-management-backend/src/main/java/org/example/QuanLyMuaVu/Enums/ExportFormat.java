@@ -0,0 +1,27 @@
+package org.example.QuanLyMuaVu.Enums;
+
+/**
+ * File formats for report exports.
+ */
+public enum ExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.QuanLyMuaVu.Enums;
+
+public enum NotificationStatus {
+    PENDING,
+    /** Claimed by a dispatcher until next_attempt_at; due again after that if it never finished. */
+    SENDING,
+    SENT,
+    /** Gave up after the maximum number of attempts. */
+    FAILED
+}
@@ -0,0 +1,16 @@
+package org.example.QuanLyMuaVu.Enums;
+
+/**
+ * How a paged list endpoint reports the total number of rows.
+ */
+public enum PageTotalMode {
+
+    /** Run a count query with every page. */
+    EXACT,
+
+    /** Skip the count; the response only says whether a next page exists. */
+    NONE,
+
+    /** Skip the count and attach a cached total that is refreshed in the background. */
+    APPROXIMATE
+}
@@ -0,0 +1,16 @@
+package org.example.QuanLyMuaVu.Enums;
+
+/**
+ * Lifecycle of a background report job.
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
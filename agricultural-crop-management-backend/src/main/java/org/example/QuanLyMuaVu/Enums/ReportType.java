@@ -0,0 +1,11 @@
+package org.example.QuanLyMuaVu.Enums;
+
+/**
+ * Admin reports that can be run as background jobs.
+ */
+public enum ReportType {
+    YIELD,
+    COST,
+    REVENUE,
+    PROFIT
+}
@@ -0,0 +1,47 @@
+package org.example.QuanLyMuaVu.Enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Calendar granularity of a time series point. Weeks start on Monday
+ * (ISO-8601), quarters in January, April, July and October.
+ */
+public enum TimeBucket {
+    DAY,
+    WEEK,
+    MONTH,
+    QUARTER;
+
+    /**
+     * First day of the bucket containing {@code date}.
+     */
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> LocalDate.of(date.getYear(), (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+        };
+    }
+
+    /**
+     * First day of the bucket after the one starting at {@code start}.
+     */
+    public LocalDate next(LocalDate start) {
+        return switch (this) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+            case QUARTER -> start.plusMonths(3);
+        };
+    }
+
+    /**
+     * Next larger granularity, or null for {@link #QUARTER}.
+     */
+    public TimeBucket coarser() {
+        return this == QUARTER ? null : values()[ordinal() + 1];
+    }
+}
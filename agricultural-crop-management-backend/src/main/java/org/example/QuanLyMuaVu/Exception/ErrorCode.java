@@ -12,6 +12,7 @@ public enum ErrorCode {
 
         INTERNAL_SERVER_ERROR("ERR_INTERNAL_SERVER_ERROR", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
         BAD_REQUEST("ERR_BAD_REQUEST", "Bad request", HttpStatus.BAD_REQUEST),
+        INVALID_CURSOR("ERR_INVALID_CURSOR", "Invalid or expired page cursor", HttpStatus.BAD_REQUEST),
         UNAUTHORIZED("ERR_UNAUTHORIZED", "Unauthorized", HttpStatus.UNAUTHORIZED),
         FORBIDDEN("ERR_FORBIDDEN", "Forbidden", HttpStatus.FORBIDDEN),
         RESOURCE_NOT_FOUND("ERR_RESOURCE_NOT_FOUND", "Resource not found", HttpStatus.NOT_FOUND),
@@ -162,6 +163,20 @@ public enum ErrorCode {
         DOCUMENT_NOT_FOUND("ERR_DOCUMENT_NOT_FOUND", "Document not found", HttpStatus.NOT_FOUND),
         DOCUMENT_NOT_INACTIVE("ERR_DOCUMENT_NOT_INACTIVE",
                         "Only inactive documents can be permanently deleted. Please deactivate the document first.",
+                        HttpStatus.BAD_REQUEST),
+        DOCUMENT_FILE_NOT_FOUND("ERR_DOCUMENT_FILE_NOT_FOUND", "Document has no uploaded file", HttpStatus.NOT_FOUND),
+        DOCUMENT_FILE_EMPTY("ERR_DOCUMENT_FILE_EMPTY", "Uploaded file is empty", HttpStatus.BAD_REQUEST),
+        DOCUMENT_FILE_STORE_FAILED("ERR_DOCUMENT_FILE_STORE_FAILED", "Could not store document file",
+                        HttpStatus.INTERNAL_SERVER_ERROR),
+
+        // Report job errors
+        REPORT_JOB_NOT_FOUND("ERR_REPORT_JOB_NOT_FOUND", "Report job not found or expired", HttpStatus.NOT_FOUND),
+        REPORT_JOB_NOT_READY("ERR_REPORT_JOB_NOT_READY", "Report job has no result", HttpStatus.CONFLICT),
+        REPORT_QUEUE_FULL("ERR_REPORT_QUEUE_FULL", "Too many report jobs queued, please retry later",
+                        HttpStatus.SERVICE_UNAVAILABLE),
+        REPORT_QUERY_TIMEOUT("ERR_REPORT_QUERY_TIMEOUT", "Report queries did not finish in time",
+                        HttpStatus.SERVICE_UNAVAILABLE),
+        INVALID_REPORT_RANGE("ERR_INVALID_REPORT_RANGE", "Report from date must be before to date",
                         HttpStatus.BAD_REQUEST);
 
         ErrorCode(String code, String message, HttpStatus statusCode) {
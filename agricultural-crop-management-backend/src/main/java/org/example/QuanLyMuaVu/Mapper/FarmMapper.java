@@ -7,6 +7,7 @@ import org.example.QuanLyMuaVu.DTO.Response.FarmResponse;
 import org.example.QuanLyMuaVu.Entity.Farm;
 import org.example.QuanLyMuaVu.Entity.Province;
 import org.example.QuanLyMuaVu.Entity.Ward;
+import org.example.QuanLyMuaVu.Repository.Projection.FarmListItem;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -71,6 +72,20 @@ public class FarmMapper {
                 .build();
     }
 
+    public FarmResponse toResponse(FarmListItem item) {
+        return FarmResponse.builder()
+                .id(item.id())
+                .name(item.name())
+                .provinceId(item.provinceId())
+                .wardId(item.wardId())
+                .provinceName(item.provinceName())
+                .wardName(item.wardName())
+                .area(item.area())
+                .active(item.active())
+                .ownerUsername(item.ownerUsername())
+                .build();
+    }
+
     public FarmDetailResponse toDetailResponse(Farm farm) {
         if (farm == null) {
             return null;
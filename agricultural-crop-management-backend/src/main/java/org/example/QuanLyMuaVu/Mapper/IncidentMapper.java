@@ -2,6 +2,7 @@ package org.example.QuanLyMuaVu.Mapper;
 
 import org.example.QuanLyMuaVu.DTO.Response.IncidentResponse;
 import org.example.QuanLyMuaVu.Entity.Incident;
+import org.example.QuanLyMuaVu.Repository.Projection.IncidentListItem;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -35,4 +36,27 @@ public class IncidentMapper {
                 .createdAt(incident.getCreatedAt())
                 .build();
     }
+
+    public IncidentResponse toResponse(IncidentListItem item) {
+        return IncidentResponse.builder()
+                .id(item.id())
+                .seasonId(item.seasonId())
+                .seasonName(item.seasonName())
+                .reportedById(item.reportedById())
+                .reportedByUsername(item.reportedByUsername())
+                .incidentType(item.incidentType())
+                .severity(item.severity() != null ? item.severity().name() : null)
+                .description(item.description())
+                .status(item.status() != null ? item.status().name() : null)
+                .deadline(item.deadline())
+                .assigneeId(item.assigneeId())
+                .assigneeUsername(item.assigneeUsername())
+                .resolvedAt(item.resolvedAt())
+                .resolvedById(item.resolvedById())
+                .resolvedByUsername(item.resolvedByUsername())
+                .resolutionNote(item.resolutionNote())
+                .cancellationReason(item.cancellationReason())
+                .createdAt(item.createdAt())
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import org.example.QuanLyMuaVu.DTO.Response.PlotResponse;
 import org.example.QuanLyMuaVu.Entity.Plot;
 import org.example.QuanLyMuaVu.Entity.Province;
 import org.example.QuanLyMuaVu.Entity.Ward;
+import org.example.QuanLyMuaVu.Repository.Projection.PlotListItem;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
@@ -48,4 +49,20 @@ public class PlotMapper {
                 .farmName(plot.getFarm() != null ? plot.getFarm().getName() : null)
                 .build();
     }
+
+    public PlotResponse toResponse(PlotListItem item) {
+        return PlotResponse.builder()
+                .id(item.id())
+                .userName(item.userName())
+                .plotName(item.plotName())
+                .provinceId(item.provinceId())
+                .wardId(item.wardId())
+                .area(item.area())
+                .soilType(item.soilType())
+                .status(item.status())
+                .createdAt(item.createdAt())
+                .farmId(item.farmId())
+                .farmName(item.farmName())
+                .build();
+    }
 }
@@ -3,6 +3,7 @@ package org.example.QuanLyMuaVu.Mapper;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonDetailResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonResponse;
 import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Repository.Projection.SeasonListItem;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,6 +28,22 @@ public class SeasonMapper {
                 .build();
     }
 
+    public SeasonResponse toResponse(SeasonListItem item) {
+        return SeasonResponse.builder()
+                .id(item.id())
+                .seasonName(item.seasonName())
+                .plotId(item.plotId())
+                .cropId(item.cropId())
+                .varietyId(item.varietyId())
+                .startDate(item.startDate())
+                .plannedHarvestDate(item.plannedHarvestDate())
+                .endDate(item.endDate())
+                .status(item.status() != null ? item.status().getCode() : null)
+                .expectedYieldKg(item.expectedYieldKg())
+                .actualYieldKg(item.actualYieldKg())
+                .build();
+    }
+
     public SeasonDetailResponse toDetailResponse(Season season) {
         if (season == null) {
             return null;
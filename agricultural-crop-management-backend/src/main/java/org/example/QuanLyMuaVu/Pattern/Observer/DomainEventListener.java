@@ -2,9 +2,13 @@ package org.example.QuanLyMuaVu.Pattern.Observer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.example.QuanLyMuaVu.Service.NotificationService;
+import org.example.QuanLyMuaVu.Service.TaskTemplateService;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
 
 /**
  * Observer Pattern: Domain Event Listener.
@@ -15,7 +19,8 @@ import org.springframework.stereotype.Component;
  * - Statistics updates
  * - Audit trail persistence
  * <p>
- * Uses Spring's @EventListener for automatic event subscription.
+ * Uses Spring's @TransactionalEventListener, so handlers only see committed
+ * changes (or run straight away when no transaction is active).
  * 
  * @Async enables non-blocking event processing.
  */
@@ -24,10 +29,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DomainEventListener {
 
-    // TODO: Inject notification service when available
-    // private final NotificationService notificationService;
+    private final TaskTemplateService taskTemplateService;
+    private final NotificationService notificationService;
 
-    @EventListener
+    /**
+     * Runs after the season's transaction commits, so the new season row is
+     * visible to the task insert on the async thread.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handleSeasonCreated(SeasonCreatedEvent event) {
         log.info("[EVENT] Season created: id={}, name={}, plotId={}, cropId={}",
@@ -36,13 +45,30 @@ public class DomainEventListener {
                 event.getPlotId(),
                 event.getCropId());
 
+        taskTemplateService.expandForSeasons(List.of(event));
+
+        notificationService.notifyFarmOwner(event.getSeasonId(),
+                "Season created: " + event.getSeasonName(),
+                "Season \"" + event.getSeasonName() + "\" (id " + event.getSeasonId() + ") was created"
+                        + (event.getStartDate() != null ? " and starts on " + event.getStartDate() : "") + ".");
+
         // TODO: Future enhancements:
-        // 1. Auto-generate tasks from crop-specific templates
-        // 2. Send notification to farm manager
         // 3. Update farm dashboard statistics
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async
+    public void handleSeasonsPlanned(SeasonsPlannedEvent event) {
+        log.info("[EVENT] Seasons planned in bulk: count={}", event.getSeasons().size());
+
+        taskTemplateService.expandForSeasons(event.getSeasons());
+    }
+
+    /**
+     * After commit, like the season listeners: a completion that rolls back
+     * sends no email.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handleTaskCompleted(TaskCompletedEvent event) {
         log.info("[EVENT] Task completed: id={}, title={}, seasonId={}, previousStatus={}",
@@ -51,13 +77,16 @@ public class DomainEventListener {
                 event.getSeasonId(),
                 event.getPreviousStatus());
 
+        notificationService.notifyFarmOwner(event.getSeasonId(),
+                "Task completed: " + event.getTaskTitle(),
+                "Task \"" + event.getTaskTitle() + "\" (id " + event.getTaskId() + ") of season "
+                        + event.getSeasonId() + " was completed.");
+
         // TODO: Future enhancements:
-        // 1. Update season progress percentage
         // 2. Trigger follow-up tasks if defined
-        // 3. Send completion notification
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handleIncidentReported(IncidentReportedEvent event) {
         log.info("[EVENT] Incident reported: id={}, type={}, severity={}, seasonId={}, by user={}",
@@ -70,6 +99,10 @@ public class DomainEventListener {
         // HIGH severity incidents should trigger auto-task creation
         if ("HIGH".equalsIgnoreCase(event.getSeverity())) {
             log.warn("[EVENT] HIGH severity incident detected - consider auto-creating mitigation task");
+            notificationService.notifyFarmOwner(event.getSeasonId(),
+                    "High-severity incident reported",
+                    "A HIGH severity " + event.getIncidentType() + " incident (id " + event.getIncidentId()
+                            + ") was reported on season " + event.getSeasonId() + ".");
             // TODO: Auto-create mitigation task:
             // taskService.createMitigationTask(event.getSeasonId(), event.getIncidentId());
         }
@@ -1,8 +1,11 @@
 package org.example.QuanLyMuaVu.Pattern.Observer;
 
 import lombok.Getter;
+import org.example.QuanLyMuaVu.Entity.Plot;
 import org.example.QuanLyMuaVu.Entity.Season;
 
+import java.time.LocalDate;
+
 /**
  * Observer Pattern: Season Created Event.
  * <p>
@@ -19,13 +22,39 @@ public class SeasonCreatedEvent extends DomainEvent {
     private final String seasonName;
     private final Integer plotId;
     private final Integer cropId;
+    private final Integer varietyId;
+    private final LocalDate startDate;
+    /**
+     * Farm owner of the season's plot; generated tasks are assigned to them.
+     */
+    private final Long ownerUserId;
 
     public SeasonCreatedEvent(Season season) {
+        this(season, ownerOf(season.getPlot()));
+    }
+
+    /**
+     * For callers that already know the owner and hold only a plot reference.
+     */
+    public SeasonCreatedEvent(Season season, Long ownerUserId) {
         super("Season", season.getId() != null ? season.getId().toString() : "unknown");
         this.seasonId = season.getId();
         this.seasonName = season.getSeasonName();
         this.plotId = season.getPlot() != null ? season.getPlot().getId() : null;
         this.cropId = season.getCrop() != null ? season.getCrop().getId() : null;
+        this.varietyId = season.getVariety() != null ? season.getVariety().getId() : null;
+        this.startDate = season.getStartDate();
+        this.ownerUserId = ownerUserId;
+    }
+
+    private static Long ownerOf(Plot plot) {
+        if (plot == null) {
+            return null;
+        }
+        if (plot.getFarm() != null && plot.getFarm().getOwner() != null) {
+            return plot.getFarm().getOwner().getId();
+        }
+        return plot.getUser() != null ? plot.getUser().getId() : null;
     }
 
     @Override
@@ -0,0 +1,28 @@
+package org.example.QuanLyMuaVu.Pattern.Observer;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Observer Pattern: Seasons Planned Event.
+ * <p>
+ * Published once by the bulk planning endpoint for all seasons it created,
+ * so listeners can process the whole rollout in one batch instead of one
+ * {@link SeasonCreatedEvent} at a time.
+ */
+@Getter
+public class SeasonsPlannedEvent extends DomainEvent {
+
+    private final List<SeasonCreatedEvent> seasons;
+
+    public SeasonsPlannedEvent(List<SeasonCreatedEvent> seasons) {
+        super("Season", "bulk");
+        this.seasons = List.copyOf(seasons);
+    }
+
+    @Override
+    public String getEventType() {
+        return "SEASONS_PLANNED";
+    }
+}
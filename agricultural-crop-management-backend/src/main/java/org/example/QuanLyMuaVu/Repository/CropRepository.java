@@ -4,9 +4,12 @@ import org.example.QuanLyMuaVu.Entity.Crop;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CropRepository extends JpaRepository<Crop, Integer> {
     List<Crop> findByCropNameContainingIgnoreCase(String name);
 
     boolean existsByCropNameIgnoreCase(String cropName);
+
+    Optional<Crop> findFirstByCropNameIgnoreCase(String cropName);
 }
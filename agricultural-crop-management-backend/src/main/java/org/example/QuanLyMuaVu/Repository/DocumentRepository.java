@@ -5,7 +5,9 @@ import org.example.QuanLyMuaVu.Enums.DocumentStatus;
 import org.example.QuanLyMuaVu.Enums.DocumentType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,7 +16,15 @@ import java.util.List;
 /**
  * Repository for Document entity with pagination and filtering support.
  */
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, JpaSpecificationExecutor<Document> {
+
+    String SEARCH_WITH_FILTERS = """
+            SELECT d FROM Document d
+            WHERE (:keyword IS NULL OR :keyword = '' OR LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
+            AND (:type IS NULL OR d.documentType = :type)
+            AND (:status IS NULL OR d.status = :status)
+            ORDER BY d.createdAt DESC
+            """;
 
     /**
      * Search documents with optional filters for keyword, type, and status.
@@ -22,18 +32,36 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
      * level).
      * Default sort is by createdAt DESC.
      */
+    @Query(SEARCH_WITH_FILTERS)
+    Page<Document> searchWithFilters(
+            @Param("keyword") String keyword,
+            @Param("type") DocumentType type,
+            @Param("status") DocumentStatus status,
+            Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchWithFilters} without the count query.
+     */
+    @Query(SEARCH_WITH_FILTERS)
+    Slice<Document> sliceWithFilters(
+            @Param("keyword") String keyword,
+            @Param("type") DocumentType type,
+            @Param("status") DocumentStatus status,
+            Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchWithFilters} matches.
+     */
     @Query("""
-            SELECT d FROM Document d
+            SELECT COUNT(d) FROM Document d
             WHERE (:keyword IS NULL OR :keyword = '' OR LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
             AND (:type IS NULL OR d.documentType = :type)
             AND (:status IS NULL OR d.status = :status)
-            ORDER BY d.createdAt DESC
             """)
-    Page<Document> searchWithFilters(
+    long countWithFilters(
             @Param("keyword") String keyword,
             @Param("type") DocumentType type,
-            @Param("status") DocumentStatus status,
-            Pageable pageable);
+            @Param("status") DocumentStatus status);
 
     /**
      * Find documents by title containing keyword (case-insensitive).
@@ -49,4 +77,42 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
      * Check if a document with the given title already exists (case-insensitive).
      */
     boolean existsByTitleIgnoreCase(String title);
+
+    /**
+     * Whether any document still points at the stored file.
+     */
+    boolean existsByContentHash(String contentHash);
+
+    /**
+     * Ranked ids from the MySQL FULLTEXT index on (title, description).
+     * Only usable on MySQL once {@code ft_documents_title_description} exists;
+     * see DocumentSearchService.
+     */
+    @Query(value = """
+            SELECT d.document_id FROM documents d
+            WHERE MATCH(d.title, d.description) AGAINST (:query IN BOOLEAN MODE)
+            AND (:type IS NULL OR d.document_type = :type)
+            AND (:status IS NULL OR d.status = :status)
+            ORDER BY MATCH(d.title, d.description) AGAINST (:query IN BOOLEAN MODE) DESC, d.document_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Number> searchFullText(
+            @Param("query") String query,
+            @Param("type") String type,
+            @Param("status") String status,
+            @Param("limit") int limit);
+
+    /**
+     * Number of documents {@link #searchFullText} would return without a limit.
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM documents d
+            WHERE MATCH(d.title, d.description) AGAINST (:query IN BOOLEAN MODE)
+            AND (:type IS NULL OR d.document_type = :type)
+            AND (:status IS NULL OR d.status = :status)
+            """, nativeQuery = true)
+    long countFullText(
+            @Param("query") String query,
+            @Param("type") String type,
+            @Param("status") String status);
 }
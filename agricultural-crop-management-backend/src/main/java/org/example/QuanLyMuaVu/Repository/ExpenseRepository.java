@@ -42,4 +42,19 @@ public interface ExpenseRepository extends JpaRepository<Expense, Integer> {
             "FROM Expense e WHERE e.season.id IN :seasonIds GROUP BY e.season.id")
     List<AdminReportProjections.SeasonExpenseAgg> sumExpensesBySeasonIds(
             @Param("seasonIds") java.util.Set<Integer> seasonIds);
+
+    /**
+     * Expense totals per day in [from, to), farm/crop/plot optional.
+     * Used by AdminReportTimeSeriesService, which rolls days up into buckets.
+     */
+    @Query("SELECT e.expenseDate AS day, COALESCE(SUM(e.totalCost), 0) AS total " +
+            "FROM Expense e LEFT JOIN e.season s LEFT JOIN s.plot p " +
+            "WHERE e.expenseDate >= :from AND e.expenseDate < :to " +
+            "AND (:farmId IS NULL OR p.farm.id = :farmId) " +
+            "AND (:cropId IS NULL OR s.crop.id = :cropId) " +
+            "AND (:plotId IS NULL OR p.id = :plotId) " +
+            "GROUP BY e.expenseDate")
+    List<AdminReportProjections.DailyTotal> sumTotalCostByDay(@Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("farmId") Integer farmId, @Param("cropId") Integer cropId,
+            @Param("plotId") Integer plotId);
 }
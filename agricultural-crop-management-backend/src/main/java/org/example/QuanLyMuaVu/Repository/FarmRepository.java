@@ -2,20 +2,54 @@ package org.example.QuanLyMuaVu.Repository;
 
 import org.example.QuanLyMuaVu.Entity.Farm;
 import org.example.QuanLyMuaVu.Entity.User;
+import org.example.QuanLyMuaVu.Repository.Projection.FarmListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface FarmRepository extends JpaRepository<Farm, Integer> {
+public interface FarmRepository extends JpaRepository<Farm, Integer>, JpaSpecificationExecutor<Farm> {
+
+    String SEARCH_BY_KEYWORD = "SELECT f FROM Farm f WHERE " +
+            "(:keyword IS NULL OR :keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(f.owner.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(f.owner.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))";
+
+    String SEARCH_BY_KEYWORD_AND_ACTIVE = "SELECT f FROM Farm f WHERE f.active = :active AND " +
+            "(:keyword IS NULL OR :keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(f.owner.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(f.owner.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))";
+
+    String LIST_ITEM_SELECT = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.FarmListItem(" +
+            "f.id, f.name, pr.id, w.id, pr.name, w.name, f.area, f.active, o.username) " +
+            "FROM Farm f JOIN f.owner o JOIN f.province pr JOIN f.ward w ";
+
+    String LIST_ITEM_FILTERS = "WHERE (:active IS NULL OR f.active = :active) AND " +
+            "(:keyword IS NULL OR :keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(o.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(o.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))";
 
     List<Farm> findAllByOwner(User owner);
 
+    /**
+     * Farms of one owner as list rows, name keyword and active flag optional.
+     */
+    @Query(value = LIST_ITEM_SELECT + "WHERE o.id = :ownerId " +
+            "AND (:active IS NULL OR f.active = :active) " +
+            "AND (:keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+            countQuery = "SELECT COUNT(f) FROM Farm f WHERE f.owner.id = :ownerId " +
+                    "AND (:active IS NULL OR f.active = :active) " +
+                    "AND (:keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<FarmListItem> findListItemsByOwner(@Param("ownerId") Long ownerId, @Param("keyword") String keyword,
+            @Param("active") Boolean active, Pageable pageable);
+
     Optional<Farm> findByIdAndOwner(Integer id, User owner);
 
     boolean existsByOwnerAndNameIgnoreCase(User owner, String name);
@@ -33,17 +67,42 @@ public interface FarmRepository extends JpaRepository<Farm, Integer> {
     // Admin search: by farm name OR owner name/username with EntityGraph for N+1
     // prevention
     @EntityGraph(attributePaths = { "owner", "province", "ward" })
-    @Query("SELECT f FROM Farm f WHERE " +
-            "(:keyword IS NULL OR :keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(f.owner.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(f.owner.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    @Query(SEARCH_BY_KEYWORD)
     Page<Farm> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * Rows of {@link #searchByKeyword} / {@link #searchByKeywordAndActive} as
+     * list projections; {@code active} is optional.
+     */
+    @Query(value = LIST_ITEM_SELECT + LIST_ITEM_FILTERS,
+            countQuery = "SELECT COUNT(f) FROM Farm f JOIN f.owner o " + LIST_ITEM_FILTERS)
+    Page<FarmListItem> searchListItems(@Param("keyword") String keyword, @Param("active") Boolean active,
+            Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchByKeyword} without the count query.
+     */
     @EntityGraph(attributePaths = { "owner", "province", "ward" })
-    @Query("SELECT f FROM Farm f WHERE f.active = :active AND " +
-            "(:keyword IS NULL OR :keyword = '' OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(f.owner.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(f.owner.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    @Query(SEARCH_BY_KEYWORD)
+    Slice<Farm> sliceByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "owner", "province", "ward" })
+    @Query(SEARCH_BY_KEYWORD_AND_ACTIVE)
     Page<Farm> searchByKeywordAndActive(@Param("keyword") String keyword, @Param("active") Boolean active,
             Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchByKeywordAndActive} without the count query.
+     */
+    @EntityGraph(attributePaths = { "owner", "province", "ward" })
+    @Query(SEARCH_BY_KEYWORD_AND_ACTIVE)
+    Slice<Farm> sliceByKeywordAndActive(@Param("keyword") String keyword, @Param("active") Boolean active,
+            Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchByKeyword} / {@link #searchByKeywordAndActive}
+     * match; {@code active} is optional.
+     */
+    @Query("SELECT COUNT(f) FROM Farm f JOIN f.owner o " + LIST_ITEM_FILTERS)
+    long countByKeyword(@Param("keyword") String keyword, @Param("active") Boolean active);
 }
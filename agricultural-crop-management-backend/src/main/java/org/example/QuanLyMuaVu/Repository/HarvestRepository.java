@@ -46,4 +46,19 @@ public interface HarvestRepository extends JpaRepository<Harvest, Integer> {
             "FROM Harvest h WHERE h.season.id IN :seasonIds GROUP BY h.season.id")
     List<AdminReportProjections.SeasonRevenueAgg> sumRevenueBySeasonIds(
             @Param("seasonIds") java.util.Set<Integer> seasonIds);
+
+    /**
+     * Harvest quantity and revenue per day in [from, to), farm/crop/plot optional.
+     * Used by AdminReportTimeSeriesService, which rolls days up into buckets.
+     */
+    @Query("SELECT h.harvestDate AS day, COALESCE(SUM(h.quantity), 0) AS totalQuantity, " +
+            "COALESCE(SUM(h.quantity * h.unit), 0) AS totalRevenue " +
+            "FROM Harvest h LEFT JOIN h.season s LEFT JOIN s.plot p " +
+            "WHERE h.harvestDate >= :from AND h.harvestDate < :to " +
+            "AND (:farmId IS NULL OR p.farm.id = :farmId) " +
+            "AND (:cropId IS NULL OR s.crop.id = :cropId) " +
+            "AND (:plotId IS NULL OR p.id = :plotId) " +
+            "GROUP BY h.harvestDate")
+    List<AdminReportProjections.DailyHarvest> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("farmId") Integer farmId, @Param("cropId") Integer cropId, @Param("plotId") Integer plotId);
 }
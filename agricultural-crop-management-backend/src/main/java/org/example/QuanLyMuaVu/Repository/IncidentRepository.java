@@ -1,16 +1,50 @@
 package org.example.QuanLyMuaVu.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections;
 import org.example.QuanLyMuaVu.Entity.Incident;
 import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Enums.IncidentSeverity;
 import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Repository.Projection.IncidentListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface IncidentRepository extends JpaRepository<Incident, Integer> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface IncidentRepository extends JpaRepository<Incident, Integer>, JpaSpecificationExecutor<Incident> {
+
+    String LIST_ITEM_FILTERS = "WHERE (:status IS NULL OR i.status = :status) " +
+            "AND (:severity IS NULL OR i.severity = :severity) " +
+            "AND (:type IS NULL OR i.incidentType = :type)";
 
     List<Incident> findAllBySeason(Season season);
 
+    /**
+     * Admin incident list with all filters applied before paging.
+     */
+    @Query(value = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.IncidentListItem(" +
+            "i.id, s.id, s.seasonName, rb.id, rb.username, i.incidentType, i.severity, i.description, " +
+            "i.status, i.deadline, a.id, a.username, i.resolvedAt, rv.id, rv.username, " +
+            "i.resolutionNote, i.cancellationReason, i.createdAt) " +
+            "FROM Incident i JOIN i.season s LEFT JOIN i.reportedBy rb " +
+            "LEFT JOIN i.assignee a LEFT JOIN i.resolvedBy rv " + LIST_ITEM_FILTERS,
+            countQuery = "SELECT COUNT(i) FROM Incident i " + LIST_ITEM_FILTERS)
+    Page<IncidentListItem> findListItems(@Param("status") IncidentStatus status,
+            @Param("severity") IncidentSeverity severity,
+            @Param("type") String type,
+            Pageable pageable);
+
     /**
      * Count incidents by farm IDs and status.
      * Used by FarmerDashboardService to get open incidents count.
@@ -23,9 +57,28 @@ public interface IncidentRepository extends JpaRepository<Incident, Integer> {
      */
     Long countByStatus(IncidentStatus status);
 
+    /**
+     * Used by SeasonProgressService to build a season's counters from scratch.
+     */
+    long countBySeason_IdAndStatusIn(Integer seasonId, Collection<IncidentStatus> statuses);
+
     /**
      * Find latest 5 incidents ordered by created date.
      * Used by AdminDashboardService for latest incidents.
      */
     List<Incident> findTop5ByOrderByCreatedAtDesc();
+
+    /**
+     * Incidents created in [from, to), read through a cursor for the incident
+     * statistics export.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i.id AS incidentId, i.incidentType AS incidentType, i.severity AS severity, " +
+            "i.status AS status, s.seasonName AS seasonName, rb.username AS reportedBy, " +
+            "i.createdAt AS createdAt, i.resolvedAt AS resolvedAt " +
+            "FROM Incident i LEFT JOIN i.season s LEFT JOIN i.reportedBy rb " +
+            "WHERE i.createdAt >= :from AND i.createdAt < :to " +
+            "ORDER BY i.id")
+    Stream<AdminReportProjections.IncidentReportRow> streamReportRows(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
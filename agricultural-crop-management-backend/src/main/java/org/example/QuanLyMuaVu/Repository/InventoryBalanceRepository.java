@@ -1,6 +1,8 @@
 package org.example.QuanLyMuaVu.Repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections;
 import org.example.QuanLyMuaVu.Entity.InventoryBalance;
 import org.example.QuanLyMuaVu.Entity.StockLocation;
 import org.example.QuanLyMuaVu.Entity.SupplyLot;
@@ -9,10 +11,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface InventoryBalanceRepository extends JpaRepository<InventoryBalance, Long> {
 
@@ -73,4 +79,23 @@ public interface InventoryBalanceRepository extends JpaRepository<InventoryBalan
             @Param("lot") SupplyLot lot,
             @Param("warehouse") Warehouse warehouse,
             @Param("location") StockLocation location);
+
+    /**
+     * Positive balances per lot and warehouse, read through a cursor for the
+     * inventory on-hand export.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT w.id AS warehouseId, w.name AS warehouseName, f.name AS farmName,
+                   l.id AS lotId, l.batchCode AS batchCode, i.name AS itemName, i.unit AS unit,
+                   l.expiryDate AS expiryDate, ib.quantity AS quantity
+            FROM InventoryBalance ib
+            JOIN ib.warehouse w
+            LEFT JOIN w.farm f
+            JOIN ib.supplyLot l
+            LEFT JOIN l.supplyItem i
+            WHERE ib.quantity > 0
+            ORDER BY w.id, l.id
+            """)
+    Stream<AdminReportProjections.InventoryOnHandRow> streamOnHandRows();
 }
@@ -0,0 +1,41 @@
+package org.example.QuanLyMuaVu.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.QuanLyMuaVu.Entity.Notification;
+import org.example.QuanLyMuaVu.Enums.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Notifications due by {@code now}, oldest first, locked for update:
+     * pending ones, and claims whose dispatcher never finished. Rows another
+     * dispatcher has locked are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // Lock timeout -2 is Hibernate's SKIP LOCKED
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT n FROM Notification n WHERE n.status IN (org.example.QuanLyMuaVu.Enums.NotificationStatus.PENDING, " +
+            "org.example.QuanLyMuaVu.Enums.NotificationStatus.SENDING) " +
+            "AND n.nextAttemptAt <= :now ORDER BY n.id")
+    List<Notification> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.status = :status AND n.createdAt < :before")
+    int deleteByStatusCreatedBefore(@Param("status") NotificationStatus status,
+            @Param("before") LocalDateTime before);
+}
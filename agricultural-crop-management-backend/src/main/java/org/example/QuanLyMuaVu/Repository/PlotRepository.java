@@ -3,21 +3,63 @@ package org.example.QuanLyMuaVu.Repository;
 import org.example.QuanLyMuaVu.Entity.Farm;
 import org.example.QuanLyMuaVu.Entity.Plot;
 import org.example.QuanLyMuaVu.Entity.User;
+import org.example.QuanLyMuaVu.Repository.Projection.PlotListItem;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PlotRepository extends JpaRepository<Plot, Integer> {
+
+    String LIST_ITEM_SELECT = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.PlotListItem(" +
+            "p.id, u.username, p.plotName, pr.id, w.id, p.area, p.soilType, p.status, p.createdAt, f.id, f.name) " +
+            "FROM Plot p LEFT JOIN p.user u LEFT JOIN p.province pr LEFT JOIN p.ward w LEFT JOIN p.farm f ";
+
     List<Plot> findByPlotNameContainingIgnoreCase(String name);
 
     List<Plot> findAllByUser(User user);
 
     List<Plot> findAllByFarm(Farm farm);
 
+    @Query(LIST_ITEM_SELECT + "WHERE u.id = :userId")
+    List<PlotListItem> findListItemsByUserId(@Param("userId") Long userId);
+
+    @Query(LIST_ITEM_SELECT + "WHERE f.id = :farmId")
+    List<PlotListItem> findListItemsByFarmId(@Param("farmId") Integer farmId);
+
     // For cascade owner update when farm owner changes
     List<Plot> findAllByFarm_Id(Integer farmId);
 
     boolean existsByFarm(Farm farm);
 
     boolean existsByUserAndPlotNameIgnoreCase(User user, String plotName);
+
+    /**
+     * Loads a plot with a row lock (SELECT ... FOR UPDATE) held until the
+     * surrounding transaction ends. Serializes season writes per plot.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Plot p WHERE p.id = :id")
+    Optional<Plot> findByIdForUpdate(@Param("id") Integer id);
+
+    /**
+     * Plots with their farm, farm owner and creator, for checking ownership
+     * of many plots in one query.
+     */
+    @Query("SELECT p FROM Plot p LEFT JOIN FETCH p.farm f LEFT JOIN FETCH f.owner LEFT JOIN FETCH p.user " +
+            "WHERE p.id IN :ids")
+    List<Plot> findAllWithOwnersByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Row-locks many plots at once, in id order so concurrent bulk requests
+     * cannot deadlock on each other.
+     */
+    @Query(value = "SELECT plot_id FROM plots WHERE plot_id IN (:ids) ORDER BY plot_id FOR UPDATE",
+            nativeQuery = true)
+    List<Integer> lockAllByIdIn(@Param("ids") Collection<Integer> ids);
 }
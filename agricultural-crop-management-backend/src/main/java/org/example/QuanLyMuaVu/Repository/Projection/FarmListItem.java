@@ -0,0 +1,19 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Columns shown in the farm lists, including the province, ward and owner
+ * names that would otherwise need their entities loaded.
+ */
+public record FarmListItem(
+        Integer id,
+        String name,
+        Integer provinceId,
+        Integer wardId,
+        String provinceName,
+        String wardName,
+        BigDecimal area,
+        Boolean active,
+        String ownerUsername) {
+}
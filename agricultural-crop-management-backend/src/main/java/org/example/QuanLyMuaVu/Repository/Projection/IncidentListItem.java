@@ -0,0 +1,32 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import org.example.QuanLyMuaVu.Enums.IncidentSeverity;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown in the admin incident list. Only ids and usernames of the
+ * season and the involved users are read, not the entities themselves.
+ */
+public record IncidentListItem(
+        Integer id,
+        Integer seasonId,
+        String seasonName,
+        Long reportedById,
+        String reportedByUsername,
+        String incidentType,
+        IncidentSeverity severity,
+        String description,
+        IncidentStatus status,
+        LocalDate deadline,
+        Long assigneeId,
+        String assigneeUsername,
+        LocalDateTime resolvedAt,
+        Long resolvedById,
+        String resolvedByUsername,
+        String resolutionNote,
+        String cancellationReason,
+        LocalDateTime createdAt) {
+}
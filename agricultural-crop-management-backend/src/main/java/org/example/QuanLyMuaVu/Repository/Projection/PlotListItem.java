@@ -0,0 +1,21 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown in the plot lists.
+ */
+public record PlotListItem(
+        Integer id,
+        String userName,
+        String plotName,
+        Integer provinceId,
+        Integer wardId,
+        BigDecimal area,
+        String soilType,
+        String status,
+        LocalDateTime createdAt,
+        Integer farmId,
+        String farmName) {
+}
@@ -0,0 +1,24 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import org.example.QuanLyMuaVu.Enums.SeasonStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Columns shown in the season list, selected directly instead of loading
+ * {@code Season} with its eager plot, crop and variety graph.
+ */
+public record SeasonListItem(
+        Integer id,
+        String seasonName,
+        Integer plotId,
+        Integer cropId,
+        Integer varietyId,
+        LocalDate startDate,
+        LocalDate plannedHarvestDate,
+        LocalDate endDate,
+        SeasonStatus status,
+        BigDecimal expectedYieldKg,
+        BigDecimal actualYieldKg) {
+}
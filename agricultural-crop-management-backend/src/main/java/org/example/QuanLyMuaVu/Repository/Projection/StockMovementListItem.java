@@ -0,0 +1,25 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import org.example.QuanLyMuaVu.Enums.StockMovementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown in the movement history of a supply lot. The location is
+ * read as its parts so the display name can be built without the entity.
+ */
+public record StockMovementListItem(
+        Integer id,
+        StockMovementType movementType,
+        BigDecimal quantity,
+        LocalDateTime movementDate,
+        String note,
+        Integer warehouseId,
+        String warehouseName,
+        Integer locationId,
+        String locationZone,
+        String locationAisle,
+        String locationShelf,
+        String locationBin) {
+}
@@ -0,0 +1,21 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown in the task list of a season.
+ */
+public record TaskListItem(
+        Integer id,
+        String userName,
+        String seasonName,
+        String title,
+        String description,
+        LocalDate plannedDate,
+        LocalDate dueDate,
+        TaskStatus status,
+        LocalDateTime createdAt) {
+}
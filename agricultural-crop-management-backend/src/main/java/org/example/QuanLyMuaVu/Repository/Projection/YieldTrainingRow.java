@@ -0,0 +1,17 @@
+package org.example.QuanLyMuaVu.Repository.Projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One finished season as a yield model sample: what was planted where, and
+ * the harvested total.
+ */
+public record YieldTrainingRow(
+        Integer seasonId,
+        Integer cropId,
+        Integer varietyId,
+        String soilType,
+        BigDecimal area,
+        Integer initialPlantCount,
+        BigDecimal actualYieldKg) {
+}
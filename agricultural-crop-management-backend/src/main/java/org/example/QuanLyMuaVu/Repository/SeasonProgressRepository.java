@@ -0,0 +1,68 @@
+package org.example.QuanLyMuaVu.Repository;
+
+import org.example.QuanLyMuaVu.Entity.SeasonProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface SeasonProgressRepository extends JpaRepository<SeasonProgress, Integer> {
+
+    /**
+     * Adds the deltas to the season's counters in one UPDATE, so concurrent
+     * changes never overwrite each other.
+     *
+     * @return 0 when the season has no counter row yet
+     */
+    @Modifying
+    @Query("UPDATE SeasonProgress p SET p.totalTasks = p.totalTasks + :total, " +
+            "p.doneTasks = p.doneTasks + :done, " +
+            "p.overdueTasks = p.overdueTasks + :overdue, " +
+            "p.cancelledTasks = p.cancelledTasks + :cancelled, " +
+            "p.openIncidents = p.openIncidents + :openIncidents, " +
+            "p.updatedAt = :now " +
+            "WHERE p.seasonId = :seasonId")
+    int increment(@Param("seasonId") Integer seasonId,
+            @Param("total") int total,
+            @Param("done") int done,
+            @Param("overdue") int overdue,
+            @Param("cancelled") int cancelled,
+            @Param("openIncidents") int openIncidents,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Zeroed row for a season that has just been created.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO season_progress (season_id, total_tasks, done_tasks, overdue_tasks, " +
+            "cancelled_tasks, open_incidents, updated_at) VALUES (:seasonId, 0, 0, 0, 0, 0, :now)",
+            nativeQuery = true)
+    int insertEmpty(@Param("seasonId") Integer seasonId, @Param("now") LocalDateTime now);
+
+    /**
+     * Rows for the seasons that have none, counted from their tasks and
+     * incidents in one statement.
+     *
+     * @return rows created
+     */
+    @Modifying
+    @Query(value = "INSERT INTO season_progress (season_id, total_tasks, done_tasks, overdue_tasks, " +
+            "cancelled_tasks, open_incidents, updated_at) " +
+            "SELECT s.season_id, " +
+            "(SELECT COUNT(*) FROM tasks t WHERE t.season_id = s.season_id), " +
+            "(SELECT COUNT(*) FROM tasks t WHERE t.season_id = s.season_id AND t.status = :done), " +
+            "(SELECT COUNT(*) FROM tasks t WHERE t.season_id = s.season_id AND t.status = :overdue), " +
+            "(SELECT COUNT(*) FROM tasks t WHERE t.season_id = s.season_id AND t.status = :cancelled), " +
+            "(SELECT COUNT(*) FROM incidents i WHERE i.season_id = s.season_id AND i.status IN (:openStatuses)), " +
+            ":now FROM seasons s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM season_progress p WHERE p.season_id = s.season_id)",
+            nativeQuery = true)
+    int insertMissing(@Param("done") String done,
+            @Param("overdue") String overdue,
+            @Param("cancelled") String cancelled,
+            @Param("openStatuses") Collection<String> openStatuses,
+            @Param("now") LocalDateTime now);
+}
@@ -1,18 +1,46 @@
 package org.example.QuanLyMuaVu.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections;
 import org.example.QuanLyMuaVu.Entity.Season;
 import org.example.QuanLyMuaVu.Entity.User;
 import org.example.QuanLyMuaVu.Enums.SeasonStatus;
+import org.example.QuanLyMuaVu.Repository.Projection.SeasonListItem;
+import org.example.QuanLyMuaVu.Repository.Projection.YieldTrainingRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface SeasonRepository extends JpaRepository<Season, Integer>, JpaSpecificationExecutor<Season> {
 
+        String SEASON_LIST_FILTERS = "WHERE (p.farm.id IN :farmIds OR p.user.id = :userId) " +
+                        "AND (:plotId IS NULL OR p.id = :plotId) " +
+                        "AND (:cropId IS NULL OR c.id = :cropId) " +
+                        "AND (:status IS NULL OR s.status = :status) " +
+                        "AND (:from IS NULL OR COALESCE(s.endDate, s.startDate) >= :from) " +
+                        "AND (:to IS NULL OR s.startDate <= :to)";
+
+        String YIELD_TRAINING_SELECT = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.YieldTrainingRow(" +
+                        "s.id, s.crop.id, v.id, p.soilType, p.area, s.initialPlantCount, s.actualYieldKg) " +
+                        "FROM Season s JOIN s.plot p LEFT JOIN s.variety v " +
+                        "WHERE s.status IN (org.example.QuanLyMuaVu.Enums.SeasonStatus.COMPLETED, " +
+                        "org.example.QuanLyMuaVu.Enums.SeasonStatus.ARCHIVED) " +
+                        "AND s.actualYieldKg IS NOT NULL AND s.actualYieldKg > 0 AND p.area IS NOT NULL ";
+
         List<Season> findBySeasonNameContainingIgnoreCase(String seasonName);
 
         boolean existsBySeasonNameIgnoreCase(String seasonName);
@@ -23,10 +51,34 @@ public interface SeasonRepository extends JpaRepository<Season, Integer>, JpaSpe
 
         List<Season> findAllByPlot_Id(Integer plotId);
 
+        @Query("SELECT s.id FROM Season s WHERE s.plot.id = :plotId")
+        List<Integer> findIdsByPlotId(@Param("plotId") Integer plotId);
+
         List<Season> findAllByPlot_User(User user);
 
         List<Season> findAllByPlot_Farm_IdIn(Iterable<Integer> farmIds);
 
+        /**
+         * Season list of a farmer: seasons on plots of the given farms or on
+         * plots the user owns directly. Filters, paging and the date overlap
+         * check (open seasons end on their start date) run in the database.
+         */
+        @Query(value = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.SeasonListItem(" +
+                        "s.id, s.seasonName, p.id, c.id, v.id, s.startDate, s.plannedHarvestDate, s.endDate, " +
+                        "s.status, s.expectedYieldKg, s.actualYieldKg) " +
+                        "FROM Season s JOIN s.plot p JOIN s.crop c LEFT JOIN s.variety v " +
+                        SEASON_LIST_FILTERS,
+                        countQuery = "SELECT COUNT(s) FROM Season s JOIN s.plot p JOIN s.crop c " +
+                                        SEASON_LIST_FILTERS)
+        Page<SeasonListItem> findListItems(@Param("farmIds") Collection<Integer> farmIds,
+                        @Param("userId") Long userId,
+                        @Param("plotId") Integer plotId,
+                        @Param("cropId") Integer cropId,
+                        @Param("status") SeasonStatus status,
+                        @Param("from") LocalDate from,
+                        @Param("to") LocalDate to,
+                        Pageable pageable);
+
         List<Season> findAllByPlot_IdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
                         Integer plotId,
                         LocalDate endDate,
@@ -34,10 +86,54 @@ public interface SeasonRepository extends JpaRepository<Season, Integer>, JpaSpe
 
         /**
          * Find all seasons for a given plot with status in the specified set.
-         * Used by ActiveSeasonValidator to check for overlapping seasons.
          */
         List<Season> findByPlotAndStatusIn(org.example.QuanLyMuaVu.Entity.Plot plot, Iterable<SeasonStatus> statuses);
 
+        /**
+         * Returns the plot id when another season in one of the given statuses
+         * overlaps [startDate, endDate] on that plot. Runs as a single EXISTS
+         * probe on idx_seasons_plot_status_range.
+         */
+        @Query("SELECT p.id FROM Plot p WHERE p.id = :plotId AND EXISTS (" +
+                        "SELECT s.id FROM Season s WHERE s.plot = p " +
+                        "AND s.status IN :statuses " +
+                        "AND s.startDate <= :endDate " +
+                        "AND s.effectiveEndDate >= :startDate " +
+                        "AND (:excludeSeasonId IS NULL OR s.id <> :excludeSeasonId))")
+        Optional<Integer> findPlotIdWithOverlappingSeason(@Param("plotId") Integer plotId,
+                        @Param("statuses") Collection<SeasonStatus> statuses,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("excludeSeasonId") Integer excludeSeasonId);
+
+        default boolean existsOverlappingSeason(Integer plotId, Collection<SeasonStatus> statuses,
+                        LocalDate startDate, LocalDate endDate, Integer excludeSeasonId) {
+                return findPlotIdWithOverlappingSeason(plotId, statuses, startDate, endDate, excludeSeasonId)
+                                .isPresent();
+        }
+
+        /**
+         * Set-based variant of {@link #findPlotIdWithOverlappingSeason}: ids of
+         * the given plots that already have an overlapping season.
+         */
+        @Query("SELECT DISTINCT s.plot.id FROM Season s WHERE s.plot.id IN :plotIds " +
+                        "AND s.status IN :statuses " +
+                        "AND s.startDate <= :endDate " +
+                        "AND s.effectiveEndDate >= :startDate")
+        List<Integer> findPlotIdsWithOverlappingSeasons(@Param("plotIds") Collection<Integer> plotIds,
+                        @Param("statuses") Collection<SeasonStatus> statuses,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Fills effective_end_date for rows written before the column existed.
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE Season s SET s.effectiveEndDate = COALESCE(s.endDate, s.plannedHarvestDate, :openEnd) " +
+                        "WHERE s.effectiveEndDate IS NULL")
+        int backfillEffectiveEndDates(@Param("openEnd") LocalDate openEnd);
+
         /**
          * Count seasons by farm IDs and status.
          * Used by FarmerDashboardService to get active seasons count.
@@ -91,4 +187,49 @@ public interface SeasonRepository extends JpaRepository<Season, Integer>, JpaSpe
                         @Param("cropId") Integer cropId,
                         @Param("farmId") Integer farmId,
                         @Param("plotId") Integer plotId);
+
+        /**
+         * Same seasons as {@link #findByFilters} with harvest and expense totals,
+         * read through a cursor for report exports. Must be consumed inside a
+         * transaction and closed.
+         */
+        @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+        @Query("SELECT s.id AS seasonId, s.seasonName AS seasonName, c.cropName AS cropName, " +
+                        "p.plotName AS plotName, f.name AS farmName, s.expectedYieldKg AS expectedYieldKg, " +
+                        "(SELECT COALESCE(SUM(h.quantity), 0) FROM Harvest h WHERE h.season.id = s.id) AS totalQuantity, " +
+                        "(SELECT COALESCE(SUM(h.quantity * h.unit), 0) FROM Harvest h WHERE h.season.id = s.id) " +
+                        "AS totalRevenue, " +
+                        "(SELECT COALESCE(SUM(e.totalCost), 0) FROM Expense e WHERE e.season.id = s.id) AS totalExpense " +
+                        "FROM Season s LEFT JOIN s.crop c LEFT JOIN s.plot p LEFT JOIN p.farm f " +
+                        "WHERE (:from IS NULL OR s.startDate >= :from) " +
+                        "AND (:to IS NULL OR s.startDate < :to) " +
+                        "AND (:cropId IS NULL OR c.id = :cropId) " +
+                        "AND (:farmId IS NULL OR f.id = :farmId) " +
+                        "AND (:plotId IS NULL OR p.id = :plotId) " +
+                        "ORDER BY s.id")
+        Stream<AdminReportProjections.SeasonReportRow> streamReportRows(@Param("from") LocalDate from,
+                        @Param("to") LocalDate to,
+                        @Param("cropId") Integer cropId,
+                        @Param("farmId") Integer farmId,
+                        @Param("plotId") Integer plotId);
+
+        /**
+         * Finished seasons with a harvested yield, as yield model samples.
+         */
+        @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+        @Query(YIELD_TRAINING_SELECT)
+        Stream<YieldTrainingRow> streamYieldTrainingRows();
+
+        /**
+         * Samples of the given seasons; seasons that are not (or no longer)
+         * finished with a yield are left out.
+         */
+        @Query(YIELD_TRAINING_SELECT + "AND s.id IN :ids")
+        List<YieldTrainingRow> findYieldTrainingRows(@Param("ids") Collection<Integer> ids);
+
+        /**
+         * Email of the owner of the farm the season's plot belongs to.
+         */
+        @Query("SELECT o.email FROM Season s JOIN s.plot p JOIN p.farm f JOIN f.owner o WHERE s.id = :seasonId")
+        Optional<String> findFarmOwnerEmail(@Param("seasonId") Integer seasonId);
 }
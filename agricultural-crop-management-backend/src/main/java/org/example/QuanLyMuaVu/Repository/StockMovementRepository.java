@@ -1,9 +1,11 @@
 package org.example.QuanLyMuaVu.Repository;
 
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections;
 import org.example.QuanLyMuaVu.Entity.StockLocation;
 import org.example.QuanLyMuaVu.Entity.StockMovement;
 import org.example.QuanLyMuaVu.Entity.SupplyLot;
 import org.example.QuanLyMuaVu.Entity.Warehouse;
+import org.example.QuanLyMuaVu.Repository.Projection.StockMovementListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -62,14 +64,47 @@ public interface StockMovementRepository extends JpaRepository<StockMovement, In
   Page<StockMovement> findByWarehouse(Warehouse warehouse, Pageable pageable);
 
   /**
-   * Find all stock movements for a specific supply lot.
+   * Movement history of a supply lot, newest first, as list rows.
    * Used for lot movement history tracking.
    */
-  Page<StockMovement> findBySupplyLotOrderByMovementDateDesc(SupplyLot supplyLot, Pageable pageable);
+  @Query(value = """
+      select new org.example.QuanLyMuaVu.Repository.Projection.StockMovementListItem(
+          m.id, m.movementType, m.quantity, m.movementDate, m.note,
+          w.id, w.name, l.id, l.zone, l.aisle, l.shelf, l.bin)
+      from StockMovement m
+      left join m.warehouse w
+      left join m.location l
+      where m.supplyLot.id = :lotId
+      order by m.movementDate desc
+      """,
+      countQuery = "select count(m) from StockMovement m where m.supplyLot.id = :lotId")
+  Page<StockMovementListItem> findListItemsBySupplyLot(@Param("lotId") Integer lotId, Pageable pageable);
 
   /**
    * Check if any stock movements exist for a supply lot.
    * Used for deletion guard.
    */
   boolean existsBySupplyLot(SupplyLot supplyLot);
+
+  /**
+   * Movement quantities per day and type in [from, to). The farm is the
+   * warehouse's; crop and plot come from the season the movement was booked
+   * against, so a crop or plot filter leaves out movements without a season.
+   * Used by AdminReportTimeSeriesService, which rolls days up into buckets.
+   */
+  @Query("""
+      select cast(m.movementDate as LocalDate) as day, m.movementType as movementType,
+          coalesce(sum(m.quantity), 0) as totalQuantity
+      from StockMovement m
+      join m.warehouse w
+      left join m.season s
+      where m.movementDate >= :from and m.movementDate < :to
+        and (:farmId is null or w.farm.id = :farmId)
+        and (:cropId is null or s.crop.id = :cropId)
+        and (:plotId is null or s.plot.id = :plotId)
+      group by cast(m.movementDate as LocalDate), m.movementType
+      """)
+  List<AdminReportProjections.DailyMovement> sumQuantityByDayAndType(@Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to, @Param("farmId") Integer farmId, @Param("cropId") Integer cropId,
+      @Param("plotId") Integer plotId);
 }
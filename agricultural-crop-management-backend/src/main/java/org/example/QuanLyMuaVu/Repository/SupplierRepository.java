@@ -3,15 +3,34 @@ package org.example.QuanLyMuaVu.Repository;
 import org.example.QuanLyMuaVu.Entity.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface SupplierRepository extends JpaRepository<Supplier, Integer> {
+public interface SupplierRepository extends JpaRepository<Supplier, Integer>, JpaSpecificationExecutor<Supplier> {
 
-    @Query("""
+    String SEARCH_BY_KEYWORD = """
             select s from Supplier s
             where :keyword is null or lower(s.name) like lower(concat('%', :keyword, '%'))
-            """)
+            """;
+
+    @Query(SEARCH_BY_KEYWORD)
     Page<Supplier> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchByKeyword} without the count query.
+     */
+    @Query(SEARCH_BY_KEYWORD)
+    Slice<Supplier> sliceByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchByKeyword} matches.
+     */
+    @Query("""
+            select count(s) from Supplier s
+            where :keyword is null or lower(s.name) like lower(concat('%', :keyword, '%'))
+            """)
+    long countByKeyword(@Param("keyword") String keyword);
 }
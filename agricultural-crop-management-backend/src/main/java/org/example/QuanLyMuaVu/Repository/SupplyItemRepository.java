@@ -4,21 +4,49 @@ import org.example.QuanLyMuaVu.Entity.SupplyItem;
 import org.example.QuanLyMuaVu.Enums.SupplyCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface SupplyItemRepository extends JpaRepository<SupplyItem, Integer> {
+public interface SupplyItemRepository extends JpaRepository<SupplyItem, Integer>, JpaSpecificationExecutor<SupplyItem> {
 
-    @Query("""
+    String SEARCH_WITH_FILTERS = """
             select i from SupplyItem i
             where (:keyword is null or lower(i.name) like lower(concat('%', :keyword, '%')))
               and (:category is null or i.category = :category)
               and (:restricted is null or i.restrictedFlag = :restricted)
-            """)
+            """;
+
+    @Query(SEARCH_WITH_FILTERS)
     Page<SupplyItem> searchWithFilters(
             @Param("keyword") String keyword,
             @Param("category") SupplyCategory category,
             @Param("restricted") Boolean restricted,
             Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchWithFilters} without the count query.
+     */
+    @Query(SEARCH_WITH_FILTERS)
+    Slice<SupplyItem> sliceWithFilters(
+            @Param("keyword") String keyword,
+            @Param("category") SupplyCategory category,
+            @Param("restricted") Boolean restricted,
+            Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchWithFilters} matches.
+     */
+    @Query("""
+            select count(i) from SupplyItem i
+            where (:keyword is null or lower(i.name) like lower(concat('%', :keyword, '%')))
+              and (:category is null or i.category = :category)
+              and (:restricted is null or i.restrictedFlag = :restricted)
+            """)
+    long countWithFilters(
+            @Param("keyword") String keyword,
+            @Param("category") SupplyCategory category,
+            @Param("restricted") Boolean restricted);
 }
@@ -5,13 +5,23 @@ import org.example.QuanLyMuaVu.Entity.SupplyLot;
 import org.example.QuanLyMuaVu.Entity.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface SupplyLotRepository extends JpaRepository<SupplyLot, Integer> {
+public interface SupplyLotRepository extends JpaRepository<SupplyLot, Integer>, JpaSpecificationExecutor<SupplyLot> {
+
+    String SEARCH_WITH_FILTERS = """
+            select l from SupplyLot l
+            where (:supplierId is null or l.supplier.id = :supplierId)
+              and (:itemId is null or l.supplyItem.id = :itemId)
+              and (:status is null or l.status = :status)
+            order by l.id desc
+            """;
 
     List<SupplyLot> findAllBySupplyItem(SupplyItem item);
 
@@ -21,16 +31,34 @@ public interface SupplyLotRepository extends JpaRepository<SupplyLot, Integer> {
 
     boolean existsBySupplyItem(SupplyItem item);
 
+    @Query(SEARCH_WITH_FILTERS)
+    Page<SupplyLot> searchWithFilters(
+            @Param("supplierId") Integer supplierId,
+            @Param("itemId") Integer itemId,
+            @Param("status") String status,
+            Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchWithFilters} without the count query.
+     */
+    @Query(SEARCH_WITH_FILTERS)
+    Slice<SupplyLot> sliceWithFilters(
+            @Param("supplierId") Integer supplierId,
+            @Param("itemId") Integer itemId,
+            @Param("status") String status,
+            Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchWithFilters} matches.
+     */
     @Query("""
-            select l from SupplyLot l
+            select count(l) from SupplyLot l
             where (:supplierId is null or l.supplier.id = :supplierId)
               and (:itemId is null or l.supplyItem.id = :itemId)
               and (:status is null or l.status = :status)
-            order by l.id desc
             """)
-    Page<SupplyLot> searchWithFilters(
+    long countWithFilters(
             @Param("supplierId") Integer supplierId,
             @Param("itemId") Integer itemId,
-            @Param("status") String status,
-            Pageable pageable);
+            @Param("status") String status);
 }
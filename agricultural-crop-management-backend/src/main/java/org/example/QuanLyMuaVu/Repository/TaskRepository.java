@@ -1,18 +1,51 @@
 package org.example.QuanLyMuaVu.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections;
 import org.example.QuanLyMuaVu.Entity.Task;
 import org.example.QuanLyMuaVu.Enums.TaskStatus;
+import org.example.QuanLyMuaVu.Repository.Projection.TaskListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface TaskRepository extends JpaRepository<Task, Integer>, JpaSpecificationExecutor<Task> {
+
+    String SEASON_TASK_FILTERS = "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:from IS NULL OR COALESCE(t.dueDate, t.plannedDate) >= :from) " +
+            "AND (:to IS NULL OR COALESCE(t.dueDate, t.plannedDate) <= :to)";
+
     List<Task> findByTitleContainingIgnoreCase(String title);
 
     List<Task> findAllBySeason_Id(Integer seasonId);
 
+    /**
+     * Task list of a season. The date range applies to the due date, or the
+     * planned date when there is none; undated tasks only match without a range.
+     */
+    @Query(value = "SELECT new org.example.QuanLyMuaVu.Repository.Projection.TaskListItem(" +
+            "t.id, u.username, s.seasonName, t.title, t.description, t.plannedDate, t.dueDate, t.status, " +
+            "t.createdAt) " +
+            "FROM Task t LEFT JOIN t.user u LEFT JOIN t.season s " +
+            "WHERE s.id = :seasonId " + SEASON_TASK_FILTERS,
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.season.id = :seasonId " + SEASON_TASK_FILTERS)
+    Page<TaskListItem> findListItemsBySeason(@Param("seasonId") Integer seasonId,
+            @Param("status") TaskStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            Pageable pageable);
+
     boolean existsBySeason_Id(Integer seasonId);
 
     /**
@@ -38,4 +71,25 @@ public interface TaskRepository extends JpaRepository<Task, Integer>, JpaSpecifi
      * Used for UX warning when completing a season.
      */
     Long countBySeason_IdAndStatusNot(Integer seasonId, TaskStatus status);
+
+    /**
+     * Used by SeasonProgressService to build a season's counters from scratch.
+     */
+    long countBySeason_Id(Integer seasonId);
+
+    long countBySeason_IdAndStatus(Integer seasonId, TaskStatus status);
+
+    /**
+     * Tasks created in [from, to), read through a cursor for the task
+     * performance export.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t.id AS taskId, t.title AS title, t.status AS status, s.seasonName AS seasonName, " +
+            "f.name AS farmName, u.username AS assignee, t.plannedDate AS plannedDate, t.dueDate AS dueDate, " +
+            "t.actualEndDate AS actualEndDate, t.createdAt AS createdAt " +
+            "FROM Task t LEFT JOIN t.user u LEFT JOIN t.season s LEFT JOIN s.plot p LEFT JOIN p.farm f " +
+            "WHERE t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.id")
+    Stream<AdminReportProjections.TaskReportRow> streamReportRows(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
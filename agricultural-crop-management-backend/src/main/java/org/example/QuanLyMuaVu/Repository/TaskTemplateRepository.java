@@ -0,0 +1,22 @@
+package org.example.QuanLyMuaVu.Repository;
+
+import org.example.QuanLyMuaVu.Entity.TaskTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Integer> {
+
+    List<TaskTemplate> findAllByCrop_IdOrderByOffsetDaysAscSortOrderAsc(Integer cropId);
+
+    /**
+     * Active templates of a crop that apply to the given variety: crop-wide
+     * templates plus those of the variety itself.
+     */
+    @Query("SELECT t FROM TaskTemplate t WHERE t.crop.id = :cropId AND t.active = true " +
+            "AND (t.variety IS NULL OR t.variety.id = :varietyId) " +
+            "ORDER BY t.offsetDays, t.sortOrder, t.id")
+    List<TaskTemplate> findApplicable(@Param("cropId") Integer cropId, @Param("varietyId") Integer varietyId);
+}
@@ -4,6 +4,7 @@ import org.example.QuanLyMuaVu.Entity.User;
 import org.example.QuanLyMuaVu.Enums.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +13,34 @@ import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    String SEARCH_ALL_USERS_FILTERS = "WHERE " +
+            "(:keyword IS NULL OR LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (:status IS NULL OR u.status = :status)";
+
+    String SEARCH_ALL_USERS = "SELECT u FROM User u " + SEARCH_ALL_USERS_FILTERS;
+
+    /**
+     * One row per (user, role) pair for building the admin search index.
+     */
+    interface UserSearchRow {
+        Long getId();
+
+        String getUsername();
+
+        String getFullName();
+
+        String getEmail();
+
+        String getPhone();
+
+        UserStatus getStatus();
+
+        String getRoleCode();
+    }
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -42,10 +71,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
             Pageable pageable);
 
     // Unified user search methods (all users)
-    @Query("SELECT u FROM User u WHERE " +
-            "(:keyword IS NULL OR LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:status IS NULL OR u.status = :status)")
+    @Query(SEARCH_ALL_USERS)
     Page<User> searchAllUsers(@Param("keyword") String keyword, @Param("status") UserStatus status, Pageable pageable);
+
+    /**
+     * Same rows as {@link #searchAllUsers} without the count query.
+     */
+    @Query(SEARCH_ALL_USERS)
+    Slice<User> sliceAllUsers(@Param("keyword") String keyword, @Param("status") UserStatus status, Pageable pageable);
+
+    /**
+     * Number of rows {@link #searchAllUsers} matches.
+     */
+    @Query("SELECT COUNT(u) FROM User u " + SEARCH_ALL_USERS_FILTERS)
+    long countAllUsers(@Param("keyword") String keyword, @Param("status") UserStatus status);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.fullName AS fullName, u.email AS email, " +
+            "u.phone AS phone, u.status AS status, r.code AS roleCode " +
+            "FROM User u LEFT JOIN u.roles r ORDER BY u.id")
+    List<UserSearchRow> findAllSearchRows();
 }
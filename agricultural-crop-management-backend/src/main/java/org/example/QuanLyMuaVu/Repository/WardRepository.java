@@ -2,6 +2,7 @@ package org.example.QuanLyMuaVu.Repository;
 
 import org.example.QuanLyMuaVu.Entity.Ward;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -26,4 +27,17 @@ public interface WardRepository extends JpaRepository<Ward, Integer> {
      * Delete all wards by province ID.
      */
     void deleteByProvinceId(Integer provinceId);
+
+    /**
+     * Lightweight (ward, province) id pairs without loading ward entities.
+     * Used by the synthetic dataset generator to assign farm locations.
+     */
+    @Query("select w.id as wardId, w.province.id as provinceId from Ward w")
+    List<WardProvinceRef> findAllWardProvinceRefs();
+
+    interface WardProvinceRef {
+        Integer getWardId();
+
+        Integer getProvinceId();
+    }
 }
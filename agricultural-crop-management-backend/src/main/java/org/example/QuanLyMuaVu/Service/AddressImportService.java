@@ -16,6 +16,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -41,6 +43,8 @@ public class AddressImportService {
 
     ProvinceRepository provinceRepository;
     WardRepository wardRepository;
+    ReferenceDataVersionService referenceDataVersionService;
+    AddressSearchIndex addressSearchIndex;
 
     // Regex patterns for parsing SQL INSERT statements
     private static final Pattern PROVINCE_VALUES = Pattern.compile(
@@ -111,6 +115,13 @@ public class AddressImportService {
                 log.debug("Imported {} wards", wardsImported);
             }
 
+            if (provincesImported > 0 || wardsImported > 0) {
+                // Registered before the version bump so new ETags never serve the old index
+                rebuildSearchIndexAfterCommit();
+                referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.PROVINCES,
+                        ReferenceDataVersionService.Table.WARDS);
+            }
+
             return ImportResult.builder()
                     .provincesImported(provincesImported)
                     .wardsImported(wardsImported)
@@ -133,7 +144,30 @@ public class AddressImportService {
         log.warn("Force reimport requested. Clearing existing address data...");
         wardRepository.deleteAll();
         provinceRepository.deleteAll();
-        return importFromSqlFile(inputStream);
+        ImportResult result = importFromSqlFile(inputStream);
+        if (result.getProvincesImported() == 0 && result.getWardsImported() == 0) {
+            // Nothing re-imported, but the old rows are gone
+            rebuildSearchIndexAfterCommit();
+            referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.PROVINCES,
+                    ReferenceDataVersionService.Table.WARDS);
+        }
+        return result;
+    }
+
+    /**
+     * Swaps in a fresh search index once the imported rows are committed.
+     */
+    private void rebuildSearchIndexAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addressSearchIndex.rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addressSearchIndex.rebuild();
+            }
+        });
     }
 
     // ==================== PARSING METHODS ====================
@@ -0,0 +1,195 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Response.ProvinceResponse;
+import org.example.QuanLyMuaVu.DTO.Response.WardResponse;
+import org.example.QuanLyMuaVu.Mapper.AddressMapper;
+import org.example.QuanLyMuaVu.Repository.ProvinceRepository;
+import org.example.QuanLyMuaVu.Repository.WardRepository;
+import org.example.QuanLyMuaVu.Util.TextUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory autocomplete index over provinces and wards.
+ * <p>
+ * Names are folded (diacritics removed, lower-cased) and every word-start
+ * suffix is stored in a sorted array, so "ha noi", "noi" and "Hà Nội" all find
+ * "Thành phố Hà Nội" with a binary search. Wards are indexed per province.
+ * The index is rebuilt after every address import and swapped atomically;
+ * readers always see a complete snapshot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AddressSearchIndex {
+
+    ProvinceRepository provinceRepository;
+    WardRepository wardRepository;
+    AddressMapper addressMapper;
+
+    AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Loads all provinces and wards and replaces the current snapshot.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        List<ProvinceResponse> provinces = provinceRepository.findAll().stream()
+                .map(addressMapper::toProvinceResponse)
+                .sorted(Comparator.comparing(ProvinceResponse::getId))
+                .toList();
+        Map<Integer, List<WardResponse>> wardsByProvince = wardRepository.findAll().stream()
+                .map(addressMapper::toWardResponse)
+                .filter(ward -> ward.getProvinceId() != null)
+                .sorted(Comparator.comparing(WardResponse::getId))
+                .collect(Collectors.groupingBy(WardResponse::getProvinceId));
+
+        Map<Integer, PrefixIndex<WardResponse>> wardIndexes = new HashMap<>();
+        wardsByProvince.forEach((provinceId, wards) -> wardIndexes.put(provinceId,
+                PrefixIndex.build(wards, WardResponse::getName, WardResponse::getNameWithType)));
+
+        Snapshot next = new Snapshot(
+                true,
+                PrefixIndex.build(provinces, ProvinceResponse::getName, ProvinceResponse::getNameWithType),
+                provinces.stream().collect(Collectors.toUnmodifiableMap(ProvinceResponse::getId, Function.identity())),
+                Map.copyOf(wardIndexes));
+        snapshot.set(next);
+
+        log.info("Address search index built: {} provinces, {} wards in {} ms",
+                provinces.size(), wardsByProvince.values().stream().mapToInt(List::size).sum(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * @return false until the first build has completed
+     */
+    public boolean isReady() {
+        return snapshot.get().ready();
+    }
+
+    public boolean hasProvince(Integer provinceId) {
+        return snapshot.get().provincesById().containsKey(provinceId);
+    }
+
+    /**
+     * Provinces whose name contains a word starting with the folded keyword,
+     * optionally restricted to a province type.
+     */
+    public List<ProvinceResponse> searchProvinces(String keyword, String type) {
+        List<ProvinceResponse> matches = snapshot.get().provinces().search(TextUtils.fold(keyword));
+        if (type == null) {
+            return matches;
+        }
+        return matches.stream()
+                .filter(province -> type.equals(province.getType()))
+                .toList();
+    }
+
+    /**
+     * Wards of a province whose name contains a word starting with the folded keyword.
+     */
+    public List<WardResponse> searchWards(Integer provinceId, String keyword) {
+        PrefixIndex<WardResponse> index = snapshot.get().wardsByProvince().get(provinceId);
+        if (index == null) {
+            return List.of();
+        }
+        return index.search(TextUtils.fold(keyword));
+    }
+
+    private record Snapshot(
+            boolean ready,
+            PrefixIndex<ProvinceResponse> provinces,
+            Map<Integer, ProvinceResponse> provincesById,
+            Map<Integer, PrefixIndex<WardResponse>> wardsByProvince) {
+
+        static final Snapshot EMPTY = new Snapshot(false, PrefixIndex.build(List.of()), Map.of(), Map.of());
+    }
+
+    /**
+     * Sorted array of folded word-start suffixes pointing back to entries.
+     * A prefix query is a binary search for the first candidate key followed by
+     * a scan while keys still start with the query.
+     */
+    static final class PrefixIndex<T> {
+        private final List<T> entries;
+        private final String[] keys;
+        private final int[] refs;
+
+        private PrefixIndex(List<T> entries, String[] keys, int[] refs) {
+            this.entries = entries;
+            this.keys = keys;
+            this.refs = refs;
+        }
+
+        @SafeVarargs
+        static <T> PrefixIndex<T> build(List<T> entries, Function<T, String>... nameExtractors) {
+            List<Map.Entry<String, Integer>> suffixes = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                for (Function<T, String> extractor : nameExtractors) {
+                    String folded = TextUtils.fold(extractor.apply(entries.get(i)));
+                    for (int start = 0; start < folded.length(); start++) {
+                        if (start == 0 || folded.charAt(start - 1) == ' ') {
+                            suffixes.add(Map.entry(folded.substring(start), i));
+                        }
+                    }
+                }
+            }
+            suffixes.sort(Map.Entry.comparingByKey());
+
+            String[] keys = new String[suffixes.size()];
+            int[] refs = new int[suffixes.size()];
+            for (int i = 0; i < suffixes.size(); i++) {
+                keys[i] = suffixes.get(i).getKey();
+                refs[i] = suffixes.get(i).getValue();
+            }
+            return new PrefixIndex<>(List.copyOf(entries), keys, refs);
+        }
+
+        List<T> search(String foldedQuery) {
+            if (foldedQuery.isEmpty()) {
+                return List.of();
+            }
+            int from = Arrays.binarySearch(keys, foldedQuery);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            // Collect into a bit set so results keep entry order and appear once
+            BitSet matched = new BitSet(entries.size());
+            for (int i = from; i < keys.length && keys[i].startsWith(foldedQuery); i++) {
+                matched.set(refs[i]);
+            }
+            List<T> result = new ArrayList<>(matched.cardinality());
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                result.add(entries.get(i));
+            }
+            return result;
+        }
+    }
+}
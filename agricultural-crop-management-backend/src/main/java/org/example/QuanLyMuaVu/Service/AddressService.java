@@ -31,6 +31,7 @@ public class AddressService {
     ProvinceRepository provinceRepository;
     WardRepository wardRepository;
     AddressMapper addressMapper;
+    AddressSearchIndex addressSearchIndex;
 
     // ==================== PROVINCE OPERATIONS ====================
 
@@ -41,13 +42,18 @@ public class AddressService {
      * @param type    optional type filter ("thanh-pho" for city, "tinh" for
      *                province)
      */
-    @Cacheable(value = "provinces", key = "#keyword + '-' + #type")
+    @Cacheable(value = "provinces", key = "#keyword + '-' + #type", condition = "#keyword == null || #keyword.isBlank()")
     public List<ProvinceResponse> getAllProvinces(String keyword, String type) {
         List<Province> provinces;
 
         boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
         boolean hasType = type != null && !type.trim().isEmpty();
 
+        // Keyword searches are served by the accent-insensitive index once it is built
+        if (hasKeyword && addressSearchIndex.isReady()) {
+            return addressSearchIndex.searchProvinces(keyword, hasType ? type.trim() : null);
+        }
+
         if (hasKeyword && hasType) {
             provinces = provinceRepository.findByNameContainingIgnoreCaseAndType(keyword.trim(), type.trim());
         } else if (hasKeyword) {
@@ -78,8 +84,15 @@ public class AddressService {
     /**
      * Get all wards for a specific province with optional keyword search.
      */
-    @Cacheable(value = "wards", key = "#provinceId + '-' + #keyword")
+    @Cacheable(value = "wards", key = "#provinceId + '-' + #keyword", condition = "#keyword == null || #keyword.isBlank()")
     public List<WardResponse> getWardsByProvinceId(Integer provinceId, String keyword) {
+        if (keyword != null && !keyword.trim().isEmpty() && addressSearchIndex.isReady()) {
+            if (!addressSearchIndex.hasProvince(provinceId)) {
+                throw new AppException(ErrorCode.PROVINCE_NOT_FOUND);
+            }
+            return addressSearchIndex.searchWards(provinceId, keyword);
+        }
+
         // Verify province exists
         if (!provinceRepository.existsById(provinceId)) {
             throw new AppException(ErrorCode.PROVINCE_NOT_FOUND);
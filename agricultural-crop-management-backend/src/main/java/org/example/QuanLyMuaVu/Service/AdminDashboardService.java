@@ -9,6 +9,7 @@ import org.example.QuanLyMuaVu.Enums.IncidentStatus;
 import org.example.QuanLyMuaVu.Enums.SeasonStatus;
 import org.example.QuanLyMuaVu.Repository.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,6 +29,7 @@ public class AdminDashboardService {
     HarvestRepository harvestRepository;
     StockMovementRepository stockMovementRepository;
 
+    @Transactional(readOnly = true)
     public AdminDashboardResponse getDashboard() {
         log.info("Fetching admin dashboard summary");
 
@@ -1,5 +1,6 @@
 package org.example.QuanLyMuaVu.Service;
 
+import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -14,13 +15,18 @@ import org.example.QuanLyMuaVu.Enums.DocumentType;
 import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Repository.DocumentRepository;
+import org.example.QuanLyMuaVu.Util.CursorPaging;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,6 +42,10 @@ import java.util.stream.Collectors;
 public class AdminDocumentService {
 
     DocumentRepository documentRepository;
+    DocumentSearchService documentSearchService;
+    AgronomyQaService agronomyQaService;
+    DocumentContentStore documentContentStore;
+    ApproximateCountService approximateCountService;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
@@ -46,7 +56,9 @@ public class AdminDocumentService {
     /**
      * List documents with pagination and optional filters.
      *
-     * @param keyword Search by title (min 2 chars, enforced here)
+     * @param keyword Full-text search over title and description (min 2 chars,
+     *                enforced here); results are ranked by relevance and
+     *                {@code sort} is ignored
      * @param type    Filter by document type
      * @param status  Filter by status
      * @param page    Page number (0-indexed)
@@ -85,6 +97,13 @@ public class AdminDocumentService {
             }
         }
 
+        if (effectiveKeyword != null) {
+            Page<Document> ranked = documentSearchService.search(effectiveKeyword, typeEnum, statusEnum, page, size);
+            return PageResponse.of(ranked, ranked.getContent().stream()
+                    .map(this::toResponse)
+                    .collect(Collectors.toList()));
+        }
+
         // Build pageable with default sort by createdAt DESC
         Sort sorting = Sort.by(Sort.Direction.DESC, "createdAt");
         if (sort != null && !sort.isBlank()) {
@@ -97,7 +116,7 @@ public class AdminDocumentService {
         }
 
         Page<Document> documentPage = documentRepository.searchWithFilters(
-                effectiveKeyword,
+                null,
                 typeEnum,
                 statusEnum,
                 PageRequest.of(page, size, sorting));
@@ -109,6 +128,123 @@ public class AdminDocumentService {
         return PageResponse.of(documentPage, content);
     }
 
+    /**
+     * Variant of {@link #listDocuments} without the count query. Keyword
+     * searches keep their ranked results, whose total is already known.
+     */
+    public PageResponse<AdminDocumentResponse> sliceDocuments(
+            String keyword,
+            String type,
+            String status,
+            int page,
+            int size,
+            String sort,
+            boolean approximateTotal) {
+        if (keyword != null && keyword.length() >= 2) {
+            return listDocuments(keyword, type, status, page, size, sort);
+        }
+
+        DocumentType typeEnum = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                typeEnum = DocumentType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid document type: {}", type);
+            }
+        }
+
+        DocumentStatus statusEnum = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusEnum = DocumentStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid document status: {}", status);
+            }
+        }
+
+        Sort sorting = Sort.by(Sort.Direction.DESC, "createdAt");
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            Sort.Direction direction = parts.length > 1 && parts[1].equalsIgnoreCase("asc")
+                    ? Sort.Direction.ASC
+                    : Sort.Direction.DESC;
+            sorting = Sort.by(direction, parts[0]);
+        }
+
+        Slice<Document> documentSlice = documentRepository.sliceWithFilters(null, typeEnum, statusEnum,
+                PageRequest.of(page, size, sorting));
+        PageResponse<AdminDocumentResponse> response = PageResponse.ofSlice(documentSlice,
+                documentSlice.getContent().stream().map(this::toResponse).collect(Collectors.toList()));
+        if (approximateTotal) {
+            DocumentType typeFilter = typeEnum;
+            DocumentStatus statusFilter = statusEnum;
+            approximateCountService.fill(response, "documents|" + typeFilter + "|" + statusFilter,
+                    () -> documentRepository.countWithFilters(null, typeFilter, statusFilter));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor-paged variant of {@link #listDocuments}. Sorts on createdAt (the
+     * default) or title, with the id as tie-breaker; the keyword is a plain
+     * title match here since ranked results cannot be seeked.
+     */
+    public PageResponse<AdminDocumentResponse> scrollDocuments(
+            String keyword,
+            String type,
+            String status,
+            String cursor,
+            int size,
+            String sort) {
+        DocumentType typeEnum = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                typeEnum = DocumentType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid document type: {}", type);
+            }
+        }
+
+        DocumentStatus statusEnum = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusEnum = DocumentStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid document status: {}", status);
+            }
+        }
+
+        String field = "createdAt";
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            if (parts[0].equals("title")) {
+                field = "title";
+            }
+            if (parts.length > 1 && parts[1].equalsIgnoreCase("asc")) {
+                direction = Sort.Direction.ASC;
+            }
+        }
+        Sort sorting = Sort.by(direction, field).and(Sort.by(direction, "id"));
+
+        DocumentType typeFilter = typeEnum;
+        DocumentStatus statusFilter = statusEnum;
+        Specification<Document> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (keyword != null && keyword.length() >= 2) {
+                predicates.add(cb.like(cb.lower(root.get("title")), "%" + keyword.toLowerCase() + "%"));
+            }
+            if (typeFilter != null) {
+                predicates.add(cb.equal(root.get("documentType"), typeFilter));
+            }
+            if (statusFilter != null) {
+                predicates.add(cb.equal(root.get("status"), statusFilter));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return CursorPaging.scroll(documentRepository, Document.class, spec, sorting, cursor, size, this::toResponse);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // GET DOCUMENT BY ID
     // ═══════════════════════════════════════════════════════════════
@@ -154,6 +290,8 @@ public class AdminDocumentService {
                 .build();
 
         Document saved = documentRepository.save(document);
+        documentSearchService.indexAfterCommit(saved);
+        agronomyQaService.indexAfterCommit(saved);
         log.info("Created document: id={}, title={}, createdBy={}", saved.getId(), saved.getTitle(), adminUserId);
 
         return toResponse(saved);
@@ -187,11 +325,51 @@ public class AdminDocumentService {
         document.setStatus(statusEnum);
 
         Document saved = documentRepository.save(document);
+        documentSearchService.indexAfterCommit(saved);
+        agronomyQaService.indexAfterCommit(saved);
         log.info("Updated document: id={}", saved.getId());
 
         return toResponse(saved);
     }
 
+    // ═══════════════════════════════════════════════════════════════
+    // UPLOAD DOCUMENT FILE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Store an uploaded file for a document and point its URL at the download
+     * endpoint. A replaced file is deleted once no document references it.
+     *
+     * @param id   Document ID
+     * @param file Multipart file, already spooled to disk by the container
+     * @return Updated document response
+     * @throws AppException if document not found or the file is empty
+     */
+    @Transactional
+    public AdminDocumentResponse uploadFile(Long id, MultipartFile file) {
+        Document document = documentRepository.findById(id)
+                .orElseThrow(() -> new AppException(ErrorCode.DOCUMENT_NOT_FOUND));
+
+        DocumentContentStore.StoredFile stored = documentContentStore.store(file);
+        String previousHash = document.getContentHash();
+
+        document.setContentHash(stored.hash());
+        document.setContentLength(stored.size());
+        document.setContentType(file.getContentType());
+        document.setOriginalFilename(file.getOriginalFilename());
+        document.setDocumentUrl("/api/v1/documents/" + id + "/content");
+
+        Document saved = documentRepository.save(document);
+        agronomyQaService.indexAfterCommit(saved);
+        if (previousHash != null && !previousHash.equals(stored.hash())) {
+            documentContentStore.releaseAfterCommit(previousHash);
+        }
+        log.info("Uploaded file for document: id={}, hash={}, size={}, deduplicated={}",
+                id, stored.hash(), stored.size(), stored.deduplicated());
+
+        return toResponse(saved);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // DELETE DOCUMENT (SOFT DELETE)
     // ═══════════════════════════════════════════════════════════════
@@ -209,6 +387,8 @@ public class AdminDocumentService {
 
         document.setStatus(DocumentStatus.INACTIVE);
         documentRepository.save(document);
+        documentSearchService.indexAfterCommit(document);
+        agronomyQaService.indexAfterCommit(document);
         log.info("Soft deleted document: id={}", id);
     }
 
@@ -234,6 +414,9 @@ public class AdminDocumentService {
         }
 
         documentRepository.delete(document);
+        documentSearchService.removeAfterCommit(id);
+        agronomyQaService.removeAfterCommit(id);
+        documentContentStore.releaseAfterCommit(document.getContentHash());
         log.info("Hard deleted document: id={}, title={}", id, document.getTitle());
     }
 
@@ -256,6 +439,9 @@ public class AdminDocumentService {
                 .createdAt(doc.getCreatedAt() != null ? doc.getCreatedAt().format(DATE_FORMATTER) : null)
                 .updatedAt(doc.getUpdatedAt() != null ? doc.getUpdatedAt().format(DATE_FORMATTER) : null)
                 .createdBy(doc.getCreatedBy())
+                .fileName(doc.getOriginalFilename())
+                .contentType(doc.getContentType())
+                .contentLength(doc.getContentLength())
                 .build();
     }
 }
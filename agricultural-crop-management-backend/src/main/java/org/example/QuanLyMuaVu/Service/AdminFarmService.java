@@ -1,5 +1,8 @@
 package org.example.QuanLyMuaVu.Service;
 
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -21,15 +24,21 @@ import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Mapper.FarmMapper;
 import org.example.QuanLyMuaVu.Repository.FarmRepository;
 import org.example.QuanLyMuaVu.Repository.PlotRepository;
+import org.example.QuanLyMuaVu.Repository.Projection.FarmListItem;
 import org.example.QuanLyMuaVu.Repository.ProvinceRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
 import org.example.QuanLyMuaVu.Repository.WardRepository;
+import org.example.QuanLyMuaVu.Util.CursorPaging;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -46,6 +55,7 @@ public class AdminFarmService {
     PlotRepository plotRepository;
     ProvinceRepository provinceRepository;
     WardRepository wardRepository;
+    ApproximateCountService approximateCountService;
 
     /**
      * List all farms with search and pagination.
@@ -55,13 +65,7 @@ public class AdminFarmService {
         log.info("Admin fetching all farms - keyword: {}, active: {}, page: {}, size: {}", keyword, active, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Farm> farmPage;
-
-        if (active != null) {
-            farmPage = farmRepository.searchByKeywordAndActive(keyword, active, pageable);
-        } else {
-            farmPage = farmRepository.searchByKeyword(keyword, pageable);
-        }
+        Page<FarmListItem> farmPage = farmRepository.searchListItems(keyword, active, pageable);
 
         List<FarmResponse> content = farmPage.getContent().stream()
                 .map(farmMapper::toResponse)
@@ -70,6 +74,38 @@ public class AdminFarmService {
         return PageResponse.of(farmPage, content);
     }
 
+    /**
+     * Variant of {@link #getAllFarms} without the count query, optionally with
+     * a cached approximate total.
+     */
+    public PageResponse<FarmResponse> sliceAllFarms(String keyword, Boolean active, int page, int size,
+            boolean approximateTotal) {
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<Farm> farmSlice = active != null
+                ? farmRepository.sliceByKeywordAndActive(keyword, active, pageable)
+                : farmRepository.sliceByKeyword(keyword, pageable);
+
+        List<FarmResponse> content = farmSlice.getContent().stream()
+                .map(farmMapper::toResponse)
+                .collect(Collectors.toList());
+
+        PageResponse<FarmResponse> response = PageResponse.ofSlice(farmSlice, content);
+        if (approximateTotal) {
+            approximateCountService.fill(response, "farms|" + keyword + "|" + active,
+                    () -> farmRepository.countByKeyword(keyword, active));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor-paged variant of {@link #getAllFarms}: newest farms first, no
+     * count query.
+     */
+    public PageResponse<FarmResponse> scrollAllFarms(String keyword, Boolean active, String cursor, int size) {
+        return CursorPaging.scroll(farmRepository, Farm.class, buildFarmSpecification(keyword, active),
+                Sort.by(Sort.Direction.DESC, "id"), cursor, size, farmMapper::toResponse);
+    }
+
     /**
      * Get farm detail by ID.
      */
@@ -229,4 +265,29 @@ public class AdminFarmService {
                 .createdAt(plot.getCreatedAt())
                 .build();
     }
+
+    private Specification<Farm> buildFarmSpecification(String keyword, Boolean active) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // Fetch what the mapper reads, like the entity graph on searchByKeyword
+            Join<Farm, User> owner = (Join<Farm, User>) root.<Farm, User>fetch("owner", JoinType.LEFT);
+            root.fetch("province", JoinType.LEFT);
+            root.fetch("ward", JoinType.LEFT);
+
+            if (keyword != null && !keyword.isBlank()) {
+                String pattern = "%" + keyword.trim().toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("name")), pattern),
+                        cb.like(cb.lower(owner.get("username")), pattern),
+                        cb.like(cb.lower(owner.get("fullName")), pattern)));
+            }
+
+            if (active != null) {
+                predicates.add(cb.equal(root.get("active"), active));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 }
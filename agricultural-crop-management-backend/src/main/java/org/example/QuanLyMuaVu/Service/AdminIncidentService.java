@@ -1,5 +1,6 @@
 package org.example.QuanLyMuaVu.Service;
 
+import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -17,17 +18,22 @@ import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Mapper.IncidentMapper;
 import org.example.QuanLyMuaVu.Repository.IncidentRepository;
+import org.example.QuanLyMuaVu.Repository.Projection.IncidentListItem;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
+import org.example.QuanLyMuaVu.Util.CursorPaging;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,6 +50,7 @@ public class AdminIncidentService {
     IncidentRepository incidentRepository;
     IncidentMapper incidentMapper;
     UserRepository userRepository;
+    SeasonProgressService seasonProgressService;
 
     // ═══════════════════════════════════════════════════════════════
     // STATE MACHINE CONFIGURATION
@@ -69,19 +76,55 @@ public class AdminIncidentService {
         log.info("Admin fetching all incidents - status: {}, severity: {}, type: {}, page: {}, size: {}",
                 status, severity, type, page, size);
 
+        IncidentStatus statusFilter;
+        IncidentSeverity severityFilter;
+        try {
+            statusFilter = status != null ? IncidentStatus.valueOf(status) : null;
+            severityFilter = severity != null ? IncidentSeverity.valueOf(severity) : null;
+        } catch (IllegalArgumentException e) {
+            // Unknown codes match nothing
+            return PageResponse.of(Page.empty(PageRequest.of(page, size)), List.of());
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<Incident> incidentPage = incidentRepository.findAll(pageable);
+        Page<IncidentListItem> incidentPage = incidentRepository.findListItems(statusFilter, severityFilter, type,
+                pageable);
 
         List<IncidentResponse> content = incidentPage.getContent().stream()
-                .filter(i -> status == null || (i.getStatus() != null && i.getStatus().name().equals(status)))
-                .filter(i -> severity == null || (i.getSeverity() != null && i.getSeverity().name().equals(severity)))
-                .filter(i -> type == null || (i.getIncidentType() != null && i.getIncidentType().equals(type)))
                 .map(incidentMapper::toResponse)
                 .collect(Collectors.toList());
 
         return PageResponse.of(incidentPage, content);
     }
 
+    /**
+     * Cursor-paged variant of {@link #getAllIncidents}: newest incidents
+     * first, filtered in the query so every page is full.
+     */
+    public PageResponse<IncidentResponse> scrollAllIncidents(String status, String severity, String type,
+            String cursor, int size) {
+        Specification<Incident> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            try {
+                if (status != null) {
+                    predicates.add(cb.equal(root.get("status"), IncidentStatus.valueOf(status)));
+                }
+                if (severity != null) {
+                    predicates.add(cb.equal(root.get("severity"), IncidentSeverity.valueOf(severity)));
+                }
+            } catch (IllegalArgumentException e) {
+                // Unknown codes match nothing, as in getAllIncidents
+                return cb.disjunction();
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("incidentType"), type));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return CursorPaging.scroll(incidentRepository, Incident.class, spec, Sort.by(Sort.Direction.DESC, "id"),
+                cursor, size, incidentMapper::toResponse);
+    }
+
     public IncidentResponse getIncidentById(Integer incidentId) {
         log.info("Admin fetching incident detail for ID: {}", incidentId);
 
@@ -129,9 +172,12 @@ public class AdminIncidentService {
             }
 
             // Transition to IN_PROGRESS
+            IncidentStatus previousStatus = incident.getStatus();
             incident.setStatus(IN_PROGRESS);
 
             incidentRepository.save(incident);
+            seasonProgressService.incidentChanged(incident.getSeason().getId(), previousStatus,
+                    incident.getStatus());
             log.info("Incident {} triaged successfully", incidentId);
             return incidentMapper.toResponse(incident);
 
@@ -157,6 +203,7 @@ public class AdminIncidentService {
             validateTransition(incident.getStatus(), RESOLVED);
 
             // Set resolution details
+            IncidentStatus previousStatus = incident.getStatus();
             incident.setStatus(RESOLVED);
             incident.setResolvedAt(LocalDateTime.now());
             incident.setResolutionNote(request.getResolutionNote());
@@ -166,6 +213,8 @@ public class AdminIncidentService {
             userRepository.findByUsername(username).ifPresent(incident::setResolvedBy);
 
             incidentRepository.save(incident);
+            seasonProgressService.incidentChanged(incident.getSeason().getId(), previousStatus,
+                    incident.getStatus());
             log.info("Incident {} resolved successfully", incidentId);
             return incidentMapper.toResponse(incident);
 
@@ -191,10 +240,13 @@ public class AdminIncidentService {
             validateTransition(incident.getStatus(), CANCELLED);
 
             // Set cancellation details
+            IncidentStatus previousStatus = incident.getStatus();
             incident.setStatus(CANCELLED);
             incident.setCancellationReason(request.getCancellationReason());
 
             incidentRepository.save(incident);
+            seasonProgressService.incidentChanged(incident.getSeason().getId(), previousStatus,
+                    incident.getStatus());
             log.info("Incident {} cancelled successfully", incidentId);
             return incidentMapper.toResponse(incident);
 
@@ -220,6 +272,7 @@ public class AdminIncidentService {
         // Validate transition
         validateTransition(incident.getStatus(), targetStatus);
 
+        IncidentStatus previousStatus = incident.getStatus();
         incident.setStatus(targetStatus);
 
         // Set resolved_at when status changes to RESOLVED
@@ -228,6 +281,8 @@ public class AdminIncidentService {
         }
 
         incidentRepository.save(incident);
+        seasonProgressService.incidentChanged(incident.getSeason().getId(), previousStatus,
+                incident.getStatus());
         return incidentMapper.toResponse(incident);
     }
 
@@ -0,0 +1,225 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Request.AdminReportFilter;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.IncidentReportRow;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.InventoryOnHandRow;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.SeasonReportRow;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.TaskReportRow;
+import org.example.QuanLyMuaVu.Enums.ExportFormat;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+import org.example.QuanLyMuaVu.Repository.IncidentRepository;
+import org.example.QuanLyMuaVu.Repository.InventoryBalanceRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Repository.TaskRepository;
+import org.example.QuanLyMuaVu.Util.RowWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.example.QuanLyMuaVu.Service.AdminReportsService.perUnit;
+import static org.example.QuanLyMuaVu.Service.AdminReportsService.percent;
+
+/**
+ * CSV/XLSX exports of the admin reports.
+ * <p>
+ * Rows come from a database cursor and are written to the output as they
+ * arrive, so exporting every farm over several years holds one fetch batch in
+ * memory rather than the whole result. Figures are computed as in
+ * {@link AdminReportsService}; the task and incident exports list the
+ * underlying rows behind the statistics.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AdminReportExportService {
+
+    SeasonRepository seasonRepository;
+    TaskRepository taskRepository;
+    IncidentRepository incidentRepository;
+    InventoryBalanceRepository inventoryBalanceRepository;
+
+    @Transactional(readOnly = true)
+    public void exportYield(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Season ID", "Season", "Crop", "Plot", "Farm",
+                "Expected yield (kg)", "Actual yield (kg)", "Variance (%)");
+        try (Stream<SeasonReportRow> rows = seasonRows(filter);
+                RowWriter writer = RowWriter.open(format, out, "Yield", headers)) {
+            writeAll(rows, writer, row -> {
+                BigDecimal expected = row.getExpectedYieldKg();
+                BigDecimal actual = row.getTotalQuantity();
+                return Arrays.asList(row.getSeasonId(), row.getSeasonName(), row.getCropName(), row.getPlotName(),
+                        row.getFarmName(), expected, actual,
+                        expected != null ? percent(actual.subtract(expected), expected) : null);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCost(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Season ID", "Season", "Crop", "Total expense", "Total yield (kg)",
+                "Cost per kg");
+        try (Stream<SeasonReportRow> rows = seasonRows(filter);
+                RowWriter writer = RowWriter.open(format, out, "Cost", headers)) {
+            writeAll(rows, writer, row -> {
+                BigDecimal totalExpense = row.getTotalExpense().setScale(0, RoundingMode.HALF_UP);
+                return Arrays.asList(row.getSeasonId(), row.getSeasonName(), row.getCropName(), totalExpense,
+                        row.getTotalQuantity(), perUnit(totalExpense, row.getTotalQuantity()));
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportRevenue(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Season ID", "Season", "Crop", "Total quantity", "Total revenue",
+                "Average price per unit");
+        // Seasons without harvests are left out, as in the JSON report
+        try (Stream<SeasonReportRow> rows = seasonRows(filter)
+                .filter(row -> row.getTotalQuantity().compareTo(BigDecimal.ZERO) > 0);
+                RowWriter writer = RowWriter.open(format, out, "Revenue", headers)) {
+            writeAll(rows, writer, row -> {
+                BigDecimal totalRevenue = row.getTotalRevenue().setScale(0, RoundingMode.HALF_UP);
+                return Arrays.asList(row.getSeasonId(), row.getSeasonName(), row.getCropName(),
+                        row.getTotalQuantity(), totalRevenue, perUnit(totalRevenue, row.getTotalQuantity()));
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProfit(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Season ID", "Season", "Crop", "Farm", "Total revenue", "Total expense",
+                "Gross profit", "Profit margin (%)", "Return on cost (%)");
+        try (Stream<SeasonReportRow> rows = seasonRows(filter);
+                RowWriter writer = RowWriter.open(format, out, "Profit", headers)) {
+            writeAll(rows, writer, row -> {
+                BigDecimal totalRevenue = row.getTotalRevenue().setScale(0, RoundingMode.HALF_UP);
+                BigDecimal totalExpense = row.getTotalExpense().setScale(0, RoundingMode.HALF_UP);
+                BigDecimal grossProfit = totalRevenue.subtract(totalExpense);
+                return Arrays.asList(row.getSeasonId(), row.getSeasonName(), row.getCropName(), row.getFarmName(),
+                        totalRevenue, totalExpense, grossProfit,
+                        percent(grossProfit, totalRevenue), percent(grossProfit, totalExpense));
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportInventoryOnHand(ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Warehouse ID", "Warehouse", "Farm", "Lot ID", "Batch code", "Item",
+                "Unit", "Expiry date", "Quantity on hand", "Expiry status");
+        LocalDate today = LocalDate.now();
+        LocalDate soonThreshold = today.plusDays(30);
+        try (Stream<InventoryOnHandRow> rows = inventoryBalanceRepository.streamOnHandRows();
+                RowWriter writer = RowWriter.open(format, out, "Inventory on hand", headers)) {
+            writeAll(rows, writer, row -> {
+                LocalDate expiry = row.getExpiryDate();
+                String expiryStatus = null;
+                if (expiry != null) {
+                    expiryStatus = expiry.isBefore(today) ? "EXPIRED"
+                            : expiry.isBefore(soonThreshold) ? "EXPIRING_SOON" : "OK";
+                }
+                return Arrays.asList(row.getWarehouseId(), row.getWarehouseName(), row.getFarmName(),
+                        row.getLotId(), row.getBatchCode(), row.getItemName(), row.getUnit(), expiry,
+                        row.getQuantity(), expiryStatus);
+            });
+        }
+    }
+
+    /**
+     * Tasks created in the filter's date range (the current year when none is
+     * given), with the same overdue rule as the task performance report.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Task ID", "Title", "Status", "Season", "Farm", "Assignee",
+                "Planned date", "Due date", "Actual end date", "Created at", "Overdue");
+        LocalDate today = LocalDate.now();
+        try (Stream<TaskReportRow> rows = taskRepository.streamReportRows(rangeStart(filter), rangeEnd(filter));
+                RowWriter writer = RowWriter.open(format, out, "Tasks", headers)) {
+            writeAll(rows, writer, row -> {
+                TaskStatus status = row.getStatus();
+                boolean overdue = status == TaskStatus.OVERDUE
+                        || (status != TaskStatus.DONE && status != TaskStatus.CANCELLED
+                                && row.getDueDate() != null && row.getDueDate().isBefore(today));
+                return Arrays.asList(row.getTaskId(), row.getTitle(), status != null ? status.getCode() : null,
+                        row.getSeasonName(), row.getFarmName(), row.getAssignee(), row.getPlannedDate(),
+                        row.getDueDate(), row.getActualEndDate(), row.getCreatedAt(), overdue);
+            });
+        }
+    }
+
+    /**
+     * Incidents created in the filter's date range (the current year when
+     * none is given) with their resolution time.
+     */
+    @Transactional(readOnly = true)
+    public void exportIncidents(AdminReportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        List<String> headers = List.of("Incident ID", "Type", "Severity", "Status", "Season", "Reported by",
+                "Created at", "Resolved at", "Resolution days");
+        try (Stream<IncidentReportRow> rows = incidentRepository.streamReportRows(rangeStart(filter),
+                rangeEnd(filter));
+                RowWriter writer = RowWriter.open(format, out, "Incidents", headers)) {
+            writeAll(rows, writer, row -> {
+                Long resolutionDays = row.getStatus() == IncidentStatus.RESOLVED
+                        && row.getResolvedAt() != null && row.getCreatedAt() != null
+                                ? ChronoUnit.DAYS.between(row.getCreatedAt(), row.getResolvedAt())
+                                : null;
+                return Arrays.asList(row.getIncidentId(), row.getIncidentType(),
+                        row.getSeverity() != null ? row.getSeverity().name() : null,
+                        row.getStatus() != null ? row.getStatus().name() : null,
+                        row.getSeasonName(), row.getReportedBy(), row.getCreatedAt(), row.getResolvedAt(),
+                        resolutionDays);
+            });
+        }
+    }
+
+    private Stream<SeasonReportRow> seasonRows(AdminReportFilter filter) {
+        return seasonRepository.streamReportRows(filter.getEffectiveFromDate(), filter.getEffectiveToDate(),
+                filter.getCropId(), filter.getFarmId(), filter.getPlotId());
+    }
+
+    private static LocalDateTime rangeStart(AdminReportFilter filter) {
+        LocalDate from = filter.getEffectiveFromDate();
+        if (from == null) {
+            from = filter.getEffectiveToDate() != null ? LocalDate.of(1970, 1, 1)
+                    : LocalDate.now().withDayOfYear(1);
+        }
+        return from.atStartOfDay();
+    }
+
+    private static LocalDateTime rangeEnd(AdminReportFilter filter) {
+        LocalDate to = filter.getEffectiveToDate();
+        if (to == null) {
+            to = filter.getEffectiveFromDate() != null ? LocalDate.of(9999, 12, 31)
+                    : LocalDate.now().withDayOfYear(1).plusYears(1);
+        }
+        return to.atStartOfDay();
+    }
+
+    private static <T> void writeAll(Stream<T> rows, RowWriter writer, Function<T, List<?>> toCells)
+            throws IOException {
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.writeRow(toCells.apply(iterator.next()));
+            count++;
+        }
+        log.debug("Exported {} report rows", count);
+    }
+}
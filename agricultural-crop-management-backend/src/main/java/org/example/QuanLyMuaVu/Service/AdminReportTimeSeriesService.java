@@ -0,0 +1,190 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Request.AdminReportFilter;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.DailyHarvest;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.DailyMovement;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportProjections.DailyTotal;
+import org.example.QuanLyMuaVu.DTO.Response.AdminReportResponse;
+import org.example.QuanLyMuaVu.Enums.StockMovementType;
+import org.example.QuanLyMuaVu.Enums.TimeBucket;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.ExpenseRepository;
+import org.example.QuanLyMuaVu.Repository.HarvestRepository;
+import org.example.QuanLyMuaVu.Repository.StockMovementRepository;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Expense, harvest and stock movement totals over time for charts.
+ * <p>
+ * The database groups rows by calendar day; days are then rolled up into
+ * day/week/month/quarter buckets here, so the query is the same for every
+ * granularity and the result set is at most one row per day. When the range
+ * holds more buckets than {@code maxPoints}, the next coarser granularity is
+ * used, and past quarters consecutive buckets are merged. Sums are additive,
+ * so a downsampled point is exact rather than a sample.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AdminReportTimeSeriesService {
+
+    public static final int DEFAULT_MAX_POINTS = 200;
+    static final int MAX_POINTS_LIMIT = 2000;
+
+    ExpenseRepository expenseRepository;
+    HarvestRepository harvestRepository;
+    StockMovementRepository stockMovementRepository;
+    ParallelQueryExecutor parallelQueryExecutor;
+
+    /**
+     * Time series over the filter's range, the last twelve months when it has
+     * none.
+     */
+    @SuppressWarnings("unchecked")
+    public AdminReportResponse.TimeSeries getTimeSeries(AdminReportFilter filter, TimeBucket bucket,
+            Integer maxPoints) {
+        TimeBucket requested = bucket != null ? bucket : TimeBucket.MONTH;
+        int limit = maxPoints != null ? Math.max(1, Math.min(maxPoints, MAX_POINTS_LIMIT)) : DEFAULT_MAX_POINTS;
+
+        LocalDate to = filter.getEffectiveToDate();
+        LocalDate from = filter.getEffectiveFromDate();
+        if (to == null) {
+            to = LocalDate.now().plusDays(1);
+        }
+        if (from == null) {
+            from = to.minusYears(1);
+        }
+        if (!from.isBefore(to)) {
+            throw new AppException(ErrorCode.INVALID_REPORT_RANGE);
+        }
+
+        // Coarsen until the range fits, then merge consecutive quarters if it still does not
+        TimeBucket effective = requested;
+        long count = countBuckets(effective, from, to, limit);
+        while (count > limit && effective.coarser() != null) {
+            effective = effective.coarser();
+            count = countBuckets(effective, from, to, limit);
+        }
+        int span = count > limit ? (int) ((countBuckets(effective, from, to, Long.MAX_VALUE) + limit - 1) / limit)
+                : 1;
+        List<LocalDate> starts = bucketStarts(effective, span, from, to);
+        log.info("Generating time series {} to {} by {} x{} ({} points)", from, to, effective, span, starts.size());
+
+        LocalDate rangeFrom = from;
+        LocalDate rangeTo = to;
+        Integer farmId = filter.getFarmId();
+        Integer cropId = filter.getCropId();
+        Integer plotId = filter.getPlotId();
+        List<Supplier<?>> queries = List.of(
+                () -> expenseRepository.sumTotalCostByDay(rangeFrom, rangeTo, farmId, cropId, plotId),
+                () -> harvestRepository.sumByDay(rangeFrom, rangeTo, farmId, cropId, plotId),
+                () -> stockMovementRepository.sumQuantityByDayAndType(rangeFrom.atStartOfDay(),
+                        rangeTo.atStartOfDay(), farmId, cropId, plotId));
+        List<Object> results = parallelQueryExecutor.all(queries);
+
+        List<PointSums> sums = new ArrayList<>(starts.size());
+        starts.forEach(start -> sums.add(new PointSums()));
+        for (DailyTotal row : (List<DailyTotal>) results.get(0)) {
+            PointSums point = sums.get(indexOf(starts, row.getDay()));
+            point.expenses = plus(point.expenses, row.getTotal());
+        }
+        for (DailyHarvest row : (List<DailyHarvest>) results.get(1)) {
+            PointSums point = sums.get(indexOf(starts, row.getDay()));
+            point.harvestQuantity = plus(point.harvestQuantity, row.getTotalQuantity());
+            point.revenue = plus(point.revenue, row.getTotalRevenue());
+        }
+        for (DailyMovement row : (List<DailyMovement>) results.get(2)) {
+            PointSums point = sums.get(indexOf(starts, row.getDay()));
+            if (row.getMovementType() == StockMovementType.IN) {
+                point.stockIn = plus(point.stockIn, row.getTotalQuantity());
+            } else if (row.getMovementType() == StockMovementType.OUT) {
+                point.stockOut = plus(point.stockOut, row.getTotalQuantity());
+            }
+        }
+
+        List<AdminReportResponse.TimeSeriesPoint> points = new ArrayList<>(starts.size());
+        for (int i = 0; i < starts.size(); i++) {
+            PointSums point = sums.get(i);
+            points.add(AdminReportResponse.TimeSeriesPoint.builder()
+                    .start(starts.get(i))
+                    .expenses(point.expenses)
+                    .harvestQuantity(point.harvestQuantity)
+                    // Rounded to whole VND as in the revenue report
+                    .revenue(point.revenue.setScale(0, RoundingMode.HALF_UP))
+                    .stockIn(point.stockIn)
+                    .stockOut(point.stockOut)
+                    .build());
+        }
+
+        return AdminReportResponse.TimeSeries.builder()
+                .fromDate(from)
+                .toDate(to)
+                .requestedBucket(requested)
+                .bucket(effective)
+                .span(span)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Number of buckets overlapping [from, to), counting no further than
+     * {@code limit + 1}.
+     */
+    private static long countBuckets(TimeBucket bucket, LocalDate from, LocalDate to, long limit) {
+        long count = 0;
+        for (LocalDate start = bucket.start(from); start.isBefore(to) && count <= limit; start = bucket.next(start)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static List<LocalDate> bucketStarts(TimeBucket bucket, int span, LocalDate from, LocalDate to) {
+        List<LocalDate> starts = new ArrayList<>();
+        LocalDate start = bucket.start(from);
+        while (start.isBefore(to)) {
+            starts.add(start);
+            for (int i = 0; i < span; i++) {
+                start = bucket.next(start);
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * Index of the point whose range contains {@code day}.
+     */
+    private static int indexOf(List<LocalDate> starts, LocalDate day) {
+        int index = Collections.binarySearch(starts, day);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    private static BigDecimal plus(BigDecimal sum, BigDecimal value) {
+        return value != null ? sum.add(value) : sum;
+    }
+
+    /**
+     * Starts at zero with the column scale, so empty points read 0.00 like
+     * filled ones.
+     */
+    private static final class PointSums {
+        BigDecimal expenses = BigDecimal.valueOf(0, 2);
+        BigDecimal harvestQuantity = BigDecimal.valueOf(0, 2);
+        BigDecimal revenue = BigDecimal.valueOf(0, 4);
+        BigDecimal stockIn = BigDecimal.valueOf(0, 3);
+        BigDecimal stockOut = BigDecimal.valueOf(0, 3);
+    }
+}
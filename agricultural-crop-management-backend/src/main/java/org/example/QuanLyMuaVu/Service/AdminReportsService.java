@@ -27,6 +27,18 @@ import java.util.stream.Collectors;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class AdminReportsService {
 
+        /**
+         * Receives the completion percentage of a report being built. May throw
+         * {@link java.util.concurrent.CancellationException} to abort the report.
+         */
+        @FunctionalInterface
+        public interface ReportProgress {
+                ReportProgress NONE = percent -> {
+                };
+
+                void update(int percent);
+        }
+
         ExpenseRepository expenseRepository;
         HarvestRepository harvestRepository;
         IncidentRepository incidentRepository;
@@ -36,6 +48,7 @@ public class AdminReportsService {
         WarehouseRepository warehouseRepository;
         SupplyLotRepository supplyLotRepository;
         InventoryBalanceRepository inventoryBalanceRepository;
+        ParallelQueryExecutor parallelQueryExecutor;
 
         // ═══════════════════════════════════════════════════════════════
         // LEGACY METHODS (backward compatibility)
@@ -130,8 +143,8 @@ public class AdminReportsService {
                 return movements.stream()
                                 .filter(m -> m.getMovementDate() != null && m.getMovementDate().getYear() == targetYear)
                                 .collect(Collectors.groupingBy(
-                                                m -> m.getMovementDate().getMonthValue() + "-" +
-                                                                (m.getMovementType() != null
+                                                m -> new MonthAndType(m.getMovementDate().getMonthValue(),
+                                                                m.getMovementType() != null
                                                                                 ? m.getMovementType().name()
                                                                                 : "UNKNOWN"),
                                                 Collectors.reducing(BigDecimal.ZERO,
@@ -139,19 +152,19 @@ public class AdminReportsService {
                                                                                 : BigDecimal.ZERO,
                                                                 BigDecimal::add)))
                                 .entrySet().stream()
-                                .map(entry -> {
-                                        String[] parts = entry.getKey().split("-");
-                                        return AdminReportResponse.MovementSummary.builder()
-                                                        .year(targetYear)
-                                                        .month(Integer.parseInt(parts[0]))
-                                                        .movementType(parts.length > 1 ? parts[1] : null)
-                                                        .totalQuantity(entry.getValue())
-                                                        .build();
-                                })
+                                .map(entry -> AdminReportResponse.MovementSummary.builder()
+                                                .year(targetYear)
+                                                .month(entry.getKey().month())
+                                                .movementType(entry.getKey().movementType())
+                                                .totalQuantity(entry.getValue())
+                                                .build())
                                 .sorted(Comparator.comparing(AdminReportResponse.MovementSummary::getMonth))
                                 .collect(Collectors.toList());
         }
 
+        private record MonthAndType(int month, String movementType) {
+        }
+
         // ═══════════════════════════════════════════════════════════════
         // NEW ANALYTICS METHODS (Optimized with JPQL queries)
         // ═══════════════════════════════════════════════════════════════
@@ -164,68 +177,75 @@ public class AdminReportsService {
                 log.info("Generating yield report with filter: {}", filter);
 
                 try {
-                        LocalDate from = filter.getEffectiveFromDate();
-                        LocalDate to = filter.getEffectiveToDate();
-
-                        // Step 1: Get seasons with optimized query (index-friendly date range)
-                        var seasons = seasonRepository.findByFilters(
-                                        from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
+                        return buildYieldReport(filter, ReportProgress.NONE);
+                } catch (Exception e) {
+                        log.error("Error generating yield report: {}", e.getMessage(), e);
+                        return Collections.emptyList();
+                }
+        }
 
-                        if (seasons.isEmpty()) {
-                                return Collections.emptyList();
-                        }
+        /**
+         * Same as {@link #getYieldReport} but propagates failures; used by report jobs.
+         */
+        public List<AdminReportResponse.YieldReport> buildYieldReport(AdminReportFilter filter,
+                        ReportProgress progress) {
+                LocalDate from = filter.getEffectiveFromDate();
+                LocalDate to = filter.getEffectiveToDate();
 
-                        // Step 2: Collect season IDs
-                        Set<Integer> seasonIds = seasons.stream()
-                                        .map(Season::getId)
-                                        .collect(Collectors.toSet());
-
-                        // Step 3: Get harvest aggregates via projection (type-safe)
-                        Map<Integer, BigDecimal> harvestBySeasonId = harvestRepository
-                                        .sumQuantityBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonHarvestAgg::getSeasonId,
-                                                        AdminReportProjections.SeasonHarvestAgg::getTotalQuantity));
-
-                        // Step 4: Assemble DTOs
-                        return seasons.stream()
-                                        .map(season -> {
-                                                BigDecimal expected = season.getExpectedYieldKg();
-                                                BigDecimal actual = harvestBySeasonId.getOrDefault(season.getId(),
-                                                                BigDecimal.ZERO);
-
-                                                // Calculate variance percent (scale 2)
-                                                BigDecimal variance = null;
-                                                if (expected != null && expected.compareTo(BigDecimal.ZERO) > 0) {
-                                                        variance = actual.subtract(expected)
-                                                                        .divide(expected, 4, RoundingMode.HALF_UP)
-                                                                        .multiply(BigDecimal.valueOf(100))
-                                                                        .setScale(2, RoundingMode.HALF_UP);
-                                                }
+                // Step 1: Get seasons with optimized query (index-friendly date range)
+                var seasons = seasonRepository.findByFilters(
+                                from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
 
-                                                // Get plot and farm names
-                                                Plot plot = season.getPlot();
-                                                Farm farm = plot != null ? plot.getFarm() : null;
-
-                                                return AdminReportResponse.YieldReport.builder()
-                                                                .seasonId(season.getId())
-                                                                .seasonName(season.getSeasonName())
-                                                                .cropName(season.getCrop() != null
-                                                                                ? season.getCrop().getCropName()
-                                                                                : null)
-                                                                .plotName(plot != null ? plot.getPlotName() : null)
-                                                                .farmName(farm != null ? farm.getName() : null)
-                                                                .expectedYieldKg(expected)
-                                                                .actualYieldKg(actual)
-                                                                .variancePercent(variance)
-                                                                .build();
-                                        })
-                                        .sorted(Comparator.comparing(AdminReportResponse.YieldReport::getSeasonId))
-                                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                        log.error("Error generating yield report: {}", e.getMessage(), e);
+                if (seasons.isEmpty()) {
                         return Collections.emptyList();
                 }
+                progress.update(40);
+
+                // Step 2: Collect season IDs
+                Set<Integer> seasonIds = seasons.stream()
+                                .map(Season::getId)
+                                .collect(Collectors.toSet());
+
+                // Step 3: Get harvest aggregates via projection (type-safe)
+                Map<Integer, BigDecimal> harvestBySeasonId = harvestRepository
+                                .sumQuantityBySeasonIds(seasonIds).stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonHarvestAgg::getSeasonId,
+                                                AdminReportProjections.SeasonHarvestAgg::getTotalQuantity));
+
+                progress.update(70);
+
+                // Step 4: Assemble DTOs
+                return seasons.stream()
+                                .map(season -> {
+                                        BigDecimal expected = season.getExpectedYieldKg();
+                                        BigDecimal actual = harvestBySeasonId.getOrDefault(season.getId(),
+                                                        BigDecimal.ZERO);
+
+                                        // Calculate variance percent (scale 2)
+                                        BigDecimal variance = expected != null
+                                                        ? percent(actual.subtract(expected), expected)
+                                                        : null;
+
+                                        // Get plot and farm names
+                                        Plot plot = season.getPlot();
+                                        Farm farm = plot != null ? plot.getFarm() : null;
+
+                                        return AdminReportResponse.YieldReport.builder()
+                                                        .seasonId(season.getId())
+                                                        .seasonName(season.getSeasonName())
+                                                        .cropName(season.getCrop() != null
+                                                                        ? season.getCrop().getCropName()
+                                                                        : null)
+                                                        .plotName(plot != null ? plot.getPlotName() : null)
+                                                        .farmName(farm != null ? farm.getName() : null)
+                                                        .expectedYieldKg(expected)
+                                                        .actualYieldKg(actual)
+                                                        .variancePercent(variance)
+                                                        .build();
+                                })
+                                .sorted(Comparator.comparing(AdminReportResponse.YieldReport::getSeasonId))
+                                .collect(Collectors.toList());
         }
 
         /**
@@ -236,68 +256,74 @@ public class AdminReportsService {
                 log.info("Generating cost report with filter: {}", filter);
 
                 try {
-                        LocalDate from = filter.getEffectiveFromDate();
-                        LocalDate to = filter.getEffectiveToDate();
-
-                        // Step 1: Get seasons with optimized query
-                        var seasons = seasonRepository.findByFilters(
-                                        from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
+                        return buildCostReport(filter, ReportProgress.NONE);
+                } catch (Exception e) {
+                        log.error("Error generating cost report: {}", e.getMessage(), e);
+                        return Collections.emptyList();
+                }
+        }
 
-                        if (seasons.isEmpty()) {
-                                return Collections.emptyList();
-                        }
+        /**
+         * Same as {@link #getCostReport} but propagates failures; used by report jobs.
+         */
+        public List<AdminReportResponse.CostReport> buildCostReport(AdminReportFilter filter,
+                        ReportProgress progress) {
+                LocalDate from = filter.getEffectiveFromDate();
+                LocalDate to = filter.getEffectiveToDate();
 
-                        // Step 2: Collect season IDs
-                        Set<Integer> seasonIds = seasons.stream()
-                                        .map(Season::getId)
-                                        .collect(Collectors.toSet());
-
-                        // Step 3: Get expense aggregates via projection (type-safe)
-                        Map<Integer, BigDecimal> expenseBySeasonId = expenseRepository
-                                        .sumExpensesBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonExpenseAgg::getSeasonId,
-                                                        AdminReportProjections.SeasonExpenseAgg::getTotalExpense));
-
-                        // Step 4: Get harvest aggregates via projection
-                        Map<Integer, BigDecimal> harvestBySeasonId = harvestRepository
-                                        .sumQuantityBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonHarvestAgg::getSeasonId,
-                                                        AdminReportProjections.SeasonHarvestAgg::getTotalQuantity));
-
-                        // Step 5: Assemble DTOs
-                        return seasons.stream()
-                                        .map(season -> {
-                                                BigDecimal totalExpense = expenseBySeasonId.getOrDefault(season.getId(),
-                                                                BigDecimal.ZERO).setScale(0, RoundingMode.HALF_UP);
-                                                BigDecimal totalYield = harvestBySeasonId.getOrDefault(season.getId(),
-                                                                BigDecimal.ZERO);
-
-                                                // Calculate cost per kg (scale 2)
-                                                BigDecimal costPerKg = null;
-                                                if (totalYield.compareTo(BigDecimal.ZERO) > 0) {
-                                                        costPerKg = totalExpense.divide(totalYield, 2,
-                                                                        RoundingMode.HALF_UP);
-                                                }
+                // Step 1: Get seasons with optimized query
+                var seasons = seasonRepository.findByFilters(
+                                from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
 
-                                                return AdminReportResponse.CostReport.builder()
-                                                                .seasonId(season.getId())
-                                                                .seasonName(season.getSeasonName())
-                                                                .cropName(season.getCrop() != null
-                                                                                ? season.getCrop().getCropName()
-                                                                                : null)
-                                                                .totalExpense(totalExpense)
-                                                                .totalYieldKg(totalYield)
-                                                                .costPerKg(costPerKg)
-                                                                .build();
-                                        })
-                                        .sorted(Comparator.comparing(AdminReportResponse.CostReport::getSeasonId))
-                                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                        log.error("Error generating cost report: {}", e.getMessage(), e);
+                if (seasons.isEmpty()) {
                         return Collections.emptyList();
                 }
+                progress.update(40);
+
+                // Step 2: Collect season IDs
+                Set<Integer> seasonIds = seasons.stream()
+                                .map(Season::getId)
+                                .collect(Collectors.toSet());
+
+                // Steps 3-4: Expense and harvest aggregates are independent, run them side by side
+                var aggregates = parallelQueryExecutor.both(
+                                () -> expenseRepository.sumExpensesBySeasonIds(seasonIds),
+                                () -> harvestRepository.sumQuantityBySeasonIds(seasonIds));
+                Map<Integer, BigDecimal> expenseBySeasonId = aggregates.first().stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonExpenseAgg::getSeasonId,
+                                                AdminReportProjections.SeasonExpenseAgg::getTotalExpense));
+                Map<Integer, BigDecimal> harvestBySeasonId = aggregates.second().stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonHarvestAgg::getSeasonId,
+                                                AdminReportProjections.SeasonHarvestAgg::getTotalQuantity));
+
+                progress.update(70);
+
+                // Step 5: Assemble DTOs
+                return seasons.stream()
+                                .map(season -> {
+                                        BigDecimal totalExpense = expenseBySeasonId.getOrDefault(season.getId(),
+                                                        BigDecimal.ZERO).setScale(0, RoundingMode.HALF_UP);
+                                        BigDecimal totalYield = harvestBySeasonId.getOrDefault(season.getId(),
+                                                        BigDecimal.ZERO);
+
+                                        // Calculate cost per kg (scale 2)
+                                        BigDecimal costPerKg = perUnit(totalExpense, totalYield);
+
+                                        return AdminReportResponse.CostReport.builder()
+                                                        .seasonId(season.getId())
+                                                        .seasonName(season.getSeasonName())
+                                                        .cropName(season.getCrop() != null
+                                                                        ? season.getCrop().getCropName()
+                                                                        : null)
+                                                        .totalExpense(totalExpense)
+                                                        .totalYieldKg(totalYield)
+                                                        .costPerKg(costPerKg)
+                                                        .build();
+                                })
+                                .sorted(Comparator.comparing(AdminReportResponse.CostReport::getSeasonId))
+                                .collect(Collectors.toList());
         }
 
         /**
@@ -309,67 +335,74 @@ public class AdminReportsService {
                 log.info("Generating revenue report with filter: {}", filter);
 
                 try {
-                        LocalDate from = filter.getEffectiveFromDate();
-                        LocalDate to = filter.getEffectiveToDate();
-
-                        // Step 1: Get seasons with optimized query
-                        var seasons = seasonRepository.findByFilters(
-                                        from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
+                        return buildRevenueReport(filter, ReportProgress.NONE);
+                } catch (Exception e) {
+                        log.error("Error generating revenue report: {}", e.getMessage(), e);
+                        return Collections.emptyList();
+                }
+        }
 
-                        if (seasons.isEmpty()) {
-                                return Collections.emptyList();
-                        }
+        /**
+         * Same as {@link #getRevenueReport} but propagates failures; used by report jobs.
+         */
+        public List<AdminReportResponse.RevenueReport> buildRevenueReport(AdminReportFilter filter,
+                        ReportProgress progress) {
+                LocalDate from = filter.getEffectiveFromDate();
+                LocalDate to = filter.getEffectiveToDate();
 
-                        // Step 2: Collect season IDs
-                        Set<Integer> seasonIds = seasons.stream()
-                                        .map(Season::getId)
-                                        .collect(Collectors.toSet());
-
-                        // Step 3: Get revenue aggregates via projection (type-safe)
-                        Map<Integer, AdminReportProjections.SeasonRevenueAgg> revenueBySeasonId = harvestRepository
-                                        .sumRevenueBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonRevenueAgg::getSeasonId,
-                                                        agg -> agg));
-
-                        // Step 4: Assemble DTOs
-                        return seasons.stream()
-                                        .map(season -> {
-                                                AdminReportProjections.SeasonRevenueAgg agg = revenueBySeasonId
-                                                                .get(season.getId());
-
-                                                BigDecimal totalQuantity = agg != null ? agg.getTotalQuantity()
-                                                                : BigDecimal.ZERO;
-                                                BigDecimal totalRevenue = agg != null
-                                                                ? agg.getTotalRevenue().setScale(0,
-                                                                                RoundingMode.HALF_UP)
-                                                                : BigDecimal.ZERO;
-
-                                                // Calculate average price per unit (scale 2)
-                                                BigDecimal avgPrice = null;
-                                                if (totalQuantity.compareTo(BigDecimal.ZERO) > 0) {
-                                                        avgPrice = totalRevenue.divide(totalQuantity, 2,
-                                                                        RoundingMode.HALF_UP);
-                                                }
+                // Step 1: Get seasons with optimized query
+                var seasons = seasonRepository.findByFilters(
+                                from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
 
-                                                return AdminReportResponse.RevenueReport.builder()
-                                                                .seasonId(season.getId())
-                                                                .seasonName(season.getSeasonName())
-                                                                .cropName(season.getCrop() != null
-                                                                                ? season.getCrop().getCropName()
-                                                                                : null)
-                                                                .totalQuantity(totalQuantity)
-                                                                .totalRevenue(totalRevenue)
-                                                                .avgPricePerUnit(avgPrice)
-                                                                .build();
-                                        })
-                                        .filter(r -> r.getTotalQuantity().compareTo(BigDecimal.ZERO) > 0)
-                                        .sorted(Comparator.comparing(AdminReportResponse.RevenueReport::getSeasonId))
-                                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                        log.error("Error generating revenue report: {}", e.getMessage(), e);
+                if (seasons.isEmpty()) {
                         return Collections.emptyList();
                 }
+                progress.update(40);
+
+                // Step 2: Collect season IDs
+                Set<Integer> seasonIds = seasons.stream()
+                                .map(Season::getId)
+                                .collect(Collectors.toSet());
+
+                // Step 3: Get revenue aggregates via projection (type-safe)
+                Map<Integer, AdminReportProjections.SeasonRevenueAgg> revenueBySeasonId = harvestRepository
+                                .sumRevenueBySeasonIds(seasonIds).stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonRevenueAgg::getSeasonId,
+                                                agg -> agg));
+
+                progress.update(70);
+
+                // Step 4: Assemble DTOs
+                return seasons.stream()
+                                .map(season -> {
+                                        AdminReportProjections.SeasonRevenueAgg agg = revenueBySeasonId
+                                                        .get(season.getId());
+
+                                        BigDecimal totalQuantity = agg != null ? agg.getTotalQuantity()
+                                                        : BigDecimal.ZERO;
+                                        BigDecimal totalRevenue = agg != null
+                                                        ? agg.getTotalRevenue().setScale(0,
+                                                                        RoundingMode.HALF_UP)
+                                                        : BigDecimal.ZERO;
+
+                                        // Calculate average price per unit (scale 2)
+                                        BigDecimal avgPrice = perUnit(totalRevenue, totalQuantity);
+
+                                        return AdminReportResponse.RevenueReport.builder()
+                                                        .seasonId(season.getId())
+                                                        .seasonName(season.getSeasonName())
+                                                        .cropName(season.getCrop() != null
+                                                                        ? season.getCrop().getCropName()
+                                                                        : null)
+                                                        .totalQuantity(totalQuantity)
+                                                        .totalRevenue(totalRevenue)
+                                                        .avgPricePerUnit(avgPrice)
+                                                        .build();
+                                })
+                                .filter(r -> r.getTotalQuantity().compareTo(BigDecimal.ZERO) > 0)
+                                .sorted(Comparator.comparing(AdminReportResponse.RevenueReport::getSeasonId))
+                                .collect(Collectors.toList());
         }
 
         /**
@@ -382,92 +415,91 @@ public class AdminReportsService {
                 log.info("Generating profit report with filter: {}", filter);
 
                 try {
-                        LocalDate from = filter.getEffectiveFromDate();
-                        LocalDate to = filter.getEffectiveToDate();
-
-                        // Step 1: Get seasons with optimized query
-                        var seasons = seasonRepository.findByFilters(
-                                        from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
-
-                        if (seasons.isEmpty()) {
-                                return Collections.emptyList();
-                        }
+                        return buildProfitReport(filter, ReportProgress.NONE);
+                } catch (Exception e) {
+                        log.error("Error generating profit report: {}", e.getMessage(), e);
+                        return Collections.emptyList();
+                }
+        }
 
-                        // Step 2: Collect season IDs
-                        Set<Integer> seasonIds = seasons.stream()
-                                        .map(Season::getId)
-                                        .collect(Collectors.toSet());
-
-                        // Step 3: Get revenue aggregates
-                        Map<Integer, AdminReportProjections.SeasonRevenueAgg> revenueBySeasonId = harvestRepository
-                                        .sumRevenueBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonRevenueAgg::getSeasonId,
-                                                        agg -> agg));
-
-                        // Step 4: Get expense aggregates
-                        Map<Integer, BigDecimal> expenseBySeasonId = expenseRepository
-                                        .sumExpensesBySeasonIds(seasonIds).stream()
-                                        .collect(Collectors.toMap(
-                                                        AdminReportProjections.SeasonExpenseAgg::getSeasonId,
-                                                        AdminReportProjections.SeasonExpenseAgg::getTotalExpense));
-
-                        // Step 5: Assemble DTOs
-                        return seasons.stream()
-                                        .map(season -> {
-                                                AdminReportProjections.SeasonRevenueAgg revAgg = revenueBySeasonId
-                                                                .get(season.getId());
-
-                                                BigDecimal totalRevenue = revAgg != null
-                                                                ? revAgg.getTotalRevenue().setScale(0,
-                                                                                RoundingMode.HALF_UP)
-                                                                : BigDecimal.ZERO;
-                                                BigDecimal totalExpense = expenseBySeasonId.getOrDefault(season.getId(),
-                                                                BigDecimal.ZERO).setScale(0, RoundingMode.HALF_UP);
-                                                BigDecimal grossProfit = totalRevenue.subtract(totalExpense);
-
-                                                // Calculate profitMargin (scale 2), null if no revenue
-                                                BigDecimal profitMargin = null;
-                                                if (totalRevenue.compareTo(BigDecimal.ZERO) > 0) {
-                                                        profitMargin = grossProfit
-                                                                        .divide(totalRevenue, 4, RoundingMode.HALF_UP)
-                                                                        .multiply(BigDecimal.valueOf(100))
-                                                                        .setScale(2, RoundingMode.HALF_UP);
-                                                }
+        /**
+         * Same as {@link #getProfitReport} but propagates failures; used by report jobs.
+         */
+        public List<AdminReportResponse.ProfitReport> buildProfitReport(AdminReportFilter filter,
+                        ReportProgress progress) {
+                LocalDate from = filter.getEffectiveFromDate();
+                LocalDate to = filter.getEffectiveToDate();
 
-                                                // Calculate returnOnCost (scale 2), null if no expense
-                                                BigDecimal returnOnCost = null;
-                                                if (totalExpense.compareTo(BigDecimal.ZERO) > 0) {
-                                                        returnOnCost = grossProfit
-                                                                        .divide(totalExpense, 4, RoundingMode.HALF_UP)
-                                                                        .multiply(BigDecimal.valueOf(100))
-                                                                        .setScale(2, RoundingMode.HALF_UP);
-                                                }
+                // Step 1: Get seasons with optimized query
+                var seasons = seasonRepository.findByFilters(
+                                from, to, filter.getCropId(), filter.getFarmId(), filter.getPlotId());
 
-                                                // Get farm name
-                                                Plot plot = season.getPlot();
-                                                Farm farm = plot != null ? plot.getFarm() : null;
-
-                                                return AdminReportResponse.ProfitReport.builder()
-                                                                .seasonId(season.getId())
-                                                                .seasonName(season.getSeasonName())
-                                                                .cropName(season.getCrop() != null
-                                                                                ? season.getCrop().getCropName()
-                                                                                : null)
-                                                                .farmName(farm != null ? farm.getName() : null)
-                                                                .totalRevenue(totalRevenue)
-                                                                .totalExpense(totalExpense)
-                                                                .grossProfit(grossProfit)
-                                                                .profitMargin(profitMargin)
-                                                                .returnOnCost(returnOnCost)
-                                                                .build();
-                                        })
-                                        .sorted(Comparator.comparing(AdminReportResponse.ProfitReport::getSeasonId))
-                                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                        log.error("Error generating profit report: {}", e.getMessage(), e);
+                if (seasons.isEmpty()) {
                         return Collections.emptyList();
                 }
+                progress.update(40);
+
+                // Step 2: Collect season IDs
+                Set<Integer> seasonIds = seasons.stream()
+                                .map(Season::getId)
+                                .collect(Collectors.toSet());
+
+                // Steps 3-4: Revenue and expense aggregates are independent, run them side by side
+                var aggregates = parallelQueryExecutor.both(
+                                () -> harvestRepository.sumRevenueBySeasonIds(seasonIds),
+                                () -> expenseRepository.sumExpensesBySeasonIds(seasonIds));
+                Map<Integer, AdminReportProjections.SeasonRevenueAgg> revenueBySeasonId = aggregates.first()
+                                .stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonRevenueAgg::getSeasonId,
+                                                agg -> agg));
+                Map<Integer, BigDecimal> expenseBySeasonId = aggregates.second().stream()
+                                .collect(Collectors.toMap(
+                                                AdminReportProjections.SeasonExpenseAgg::getSeasonId,
+                                                AdminReportProjections.SeasonExpenseAgg::getTotalExpense));
+
+                progress.update(70);
+
+                // Step 5: Assemble DTOs
+                return seasons.stream()
+                                .map(season -> {
+                                        AdminReportProjections.SeasonRevenueAgg revAgg = revenueBySeasonId
+                                                        .get(season.getId());
+
+                                        BigDecimal totalRevenue = revAgg != null
+                                                        ? revAgg.getTotalRevenue().setScale(0,
+                                                                        RoundingMode.HALF_UP)
+                                                        : BigDecimal.ZERO;
+                                        BigDecimal totalExpense = expenseBySeasonId.getOrDefault(season.getId(),
+                                                        BigDecimal.ZERO).setScale(0, RoundingMode.HALF_UP);
+                                        BigDecimal grossProfit = totalRevenue.subtract(totalExpense);
+
+                                        // Calculate profitMargin (scale 2), null if no revenue
+                                        BigDecimal profitMargin = percent(grossProfit, totalRevenue);
+
+                                        // Calculate returnOnCost (scale 2), null if no expense
+                                        BigDecimal returnOnCost = percent(grossProfit, totalExpense);
+
+                                        // Get farm name
+                                        Plot plot = season.getPlot();
+                                        Farm farm = plot != null ? plot.getFarm() : null;
+
+                                        return AdminReportResponse.ProfitReport.builder()
+                                                        .seasonId(season.getId())
+                                                        .seasonName(season.getSeasonName())
+                                                        .cropName(season.getCrop() != null
+                                                                        ? season.getCrop().getCropName()
+                                                                        : null)
+                                                        .farmName(farm != null ? farm.getName() : null)
+                                                        .totalRevenue(totalRevenue)
+                                                        .totalExpense(totalExpense)
+                                                        .grossProfit(grossProfit)
+                                                        .profitMargin(profitMargin)
+                                                        .returnOnCost(returnOnCost)
+                                                        .build();
+                                })
+                                .sorted(Comparator.comparing(AdminReportResponse.ProfitReport::getSeasonId))
+                                .collect(Collectors.toList());
         }
 
         /**
@@ -703,4 +735,26 @@ public class AdminReportsService {
                                         .build();
                 }
         }
+
+        /**
+         * part / whole as a percentage with scale 2, or null when whole is not positive.
+         */
+        static BigDecimal percent(BigDecimal part, BigDecimal whole) {
+                if (whole.compareTo(BigDecimal.ZERO) <= 0) {
+                        return null;
+                }
+                return part.divide(whole, 4, RoundingMode.HALF_UP)
+                                .multiply(BigDecimal.valueOf(100))
+                                .setScale(2, RoundingMode.HALF_UP);
+        }
+
+        /**
+         * amount per unit with scale 2 (cost per kg, average price), or null without quantity.
+         */
+        static BigDecimal perUnit(BigDecimal amount, BigDecimal quantity) {
+                if (quantity.compareTo(BigDecimal.ZERO) <= 0) {
+                        return null;
+                }
+                return amount.divide(quantity, 2, RoundingMode.HALF_UP);
+        }
 }
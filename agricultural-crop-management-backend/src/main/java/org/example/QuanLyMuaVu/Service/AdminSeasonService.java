@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.QuanLyMuaVu.DTO.Common.PageResponse;
 import org.example.QuanLyMuaVu.DTO.Request.AdminSeasonUpdateRequest;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonDetailResponse;
+import org.example.QuanLyMuaVu.DTO.Response.SeasonProgressResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonResponse;
 import org.example.QuanLyMuaVu.Entity.Farm;
 import org.example.QuanLyMuaVu.Entity.Plot;
@@ -45,6 +46,8 @@ public class AdminSeasonService {
         SeasonRepository seasonRepository;
         TaskRepository taskRepository;
         SeasonMapper seasonMapper;
+        SeasonProgressService seasonProgressService;
+        YieldModelService yieldModelService;
 
         /**
          * Get all seasons with optional filtering by farmId, cropId, plotId, and
@@ -85,11 +88,12 @@ public class AdminSeasonService {
         }
 
         /**
-         * Count pending (non-DONE) tasks for a season.
+         * Count pending (non-DONE) tasks for a season, from its progress counters.
          * Used for UX warning when completing a season.
          */
         public Long getPendingTaskCount(Integer seasonId) {
-                return taskRepository.countBySeason_IdAndStatusNot(seasonId, TaskStatus.DONE);
+                SeasonProgressResponse progress = seasonProgressService.getProgress(seasonId);
+                return (long) (progress.getTotalTasks() - progress.getDoneTasks());
         }
 
         /**
@@ -144,6 +148,7 @@ public class AdminSeasonService {
                         List<Task> pendingTasks = taskRepository.findBySeason_IdAndStatusNot(seasonId, TaskStatus.DONE);
 
                         for (Task task : pendingTasks) {
+                                seasonProgressService.taskChanged(seasonId, task.getStatus(), TaskStatus.CANCELLED);
                                 task.setStatus(TaskStatus.CANCELLED);
                                 // Append cancellation note
                                 String existingNotes = task.getNotes() != null ? task.getNotes() + "\n" : "";
@@ -158,6 +163,7 @@ public class AdminSeasonService {
                 }
 
                 Season savedSeason = seasonRepository.save(season);
+                yieldModelService.markSeasonChanged(savedSeason.getId());
                 return seasonMapper.toResponse(savedSeason);
         }
 
@@ -1,5 +1,6 @@
 package org.example.QuanLyMuaVu.Service;
 
+import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -15,23 +16,28 @@ import org.example.QuanLyMuaVu.DTO.Response.StockMovementResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplierResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplyItemResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SupplyLotResponse;
-import org.example.QuanLyMuaVu.Entity.StockMovement;
 import org.example.QuanLyMuaVu.Entity.Supplier;
 import org.example.QuanLyMuaVu.Entity.SupplyItem;
 import org.example.QuanLyMuaVu.Entity.SupplyLot;
 import org.example.QuanLyMuaVu.Enums.SupplyCategory;
 import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.Projection.StockMovementListItem;
 import org.example.QuanLyMuaVu.Repository.StockMovementRepository;
 import org.example.QuanLyMuaVu.Repository.SupplierRepository;
 import org.example.QuanLyMuaVu.Repository.SupplyItemRepository;
 import org.example.QuanLyMuaVu.Repository.SupplyLotRepository;
+import org.example.QuanLyMuaVu.Util.CursorPaging;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,10 +51,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AdminSupplierService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "id");
+
     SupplierRepository supplierRepository;
     SupplyItemRepository supplyItemRepository;
     SupplyLotRepository supplyLotRepository;
     StockMovementRepository stockMovementRepository;
+    ApproximateCountService approximateCountService;
 
     // ═══════════════════════════════════════════════════════════════
     // SUPPLIER CRUD
@@ -62,6 +71,32 @@ public class AdminSupplierService {
         return PageResponse.of(supplierPage, content);
     }
 
+    /**
+     * Variant of {@link #listSuppliers} without the count query.
+     */
+    public PageResponse<SupplierResponse> sliceSuppliers(String keyword, int page, int size,
+            boolean approximateTotal) {
+        Slice<Supplier> supplierSlice = supplierRepository.sliceByKeyword(keyword, PageRequest.of(page, size));
+        PageResponse<SupplierResponse> response = PageResponse.ofSlice(supplierSlice,
+                supplierSlice.getContent().stream().map(this::toSupplierResponse).collect(Collectors.toList()));
+        if (approximateTotal) {
+            approximateCountService.fill(response, "suppliers|" + keyword,
+                    () -> supplierRepository.countByKeyword(keyword));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor-paged variant of {@link #listSuppliers}.
+     */
+    public PageResponse<SupplierResponse> scrollSuppliers(String keyword, String cursor, int size) {
+        Specification<Supplier> spec = (root, query, cb) -> keyword == null || keyword.isBlank()
+                ? cb.conjunction()
+                : cb.like(cb.lower(root.get("name")), likePattern(keyword));
+        return CursorPaging.scroll(supplierRepository, Supplier.class, spec, NEWEST_FIRST, cursor, size,
+                this::toSupplierResponse);
+    }
+
     public SupplierResponse getSupplierById(Integer id) {
         Supplier supplier = supplierRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.SUPPLIER_NOT_FOUND));
@@ -134,6 +169,64 @@ public class AdminSupplierService {
         return PageResponse.of(itemPage, content);
     }
 
+    /**
+     * Variant of {@link #listSupplyItems} without the count query.
+     */
+    public PageResponse<SupplyItemResponse> sliceSupplyItems(String keyword, String category, Boolean restricted,
+            int page, int size, boolean approximateTotal) {
+        SupplyCategory categoryEnum = null;
+        if (category != null && !category.isBlank()) {
+            try {
+                categoryEnum = SupplyCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // ignore invalid category
+            }
+        }
+
+        Slice<SupplyItem> itemSlice = supplyItemRepository.sliceWithFilters(keyword, categoryEnum, restricted,
+                PageRequest.of(page, size));
+        PageResponse<SupplyItemResponse> response = PageResponse.ofSlice(itemSlice,
+                itemSlice.getContent().stream().map(this::toSupplyItemResponse).collect(Collectors.toList()));
+        if (approximateTotal) {
+            SupplyCategory categoryFilter = categoryEnum;
+            approximateCountService.fill(response, "supply-items|" + keyword + "|" + categoryFilter + "|" + restricted,
+                    () -> supplyItemRepository.countWithFilters(keyword, categoryFilter, restricted));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor-paged variant of {@link #listSupplyItems}.
+     */
+    public PageResponse<SupplyItemResponse> scrollSupplyItems(String keyword, String category, Boolean restricted,
+            String cursor, int size) {
+        SupplyCategory categoryEnum = null;
+        if (category != null && !category.isBlank()) {
+            try {
+                categoryEnum = SupplyCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // ignore invalid category
+            }
+        }
+
+        SupplyCategory categoryFilter = categoryEnum;
+        Specification<SupplyItem> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (keyword != null && !keyword.isBlank()) {
+                predicates.add(cb.like(cb.lower(root.get("name")), likePattern(keyword)));
+            }
+            if (categoryFilter != null) {
+                predicates.add(cb.equal(root.get("category"), categoryFilter));
+            }
+            if (restricted != null) {
+                predicates.add(cb.equal(root.get("restrictedFlag"), restricted));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return CursorPaging.scroll(supplyItemRepository, SupplyItem.class, spec, NEWEST_FIRST, cursor, size,
+                this::toSupplyItemResponse);
+    }
+
     public SupplyItemResponse getSupplyItemById(Integer id) {
         SupplyItem item = supplyItemRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.SUPPLY_ITEM_NOT_FOUND));
@@ -221,6 +314,44 @@ public class AdminSupplierService {
         return PageResponse.of(lotPage, content);
     }
 
+    /**
+     * Variant of {@link #listSupplyLots} without the count query.
+     */
+    public PageResponse<SupplyLotResponse> sliceSupplyLots(Integer supplierId, Integer itemId, String status,
+            int page, int size, boolean approximateTotal) {
+        Slice<SupplyLot> lotSlice = supplyLotRepository.sliceWithFilters(supplierId, itemId, status,
+                PageRequest.of(page, size));
+        PageResponse<SupplyLotResponse> response = PageResponse.ofSlice(lotSlice,
+                lotSlice.getContent().stream().map(this::toSupplyLotResponse).collect(Collectors.toList()));
+        if (approximateTotal) {
+            approximateCountService.fill(response, "supply-lots|" + supplierId + "|" + itemId + "|" + status,
+                    () -> supplyLotRepository.countWithFilters(supplierId, itemId, status));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor-paged variant of {@link #listSupplyLots}.
+     */
+    public PageResponse<SupplyLotResponse> scrollSupplyLots(Integer supplierId, Integer itemId, String status,
+            String cursor, int size) {
+        Specification<SupplyLot> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (supplierId != null) {
+                predicates.add(cb.equal(root.get("supplier").get("id"), supplierId));
+            }
+            if (itemId != null) {
+                predicates.add(cb.equal(root.get("supplyItem").get("id"), itemId));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return CursorPaging.scroll(supplyLotRepository, SupplyLot.class, spec, NEWEST_FIRST, cursor, size,
+                this::toSupplyLotResponse);
+    }
+
     public SupplyLotResponse getSupplyLotById(Integer id) {
         SupplyLot lot = supplyLotRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.SUPPLY_LOT_NOT_FOUND));
@@ -307,11 +438,12 @@ public class AdminSupplierService {
     // ═══════════════════════════════════════════════════════════════
 
     public PageResponse<StockMovementResponse> getLotMovements(Integer lotId, int page, int size) {
-        SupplyLot lot = supplyLotRepository.findById(lotId)
-                .orElseThrow(() -> new AppException(ErrorCode.SUPPLY_LOT_NOT_FOUND));
+        if (!supplyLotRepository.existsById(lotId)) {
+            throw new AppException(ErrorCode.SUPPLY_LOT_NOT_FOUND);
+        }
 
-        Page<StockMovement> movementPage = stockMovementRepository
-                .findBySupplyLotOrderByMovementDateDesc(lot, PageRequest.of(page, size));
+        Page<StockMovementListItem> movementPage = stockMovementRepository
+                .findListItemsBySupplyLot(lotId, PageRequest.of(page, size));
 
         List<StockMovementResponse> content = movementPage.getContent().stream()
                 .map(this::toMovementResponse)
@@ -375,30 +507,33 @@ public class AdminSupplierService {
                 .build();
     }
 
-    private StockMovementResponse toMovementResponse(StockMovement m) {
-        String locationName = null;
-        if (m.getLocation() != null) {
-            var loc = m.getLocation();
-            locationName = String.join("-",
-                    loc.getZone() != null ? loc.getZone() : "",
-                    loc.getAisle() != null ? loc.getAisle() : "",
-                    loc.getShelf() != null ? loc.getShelf() : "",
-                    loc.getBin() != null ? loc.getBin() : "").replaceAll("^-+|-+$", "").replaceAll("-+", "-");
-            if (locationName.isEmpty()) {
-                locationName = "Location #" + loc.getId();
-            }
-        }
-
+    private StockMovementResponse toMovementResponse(StockMovementListItem m) {
         return StockMovementResponse.builder()
-                .id(m.getId())
-                .movementType(m.getMovementType() != null ? m.getMovementType().name() : null)
-                .quantity(m.getQuantity())
-                .movementDate(m.getMovementDate())
-                .note(m.getNote())
-                .warehouseId(m.getWarehouse() != null ? m.getWarehouse().getId() : null)
-                .warehouseName(m.getWarehouse() != null ? m.getWarehouse().getName() : null)
-                .locationId(m.getLocation() != null ? m.getLocation().getId() : null)
-                .locationName(locationName)
+                .id(m.id())
+                .movementType(m.movementType() != null ? m.movementType().name() : null)
+                .quantity(m.quantity())
+                .movementDate(m.movementDate())
+                .note(m.note())
+                .warehouseId(m.warehouseId())
+                .warehouseName(m.warehouseName())
+                .locationId(m.locationId())
+                .locationName(m.locationId() != null
+                        ? locationName(m.locationId(), m.locationZone(), m.locationAisle(), m.locationShelf(),
+                                m.locationBin())
+                        : null)
                 .build();
     }
+
+    private static String locationName(Integer id, String zone, String aisle, String shelf, String bin) {
+        String name = String.join("-",
+                zone != null ? zone : "",
+                aisle != null ? aisle : "",
+                shelf != null ? shelf : "",
+                bin != null ? bin : "").replaceAll("^-+|-+$", "").replaceAll("-+", "-");
+        return name.isEmpty() ? "Location #" + id : name;
+    }
+
+    private static String likePattern(String keyword) {
+        return "%" + keyword.trim().toLowerCase() + "%";
+    }
 }
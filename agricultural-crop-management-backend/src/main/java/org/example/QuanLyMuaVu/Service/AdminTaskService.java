@@ -20,9 +20,11 @@ import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Repository.TaskRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
+import org.example.QuanLyMuaVu.Util.CursorPaging;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,6 +44,7 @@ public class AdminTaskService {
 
     TaskRepository taskRepository;
     UserRepository userRepository;
+    SeasonProgressService seasonProgressService;
 
     /**
      * Get all tasks with optional filtering by farmId, cropId, seasonId, and
@@ -69,6 +72,21 @@ public class AdminTaskService {
         return PageResponse.of(taskPage, content);
     }
 
+    /**
+     * Cursor-paged variant of {@link #getAllTasks}: newest tasks first, no count
+     * query.
+     */
+    public PageResponse<TaskResponse> scrollAllTasks(
+            Integer farmId,
+            Integer cropId,
+            Integer seasonId,
+            String status,
+            String cursor,
+            int size) {
+        return CursorPaging.scroll(taskRepository, Task.class, buildTaskSpecification(farmId, cropId, seasonId, status),
+                Sort.by(Sort.Direction.DESC, "id"), cursor, size, this::toTaskResponse);
+    }
+
     /**
      * Get task detail by ID.
      */
@@ -115,6 +133,7 @@ public class AdminTaskService {
 
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new AppException(ErrorCode.TASK_NOT_FOUND));
+        TaskStatus previousStatus = task.getStatus();
 
         // Handle status update
         if (request.getStatus() != null) {
@@ -159,6 +178,9 @@ public class AdminTaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        if (savedTask.getSeason() != null) {
+            seasonProgressService.taskChanged(savedTask.getSeason().getId(), previousStatus, savedTask.getStatus());
+        }
         return toTaskResponse(savedTask);
     }
 
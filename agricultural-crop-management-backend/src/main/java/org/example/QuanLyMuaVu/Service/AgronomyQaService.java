@@ -0,0 +1,221 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.DTO.Response.AgronomyAnswerResponse;
+import org.example.QuanLyMuaVu.Entity.Document;
+import org.example.QuanLyMuaVu.Enums.DocumentStatus;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Repository.DocumentRepository;
+import org.example.QuanLyMuaVu.Util.TextUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Agronomy Q&A over the document library.
+ * <p>
+ * Active documents are split into passages of about
+ * {@code app.qa.passage-words} words (title, description and, for uploaded
+ * text files, the file itself) and kept in a {@link PassageIndex}. A question
+ * retrieves the best passages with BM25 and the {@link AnswerGenerator} turns
+ * them into an answer. The index is built at startup and updated after each
+ * committed document write, so answering never touches the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AgronomyQaService {
+
+    static final int MAX_PASSAGES = 20;
+    private static final Set<String> TEXT_EXTENSIONS = Set.of("txt", "md", "csv");
+
+    DocumentRepository documentRepository;
+    DocumentContentStore documentContentStore;
+    AnswerGenerator answerGenerator;
+    ExtractiveAnswerGenerator extractiveAnswerGenerator;
+    AppProperties appProperties;
+
+    PassageIndex index = new PassageIndex();
+
+    /**
+     * Reloads the passage index; documents committed while it reads are
+     * replayed on top of the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        index.rebuild(() -> documentRepository.findByStatus(DocumentStatus.ACTIVE).stream()
+                .map(this::toSource)
+                .toList());
+        log.info("Q&A passage index built: {} documents, {} passages in {} ms",
+                index.documentCount(), index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * @param limit passages to retrieve, {@code app.qa.top-k} when null
+     */
+    public AgronomyAnswerResponse answer(String question, Integer limit) {
+        long startedAt = System.nanoTime();
+        int topK = Math.max(1, Math.min(limit != null ? limit : appProperties.getQa().getTopK(), MAX_PASSAGES));
+        List<PassageIndex.Hit> hits = index.search(question, topK);
+
+        AnswerGenerator generator = answerGenerator;
+        String answer;
+        try {
+            answer = generator.generate(question, hits);
+        } catch (RuntimeException e) {
+            if (generator == extractiveAnswerGenerator) {
+                throw e;
+            }
+            log.warn("Answer generator {} failed, answering extractively: {}", generator.name(), e.getMessage());
+            generator = extractiveAnswerGenerator;
+            answer = generator.generate(question, hits);
+        }
+        log.debug("Answered question from {} passages with {} in {} us", hits.size(), generator.name(),
+                (System.nanoTime() - startedAt) / 1000);
+
+        return AgronomyAnswerResponse.builder()
+                .question(question)
+                .answer(answer)
+                .generator(generator.name())
+                .sources(hits.stream()
+                        .map(hit -> AgronomyAnswerResponse.Source.builder()
+                                .documentId(hit.documentId())
+                                .title(hit.title())
+                                .documentUrl(hit.documentUrl())
+                                .passage(hit.text())
+                                .score(Math.round(hit.score() * 10_000) / 10_000.0)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Re-indexes the document once the surrounding transaction commits; an
+     * inactive document is dropped.
+     */
+    public void indexAfterCommit(Document document) {
+        afterCommit(() -> {
+            if (document.getStatus() == DocumentStatus.ACTIVE) {
+                index.put(toSource(document));
+            } else {
+                index.remove(document.getId());
+            }
+        });
+    }
+
+    /**
+     * Drops the document from the index once the surrounding transaction commits.
+     */
+    public void removeAfterCommit(Long documentId) {
+        afterCommit(() -> index.remove(documentId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private PassageIndex.Source toSource(Document document) {
+        String text = join(document.getDescription(), readStoredText(document));
+        List<String> passages = splitPassages(text, appProperties.getQa().getPassageWords());
+        if (passages.isEmpty() && document.getTitle() != null && !document.getTitle().isBlank()) {
+            passages = List.of(document.getTitle().trim());
+        }
+        return new PassageIndex.Source(document.getId(), document.getTitle(), document.getDocumentUrl(), passages);
+    }
+
+    /**
+     * Leading part of an uploaded plain-text file; other formats are not
+     * read.
+     */
+    private String readStoredText(Document document) {
+        if (document.getContentHash() == null || !isPlainText(document)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(documentContentStore.resolve(document.getContentHash()))) {
+            // A character cut at the limit decodes to a replacement character
+            return new String(in.readNBytes(appProperties.getQa().getMaxTextBytes()), StandardCharsets.UTF_8);
+        } catch (IOException | AppException e) {
+            log.warn("Could not read file of document {} for Q&A: {}", document.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isPlainText(Document document) {
+        String contentType = document.getContentType();
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/")) {
+            return true;
+        }
+        String filename = document.getOriginalFilename();
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        return dot >= 0 && TEXT_EXTENSIONS.contains(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static String join(String first, String second) {
+        if (first == null || first.isBlank()) {
+            return second;
+        }
+        return second == null || second.isBlank() ? first : first + "\n\n" + second;
+    }
+
+    /**
+     * Groups whole sentences into passages of at most {@code maxWords} words;
+     * a longer sentence is cut into {@code maxWords}-word pieces.
+     */
+    static List<String> splitPassages(String text, int maxWords) {
+        int limit = Math.max(1, maxWords);
+        List<String> passages = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int words = 0;
+        for (String sentence : TextUtils.sentences(text)) {
+            String[] sentenceWords = sentence.split(" ");
+            if (words > 0 && words + sentenceWords.length > limit) {
+                passages.add(current.toString());
+                current.setLength(0);
+                words = 0;
+            }
+            if (sentenceWords.length > limit) {
+                for (int from = 0; from < sentenceWords.length; from += limit) {
+                    passages.add(String.join(" ",
+                            Arrays.copyOfRange(sentenceWords, from, Math.min(from + limit, sentenceWords.length))));
+                }
+                continue;
+            }
+            if (words > 0) {
+                current.append(' ');
+            }
+            current.append(sentence);
+            words += sentenceWords.length;
+        }
+        if (words > 0) {
+            passages.add(current.toString());
+        }
+        return passages;
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.QuanLyMuaVu.Service;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Util.CircuitBreaker;
+import org.example.QuanLyMuaVu.Util.TextUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Non-blocking client for the AI service at {@code app.ai.base-url}.
+ * <p>
+ * Calls share a bounded connection pool and are limited by
+ * {@code app.ai.call-timeout}. At most {@code app.ai.max-concurrent-calls}
+ * are in flight (a bulkhead, so a slow service cannot tie up the pool), and
+ * a {@link CircuitBreaker} stops calling after repeated failures. Whenever
+ * the service is not configured, rejected, failing or slow, the answer comes
+ * from the local heuristics instead, so callers never see an error. Remote
+ * answers are cached per (crop, soil, season) in the {@value #CACHE_NAME}
+ * cache.
+ */
+@Slf4j
+@Service
+public class AiBackendClient implements DisposableBean {
+
+    static final String CACHE_NAME = "ai-suggestions";
+    static final String SUGGESTIONS_PATH = "/suggestions";
+
+    /** Local heuristics, used whenever the remote service does not answer. */
+    static final List<String> LOCAL_SUGGESTIONS = List.of(
+            "Use drip irrigation to optimize water",
+            "Apply NPK 16-16-8 at early growth");
+
+    private final boolean enabled;
+    private final Duration callTimeout;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache cache;
+
+    public AiBackendClient(AppProperties appProperties, WebClient.Builder webClientBuilder,
+            CacheManager cacheManager) {
+        AppProperties.Ai config = appProperties.getAi();
+        this.enabled = config.getBaseUrl() != null && !config.getBaseUrl().isBlank();
+        this.callTimeout = config.getCallTimeout();
+        this.bulkhead = new Semaphore(Math.max(1, config.getMaxConcurrentCalls()));
+        this.circuitBreaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDuration());
+        this.cache = cacheManager.getCache(CACHE_NAME);
+
+        this.connectionProvider = ConnectionProvider.builder("ai-backend")
+                .maxConnections(Math.max(1, config.getMaxConnections()))
+                .pendingAcquireTimeout(config.getCallTimeout())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofMinutes(1))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis())
+                .responseTimeout(config.getCallTimeout());
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (enabled) {
+            builder.baseUrl(config.getBaseUrl().trim());
+        }
+        this.webClient = builder.build();
+    }
+
+    /**
+     * @param source {@code ai}, {@code cache} or {@code local}
+     */
+    public record Suggestions(List<String> suggestions, String source) {
+    }
+
+    record SuggestionRequest(String crop, String soil, String season) {
+    }
+
+    record SuggestionReply(List<String> suggestions) {
+    }
+
+    public Mono<Suggestions> suggestions(String crop, String soil, String season) {
+        Suggestions local = new Suggestions(LOCAL_SUGGESTIONS, "local");
+        if (!enabled) {
+            return Mono.just(local);
+        }
+        SuggestionRequest request = new SuggestionRequest(crop, soil, season);
+        // Deferred, so each subscription takes its own permits and releases them itself
+        return Mono.defer(() -> call(request, local));
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Mono<Suggestions> call(SuggestionRequest request, Suggestions local) {
+        String key = cacheKey(request.crop(), request.soil(), request.season());
+        Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+        if (cached != null && cached.get() instanceof List<?> list) {
+            @SuppressWarnings("unchecked")
+            List<String> suggestions = (List<String>) list;
+            return Mono.just(new Suggestions(suggestions, "cache"));
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            log.debug("AI service bulkhead full, answering locally");
+            return Mono.just(local);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            return Mono.just(local);
+        }
+
+        return webClient.post()
+                .uri(SUGGESTIONS_PATH)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(SuggestionReply.class)
+                .timeout(callTimeout)
+                .filter(reply -> reply.suggestions() != null && !reply.suggestions().isEmpty())
+                .map(reply -> {
+                    circuitBreaker.onSuccess();
+                    List<String> suggestions = List.copyOf(reply.suggestions());
+                    if (cache != null) {
+                        cache.put(key, suggestions);
+                    }
+                    return new Suggestions(suggestions, "ai");
+                })
+                .doOnError(this::recordFailure)
+                .doFinally(signal -> {
+                    bulkhead.release();
+                    if (signal != SignalType.ON_ERROR) {
+                        // Empty replies and abandoned calls neither close nor open the circuit
+                        circuitBreaker.release();
+                    }
+                })
+                .onErrorResume(e -> Mono.just(local))
+                .defaultIfEmpty(local);
+    }
+
+    private void recordFailure(Throwable error) {
+        if (error instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            // The service answered; the request was at fault, not the service
+            circuitBreaker.onSuccess();
+            log.warn("AI service rejected the request: {}", response.getStatusCode());
+            return;
+        }
+        circuitBreaker.onFailure();
+        log.warn("AI service call failed, answering locally (circuit {}): {}", circuitBreaker.getState(),
+                error.toString());
+    }
+
+    private static String cacheKey(String crop, String soil, String season) {
+        return TextUtils.fold(crop) + "|" + TextUtils.fold(soil) + "|" + TextUtils.fold(season);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+}
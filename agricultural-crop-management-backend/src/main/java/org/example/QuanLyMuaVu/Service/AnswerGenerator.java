@@ -0,0 +1,24 @@
+package org.example.QuanLyMuaVu.Service;
+
+import java.util.List;
+
+/**
+ * Turns the passages retrieved for a question into an answer.
+ * <p>
+ * {@link ExtractiveAnswerGenerator} is the default. A generative backend is
+ * plugged in by registering another implementation as a {@code @Primary}
+ * bean; {@link AgronomyQaService} falls back to the extractive answer when it
+ * fails.
+ */
+public interface AnswerGenerator {
+
+    /**
+     * Short name reported with each answer, e.g. {@code extractive}.
+     */
+    String name();
+
+    /**
+     * @param passages retrieved passages, best match first; may be empty
+     */
+    String generate(String question, List<PassageIndex.Hit> passages);
+}
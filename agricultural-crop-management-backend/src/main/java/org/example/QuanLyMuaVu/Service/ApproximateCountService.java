@@ -0,0 +1,83 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Common.PageResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached row counts for list screens that do not need an exact total.
+ * <p>
+ * A count is served from the {@value #CACHE_NAME} cache and recomputed on the
+ * async executor once it is older than {@link #REFRESH_AFTER}; the request
+ * never waits for it. Until the first count finishes the total is missing and
+ * flagged stale. Entries expire after the cache TTL, so filters nobody looks at
+ * any more are not kept.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ApproximateCountService {
+
+    static final String CACHE_NAME = "row-counts";
+    static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+
+    CacheManager cacheManager;
+    TaskExecutor taskExecutor;
+
+    Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    record Snapshot(long count, Instant countedAt) {
+    }
+
+    /**
+     * Sets {@code approximateTotal} and {@code totalStale} on the response.
+     *
+     * @param key     identifies the list and its filters, e.g. {@code "farms|rice|true"}
+     * @param counter exact count query, only ever run in the background
+     */
+    public void fill(PageResponse<?> response, String key, LongSupplier counter) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Snapshot snapshot = cache.get(key, Snapshot.class);
+        boolean stale = snapshot == null || snapshot.countedAt().plus(REFRESH_AFTER).isBefore(Instant.now());
+        if (stale) {
+            refreshAsync(cache, key, counter);
+        }
+        response.setApproximateTotal(snapshot != null ? snapshot.count() : null);
+        response.setTotalStale(stale);
+    }
+
+    private void refreshAsync(Cache cache, String key, LongSupplier counter) {
+        // One refresh per key at a time, however many requests see it stale
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    cache.put(key, new Snapshot(counter.getAsLong(), Instant.now()));
+                } catch (RuntimeException e) {
+                    log.warn("Could not refresh row count {}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(key);
+            log.debug("Row count refresh for {} rejected, executor is busy", key);
+        }
+    }
+}
@@ -27,12 +27,14 @@ public class CropService {
     CropMapper cropMapper;
     SeasonRepository seasonRepository;
     VarietyRepository varietyRepository;
+    ReferenceDataVersionService referenceDataVersionService;
 
     public CropResponse create(CropRequest request) {
         if (cropRepository.existsByCropNameIgnoreCase(request.getCropName())) {
             throw new AppException(ErrorCode.DUPLICATE_RESOURCE);
         }
         Crop crop = cropMapper.toEntity(request);
+        referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.CROPS);
         return cropMapper.toResponse(cropRepository.save(crop));
     }
 
@@ -56,6 +58,9 @@ public class CropService {
         }
 
         cropMapper.update(crop, request);
+        // Variety responses embed the crop name
+        referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.CROPS,
+                ReferenceDataVersionService.Table.VARIETIES);
         return cropMapper.toResponse(cropRepository.save(crop));
     }
 
@@ -76,6 +81,7 @@ public class CropService {
         // Try delete with fallback for race condition
         try {
             cropRepository.delete(crop);
+            referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.CROPS);
         } catch (DataIntegrityViolationException e) {
             throw new AppException(ErrorCode.CROP_HAS_SEASONS);
         }
@@ -0,0 +1,721 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Constant.PredefinedRole;
+import org.example.QuanLyMuaVu.Entity.Crop;
+import org.example.QuanLyMuaVu.Entity.Role;
+import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Entity.Variety;
+import org.example.QuanLyMuaVu.Enums.IncidentSeverity;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Enums.SeasonStatus;
+import org.example.QuanLyMuaVu.Enums.StockMovementType;
+import org.example.QuanLyMuaVu.Enums.SupplyCategory;
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+import org.example.QuanLyMuaVu.Enums.UserStatus;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.RoleRepository;
+import org.example.QuanLyMuaVu.Repository.VarietyRepository;
+import org.example.QuanLyMuaVu.Repository.WardRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a synthetic, production-shaped dataset directly through JDBC batch
+ * inserts so report, dashboard and pagination performance can be measured
+ * locally at multi-million row scale.
+ * <p>
+ * Only active under the {@code datagen} profile. Farm sizes follow a bounded
+ * Pareto distribution, so a handful of farms carry up to
+ * {@code app.datagen.max-farm-scale} times the plots, seasons and stock
+ * movements of a typical farm. Ids are assigned explicitly and contiguously per
+ * farm, which lets child rows reference parents without reading generated keys
+ * back.
+ */
+@Slf4j
+@Service
+@Profile("datagen")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DatasetGeneratorService {
+
+    static final String SYNTHETIC_PASSWORD = "12345678";
+
+    static final String[] SOIL_TYPES = { "Phu sa", "Dat do bazan", "Dat xam", "Dat cat", "Dat set", "Dat phen" };
+    static final String[] TASK_TITLES = { "Lam dat", "Gieo hat", "Tuoi nuoc", "Bon phan", "Lam co", "Phun thuoc",
+            "Tia canh", "Kiem tra sau benh", "Thu hoach", "Ve sinh dong ruong" };
+    static final String[] LOG_TYPES = { "WEATHER", "PEST_OBSERVATION", "IRRIGATION", "FERTILIZING", "NOTE" };
+    static final String[] EXPENSE_ITEMS = { "Phan NPK", "Giong", "Thuoc tru sau", "Nhan cong", "Xang dau",
+            "Nuoc tuoi", "Thue may" };
+    static final String[] INCIDENT_TYPES = { "PEST", "DISEASE", "WEATHER", "FLOOD", "DROUGHT", "EQUIPMENT" };
+    static final String[][] DEFAULT_CROPS = {
+            { "Lua", "IR50404", "OM5451", "ST25" },
+            { "Ngo", "LVN10", "NK7328", "CP888" },
+            { "Ca phe", "Robusta TR4", "Arabica Catimor", "TRS1" },
+            { "Ho tieu", "Vinh Linh", "Loc Ninh", "Phu Quoc" },
+            { "Sau rieng", "Ri6", "Monthong", "Musang King" },
+            { "Thanh long", "Ruot trang", "Ruot do", "Ruot vang" },
+            { "Rau muong", "Rau muong hat", "Rau muong nuoc", "Rau muong la tre" },
+            { "Khoai lang", "Khoai lang tim", "Khoai lang Nhat", "Khoai lang mat" }
+    };
+
+    static final String SQL_USER = "insert into users (user_id, user_name, email, phone, full_name, password_hash, "
+            + "status, province_id, ward_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_USER_ROLE = "insert into user_roles (user_id, role_id) values (?, ?)";
+    static final String SQL_SUPPLIER = "insert into suppliers (id, name, license_no, contact_email, contact_phone) "
+            + "values (?, ?, ?, ?, ?)";
+    static final String SQL_SUPPLY_ITEM = "insert into supply_items (id, name, category, active_ingredient, unit, "
+            + "restricted_flag, description) values (?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_SUPPLY_LOT = "insert into supply_lots (id, supply_item_id, supplier_id, batch_code, "
+            + "expiry_date, status) values (?, ?, ?, ?, ?, ?)";
+    static final String SQL_FARM = "insert into farms (farm_id, owner_id, farm_name, province_id, ward_id, area, "
+            + "active) values (?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_WAREHOUSE = "insert into warehouses (id, farm_id, name, type, province_id, ward_id) "
+            + "values (?, ?, ?, ?, ?, ?)";
+    static final String SQL_PLOT = "insert into plots (plot_id, created_by, farm_id, plot_name, area, soil_type, "
+            + "status, province_id, ward_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_SEASON = "insert into seasons (season_id, season_name, plot_id, crop_id, variety_id, "
+            + "start_date, planned_harvest_date, end_date, status, initial_plant_count, current_plant_count, "
+            + "expected_yield_kg, actual_yield_kg, notes, created_at, effective_end_date) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_TASK = "insert into tasks (task_id, user_id, season_id, title, description, "
+            + "planned_date, due_date, status, actual_start_date, actual_end_date, notes, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_FIELD_LOG = "insert into field_logs (field_log_id, season_id, log_date, log_type, "
+            + "notes, created_at) values (?, ?, ?, ?, ?, ?)";
+    static final String SQL_EXPENSE = "insert into expenses (expense_id, user_id, season_id, item_name, unit_price, "
+            + "quantity, total_cost, expense_date, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_HARVEST = "insert into harvests (harvest_id, season_id, harvest_date, quantity, unit, "
+            + "note, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_INCIDENT = "insert into incidents (id, season_id, reported_by, incident_type, severity, "
+            + "description, status, deadline, version, resolved_at, resolved_by, resolution_note, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SQL_STOCK_MOVEMENT = "insert into stock_movements (id, supply_lot_id, warehouse_id, "
+            + "movement_type, quantity, movement_date, season_id, note) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    JdbcTemplate jdbcTemplate;
+    RoleRepository roleRepository;
+    CropRepository cropRepository;
+    VarietyRepository varietyRepository;
+    WardRepository wardRepository;
+    AddressImportService addressImportService;
+    PasswordEncoder passwordEncoder;
+    AppProperties appProperties;
+
+    /**
+     * Generates the whole dataset using the sizes configured under
+     * {@code app.datagen.*}. Rows are appended after the current maximum id of
+     * every table, so the generator can be run on top of existing data.
+     */
+    public void generate() {
+        AppProperties.DataGen cfg = appProperties.getDatagen();
+        long startedAt = System.currentTimeMillis();
+        log.info("Starting synthetic dataset generation: users={}, farms={}, plotsPerFarm={}, seasonsPerPlot={}",
+                cfg.getUsers(), cfg.getFarms(), cfg.getPlotsPerFarm(), cfg.getSeasonsPerPlot());
+
+        // Farms need provinces/wards; the regular startup import may not have run yet
+        addressImportService.importOnStartupIfEmpty();
+        List<WardRepository.WardProvinceRef> wards = wardRepository.findAllWardProvinceRefs();
+        if (wards.isEmpty()) {
+            throw new IllegalStateException("Address data is missing; import loc.sql before generating data");
+        }
+
+        GenerationContext ctx = new GenerationContext(cfg, wards, loadCropVarieties());
+        BatchWriter writer = new BatchWriter(cfg.getBatchSize());
+
+        generateUsers(ctx, writer);
+        generateSupplyCatalog(ctx, writer);
+        generateFarms(ctx, writer);
+        writer.flushAll();
+
+        if (isH2()) {
+            restartH2Identities(ctx);
+        }
+
+        log.info("Synthetic dataset generated in {} ms: {}", System.currentTimeMillis() - startedAt,
+                writer.getCounts());
+    }
+
+    // ==================== REFERENCE DATA ====================
+
+    private List<int[]> loadCropVarieties() {
+        if (cropRepository.count() == 0) {
+            for (String[] def : DEFAULT_CROPS) {
+                Crop crop = cropRepository.save(Crop.builder()
+                        .cropName(def[0])
+                        .description("Synthetic crop")
+                        .build());
+                for (int i = 1; i < def.length; i++) {
+                    varietyRepository.save(Variety.builder()
+                            .crop(crop)
+                            .name(def[i])
+                            .build());
+                }
+            }
+        }
+
+        // Each entry is {cropId, varietyId}; varietyId 0 means "no variety"
+        List<int[]> pairs = new ArrayList<>();
+        for (Crop crop : cropRepository.findAll()) {
+            List<Variety> varieties = varietyRepository.findAllByCrop(crop);
+            if (varieties.isEmpty()) {
+                pairs.add(new int[] { crop.getId(), 0 });
+            }
+            for (Variety variety : varieties) {
+                pairs.add(new int[] { crop.getId(), variety.getId() });
+            }
+        }
+        return pairs;
+    }
+
+    private Long farmerRoleId() {
+        return roleRepository.findByCode(PredefinedRole.FARMER_ROLE)
+                .orElseGet(() -> roleRepository.save(Role.builder()
+                        .code(PredefinedRole.FARMER_ROLE)
+                        .name("Farmer")
+                        .description("Farmer user")
+                        .build()))
+                .getId();
+    }
+
+    // ==================== USERS ====================
+
+    private void generateUsers(GenerationContext ctx, BatchWriter writer) {
+        Long roleId = farmerRoleId();
+        // Hashing once keeps generation fast; every synthetic farmer shares the password
+        String passwordHash = passwordEncoder.encode(SYNTHETIC_PASSWORD);
+
+        for (int i = 0; i < ctx.cfg.getUsers(); i++) {
+            long userId = ctx.firstUserId + i;
+            WardRepository.WardProvinceRef ward = ctx.randomWard();
+            writer.add(SQL_USER, new Object[] {
+                    userId,
+                    "farmer_" + userId,
+                    "farmer_" + userId + "@datagen.local",
+                    String.format("09%08d", userId % 100_000_000L),
+                    "Nong dan " + userId,
+                    passwordHash,
+                    UserStatus.ACTIVE.name(),
+                    ward.getProvinceId(),
+                    ward.getWardId()
+            });
+            writer.add(SQL_USER_ROLE, new Object[] { userId, roleId });
+        }
+    }
+
+    // ==================== SUPPLY CATALOG ====================
+
+    private void generateSupplyCatalog(GenerationContext ctx, BatchWriter writer) {
+        Random random = ctx.random;
+        SupplyCategory[] categories = SupplyCategory.values();
+
+        for (int i = 0; i < ctx.cfg.getSuppliers(); i++) {
+            long id = ctx.firstSupplierId + i;
+            writer.add(SQL_SUPPLIER, new Object[] {
+                    id,
+                    "Nha cung cap " + id,
+                    random.nextInt(4) == 0 ? null : "GP-" + id,
+                    "supplier" + id + "@datagen.local",
+                    String.format("028%07d", id % 10_000_000L)
+            });
+        }
+
+        for (int i = 0; i < ctx.cfg.getSupplyItems(); i++) {
+            long id = ctx.firstSupplyItemId + i;
+            SupplyCategory category = categories[random.nextInt(categories.length)];
+            writer.add(SQL_SUPPLY_ITEM, new Object[] {
+                    id,
+                    category.name() + " " + id,
+                    category.name(),
+                    category == SupplyCategory.PESTICIDE ? "Hoat chat " + (id % 50) : null,
+                    category == SupplyCategory.TOOL ? "cai" : "kg",
+                    category == SupplyCategory.PESTICIDE && random.nextInt(5) == 0,
+                    "Synthetic supply item"
+            });
+        }
+
+        for (int i = 0; i < ctx.cfg.getSupplyLots(); i++) {
+            long id = ctx.firstSupplyLotId + i;
+            writer.add(SQL_SUPPLY_LOT, new Object[] {
+                    id,
+                    ctx.firstSupplyItemId + random.nextInt(Math.max(1, ctx.cfg.getSupplyItems())),
+                    ctx.firstSupplierId + random.nextInt(Math.max(1, ctx.cfg.getSuppliers())),
+                    "LOT-" + id,
+                    ctx.today.plusDays(random.nextInt(900) - 180L),
+                    "IN_STOCK"
+            });
+        }
+    }
+
+    // ==================== FARMS AND EVERYTHING BELOW ====================
+
+    private void generateFarms(GenerationContext ctx, BatchWriter writer) {
+        double[] scales = ctx.farmScales();
+        int logEvery = Math.max(1, ctx.cfg.getFarms() / 20);
+
+        for (int i = 0; i < ctx.cfg.getFarms(); i++) {
+            generateFarm(ctx, writer, ctx.firstFarmId + i, scales[i]);
+            if ((i + 1) % logEvery == 0) {
+                log.info("Generated {}/{} farms: {}", i + 1, ctx.cfg.getFarms(), writer.getCounts());
+            }
+        }
+    }
+
+    private void generateFarm(GenerationContext ctx, BatchWriter writer, long farmId, double scale) {
+        Random random = ctx.random;
+        long ownerId = ctx.firstUserId + random.nextInt(Math.max(1, ctx.cfg.getUsers()));
+        WardRepository.WardProvinceRef ward = ctx.randomWard();
+        int plotCount = Math.max(1, (int) Math.round(ctx.cfg.getPlotsPerFarm() * scale));
+
+        BigDecimal farmArea = BigDecimal.ZERO;
+        List<Object[]> plotRows = new ArrayList<>(plotCount);
+        long firstSeasonId = ctx.nextSeasonId;
+
+        for (int p = 0; p < plotCount; p++) {
+            long plotId = ctx.nextPlotId++;
+            BigDecimal area = BigDecimal.valueOf(500 + random.nextInt(20_000));
+            farmArea = farmArea.add(area);
+            LocalDateTime createdAt = ctx.windowStart.minusDays(random.nextInt(365)).atTime(8, 0);
+            plotRows.add(new Object[] {
+                    plotId,
+                    ownerId,
+                    farmId,
+                    "Thua " + plotId,
+                    area,
+                    SOIL_TYPES[random.nextInt(SOIL_TYPES.length)],
+                    "IN_USE",
+                    ward.getProvinceId(),
+                    ward.getWardId(),
+                    createdAt,
+                    createdAt
+            });
+        }
+
+        // Parents are queued before children so a flush never violates a foreign key
+        writer.add(SQL_FARM, new Object[] {
+                farmId,
+                ownerId,
+                "Trang trai " + farmId,
+                ward.getProvinceId(),
+                ward.getWardId(),
+                farmArea,
+                true
+        });
+        long warehouseId = farmId - ctx.firstFarmId + ctx.firstWarehouseId;
+        writer.add(SQL_WAREHOUSE, new Object[] {
+                warehouseId,
+                farmId,
+                "Kho " + farmId,
+                "MAIN",
+                ward.getProvinceId(),
+                ward.getWardId()
+        });
+        for (Object[] plotRow : plotRows) {
+            writer.add(SQL_PLOT, plotRow);
+            generateSeasons(ctx, writer, (Long) plotRow[0], ownerId, (BigDecimal) plotRow[4]);
+        }
+
+        generateStockMovements(ctx, writer, warehouseId, scale, firstSeasonId, ctx.nextSeasonId);
+    }
+
+    private void generateSeasons(GenerationContext ctx, BatchWriter writer, long plotId, long ownerId,
+            BigDecimal plotArea) {
+        Random random = ctx.random;
+        int seasonCount = Math.max(1, ctx.cfg.getSeasonsPerPlot());
+        // Consecutive, non-overlapping seasons spread from windowStart to a bit past today
+        long windowDays = ChronoUnit.DAYS.between(ctx.windowStart, ctx.today) + 180;
+        long cycle = Math.max(100, windowDays / seasonCount);
+        LocalDate cursor = ctx.windowStart.plusDays(random.nextInt(30));
+
+        for (int s = 0; s < seasonCount; s++) {
+            long seasonId = ctx.nextSeasonId++;
+            int[] cropVariety = ctx.cropVarieties.get(random.nextInt(ctx.cropVarieties.size()));
+            LocalDate start = cursor;
+            LocalDate plannedHarvest = start.plusDays(80 + random.nextInt((int) Math.max(1, cycle - 90)));
+            cursor = start.plusDays(cycle);
+
+            SeasonStatus status;
+            if (start.isAfter(ctx.today)) {
+                status = SeasonStatus.PLANNED;
+            } else if (plannedHarvest.isBefore(ctx.today)) {
+                status = random.nextInt(20) == 0 ? SeasonStatus.CANCELLED : SeasonStatus.COMPLETED;
+            } else {
+                status = SeasonStatus.ACTIVE;
+            }
+
+            int plantCount = plotArea.intValue() * (2 + random.nextInt(4));
+            BigDecimal expectedYield = plotArea.multiply(BigDecimal.valueOf(0.3 + random.nextDouble() * 0.9))
+                    .setScale(2, RoundingMode.HALF_UP);
+            LocalDate endDate = null;
+            BigDecimal actualYield = null;
+
+            List<Object[]> harvestRows = new ArrayList<>();
+            if (status == SeasonStatus.COMPLETED) {
+                endDate = plannedHarvest.plusDays(random.nextInt(10));
+                actualYield = generateHarvests(ctx, seasonId, plannedHarvest, endDate, expectedYield, harvestRows);
+            } else if (status == SeasonStatus.CANCELLED) {
+                endDate = start.plusDays(random.nextInt(60));
+            }
+
+            writer.add(SQL_SEASON, new Object[] {
+                    seasonId,
+                    "Vu " + start.getYear() + "-" + (s + 1) + " thua " + plotId,
+                    plotId,
+                    cropVariety[0],
+                    cropVariety[1] == 0 ? null : cropVariety[1],
+                    start,
+                    plannedHarvest,
+                    endDate,
+                    status.name(),
+                    plantCount,
+                    plantCount - random.nextInt(Math.max(1, plantCount / 10)),
+                    expectedYield,
+                    actualYield,
+                    null,
+                    start.minusDays(random.nextInt(30)).atTime(9, 0),
+                    Season.effectiveEndOf(endDate, plannedHarvest)
+            });
+            harvestRows.forEach(row -> writer.add(SQL_HARVEST, row));
+
+            generateSeasonActivity(ctx, writer, seasonId, ownerId, status, start, plannedHarvest);
+        }
+    }
+
+    private BigDecimal generateHarvests(GenerationContext ctx, long seasonId, LocalDate plannedHarvest,
+            LocalDate endDate, BigDecimal expectedYield, List<Object[]> rows) {
+        Random random = ctx.random;
+        int count = Math.max(1, ctx.cfg.getHarvestsPerSeason());
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal perHarvest = expectedYield.multiply(BigDecimal.valueOf(0.7 + random.nextDouble() * 0.5))
+                .divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        long span = Math.max(1, ChronoUnit.DAYS.between(plannedHarvest, endDate) + 1);
+
+        for (int h = 0; h < count; h++) {
+            LocalDate harvestDate = plannedHarvest.plusDays(random.nextInt((int) span));
+            rows.add(new Object[] {
+                    ctx.nextHarvestId++,
+                    seasonId,
+                    harvestDate,
+                    perHarvest,
+                    BigDecimal.valueOf(5_000L + random.nextInt(40) * 500L),
+                    null,
+                    harvestDate.atTime(17, 0)
+            });
+            total = total.add(perHarvest);
+        }
+        return total;
+    }
+
+    private void generateSeasonActivity(GenerationContext ctx, BatchWriter writer, long seasonId, long ownerId,
+            SeasonStatus status, LocalDate start, LocalDate plannedHarvest) {
+        Random random = ctx.random;
+        long seasonDays = Math.max(1, ChronoUnit.DAYS.between(start, plannedHarvest));
+        boolean started = status != SeasonStatus.PLANNED;
+
+        int taskCount = ctx.cfg.getTasksPerSeason();
+        for (int t = 0; t < taskCount; t++) {
+            LocalDate planned = start.plusDays(seasonDays * t / Math.max(1, taskCount));
+            LocalDate due = planned.plusDays(3 + random.nextInt(8));
+            if (due.isAfter(plannedHarvest)) {
+                due = plannedHarvest;
+            }
+            TaskStatus taskStatus = taskStatusFor(status, due, ctx.today, random);
+            boolean finished = taskStatus == TaskStatus.DONE;
+            writer.add(SQL_TASK, new Object[] {
+                    ctx.nextTaskId++,
+                    ownerId,
+                    seasonId,
+                    TASK_TITLES[t % TASK_TITLES.length],
+                    null,
+                    planned,
+                    due,
+                    taskStatus.name(),
+                    finished || taskStatus == TaskStatus.IN_PROGRESS ? planned : null,
+                    finished ? due : null,
+                    null,
+                    start.minusDays(random.nextInt(10)).atTime(7, 30)
+            });
+        }
+
+        if (!started) {
+            return;
+        }
+
+        // Activity only happens on days that are already in the past
+        long activeDays = Math.max(1, ChronoUnit.DAYS.between(start,
+                plannedHarvest.isBefore(ctx.today) ? plannedHarvest : ctx.today));
+
+        for (int l = 0; l < ctx.cfg.getFieldLogsPerSeason(); l++) {
+            LocalDate logDate = start.plusDays(random.nextInt((int) activeDays));
+            writer.add(SQL_FIELD_LOG, new Object[] {
+                    ctx.nextFieldLogId++,
+                    seasonId,
+                    logDate,
+                    LOG_TYPES[random.nextInt(LOG_TYPES.length)],
+                    "Ghi chep dong ruong",
+                    logDate.atTime(18, 0)
+            });
+        }
+
+        for (int e = 0; e < ctx.cfg.getExpensesPerSeason(); e++) {
+            LocalDate expenseDate = start.plusDays(random.nextInt((int) activeDays));
+            BigDecimal unitPrice = BigDecimal.valueOf(10_000L + random.nextInt(200) * 1_000L);
+            int quantity = 1 + random.nextInt(50);
+            writer.add(SQL_EXPENSE, new Object[] {
+                    ctx.nextExpenseId++,
+                    ownerId,
+                    seasonId,
+                    EXPENSE_ITEMS[random.nextInt(EXPENSE_ITEMS.length)],
+                    unitPrice,
+                    quantity,
+                    unitPrice.multiply(BigDecimal.valueOf(quantity)),
+                    expenseDate,
+                    expenseDate.atTime(12, 0)
+            });
+        }
+
+        double incidentMean = ctx.cfg.getIncidentsPerSeason();
+        int incidentCount = (int) incidentMean + (random.nextDouble() < incidentMean - (int) incidentMean ? 1 : 0);
+        for (int i = 0; i < incidentCount; i++) {
+            LocalDateTime createdAt = start.plusDays(random.nextInt((int) activeDays)).atTime(10, 0);
+            IncidentStatus incidentStatus = IncidentStatus.values()[random.nextInt(IncidentStatus.values().length)];
+            boolean resolved = incidentStatus == IncidentStatus.RESOLVED;
+            writer.add(SQL_INCIDENT, new Object[] {
+                    ctx.nextIncidentId++,
+                    seasonId,
+                    ownerId,
+                    INCIDENT_TYPES[random.nextInt(INCIDENT_TYPES.length)],
+                    IncidentSeverity.values()[random.nextInt(IncidentSeverity.values().length)].name(),
+                    "Su co phat sinh tren dong ruong",
+                    incidentStatus.name(),
+                    createdAt.toLocalDate().plusDays(7),
+                    0,
+                    resolved ? createdAt.plusDays(1 + random.nextInt(14)) : null,
+                    resolved ? ownerId : null,
+                    resolved ? "Da xu ly" : null,
+                    createdAt
+            });
+        }
+    }
+
+    private TaskStatus taskStatusFor(SeasonStatus seasonStatus, LocalDate due, LocalDate today, Random random) {
+        return switch (seasonStatus) {
+            case PLANNED -> TaskStatus.PENDING;
+            case CANCELLED -> TaskStatus.CANCELLED;
+            case COMPLETED, ARCHIVED -> random.nextInt(10) == 0 ? TaskStatus.CANCELLED : TaskStatus.DONE;
+            case ACTIVE -> {
+                if (due.isBefore(today)) {
+                    yield random.nextInt(10) < 7 ? TaskStatus.DONE : TaskStatus.OVERDUE;
+                }
+                yield random.nextBoolean() ? TaskStatus.PENDING : TaskStatus.IN_PROGRESS;
+            }
+        };
+    }
+
+    private void generateStockMovements(GenerationContext ctx, BatchWriter writer, long warehouseId, double scale,
+            long firstSeasonId, long endSeasonId) {
+        if (ctx.cfg.getSupplyLots() <= 0) {
+            return;
+        }
+        Random random = ctx.random;
+        int count = (int) Math.round(ctx.cfg.getMovementsPerFarm() * scale);
+        long windowDays = ChronoUnit.DAYS.between(ctx.windowStart, ctx.today) + 1;
+        long seasonSpan = endSeasonId - firstSeasonId;
+
+        for (int m = 0; m < count; m++) {
+            int roll = random.nextInt(100);
+            StockMovementType type = roll < 60 ? StockMovementType.IN
+                    : roll < 95 ? StockMovementType.OUT : StockMovementType.ADJUST;
+            LocalDateTime movementDate = ctx.windowStart.plusDays((long) (random.nextDouble() * windowDays))
+                    .atTime(6 + random.nextInt(12), 0);
+            writer.add(SQL_STOCK_MOVEMENT, new Object[] {
+                    ctx.nextStockMovementId++,
+                    ctx.firstSupplyLotId + random.nextInt(ctx.cfg.getSupplyLots()),
+                    warehouseId,
+                    type.name(),
+                    BigDecimal.valueOf(1 + random.nextInt(500)),
+                    movementDate,
+                    type == StockMovementType.OUT && seasonSpan > 0
+                            ? firstSeasonId + (long) (random.nextDouble() * seasonSpan)
+                            : null,
+                    null
+            });
+        }
+    }
+
+    // ==================== DATABASE HELPERS ====================
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        return (max != null ? max : 0L) + 1;
+    }
+
+    private boolean isH2() {
+        String product = jdbcTemplate.execute((Connection connection) -> connection.getMetaData()
+                .getDatabaseProductName());
+        return product != null && product.toUpperCase().contains("H2");
+    }
+
+    /**
+     * H2 identity columns do not advance when ids are inserted explicitly, so the
+     * next application insert would collide with generated rows.
+     */
+    private void restartH2Identities(GenerationContext ctx) {
+        Map<String, String> identities = new LinkedHashMap<>();
+        identities.put("users", "user_id");
+        identities.put("suppliers", "id");
+        identities.put("supply_items", "id");
+        identities.put("supply_lots", "id");
+        identities.put("farms", "farm_id");
+        identities.put("warehouses", "id");
+        identities.put("plots", "plot_id");
+        identities.put("seasons", "season_id");
+        identities.put("tasks", "task_id");
+        identities.put("field_logs", "field_log_id");
+        identities.put("expenses", "expense_id");
+        identities.put("harvests", "harvest_id");
+        identities.put("incidents", "id");
+        identities.put("stock_movements", "id");
+
+        identities.forEach((table, column) -> jdbcTemplate.execute(
+                "alter table " + table + " alter column " + column + " restart with " + nextId(table, column)));
+        log.info("Restarted H2 identity columns after explicit id inserts");
+    }
+
+    /**
+     * Mutable generation state: id cursors for every table plus shared random
+     * source and reference data.
+     */
+    private final class GenerationContext {
+        final AppProperties.DataGen cfg;
+        final List<WardRepository.WardProvinceRef> wards;
+        final List<int[]> cropVarieties;
+        final Random random;
+        final LocalDate today = LocalDate.now();
+        final LocalDate windowStart;
+
+        final long firstUserId;
+        final long firstSupplierId;
+        final long firstSupplyItemId;
+        final long firstSupplyLotId;
+        final long firstFarmId;
+        final long firstWarehouseId;
+        long nextPlotId;
+        long nextSeasonId;
+        long nextTaskId;
+        long nextFieldLogId;
+        long nextExpenseId;
+        long nextHarvestId;
+        long nextIncidentId;
+        long nextStockMovementId;
+
+        GenerationContext(AppProperties.DataGen cfg, List<WardRepository.WardProvinceRef> wards,
+                List<int[]> cropVarieties) {
+            this.cfg = cfg;
+            this.wards = wards;
+            this.cropVarieties = cropVarieties;
+            this.random = new Random(cfg.getSeed());
+            this.windowStart = today.minusYears(Math.max(1, cfg.getYears()));
+
+            this.firstUserId = nextId("users", "user_id");
+            this.firstSupplierId = nextId("suppliers", "id");
+            this.firstSupplyItemId = nextId("supply_items", "id");
+            this.firstSupplyLotId = nextId("supply_lots", "id");
+            this.firstFarmId = nextId("farms", "farm_id");
+            this.firstWarehouseId = nextId("warehouses", "id");
+            this.nextPlotId = nextId("plots", "plot_id");
+            this.nextSeasonId = nextId("seasons", "season_id");
+            this.nextTaskId = nextId("tasks", "task_id");
+            this.nextFieldLogId = nextId("field_logs", "field_log_id");
+            this.nextExpenseId = nextId("expenses", "expense_id");
+            this.nextHarvestId = nextId("harvests", "harvest_id");
+            this.nextIncidentId = nextId("incidents", "id");
+            this.nextStockMovementId = nextId("stock_movements", "id");
+        }
+
+        WardRepository.WardProvinceRef randomWard() {
+            return wards.get(random.nextInt(wards.size()));
+        }
+
+        /**
+         * Bounded Pareto weights in [1, maxFarmScale], normalised to mean 1 so the
+         * configured per-farm averages still hold in aggregate.
+         */
+        double[] farmScales() {
+            double max = Math.max(1.0, cfg.getMaxFarmScale());
+            double alpha = 1.16; // classic 80/20 shape
+            double[] scales = new double[Math.max(0, cfg.getFarms())];
+            double sum = 0;
+            for (int i = 0; i < scales.length; i++) {
+                double u = random.nextDouble();
+                scales[i] = Math.min(max, Math.pow(1.0 - u, -1.0 / alpha));
+                sum += scales[i];
+            }
+            double mean = scales.length > 0 ? sum / scales.length : 1.0;
+            for (int i = 0; i < scales.length; i++) {
+                scales[i] = scales[i] / mean;
+            }
+            return scales;
+        }
+    }
+
+    /**
+     * Buffers rows per insert statement and writes them with JDBC batches.
+     * Statements are flushed in the order they were first used, which is also
+     * parent-before-child order, so foreign keys are always satisfied.
+     */
+    private final class BatchWriter {
+        final int batchSize;
+        final Map<String, List<Object[]>> buffers = new LinkedHashMap<>();
+        final Map<String, Long> counts = new LinkedHashMap<>();
+
+        BatchWriter(int batchSize) {
+            this.batchSize = Math.max(1, batchSize);
+        }
+
+        void add(String sql, Object[] row) {
+            List<Object[]> buffer = buffers.computeIfAbsent(sql, key -> new ArrayList<>(batchSize));
+            buffer.add(row);
+            if (buffer.size() >= batchSize) {
+                flushAll();
+            }
+        }
+
+        void flushAll() {
+            buffers.forEach((sql, rows) -> {
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(sql, rows);
+                    counts.merge(tableOf(sql), (long) rows.size(), Long::sum);
+                    rows.clear();
+                }
+            });
+        }
+
+        Map<String, Long> getCounts() {
+            return counts;
+        }
+
+        private String tableOf(String sql) {
+            String rest = sql.substring("insert into ".length());
+            return rest.substring(0, rest.indexOf(' '));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.DocumentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store on the local filesystem.
+ * <p>
+ * An upload is moved from the servlet container's multipart temp file into
+ * {@code <root>/tmp} (a rename when both are on the same disk), hashed with
+ * SHA-256 through a direct buffer and renamed to
+ * {@code <root>/<hash[0..2]>/<hash>}. The file is never held in the heap, and
+ * a file uploaded twice is stored once.
+ * <p>
+ * Storing and releasing a hash take the same lock stripe. An upload keeps it
+ * until its transaction commits, so a release never deletes a file that an
+ * upload has reused but not yet committed a row for. The store lives on one
+ * node's disk, so an in-process lock is enough.
+ */
+@Slf4j
+@Service
+public class DocumentContentStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public DocumentContentStore(AppProperties appProperties, DocumentRepository documentRepository,
+            PlatformTransactionManager transactionManager) {
+        this.root = Paths.get(appProperties.getStorage().getRoot()).toAbsolutePath().normalize();
+        this.documentRepository = documentRepository;
+        // Read-write, so the reference check goes to the primary rather than a lagging replica
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public record StoredFile(String hash, long size, boolean deduplicated) {
+    }
+
+    /**
+     * A stored file ready to be served.
+     */
+    public record DocumentFile(Path path, String hash, String contentType, String filename) {
+    }
+
+    public StoredFile store(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new AppException(ErrorCode.DOCUMENT_FILE_EMPTY);
+        }
+        Path temp = null;
+        try {
+            Path tmpDir = Files.createDirectories(root.resolve("tmp"));
+            temp = tmpDir.resolve("upload-" + UUID.randomUUID() + ".part");
+            // The File overload lets the container move its spooled part instead of copying it
+            file.transferTo(temp.toFile());
+
+            String hash = sha256(temp);
+            long size = Files.size(temp);
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            boolean heldUntilCommit = false;
+            try {
+                StoredFile stored = moveIntoPlace(temp, hash, size);
+                heldUntilCommit = unlockAfterTransaction(lock);
+                return stored;
+            } finally {
+                if (!heldUntilCommit) {
+                    lock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to store document file {}", file.getOriginalFilename(), e);
+            deleteQuietly(temp);
+            throw new AppException(ErrorCode.DOCUMENT_FILE_STORE_FAILED);
+        }
+    }
+
+    private StoredFile moveIntoPlace(Path temp, String hash, long size) throws IOException {
+        Path target = resolve(hash);
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            log.info("Document file {} already stored, reusing it ({} bytes)", hash, size);
+            return new StoredFile(hash, size, true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target);
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same bytes won the race
+            Files.deleteIfExists(temp);
+            return new StoredFile(hash, size, true);
+        }
+        log.info("Stored document file {} ({} bytes)", hash, size);
+        return new StoredFile(hash, size, false);
+    }
+
+    /**
+     * Keeps the lock until the surrounding transaction ends. It is released in
+     * afterCompletion, which Spring runs for every synchronization even when
+     * an earlier callback throws, and before the callbacks registered after it
+     * (such as a release of the replaced file), so a thread never holds two
+     * stripes.
+     *
+     * @return false when there is no transaction and the caller must unlock
+     */
+    private static boolean unlockAfterTransaction(ReentrantLock lock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        return true;
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * @throws AppException DOCUMENT_FILE_NOT_FOUND when the hash is malformed
+     */
+    public Path resolve(String hash) {
+        if (hash == null || !SHA256_HEX.matcher(hash).matches()) {
+            throw new AppException(ErrorCode.DOCUMENT_FILE_NOT_FOUND);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * Deletes the stored file after the surrounding transaction commits,
+     * unless another document still references it.
+     */
+    public void releaseAfterCommit(String hash) {
+        if (hash == null) {
+            return;
+        }
+        Runnable release = () -> {
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                // An upload reusing the file holds the lock until its row is committed
+                Boolean referenced = primaryTransaction.execute(
+                        status -> documentRepository.existsByContentHash(hash));
+                if (!Boolean.TRUE.equals(referenced)) {
+                    deleteQuietly(resolve(hash));
+                    log.info("Deleted unreferenced document file {}", hash);
+                }
+            } finally {
+                lock.unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // afterCompletion, so it runs after an upload in the same transaction has unlocked its stripe
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        release.run();
+                    }
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+}
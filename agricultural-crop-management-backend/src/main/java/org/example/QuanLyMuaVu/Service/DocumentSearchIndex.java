@@ -0,0 +1,321 @@
+package org.example.QuanLyMuaVu.Service;
+
+import org.example.QuanLyMuaVu.Util.TextUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-process inverted index with BM25 ranking, shared by document search
+ * (one entry per document) and Q&A (one entry per passage).
+ * <p>
+ * Each entry has a key, a value the caller filters and reads hits by, and the
+ * term frequencies of its text folded with {@link TextUtils#fold}, so
+ * "phan bon" finds "Phân bón". Entries belong to a document and are replaced
+ * together when it changes. With {@code prefixLastTerm} the last query term
+ * also matches as a prefix, so results show up while the user is still
+ * typing. Updates made while {@link #rebuild} reads its snapshot are replayed
+ * on top of it.
+ *
+ * @param <K> entry key; ties in score rank the greater key first
+ * @param <V> value kept with each entry
+ */
+public class DocumentSearchIndex<K extends Comparable<? super K>, V> {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    /**
+     * Upper bound on terms a trailing prefix expands to.
+     */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final boolean prefixLastTerm;
+    private final NavigableMap<String, Map<K, Integer>> postings = new TreeMap<>();
+    private final Map<K, Indexed<V>> entries = new HashMap<>();
+    private final Map<Long, List<K>> keysByDocument = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    /**
+     * Updates made while a rebuild reads its snapshot; null otherwise.
+     */
+    private List<Runnable> pendingUpdates;
+
+    /**
+     * One indexed unit of a document.
+     *
+     * @param terms folded term to its (weighted) frequency, see {@link #countTerms}
+     */
+    public record Entry<K, V>(Long documentId, K key, V value, Map<String, Integer> terms) {
+    }
+
+    public record Match<K, V>(K key, V value, double score) {
+    }
+
+    private record Indexed<V>(V value, int length, Set<String> terms) {
+    }
+
+    public DocumentSearchIndex(boolean prefixLastTerm) {
+        this.prefixLastTerm = prefixLastTerm;
+    }
+
+    /**
+     * Replaces the contents with a snapshot of all entries. Updates that
+     * arrive while the snapshot is read are applied to it afterwards, so a
+     * document written during the rebuild is not lost. Rebuilds run one at a
+     * time.
+     */
+    public synchronized void rebuild(Supplier<? extends Collection<Entry<K, V>>> snapshot) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Collection<Entry<K, V>> snapshotEntries;
+        try {
+            snapshotEntries = snapshot.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            entries.clear();
+            keysByDocument.clear();
+            totalLength = 0;
+            snapshotEntries.forEach(this::addLocked);
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the entries of a document; an empty collection removes it.
+     */
+    public void put(Long documentId, Collection<Entry<K, V>> documentEntries) {
+        update(() -> {
+            removeLocked(documentId);
+            documentEntries.forEach(this::addLocked);
+        });
+    }
+
+    public void remove(Long documentId) {
+        update(() -> removeLocked(documentId));
+    }
+
+    /**
+     * Number of entries.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return keysByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param filter accepts the values of entries that may match
+     * @param limit  maximum number of matches returned
+     * @return matching entries, best match first
+     */
+    public List<Match<K, V>> search(String query, Predicate<? super V> filter, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<K, Double> scores = score(queryTerms, filter);
+
+            // Bounded heap of the best matches, so ranking does not sort every match
+            Comparator<Map.Entry<K, Double>> worstFirst = Map.Entry.<K, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<K, Double>comparingByKey());
+            PriorityQueue<Map.Entry<K, Double>> best = new PriorityQueue<>(Math.min(limit, scores.size()) + 1,
+                    worstFirst);
+            for (Map.Entry<K, Double> scored : scores.entrySet()) {
+                best.offer(scored);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Match<K, V>> matches = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Map.Entry<K, Double> scored = best.poll();
+                matches.add(new Match<>(scored.getKey(), entries.get(scored.getKey()).value(), scored.getValue()));
+            }
+            Collections.reverse(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of entries {@link #search} would return without a limit.
+     */
+    public int count(String query, Predicate<? super V> filter) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            return score(queryTerms, filter).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the folded terms of {@code text} to {@code frequencies}, each
+     * occurrence counting {@code weight} times.
+     *
+     * @return {@code frequencies}
+     */
+    public static Map<String, Integer> countTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * BM25 score of every matching entry; the caller holds the read lock.
+     */
+    private Map<K, Double> score(List<String> queryTerms, Predicate<? super V> filter) {
+        if (entries.isEmpty()) {
+            return Map.of();
+        }
+        double avgLength = (double) totalLength / entries.size();
+        Map<K, Double> scores = new HashMap<>();
+
+        Set<String> distinct = new LinkedHashSet<>(queryTerms);
+        String last = queryTerms.get(queryTerms.size() - 1);
+        for (String term : distinct) {
+            List<String> expanded = prefixLastTerm && term.equals(last) ? expandPrefix(term) : List.of(term);
+            for (String indexed : expanded) {
+                Map<K, Integer> termPostings = postings.get(indexed);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (entries.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                // Prefix-only matches rank below exact matches of the same term
+                double boost = indexed.equals(term) ? 1.0 : 0.5;
+                termPostings.forEach((key, tf) -> {
+                    Indexed<V> entry = entries.get(key);
+                    if (!filter.test(entry.value())) {
+                        return;
+                    }
+                    double norm = tf + K1 * (1 - B + B * entry.length() / avgLength);
+                    scores.merge(key, boost * idf * tf * (K1 + 1) / norm, Double::sum);
+                });
+            }
+        }
+
+        return scores;
+    }
+
+    private void update(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingUpdates != null) {
+                pendingUpdates.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<String> expandPrefix(String prefix) {
+        List<String> terms = new ArrayList<>();
+        for (String term : postings.tailMap(prefix, true).navigableKeySet()) {
+            if (!term.startsWith(prefix) || terms.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    private void addLocked(Entry<K, V> entry) {
+        if (entry.documentId() == null || entry.key() == null || entry.terms().isEmpty()) {
+            return;
+        }
+        int length = entry.terms().values().stream().mapToInt(Integer::intValue).sum();
+
+        entry.terms().forEach((term, count) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(entry.key(), count));
+        entries.put(entry.key(), new Indexed<>(entry.value(), length, Set.copyOf(entry.terms().keySet())));
+        keysByDocument.computeIfAbsent(entry.documentId(), id -> new ArrayList<>()).add(entry.key());
+        totalLength += length;
+    }
+
+    private void removeLocked(Long documentId) {
+        List<K> keys = keysByDocument.remove(documentId);
+        if (keys == null) {
+            return;
+        }
+        for (K key : keys) {
+            Indexed<V> entry = entries.remove(key);
+            if (entry == null) {
+                continue;
+            }
+            totalLength -= entry.length();
+            for (String term : entry.terms()) {
+                Map<K, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(key);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        String folded = TextUtils.fold(text);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        return List.of(folded.split(" "));
+    }
+}
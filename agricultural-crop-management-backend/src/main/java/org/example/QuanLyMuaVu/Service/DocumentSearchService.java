@@ -0,0 +1,300 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Entity.Document;
+import org.example.QuanLyMuaVu.Enums.DocumentStatus;
+import org.example.QuanLyMuaVu.Enums.DocumentType;
+import org.example.QuanLyMuaVu.Repository.DocumentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Keyword search over documents.
+ * <p>
+ * On MySQL a FULLTEXT index on (title, description) is created if missing and
+ * ranked by the database; the accent-insensitive column collation handles
+ * diacritics. Other databases (H2 in tests and local runs) use the in-process
+ * {@link DocumentSearchIndex}, which is kept up to date after each committed
+ * document write.
+ * <p>
+ * InnoDB leaves words shorter than {@code innodb_ft_min_token_size} (3 by
+ * default) out of the index, which drops most Vietnamese syllables ("lúa",
+ * "cà", "đất" fold to two or three letters). The server should run with
+ * {@code --innodb-ft-min-token-size=1}, as in docker-compose.yml, and the
+ * index be rebuilt after changing it. Until then, queries with a shorter
+ * word are answered by the in-process index.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DocumentSearchService {
+
+    static final String FULLTEXT_INDEX = "ft_documents_title_description";
+    /**
+     * Upper bound on ranked hits; keyword searches never page past this.
+     */
+    static final int MAX_HITS = 1000;
+    /**
+     * Title terms count this many times in the in-process index.
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    DocumentRepository documentRepository;
+    JdbcTemplate jdbcTemplate;
+
+    DocumentSearchIndex<Long, Indexed> index = new DocumentSearchIndex<>(true);
+    AtomicBoolean fullText = new AtomicBoolean();
+    AtomicBoolean indexBuilt = new AtomicBoolean();
+    AtomicInteger minTokenSize = new AtomicInteger(1);
+
+    /**
+     * What the in-process index keeps of a document to filter hits.
+     */
+    record Indexed(DocumentType type, DocumentStatus status) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (isMySql() && ensureFullTextIndex()) {
+            fullText.set(true);
+            minTokenSize.set(readMinTokenSize());
+            log.info("Document search uses MySQL FULLTEXT index {}", FULLTEXT_INDEX);
+            if (minTokenSize.get() > 1) {
+                log.warn("innodb_ft_min_token_size is {}; queries with shorter words use the in-process index. "
+                        + "Start MySQL with --innodb-ft-min-token-size=1 and rebuild {}",
+                        minTokenSize.get(), FULLTEXT_INDEX);
+            }
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Reloads the in-process index from the database.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        index.rebuild(() -> documentRepository.findAll().stream()
+                .map(DocumentSearchService::toEntry)
+                .toList());
+        indexBuilt.set(true);
+        log.info("Document search index built: {} documents in {} ms",
+                index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * @return ids of matching documents, best match first, at most {@link #MAX_HITS}
+     */
+    public List<Long> searchIds(String keyword, DocumentType type, DocumentStatus status) {
+        return searchIds(keyword, type, status, MAX_HITS);
+    }
+
+    private List<Long> searchIds(String keyword, DocumentType type, DocumentStatus status, int limit) {
+        if (usesFullText(keyword)) {
+            String query = toBooleanQuery(keyword);
+            if (query.isEmpty()) {
+                return List.of();
+            }
+            try {
+                return documentRepository.searchFullText(query,
+                        type != null ? type.name() : null,
+                        status != null ? status.name() : null,
+                        limit).stream()
+                        .map(Number::longValue)
+                        .toList();
+            } catch (DataAccessException e) {
+                log.warn("FULLTEXT search failed, switching to in-process index: {}", e.getMessage());
+                fullText.set(false);
+            }
+        }
+        return builtIndex().search(keyword, filter(type, status), limit).stream()
+                .map(DocumentSearchIndex.Match::key)
+                .toList();
+    }
+
+    /**
+     * Number of matching documents, without a limit.
+     */
+    public long count(String keyword, DocumentType type, DocumentStatus status) {
+        if (usesFullText(keyword)) {
+            String query = toBooleanQuery(keyword);
+            if (query.isEmpty()) {
+                return 0;
+            }
+            try {
+                return documentRepository.countFullText(query,
+                        type != null ? type.name() : null,
+                        status != null ? status.name() : null);
+            } catch (DataAccessException e) {
+                log.warn("FULLTEXT count failed, switching to in-process index: {}", e.getMessage());
+                fullText.set(false);
+            }
+        }
+        return builtIndex().count(keyword, filter(type, status));
+    }
+
+    /**
+     * Ranked search returning one page of documents. Ids are ranked up to the
+     * end of the requested page (at least {@link #MAX_HITS}); the total is
+     * counted separately when there are more.
+     */
+    public Page<Document> search(String keyword, DocumentType type, DocumentStatus status, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        int limit = (int) Math.min(Integer.MAX_VALUE, Math.max(MAX_HITS, pageable.getOffset() + size));
+        List<Long> ids = searchIds(keyword, type, status, limit);
+        long total = ids.size() < limit ? ids.size() : count(keyword, type, status);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + size, ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        Map<Long, Document> byId = documentRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+        List<Document> content = pageIds.stream()
+                .map(byId::get)
+                .filter(document -> document != null)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Re-indexes the document once the surrounding transaction commits.
+     */
+    public void indexAfterCommit(Document document) {
+        afterCommit(() -> index.put(document.getId(), List.of(toEntry(document))));
+    }
+
+    /**
+     * Drops the document from the index once the surrounding transaction commits.
+     */
+    public void removeAfterCommit(Long documentId) {
+        afterCommit(() -> index.remove(documentId));
+    }
+
+    /**
+     * FULLTEXT only answers queries whose words are all long enough to be in
+     * the MySQL index.
+     */
+    private boolean usesFullText(String keyword) {
+        return fullText.get() && DocumentSearchIndex.tokenize(keyword).stream()
+                .allMatch(term -> term.length() >= minTokenSize.get());
+    }
+
+    /**
+     * The in-process index, loaded on first use when FULLTEXT serves most
+     * queries. Updates are applied to it all along, so it only has to be
+     * loaded once.
+     */
+    private DocumentSearchIndex<Long, Indexed> builtIndex() {
+        if (!indexBuilt.get()) {
+            synchronized (index) {
+                if (!indexBuilt.get()) {
+                    rebuild();
+                }
+            }
+        }
+        return index;
+    }
+
+    private static DocumentSearchIndex.Entry<Long, Indexed> toEntry(Document document) {
+        Map<String, Integer> terms = DocumentSearchIndex.countTerms(new HashMap<>(), document.getTitle(),
+                TITLE_WEIGHT);
+        DocumentSearchIndex.countTerms(terms, document.getDescription(), 1);
+        return new DocumentSearchIndex.Entry<>(document.getId(), document.getId(),
+                new Indexed(document.getDocumentType(), document.getStatus()), terms);
+    }
+
+    private static Predicate<Indexed> filter(DocumentType type, DocumentStatus status) {
+        return indexed -> (type == null || indexed.type() == type) && (status == null || indexed.status() == status);
+    }
+
+    private int readMinTokenSize() {
+        try {
+            Integer size = jdbcTemplate.queryForObject("SELECT @@innodb_ft_min_token_size", Integer.class);
+            return size != null ? size : 3;
+        } catch (DataAccessException e) {
+            log.warn("Could not read innodb_ft_min_token_size, assuming 3: {}", e.getMessage());
+            return 3;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private boolean isMySql() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            return product != null && product.toLowerCase().contains("mysql");
+        } catch (DataAccessException e) {
+            log.warn("Could not detect database product: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean ensureFullTextIndex() {
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'documents' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX);
+            if (existing == null || existing == 0) {
+                jdbcTemplate.execute("ALTER TABLE documents ADD FULLTEXT INDEX " + FULLTEXT_INDEX
+                        + " (title, description)");
+                log.info("Created FULLTEXT index {}", FULLTEXT_INDEX);
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT index unavailable, using in-process document index: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Folded terms as optional matches with the last one also matching as a
+     * prefix, as in {@link DocumentSearchIndex}: "Phân bón" becomes
+     * "phan bon*". Folding also strips every boolean-mode operator.
+     */
+    static String toBooleanQuery(String keyword) {
+        List<String> terms = DocumentSearchIndex.tokenize(keyword);
+        if (terms.isEmpty()) {
+            return "";
+        }
+        String last = terms.get(terms.size() - 1);
+        return terms.stream()
+                .distinct()
+                .map(term -> term.equals(last) ? term + "*" : term)
+                .collect(Collectors.joining(" "));
+    }
+}
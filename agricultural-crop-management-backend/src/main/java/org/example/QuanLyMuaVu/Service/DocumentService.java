@@ -6,10 +6,14 @@ import org.example.QuanLyMuaVu.DTO.Response.DocumentResponse;
 import org.example.QuanLyMuaVu.Entity.Document;
 import org.example.QuanLyMuaVu.Enums.DocumentStatus;
 import org.example.QuanLyMuaVu.Enums.DocumentType;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Repository.DocumentRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -22,6 +26,9 @@ import java.util.List;
 @Transactional
 public class DocumentService {
     private final DocumentRepository documentRepository;
+    private final DocumentSearchService documentSearchService;
+    private final AgronomyQaService agronomyQaService;
+    private final DocumentContentStore documentContentStore;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
@@ -35,6 +42,8 @@ public class DocumentService {
                 .createdBy(1L) // Default to admin user ID (legacy behavior)
                 .build();
         doc = documentRepository.save(doc);
+        documentSearchService.indexAfterCommit(doc);
+        agronomyQaService.indexAfterCommit(doc);
         return toResponse(doc);
     }
 
@@ -44,15 +53,49 @@ public class DocumentService {
                 .toList();
     }
 
+    /**
+     * Active documents matching the keyword, best match first.
+     */
+    @Transactional(readOnly = true)
+    public List<DocumentResponse> search(String keyword, int limit) {
+        return documentSearchService.search(keyword, null, DocumentStatus.ACTIVE, 0, limit).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
     public DocumentResponse getById(Long id) {
         return documentRepository.findById(id).map(this::toResponse).orElse(null);
     }
 
+    /**
+     * Locates the uploaded file of a document for download.
+     *
+     * @param includeInactive whether soft-deleted documents may be served
+     */
+    @Transactional(readOnly = true)
+    public DocumentContentStore.DocumentFile getFile(Long id, boolean includeInactive) {
+        Document doc = documentRepository.findById(id)
+                .filter(found -> includeInactive || found.getStatus() == DocumentStatus.ACTIVE)
+                .orElseThrow(() -> new AppException(ErrorCode.DOCUMENT_NOT_FOUND));
+        if (doc.getContentHash() == null) {
+            throw new AppException(ErrorCode.DOCUMENT_FILE_NOT_FOUND);
+        }
+        Path path = documentContentStore.resolve(doc.getContentHash());
+        if (!Files.isReadable(path)) {
+            throw new AppException(ErrorCode.DOCUMENT_FILE_NOT_FOUND);
+        }
+        return new DocumentContentStore.DocumentFile(path, doc.getContentHash(), doc.getContentType(),
+                doc.getOriginalFilename());
+    }
+
     public DocumentResponse update(Long id, DocumentRequest request) {
         Document doc = documentRepository.findById(id).orElseThrow();
         doc.setTitle(request.getTitle());
         doc.setDescription(request.getContent());
-        return toResponse(documentRepository.save(doc));
+        Document saved = documentRepository.save(doc);
+        documentSearchService.indexAfterCommit(saved);
+        agronomyQaService.indexAfterCommit(saved);
+        return toResponse(saved);
     }
 
     public void delete(Long id) {
@@ -60,6 +103,8 @@ public class DocumentService {
         Document doc = documentRepository.findById(id).orElseThrow();
         doc.setStatus(DocumentStatus.INACTIVE);
         documentRepository.save(doc);
+        documentSearchService.indexAfterCommit(doc);
+        agronomyQaService.indexAfterCommit(doc);
     }
 
     private DocumentResponse toResponse(Document doc) {
@@ -73,6 +118,9 @@ public class DocumentService {
                 .createdAt(doc.getCreatedAt() != null ? doc.getCreatedAt().format(DATE_FORMATTER) : null)
                 .updatedAt(doc.getUpdatedAt() != null ? doc.getUpdatedAt().format(DATE_FORMATTER) : null)
                 .createdBy(doc.getCreatedBy())
+                .fileName(doc.getOriginalFilename())
+                .contentType(doc.getContentType())
+                .contentLength(doc.getContentLength())
                 .build();
     }
 }
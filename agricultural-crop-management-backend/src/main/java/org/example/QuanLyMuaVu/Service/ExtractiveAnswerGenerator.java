@@ -0,0 +1,65 @@
+package org.example.QuanLyMuaVu.Service;
+
+import org.example.QuanLyMuaVu.Util.TextUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Answers with the sentences of the top passages that share the most terms
+ * with the question, in reading order. Needs no model and never fails.
+ */
+@Component
+public class ExtractiveAnswerGenerator implements AnswerGenerator {
+
+    static final String NAME = "extractive";
+    static final String NO_ANSWER = "No document in the library covers this question yet.";
+    static final int MAX_PASSAGES = 3;
+    static final int MAX_SENTENCES = 3;
+
+    private record Candidate(int passage, int sentence, int overlap, String text) {
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String generate(String question, List<PassageIndex.Hit> passages) {
+        if (passages.isEmpty()) {
+            return NO_ANSWER;
+        }
+        Set<String> questionTerms = new HashSet<>(DocumentSearchIndex.tokenize(question));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int p = 0; p < Math.min(MAX_PASSAGES, passages.size()); p++) {
+            List<String> sentences = TextUtils.sentences(passages.get(p).text());
+            for (int s = 0; s < sentences.size(); s++) {
+                Set<String> terms = new HashSet<>(DocumentSearchIndex.tokenize(sentences.get(s)));
+                terms.retainAll(questionTerms);
+                if (!terms.isEmpty()) {
+                    candidates.add(new Candidate(p, s, terms.size(), sentences.get(s)));
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            // Matched on the document title only
+            return passages.get(0).text();
+        }
+
+        Comparator<Candidate> readingOrder = Comparator.comparingInt(Candidate::passage)
+                .thenComparingInt(Candidate::sentence);
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(Candidate::overlap).reversed().thenComparing(readingOrder))
+                .limit(MAX_SENTENCES)
+                .sorted(readingOrder)
+                .map(Candidate::text)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -66,9 +66,7 @@ public class FarmAccessService {
             throw new AppException(ErrorCode.FARM_NOT_FOUND);
         }
 
-        User currentUser = getCurrentUser();
-
-        if (farm.getOwner() != null && farm.getOwner().getId().equals(currentUser.getId())) {
+        if (canAccessFarm(getCurrentUser(), farm)) {
             return;
         }
 
@@ -80,19 +78,32 @@ public class FarmAccessService {
             throw new AppException(ErrorCode.PLOT_NOT_FOUND);
         }
 
-        Farm farm = plot.getFarm();
-        if (farm != null) {
-            assertCurrentUserCanAccessFarm(farm);
+        if (canAccessPlot(getCurrentUser(), plot)) {
             return;
         }
 
-        // Legacy fallback when plots are not linked to farms: require direct ownership.
-        User currentUser = getCurrentUser();
-        if (plot.getUser() != null && plot.getUser().getId().equals(currentUser.getId())) {
-            return;
+        throw new AppException(ErrorCode.FORBIDDEN);
+    }
+
+    /**
+     * The farm rule for a given user, without throwing.
+     */
+    public boolean canAccessFarm(User user, Farm farm) {
+        return farm.getOwner() != null && farm.getOwner().getId().equals(user.getId());
+    }
+
+    /**
+     * The plot rule for a given user, without throwing. Lets callers that
+     * check many plots at once load the user a single time.
+     */
+    public boolean canAccessPlot(User user, Plot plot) {
+        Farm farm = plot.getFarm();
+        if (farm != null) {
+            return canAccessFarm(user, farm);
         }
 
-        throw new AppException(ErrorCode.FORBIDDEN);
+        // Legacy fallback when plots are not linked to farms: require direct ownership.
+        return plot.getUser() != null && plot.getUser().getId().equals(user.getId());
     }
 
     public void assertCurrentUserCanAccessSeason(Season season) {
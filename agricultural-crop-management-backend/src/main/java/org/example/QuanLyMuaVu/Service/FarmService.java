@@ -15,12 +15,12 @@ import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Mapper.FarmMapper;
 import org.example.QuanLyMuaVu.Repository.FarmRepository;
 import org.example.QuanLyMuaVu.Repository.PlotRepository;
+import org.example.QuanLyMuaVu.Repository.Projection.FarmListItem;
 import org.example.QuanLyMuaVu.Repository.ProvinceRepository;
 import org.example.QuanLyMuaVu.Repository.SeasonRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
 import org.example.QuanLyMuaVu.Repository.WardRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -46,28 +46,15 @@ public class FarmService {
 
     public PageResponse<FarmResponse> getMyFarms(String keyword, Boolean active, int page, int size) {
         User currentUser = getCurrentUser();
-        List<Farm> farms = farmRepository.findAllByOwner(currentUser);
-
         String searchKeyword = keyword != null ? keyword.trim().toLowerCase() : "";
-        boolean filterActive = active != null;
-
-        List<FarmResponse> items = farms.stream()
-                .filter(farm -> !filterActive || active.equals(farm.getActive()))
-                .filter(farm -> searchKeyword.isEmpty()
-                        || (farm.getName() != null && farm.getName().toLowerCase().contains(searchKeyword)))
-                .sorted((f1, f2) -> Integer.compare(
-                        f2.getId() != null ? f2.getId() : 0,
-                        f1.getId() != null ? f1.getId() : 0))
-                .map(farmMapper::toResponse)
-                .toList();
-
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, items.size());
-        List<FarmResponse> pageItems = fromIndex >= items.size() ? List.of() : items.subList(fromIndex, toIndex);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        Page<FarmResponse> pageData = new PageImpl<>(pageItems, pageable, items.size());
+        Page<FarmListItem> pageData = farmRepository.findListItemsByOwner(
+                currentUser.getId(), searchKeyword, active, pageable);
 
+        List<FarmResponse> pageItems = pageData.getContent().stream()
+                .map(farmMapper::toResponse)
+                .toList();
         return PageResponse.of(pageData, pageItems);
     }
 
@@ -30,6 +30,7 @@ public class IncidentService {
     IncidentRepository incidentRepository;
     SeasonRepository seasonRepository;
     FarmAccessService farmAccessService;
+    SeasonProgressService seasonProgressService;
 
     public List<IncidentResponse> listBySeason(Integer seasonId) {
         Season season = getSeasonForCurrentFarmer(seasonId);
@@ -55,6 +56,7 @@ public class IncidentService {
                 .build();
 
         Incident saved = incidentRepository.save(incident);
+        seasonProgressService.incidentChanged(season.getId(), null, saved.getStatus());
         return toResponse(saved);
     }
 
@@ -88,6 +90,7 @@ public class IncidentService {
         }
 
         Incident saved = incidentRepository.save(incident);
+        seasonProgressService.incidentChanged(saved.getSeason().getId(), currentStatus, newStatus);
         return toResponse(saved);
     }
 
@@ -97,6 +100,7 @@ public class IncidentService {
         // Ownership / membership check
         getSeasonForCurrentFarmer(incident.getSeason().getId());
         incidentRepository.delete(incident);
+        seasonProgressService.incidentChanged(incident.getSeason().getId(), incident.getStatus(), null);
     }
 
     private Season getSeasonForCurrentFarmer(Integer id) {
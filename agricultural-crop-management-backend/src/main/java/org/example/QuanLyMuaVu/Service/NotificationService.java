@@ -0,0 +1,262 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Entity.Notification;
+import org.example.QuanLyMuaVu.Enums.NotificationStatus;
+import org.example.QuanLyMuaVu.Repository.NotificationRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Util.BackgroundScheduler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Email notifications, queued in the {@code notifications} table and sent in
+ * the background.
+ * <p>
+ * {@link #enqueue} only inserts a row, so callers (the async domain event
+ * listeners) never wait for SMTP. Every {@code app.mail.dispatch-interval} one
+ * background thread claims the due notifications (marks them SENDING under a
+ * row lock, so another instance skips them), coalesces them into one digest
+ * per recipient and hands the digests to the mail sender as one batch, which
+ * sends them over a single SMTP connection. A digest that fails is retried
+ * with exponential backoff, up to {@code app.mail.max-attempts}; the queue
+ * survives restarts, and a claim left by a dispatcher that died mid-send is
+ * picked up again once its lease runs out. Without {@code spring.mail.host}
+ * there is no mail sender and notifications are only logged.
+ */
+@Slf4j
+@Service
+public class NotificationService implements DisposableBean {
+
+    static final String DIGEST_SEPARATOR = "\n\n----------------------------------------\n\n";
+    private static final int MAX_SUBJECT_LENGTH = 255;
+    private static final int MAX_ERROR_LENGTH = 1000;
+    /** How long a claim keeps other dispatchers off; far longer than sending one batch. */
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+
+    private final NotificationRepository notificationRepository;
+    private final SeasonRepository seasonRepository;
+    /** Null when SMTP is not configured. */
+    private final JavaMailSender mailSender;
+    private final AppProperties.Mail config;
+    private final TransactionTemplate transaction;
+    private final BackgroundScheduler dispatcher;
+
+    public NotificationService(NotificationRepository notificationRepository, SeasonRepository seasonRepository,
+            ObjectProvider<JavaMailSender> mailSender, AppProperties appProperties,
+            PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.seasonRepository = seasonRepository;
+        this.mailSender = mailSender.getIfAvailable();
+        this.config = appProperties.getMail();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.dispatcher = new BackgroundScheduler("notification-dispatch");
+    }
+
+    private record Digest(SimpleMailMessage message, List<Notification> notifications) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (mailSender == null) {
+            log.info("spring.mail.host is not set; notifications are logged, not sent");
+            return;
+        }
+        Duration interval = Duration.ofMillis(Math.max(1_000, config.getDispatchInterval().toMillis()));
+        dispatcher.scheduleWithFixedDelay("dispatch", this::dispatchAll, interval, interval);
+        dispatcher.scheduleWithFixedDelay("cleanup", this::deleteOldSent, Duration.ofHours(1), Duration.ofHours(24));
+    }
+
+    /**
+     * Queues a notification to the owner of the farm the season belongs to.
+     */
+    public void notifyFarmOwner(Integer seasonId, String subject, String body) {
+        if (seasonId == null) {
+            return;
+        }
+        seasonRepository.findFarmOwnerEmail(seasonId)
+                .filter(email -> !email.isBlank())
+                .ifPresentOrElse(email -> enqueue(email, subject, body),
+                        () -> log.debug("No owner email for season {}, notification dropped: {}", seasonId, subject));
+    }
+
+    public void enqueue(String recipientEmail, String subject, String body) {
+        if (mailSender == null) {
+            log.info("[NOTIFICATION] to={}, subject={}", recipientEmail, subject);
+            return;
+        }
+        notificationRepository.save(Notification.builder()
+                .recipientEmail(recipientEmail)
+                .subject(truncate(subject, MAX_SUBJECT_LENGTH))
+                .body(body)
+                .status(NotificationStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    void dispatchAll() {
+        int batchSize = Math.max(1, config.getBatchSize());
+        // A full batch may mean more are due; failed ones move to a later attempt, so this ends
+        while (dispatchBatch(batchSize) >= batchSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims and sends one batch of due notifications, one digest per
+     * recipient; the dispatcher calls it until a batch comes back short.
+     *
+     * @return notifications handled, sent or not
+     */
+    public int dispatchBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> due = claimDue(now, batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Notification>> byRecipient = due.stream()
+                .collect(Collectors.groupingBy(n -> n.getRecipientEmail().trim().toLowerCase(Locale.ROOT),
+                        LinkedHashMap::new, Collectors.toList()));
+        List<Digest> digests = new ArrayList<>(byRecipient.size());
+        byRecipient.values().forEach(notifications -> digests.add(
+                new Digest(toDigestMessage(config.getFrom(), notifications), notifications)));
+
+        Map<Object, Exception> failedMessages = Map.of();
+        Exception batchFailure = null;
+        try {
+            mailSender.send(digests.stream().map(Digest::message).toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            // Per-message failures; the rest went out over the same connection
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            // Could not connect or authenticate: nothing was sent
+            batchFailure = e;
+        }
+
+        int failed = 0;
+        for (Digest digest : digests) {
+            Exception error = batchFailure != null ? batchFailure : failedMessages.get(digest.message());
+            for (Notification notification : digest.notifications()) {
+                if (error == null) {
+                    notification.setStatus(NotificationStatus.SENT);
+                    notification.setSentAt(now);
+                    notification.setLastError(null);
+                } else {
+                    scheduleRetry(notification, error, now);
+                    failed++;
+                }
+            }
+        }
+        notificationRepository.saveAll(due);
+
+        if (failed > 0) {
+            log.warn("Sent {} of {} notifications in {} digests; failures are retried: {}",
+                    due.size() - failed, due.size(), digests.size(),
+                    batchFailure != null ? batchFailure.getMessage() : failedMessages.size() + " digests failed");
+        } else {
+            log.info("Sent {} notifications in {} digests", due.size(), digests.size());
+        }
+        return due.size();
+    }
+
+    /**
+     * Marks up to {@code batchSize} due notifications SENDING and commits, so
+     * the row locks are not held while SMTP runs.
+     */
+    private List<Notification> claimDue(LocalDateTime now, int batchSize) {
+        return transaction.execute(status -> {
+            List<Notification> due = notificationRepository.lockDue(now, PageRequest.of(0, batchSize));
+            for (Notification notification : due) {
+                notification.setStatus(NotificationStatus.SENDING);
+                notification.setNextAttemptAt(now.plus(CLAIM_LEASE));
+            }
+            return notificationRepository.saveAll(due);
+        });
+    }
+
+    private void scheduleRetry(Notification notification, Exception error, LocalDateTime now) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setLastError(truncate(String.valueOf(error.getMessage()), MAX_ERROR_LENGTH));
+        if (attempts >= config.getMaxAttempts()) {
+            notification.setStatus(NotificationStatus.FAILED);
+            return;
+        }
+        notification.setStatus(NotificationStatus.PENDING);
+        notification.setNextAttemptAt(now.plus(backoff(attempts)));
+    }
+
+    /**
+     * retry-backoff doubled for each attempt after the first, capped at max-backoff.
+     */
+    Duration backoff(int attempts) {
+        Duration delay = config.getRetryBackoff();
+        for (int i = 1; i < attempts && delay.compareTo(config.getMaxBackoff()) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : delay;
+    }
+
+    /**
+     * A single notification as is; several as one message listing each of them.
+     */
+    static SimpleMailMessage toDigestMessage(String from, List<Notification> notifications) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(notifications.get(0).getRecipientEmail().trim());
+        if (notifications.size() == 1) {
+            message.setSubject(notifications.get(0).getSubject());
+            message.setText(notifications.get(0).getBody());
+        } else {
+            message.setSubject(notifications.size() + " new notifications");
+            message.setText(notifications.stream()
+                    .map(notification -> notification.getSubject() + "\n\n" + notification.getBody())
+                    .collect(Collectors.joining(DIGEST_SEPARATOR)));
+        }
+        return message;
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text != null && text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+
+    private void deleteOldSent() {
+        int deleted = notificationRepository.deleteByStatusCreatedBefore(NotificationStatus.SENT,
+                LocalDateTime.now().minus(config.getRetention()));
+        if (deleted > 0) {
+            log.info("Deleted {} sent notifications older than {}", deleted, config.getRetention());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Util.ThreadFactories;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read queries side by side, each in its own read-only
+ * transaction (and so on its own connection, or a replica when configured).
+ * <p>
+ * The queries of one call succeed or fail together. On success the call
+ * returns once every result is in, so it takes as long as the slowest query
+ * rather than the sum of them. The first failure, a timeout or an interrupt of
+ * the calling thread returns straight away and cancels the queries still
+ * running; a query that ignores the interrupt is stopped by its transaction
+ * timeout, which is the same as the overall one, so it does not hold its
+ * connection after the caller has given up.
+ */
+@Slf4j
+@Service
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+
+    public ParallelQueryExecutor(AppProperties appProperties, PlatformTransactionManager transactionManager,
+            Environment environment) {
+        AppProperties.Reports config = appProperties.getReports();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeout = config.getQueryTimeout();
+        // Whole seconds, rounded up: a zero timeout would fail every query
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, timeout.plusMillis(999).toSeconds()));
+
+        // Still a fixed pool on virtual threads: each query holds a connection
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getQueryParallelism()),
+                ThreadFactories.named("report-query-", Threading.VIRTUAL.isActive(environment)));
+    }
+
+    public record Pair<A, B>(A first, B second) {
+    }
+
+    public <A, B> Pair<A, B> both(Supplier<A> first, Supplier<B> second) {
+        List<Object> results = all(List.of(first, second));
+        @SuppressWarnings("unchecked")
+        Pair<A, B> pair = new Pair<>((A) results.get(0), (B) results.get(1));
+        return pair;
+    }
+
+    /**
+     * Results in the order of the queries.
+     *
+     * @throws AppException {@link ErrorCode#REPORT_QUERY_TIMEOUT} when they do not finish in time
+     * @throws CancellationException when the calling thread is interrupted
+     */
+    public List<Object> all(List<? extends Supplier<?>> queries) {
+        ExecutorCompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Object>> futures = new ArrayList<>(queries.size());
+        for (Supplier<?> query : queries) {
+            futures.add(completion.submit(() -> readOnlyTransaction.execute(tx -> query.get())));
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (int done = 0; done < futures.size(); done++) {
+                Future<Object> next = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    log.warn("Parallel report queries did not finish within {}", timeout);
+                    throw new AppException(ErrorCode.REPORT_QUERY_TIMEOUT);
+                }
+                // Rethrows the first failure while the other queries may still be running
+                next.get();
+            }
+            List<Object> results = new ArrayList<>(futures.size());
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for report queries");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
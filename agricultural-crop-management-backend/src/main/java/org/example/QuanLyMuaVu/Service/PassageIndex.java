@@ -0,0 +1,100 @@
+package org.example.QuanLyMuaVu.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Document passages in a {@link DocumentSearchIndex}, used to find the
+ * paragraphs that answer a question.
+ * <p>
+ * Each passage is an entry of its own, scored on its text plus the title of
+ * its document, so a question naming the topic of a document favours its
+ * passages. A document's passages are replaced together when it changes.
+ */
+public class PassageIndex {
+
+    private final DocumentSearchIndex<PassageKey, Source> index = new DocumentSearchIndex<>(false);
+
+    /**
+     * A document split into passages, in reading order.
+     */
+    public record Source(Long documentId, String title, String documentUrl, List<String> passages) {
+    }
+
+    public record Hit(Long documentId, String title, String documentUrl, int ordinal, String text, double score) {
+    }
+
+    private record PassageKey(long documentId, int ordinal) implements Comparable<PassageKey> {
+
+        private static final Comparator<PassageKey> ORDER = Comparator.comparingLong(PassageKey::documentId)
+                .thenComparingInt(PassageKey::ordinal);
+
+        @Override
+        public int compareTo(PassageKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Replaces the contents with a snapshot of all sources; see
+     * {@link DocumentSearchIndex#rebuild}.
+     */
+    public void rebuild(Supplier<? extends Collection<Source>> snapshot) {
+        index.rebuild(() -> snapshot.get().stream()
+                .flatMap(source -> entries(source).stream())
+                .toList());
+    }
+
+    public void put(Source source) {
+        index.put(source.documentId(), entries(source));
+    }
+
+    public void remove(Long documentId) {
+        index.remove(documentId);
+    }
+
+    /**
+     * Number of passages.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    public int documentCount() {
+        return index.documentCount();
+    }
+
+    /**
+     * @return at most {@code limit} passages, best match first
+     */
+    public List<Hit> search(String question, int limit) {
+        return index.search(question, source -> true, limit).stream()
+                .map(match -> {
+                    Source source = match.value();
+                    int ordinal = match.key().ordinal();
+                    return new Hit(source.documentId(), source.title(), source.documentUrl(), ordinal,
+                            source.passages().get(ordinal), match.score());
+                })
+                .toList();
+    }
+
+    private static List<DocumentSearchIndex.Entry<PassageKey, Source>> entries(Source source) {
+        if (source.documentId() == null) {
+            return List.of();
+        }
+        Map<String, Integer> titleTerms = DocumentSearchIndex.countTerms(new HashMap<>(), source.title(), 1);
+        List<DocumentSearchIndex.Entry<PassageKey, Source>> entries = new ArrayList<>(source.passages().size());
+        for (int ordinal = 0; ordinal < source.passages().size(); ordinal++) {
+            Map<String, Integer> terms = DocumentSearchIndex.countTerms(new HashMap<>(titleTerms),
+                    source.passages().get(ordinal), 1);
+            entries.add(new DocumentSearchIndex.Entry<>(source.documentId(),
+                    new PassageKey(source.documentId(), ordinal), source, terms));
+        }
+        return entries;
+    }
+}
@@ -19,8 +19,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -34,6 +36,7 @@ public class PlotService {
     FarmRepository farmRepository;
     SeasonRepository seasonRepository;
     PlotMapper plotMapper;
+    YieldModelService yieldModelService;
 
     /**
      * Legacy create method that accepts userId inside the request.
@@ -61,7 +64,7 @@ public class PlotService {
 
     public PlotResponse update(Integer id, org.example.QuanLyMuaVu.DTO.Request.PlotRequest request) {
         Plot plot = plotRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.PLOT_NOT_FOUND));
-        plotMapper.updateEntity(plot, request);
+        updateExisting(plot, request);
         return plotMapper.toResponse(plotRepository.save(plot));
     }
 
@@ -75,7 +78,7 @@ public class PlotService {
 
     public List<PlotResponse> listPlotsForCurrentFarmer() {
         User currentUser = getCurrentUser();
-        return plotRepository.findAllByUser(currentUser).stream()
+        return plotRepository.findListItemsByUserId(currentUser.getId()).stream()
                 .map(plotMapper::toResponse)
                 .toList();
     }
@@ -87,7 +90,7 @@ public class PlotService {
         if (!farm.getOwner().getId().equals(currentUser.getId())) {
             throw new AppException(ErrorCode.FORBIDDEN);
         }
-        return plotRepository.findAllByFarm(farm).stream()
+        return plotRepository.findListItemsByFarmId(farm.getId()).stream()
                 .map(plotMapper::toResponse)
                 .toList();
     }
@@ -164,7 +167,7 @@ public class PlotService {
             throw new AppException(ErrorCode.PLOT_NAME_EXISTS);
         }
 
-        plotMapper.updateEntity(plot, request);
+        updateExisting(plot, request);
 
         Plot saved = plotRepository.save(plot);
         return plotMapper.toResponse(saved);
@@ -181,6 +184,21 @@ public class PlotService {
         plotRepository.delete(plot);
     }
 
+    /**
+     * Applies the request to a plot that may already have seasons; the yield
+     * models use its area and soil type, so a change to either re-reads them.
+     */
+    private void updateExisting(Plot plot, org.example.QuanLyMuaVu.DTO.Request.PlotRequest request) {
+        BigDecimal area = plot.getArea();
+        String soilType = plot.getSoilType();
+        plotMapper.updateEntity(plot, request);
+        boolean areaChanged = area == null ? plot.getArea() != null
+                : plot.getArea() == null || area.compareTo(plot.getArea()) != 0;
+        if (areaChanged || !Objects.equals(soilType, plot.getSoilType())) {
+            yieldModelService.markPlotChanged(plot.getId());
+        }
+    }
+
     private void ensureNoActiveSeasons(Plot plot) {
         Set<SeasonStatus> activeStatuses = EnumSet.of(SeasonStatus.PLANNED, SeasonStatus.ACTIVE);
         boolean hasActive = seasonRepository.existsByPlot_IdAndStatusIn(plot.getId(), activeStatuses);
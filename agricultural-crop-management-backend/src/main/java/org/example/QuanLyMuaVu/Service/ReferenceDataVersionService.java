@@ -0,0 +1,84 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-table version counters for rarely changing reference data.
+ * <p>
+ * Controllers derive ETag and Last-Modified headers from these versions, so a
+ * conditional GET can be answered with 304 without querying the database.
+ * Counters start at the boot timestamp, which keeps ETags from an earlier run
+ * from matching after a restart. Versions live in memory, so every instance
+ * behind a load balancer tracks changes made through itself only.
+ */
+@Slf4j
+@Service
+public class ReferenceDataVersionService {
+
+    public enum Table {
+        CROPS,
+        VARIETIES,
+        PROVINCES,
+        WARDS
+    }
+
+    /**
+     * Snapshot of a table version.
+     *
+     * @param counter      monotonically increasing version
+     * @param lastModified change time in epoch millis, truncated to seconds
+     */
+    public record Version(long counter, long lastModified) {
+    }
+
+    private final Map<Table, AtomicReference<Version>> versions = new EnumMap<>(Table.class);
+
+    public ReferenceDataVersionService() {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicReference<>(new Version(now, now)));
+        }
+    }
+
+    public Version getVersion(Table table) {
+        return versions.get(table).get();
+    }
+
+    /**
+     * Bumps the given tables. Inside a transaction the bump is deferred until
+     * after commit, so a client can never cache uncommitted data under a new ETag.
+     */
+    public void markChanged(Table... tables) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(tables);
+                }
+            });
+        } else {
+            bump(tables);
+        }
+    }
+
+    private void bump(Table... tables) {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        for (Table table : tables) {
+            versions.get(table).updateAndGet(current -> new Version(current.counter() + 1,
+                    Math.max(now, current.lastModified())));
+            log.debug("Reference data {} changed", table);
+        }
+    }
+
+    private static long truncateToSeconds(long millis) {
+        // HTTP dates have second precision
+        return millis / 1000 * 1000;
+    }
+}
@@ -0,0 +1,366 @@
+package org.example.QuanLyMuaVu.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.DTO.Request.AdminReportFilter;
+import org.example.QuanLyMuaVu.DTO.Request.ReportJobRequest;
+import org.example.QuanLyMuaVu.DTO.Response.ReportJobResponse;
+import org.example.QuanLyMuaVu.Enums.ReportJobStatus;
+import org.example.QuanLyMuaVu.Enums.ReportType;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Util.ThreadFactories;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs the season-based admin reports (yield, cost, revenue, profit) as
+ * background jobs.
+ * <p>
+ * Jobs go to a fixed pool of {@code app.reports.workers} threads with a queue
+ * of {@code app.reports.queue-capacity}; submissions beyond that are refused
+ * rather than piling up. A job for the same report and date range / filters as
+ * a queued, running or recently finished one returns that job instead of
+ * starting another. The result is stored as gzipped JSON (the body the
+ * synchronous endpoint would return) under {@code app.reports.root} and kept
+ * for {@code app.reports.result-ttl}.
+ * <p>
+ * Job state is held in memory: it does not survive a restart, and result files
+ * left from a previous run are deleted on startup.
+ */
+@Slf4j
+@Service
+public class ReportJobService implements DisposableBean {
+
+    private static final String RESULT_SUFFIX = ".json.gz";
+
+    private final AdminReportsService adminReportsService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path root;
+    private final Duration resultTtl;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, String> jobIdsByKey = new ConcurrentHashMap<>();
+
+    public ReportJobService(AppProperties appProperties, AdminReportsService adminReportsService,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager, Environment environment) {
+        AppProperties.Reports config = appProperties.getReports();
+        this.adminReportsService = adminReportsService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.root = Paths.get(config.getRoot()).toAbsolutePath().normalize();
+        this.resultTtl = config.getResultTtl();
+
+        int workers = Math.max(1, config.getWorkers());
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                ThreadFactories.named("report-job-", Threading.VIRTUAL.isActive(environment)));
+        deleteLeftoverResults();
+    }
+
+    public ReportJobResponse submit(ReportJobRequest request) {
+        purgeExpired();
+        AdminReportFilter filter = copyOf(request.getFilter());
+        JobKey key = JobKey.of(request.getType(), filter);
+
+        synchronized (this) {
+            Job existing = findByKey(key);
+            if (existing != null) {
+                log.info("Report job {} already covers {} {}, reusing it", existing.id, key.type(), filter);
+                return toResponse(existing);
+            }
+
+            Job job = new Job(UUID.randomUUID().toString(), request.getType(), filter, key);
+            try {
+                job.future = executor.submit(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                log.warn("Report job queue is full, refusing {} {}", key.type(), filter);
+                throw new AppException(ErrorCode.REPORT_QUEUE_FULL);
+            }
+            jobs.put(job.id, job);
+            jobIdsByKey.put(key, job.id);
+            log.info("Queued report job {} for {} {}", job.id, key.type(), filter);
+            return toResponse(job);
+        }
+    }
+
+    public ReportJobResponse get(String id) {
+        purgeExpired();
+        return toResponse(require(id));
+    }
+
+    public synchronized ReportJobResponse cancel(String id) {
+        Job job = require(id);
+        if (job.cancel()) {
+            job.future.cancel(true);
+            // Drop the cancelled task from the queue so it no longer takes a slot
+            executor.purge();
+            log.info("Cancelled report job {}", id);
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Gzipped JSON result of a succeeded job.
+     */
+    public Path getResult(String id) {
+        purgeExpired();
+        Job job = require(id);
+        if (job.status != ReportJobStatus.SUCCEEDED || job.result == null || !Files.exists(job.result)) {
+            throw new AppException(ErrorCode.REPORT_JOB_NOT_READY);
+        }
+        return job.result;
+    }
+
+    private void run(Job job) {
+        if (!job.start()) {
+            return;
+        }
+        Path temp = null;
+        try {
+            AdminReportsService.ReportProgress progress = percent -> {
+                if (Thread.currentThread().isInterrupted() || job.status == ReportJobStatus.CANCELLED) {
+                    throw new CancellationException();
+                }
+                job.progress = percent;
+            };
+            Object result = readOnlyTransaction.execute(tx -> build(job, progress));
+            progress.update(90);
+
+            Files.createDirectories(root);
+            temp = Files.createTempFile(root, job.id, ".part");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, ApiResponse.success(result));
+            }
+            Path target = root.resolve(job.id + RESULT_SUFFIX);
+            move(temp, target);
+            temp = null;
+
+            job.result = target;
+            if (job.finish(ReportJobStatus.SUCCEEDED, null)) {
+                log.info("Report job {} finished in {} ms", job.id,
+                        Duration.between(job.startedAt, job.finishedAt).toMillis());
+            } else {
+                // Cancelled while the result was being written
+                Files.deleteIfExists(target);
+            }
+        } catch (CancellationException e) {
+            job.finish(ReportJobStatus.CANCELLED, null);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || job.status == ReportJobStatus.CANCELLED) {
+                job.finish(ReportJobStatus.CANCELLED, null);
+            } else {
+                log.error("Report job {} failed: {}", job.id, e.getMessage(), e);
+                job.finish(ReportJobStatus.FAILED, e.getMessage());
+            }
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private Object build(Job job, AdminReportsService.ReportProgress progress) {
+        return switch (job.type) {
+            case YIELD -> adminReportsService.buildYieldReport(job.filter, progress);
+            case COST -> adminReportsService.buildCostReport(job.filter, progress);
+            case REVENUE -> adminReportsService.buildRevenueReport(job.filter, progress);
+            case PROFIT -> adminReportsService.buildProfitReport(job.filter, progress);
+        };
+    }
+
+    /**
+     * Active or fresh succeeded job for the key; failed and cancelled jobs are
+     * not reused so that resubmitting retries them.
+     */
+    private Job findByKey(JobKey key) {
+        String id = jobIdsByKey.get(key);
+        Job job = id != null ? jobs.get(id) : null;
+        if (job == null) {
+            return null;
+        }
+        ReportJobStatus status = job.status;
+        return !status.isFinished() || status == ReportJobStatus.SUCCEEDED ? job : null;
+    }
+
+    private Job require(String id) {
+        Job job = id != null ? jobs.get(id) : null;
+        if (job == null) {
+            throw new AppException(ErrorCode.REPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * Forgets finished jobs older than the TTL and deletes their results.
+     */
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(resultTtl);
+        for (Job job : jobs.values()) {
+            LocalDateTime finishedAt = job.finishedAt;
+            if (finishedAt != null && finishedAt.isBefore(cutoff) && jobs.remove(job.id, job)) {
+                jobIdsByKey.remove(job.key, job.id);
+                deleteQuietly(job.result);
+                log.debug("Expired report job {}", job.id);
+            }
+        }
+    }
+
+    private void deleteLeftoverResults() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, "*{" + RESULT_SUFFIX + ",.part}")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean report results under {}: {}", root, e.getMessage());
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static AdminReportFilter copyOf(AdminReportFilter filter) {
+        if (filter == null) {
+            return new AdminReportFilter();
+        }
+        return AdminReportFilter.builder()
+                .year(filter.getYear())
+                .fromDate(filter.getFromDate())
+                .toDate(filter.getToDate())
+                .cropId(filter.getCropId())
+                .farmId(filter.getFarmId())
+                .plotId(filter.getPlotId())
+                .build();
+    }
+
+    private static ReportJobResponse toResponse(Job job) {
+        return ReportJobResponse.builder()
+                .id(job.id)
+                .type(job.type)
+                .filter(job.filter)
+                .status(job.status)
+                .progress(job.progress)
+                .createdAt(job.createdAt)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .error(job.error)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Dedupe key: the report type and the effective range, so {@code year=2024}
+     * and the equivalent explicit dates share a job.
+     */
+    private record JobKey(ReportType type, LocalDate from, LocalDate to, Integer cropId, Integer farmId,
+            Integer plotId) {
+
+        static JobKey of(ReportType type, AdminReportFilter filter) {
+            return new JobKey(type, filter.getEffectiveFromDate(), filter.getEffectiveToDate(),
+                    filter.getCropId(), filter.getFarmId(), filter.getPlotId());
+        }
+    }
+
+    private static final class Job {
+        final String id;
+        final ReportType type;
+        final AdminReportFilter filter;
+        final JobKey key;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+        volatile int progress;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+        volatile Path result;
+        volatile Future<?> future;
+
+        Job(String id, ReportType type, AdminReportFilter filter, JobKey key) {
+            this.id = id;
+            this.type = type;
+            this.filter = filter;
+            this.key = key;
+        }
+
+        synchronized boolean start() {
+            if (status != ReportJobStatus.QUEUED) {
+                return false;
+            }
+            status = ReportJobStatus.RUNNING;
+            startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        /**
+         * Moves an unfinished job to a final state; false if it already had one.
+         */
+        synchronized boolean finish(ReportJobStatus finalStatus, String message) {
+            if (status.isFinished()) {
+                return false;
+            }
+            if (finalStatus == ReportJobStatus.SUCCEEDED) {
+                progress = 100;
+            }
+            status = finalStatus;
+            error = message;
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+
+        boolean cancel() {
+            return finish(ReportJobStatus.CANCELLED, null);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Request.BulkCreateSeasonRequest;
+import org.example.QuanLyMuaVu.DTO.Request.CreateSeasonRequest;
+import org.example.QuanLyMuaVu.DTO.Response.BulkCreateSeasonResponse;
+import org.example.QuanLyMuaVu.Entity.Crop;
+import org.example.QuanLyMuaVu.Entity.Plot;
+import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Entity.User;
+import org.example.QuanLyMuaVu.Entity.Variety;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Pattern.Factory.SeasonFactory;
+import org.example.QuanLyMuaVu.Pattern.Observer.SeasonCreatedEvent;
+import org.example.QuanLyMuaVu.Pattern.Observer.SeasonsPlannedEvent;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.PlotRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Repository.VarietyRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plans one season on many plots in a single transaction.
+ * <p>
+ * Ownership, locking and the overlap rule run as one set-based query each
+ * instead of once per plot, seasons are built by {@link SeasonFactory} and
+ * written with a single JDBC batch. Plots that fail a check are reported in
+ * the response and do not stop the others from being planned.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SeasonBulkPlanningService {
+
+    static final String SQL_INSERT_SEASON = "insert into seasons (season_name, plot_id, crop_id, variety_id, "
+            + "start_date, planned_harvest_date, end_date, status, initial_plant_count, current_plant_count, "
+            + "expected_yield_kg, notes, created_at, effective_end_date) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String STATUS_CREATED = "CREATED";
+    static final String STATUS_REJECTED = "REJECTED";
+
+    PlotRepository plotRepository;
+    SeasonRepository seasonRepository;
+    CropRepository cropRepository;
+    VarietyRepository varietyRepository;
+    FarmAccessService farmAccessService;
+    SeasonFactory seasonFactory;
+    JdbcTemplate jdbcTemplate;
+    ApplicationEventPublisher eventPublisher;
+    SeasonProgressService seasonProgressService;
+
+    @Transactional
+    public BulkCreateSeasonResponse planSeasons(BulkCreateSeasonRequest request) {
+        long startedAt = System.currentTimeMillis();
+        User currentUser = farmAccessService.getCurrentUser();
+
+        Crop crop = cropRepository.findById(request.getCropId())
+                .orElseThrow(() -> new AppException(ErrorCode.CROP_NOT_FOUND));
+        Variety variety = null;
+        if (request.getVarietyId() != null) {
+            variety = varietyRepository.findById(request.getVarietyId())
+                    .orElseThrow(() -> new AppException(ErrorCode.RESOURCE_NOT_FOUND));
+            if (!variety.getCrop().getId().equals(crop.getId())) {
+                throw new AppException(ErrorCode.BAD_REQUEST);
+            }
+        }
+
+        LocalDate start = request.getStartDate();
+        LocalDate planned = request.getPlannedHarvestDate();
+        LocalDate end = request.getEndDate();
+        if (start == null
+                || (planned != null && planned.isBefore(start))
+                || (end != null && end.isBefore(start))) {
+            throw new AppException(ErrorCode.INVALID_SEASON_DATES);
+        }
+
+        Set<Integer> plotIds = new LinkedHashSet<>(request.getPlotIds());
+        Map<Integer, BulkCreateSeasonResponse.PlotResult> results = new LinkedHashMap<>();
+        plotIds.forEach(plotId -> results.put(plotId, null));
+
+        // 1. Ownership for every plot in one query
+        Set<Integer> accessible = new HashSet<>();
+        Set<Integer> existing = new HashSet<>();
+        for (Plot plot : plotRepository.findAllWithOwnersByIdIn(plotIds)) {
+            existing.add(plot.getId());
+            if (farmAccessService.canAccessPlot(currentUser, plot)) {
+                accessible.add(plot.getId());
+            }
+        }
+        for (Integer plotId : plotIds) {
+            if (!existing.contains(plotId)) {
+                results.put(plotId, rejected(plotId, ErrorCode.PLOT_NOT_FOUND));
+            } else if (!accessible.contains(plotId)) {
+                results.put(plotId, rejected(plotId, ErrorCode.FORBIDDEN));
+            }
+        }
+
+        // 2. Lock the accessible plots, then probe overlaps for all of them at once
+        List<Integer> candidates = new ArrayList<>();
+        if (!accessible.isEmpty()) {
+            plotRepository.lockAllByIdIn(accessible);
+            Set<Integer> overlapping = new HashSet<>(seasonRepository.findPlotIdsWithOverlappingSeasons(
+                    accessible, SeasonOverlapService.BLOCKING_STATUSES, start, Season.effectiveEndOf(end, planned)));
+            for (Integer plotId : plotIds) {
+                if (!accessible.contains(plotId)) {
+                    continue;
+                }
+                if (overlapping.contains(plotId)) {
+                    results.put(plotId, rejected(plotId, ErrorCode.SEASON_OVERLAP));
+                } else {
+                    candidates.add(plotId);
+                }
+            }
+        }
+
+        // 3. Build through the factory and insert in one batch
+        List<Season> seasons = new ArrayList<>(candidates.size());
+        for (Integer plotId : candidates) {
+            seasons.add(seasonFactory.createWithEntities(toCreateRequest(request, plotId), currentUser,
+                    plotRepository.getReferenceById(plotId), crop, variety));
+        }
+        List<Integer> seasonIds = insertSeasons(seasons);
+        seasonProgressService.seasonsCreated(seasonIds);
+        List<SeasonCreatedEvent> createdEvents = new ArrayList<>(seasons.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Integer plotId = candidates.get(i);
+            seasons.get(i).setId(seasonIds.get(i));
+            createdEvents.add(new SeasonCreatedEvent(seasons.get(i), currentUser.getId()));
+            results.put(plotId, BulkCreateSeasonResponse.PlotResult.builder()
+                    .plotId(plotId)
+                    .status(STATUS_CREATED)
+                    .seasonId(seasonIds.get(i))
+                    .build());
+        }
+
+        if (!createdEvents.isEmpty()) {
+            // One event for the whole rollout so task templates expand in a single batch
+            eventPublisher.publishEvent(new SeasonsPlannedEvent(createdEvents));
+        }
+
+        log.info("Bulk season plan by user {}: {} plots requested, {} created in {} ms",
+                currentUser.getId(), plotIds.size(), candidates.size(), System.currentTimeMillis() - startedAt);
+
+        return BulkCreateSeasonResponse.builder()
+                .requested(plotIds.size())
+                .created(candidates.size())
+                .rejected(plotIds.size() - candidates.size())
+                .results(List.copyOf(results.values()))
+                .build();
+    }
+
+    private List<Integer> insertSeasons(List<Season> seasons) {
+        if (seasons.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(SQL_INSERT_SEASON, new String[] { "season_id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Season season = seasons.get(i);
+                        ps.setString(1, season.getSeasonName());
+                        ps.setInt(2, season.getPlot().getId());
+                        ps.setInt(3, season.getCrop().getId());
+                        if (season.getVariety() != null) {
+                            ps.setInt(4, season.getVariety().getId());
+                        } else {
+                            ps.setNull(4, Types.INTEGER);
+                        }
+                        ps.setDate(5, Date.valueOf(season.getStartDate()));
+                        ps.setDate(6, toSqlDate(season.getPlannedHarvestDate()));
+                        ps.setDate(7, toSqlDate(season.getEndDate()));
+                        ps.setString(8, season.getStatus().name());
+                        ps.setInt(9, season.getInitialPlantCount());
+                        ps.setInt(10, season.getCurrentPlantCount());
+                        ps.setBigDecimal(11, season.getExpectedYieldKg());
+                        ps.setString(12, season.getNotes());
+                        ps.setTimestamp(13, Timestamp.valueOf(now));
+                        // JDBC writes skip @PrePersist, so derive the overlap column here
+                        ps.setDate(14, Date.valueOf(
+                                Season.effectiveEndOf(season.getEndDate(), season.getPlannedHarvestDate())));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return seasons.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != seasons.size()) {
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        // Key column label differs per driver (GENERATED_KEY on MySQL, SEASON_ID on H2)
+        return keys.stream()
+                .map(row -> ((Number) row.values().iterator().next()).intValue())
+                .toList();
+    }
+
+    private static CreateSeasonRequest toCreateRequest(BulkCreateSeasonRequest request, Integer plotId) {
+        return CreateSeasonRequest.builder()
+                .plotId(plotId)
+                .cropId(request.getCropId())
+                .varietyId(request.getVarietyId())
+                .seasonName(request.getSeasonName())
+                .startDate(request.getStartDate())
+                .plannedHarvestDate(request.getPlannedHarvestDate())
+                .endDate(request.getEndDate())
+                .initialPlantCount(request.getInitialPlantCount())
+                .expectedYieldKg(request.getExpectedYieldKg())
+                .notes(request.getNotes())
+                .build();
+    }
+
+    private static BulkCreateSeasonResponse.PlotResult rejected(Integer plotId, ErrorCode errorCode) {
+        return BulkCreateSeasonResponse.PlotResult.builder()
+                .plotId(plotId)
+                .status(STATUS_REJECTED)
+                .errorCode(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
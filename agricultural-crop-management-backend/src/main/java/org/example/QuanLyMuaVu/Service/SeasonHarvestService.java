@@ -38,6 +38,7 @@ public class SeasonHarvestService {
     SeasonRepository seasonRepository;
     HarvestMapper harvestMapper;
     FarmAccessService farmAccessService;
+    YieldModelService yieldModelService;
 
     public PageResponse<HarvestResponse> listHarvestsForSeason(
             Integer seasonId,
@@ -183,5 +184,6 @@ public class SeasonHarvestService {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         season.setActualYieldKg(total);
         seasonRepository.save(season);
+        yieldModelService.markSeasonChanged(season.getId());
     }
 }
@@ -0,0 +1,58 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Enums.SeasonStatus;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.PlotRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Single place for the "no overlapping PLANNED/ACTIVE seasons on a plot" rule.
+ * <p>
+ * The plot row is locked before the overlap probe, so two concurrent creates
+ * or updates on the same plot run one after the other and the second one sees
+ * the first one's season. Callers must run inside the transaction that also
+ * saves the season, otherwise the lock would be released too early.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SeasonOverlapService {
+
+    static final Set<SeasonStatus> BLOCKING_STATUSES = EnumSet.of(SeasonStatus.PLANNED, SeasonStatus.ACTIVE);
+
+    PlotRepository plotRepository;
+    SeasonRepository seasonRepository;
+
+    /**
+     * @param excludeSeasonId season being updated, or null on create
+     * @throws AppException SEASON_OVERLAP when another blocking season overlaps
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertNoOverlap(Integer plotId, LocalDate startDate, LocalDate plannedHarvestDate,
+            LocalDate endDate, Integer excludeSeasonId) {
+        if (plotId == null || startDate == null) {
+            throw new AppException(ErrorCode.INVALID_SEASON_DATES);
+        }
+
+        plotRepository.findByIdForUpdate(plotId)
+                .orElseThrow(() -> new AppException(ErrorCode.PLOT_NOT_FOUND));
+
+        LocalDate effectiveEnd = Season.effectiveEndOf(endDate, plannedHarvestDate);
+        if (seasonRepository.existsOverlappingSeason(plotId, BLOCKING_STATUSES, startDate, effectiveEnd,
+                excludeSeasonId)) {
+            throw new AppException(ErrorCode.SEASON_OVERLAP);
+        }
+    }
+}
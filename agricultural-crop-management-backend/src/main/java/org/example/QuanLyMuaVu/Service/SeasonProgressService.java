@@ -0,0 +1,201 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Response.SeasonProgressResponse;
+import org.example.QuanLyMuaVu.Entity.SeasonProgress;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+import org.example.QuanLyMuaVu.Repository.IncidentRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonProgressRepository;
+import org.example.QuanLyMuaVu.Repository.TaskRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Per-season task and incident counters ({@code season_progress}).
+ * <p>
+ * A season's row is created, zeroed, in the transaction that creates the
+ * season, and seasons from before the counters get theirs at startup, before
+ * the application takes requests. Every service that creates, deletes or
+ * changes the status of a task or incident reports it here. The change is
+ * applied as an increment in the same transaction, so the counters commit or
+ * roll back with it and concurrent changes add up instead of overwriting each
+ * other. Reading progress is then a primary-key lookup. A season that still
+ * has no row (its rows were written around the services, e.g. by the dataset
+ * generator) is counted from its committed tasks and incidents on first read.
+ */
+@Slf4j
+@Service
+public class SeasonProgressService implements SmartInitializingSingleton {
+
+    static final Set<IncidentStatus> OPEN_INCIDENT_STATUSES = EnumSet.of(IncidentStatus.OPEN,
+            IncidentStatus.IN_PROGRESS);
+
+    private final SeasonProgressRepository seasonProgressRepository;
+    private final TaskRepository taskRepository;
+    private final IncidentRepository incidentRepository;
+    private final TransactionTemplate newTransaction;
+
+    public SeasonProgressService(SeasonProgressRepository seasonProgressRepository, TaskRepository taskRepository,
+            IncidentRepository incidentRepository, PlatformTransactionManager transactionManager) {
+        this.seasonProgressRepository = seasonProgressRepository;
+        this.taskRepository = taskRepository;
+        this.incidentRepository = incidentRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Creates the season's zeroed row; call in the transaction that inserts
+     * the season.
+     */
+    public void seasonCreated(Integer seasonId) {
+        seasonProgressRepository.insertEmpty(seasonId, LocalDateTime.now());
+    }
+
+    public void seasonsCreated(Collection<Integer> seasonIds) {
+        LocalDateTime now = LocalDateTime.now();
+        seasonIds.forEach(seasonId -> seasonProgressRepository.insertEmpty(seasonId, now));
+    }
+
+    /**
+     * Counts the seasons that have no row yet. Runs once the beans are ready
+     * but before the web server and schedulers start, so no increment can
+     * miss a row that is being counted.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            Integer created = newTransaction.execute(status -> seasonProgressRepository.insertMissing(
+                    TaskStatus.DONE.name(), TaskStatus.OVERDUE.name(), TaskStatus.CANCELLED.name(),
+                    OPEN_INCIDENT_STATUSES.stream().map(Enum::name).toList(), LocalDateTime.now()));
+            if (created != null && created > 0) {
+                log.info("Counted progress of {} seasons without counters", created);
+            }
+        } catch (DataAccessException e) {
+            // Those seasons are counted on first read instead
+            log.warn("Could not count progress of existing seasons: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records a task status change.
+     *
+     * @param from status before, null for a new task
+     * @param to   status after, null for a deleted task
+     */
+    public void taskChanged(Integer seasonId, TaskStatus from, TaskStatus to) {
+        tasksChanged(seasonId, from, to, 1);
+    }
+
+    /**
+     * Records {@code count} new tasks created with the same status.
+     */
+    public void tasksCreated(Integer seasonId, TaskStatus status, int count) {
+        tasksChanged(seasonId, null, status, count);
+    }
+
+    /**
+     * Records an incident status change.
+     *
+     * @param from status before, null for a new incident
+     * @param to   status after, null for a deleted incident
+     */
+    public void incidentChanged(Integer seasonId, IncidentStatus from, IncidentStatus to) {
+        increment(seasonId, 0, 0, 0, 0, openCount(to) - openCount(from));
+    }
+
+    public void seasonDeleted(Integer seasonId) {
+        if (seasonId != null && seasonProgressRepository.existsById(seasonId)) {
+            seasonProgressRepository.deleteById(seasonId);
+        }
+    }
+
+    public SeasonProgressResponse getProgress(Integer seasonId) {
+        SeasonProgress progress = seasonProgressRepository.findById(seasonId)
+                .orElseGet(() -> initialize(seasonId));
+        int active = progress.getTotalTasks() - progress.getCancelledTasks();
+        double percent = active > 0 ? Math.round(progress.getDoneTasks() * 1000.0 / active) / 10.0 : 0;
+        return SeasonProgressResponse.builder()
+                .seasonId(progress.getSeasonId())
+                .totalTasks(progress.getTotalTasks())
+                .doneTasks(progress.getDoneTasks())
+                .overdueTasks(progress.getOverdueTasks())
+                .cancelledTasks(progress.getCancelledTasks())
+                .openIncidents(progress.getOpenIncidents())
+                .progressPercent(percent)
+                .updatedAt(progress.getUpdatedAt())
+                .build();
+    }
+
+    private void tasksChanged(Integer seasonId, TaskStatus from, TaskStatus to, int count) {
+        if (from == to) {
+            return;
+        }
+        int total = (from == null ? count : 0) - (to == null ? count : 0);
+        increment(seasonId, total,
+                delta(from, to, TaskStatus.DONE, count),
+                delta(from, to, TaskStatus.OVERDUE, count),
+                delta(from, to, TaskStatus.CANCELLED, count),
+                0);
+    }
+
+    private void increment(Integer seasonId, int total, int done, int overdue, int cancelled, int openIncidents) {
+        if (seasonId == null || (total == 0 && done == 0 && overdue == 0 && cancelled == 0 && openIncidents == 0)) {
+            return;
+        }
+        int updated = seasonProgressRepository.increment(seasonId, total, done, overdue, cancelled, openIncidents,
+                LocalDateTime.now());
+        if (updated == 0) {
+            // Only for seasons written around the services; the first read counts them once committed
+            log.debug("Season {} has no progress row, change not counted", seasonId);
+        }
+    }
+
+    /**
+     * Counts the season in a transaction of its own, so the row is committed
+     * even when the caller only reads.
+     */
+    private SeasonProgress initialize(Integer seasonId) {
+        SeasonProgress counted = newTransaction.execute(status -> recount(seasonId));
+        try {
+            newTransaction.executeWithoutResult(status -> seasonProgressRepository.saveAndFlush(counted));
+            log.debug("Counted progress of season {}: {} tasks, {} open incidents", seasonId,
+                    counted.getTotalTasks(), counted.getOpenIncidents());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first read inserted it; both counted the same committed rows
+            log.debug("Progress row of season {} was created concurrently", seasonId);
+        }
+        return counted;
+    }
+
+    private SeasonProgress recount(Integer seasonId) {
+        return SeasonProgress.builder()
+                .seasonId(seasonId)
+                .totalTasks((int) taskRepository.countBySeason_Id(seasonId))
+                .doneTasks((int) taskRepository.countBySeason_IdAndStatus(seasonId, TaskStatus.DONE))
+                .overdueTasks((int) taskRepository.countBySeason_IdAndStatus(seasonId, TaskStatus.OVERDUE))
+                .cancelledTasks((int) taskRepository.countBySeason_IdAndStatus(seasonId, TaskStatus.CANCELLED))
+                .openIncidents((int) incidentRepository.countBySeason_IdAndStatusIn(seasonId, OPEN_INCIDENT_STATUSES))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static int delta(TaskStatus from, TaskStatus to, TaskStatus counted, int count) {
+        return (to == counted ? count : 0) - (from == counted ? count : 0);
+    }
+
+    private static int openCount(IncidentStatus status) {
+        return status != null && OPEN_INCIDENT_STATUSES.contains(status) ? 1 : 0;
+    }
+}
@@ -8,6 +8,7 @@ import org.example.QuanLyMuaVu.DTO.Request.CreateSeasonRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UpdateSeasonRequest;
 import org.example.QuanLyMuaVu.DTO.Request.UpdateSeasonStatusRequest;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonDetailResponse;
+import org.example.QuanLyMuaVu.DTO.Response.SeasonProgressResponse;
 import org.example.QuanLyMuaVu.DTO.Response.SeasonResponse;
 import org.example.QuanLyMuaVu.Entity.Crop;
 import org.example.QuanLyMuaVu.Entity.Plot;
@@ -18,18 +19,19 @@ import org.example.QuanLyMuaVu.Enums.SeasonStatus;
 import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
 import org.example.QuanLyMuaVu.Mapper.SeasonMapper;
+import org.example.QuanLyMuaVu.Pattern.Observer.SeasonCreatedEvent;
 import org.example.QuanLyMuaVu.Repository.CropRepository;
 import org.example.QuanLyMuaVu.Repository.ExpenseRepository;
 import org.example.QuanLyMuaVu.Repository.FieldLogRepository;
 import org.example.QuanLyMuaVu.Repository.HarvestRepository;
 import org.example.QuanLyMuaVu.Repository.PlotRepository;
-
+import org.example.QuanLyMuaVu.Repository.Projection.SeasonListItem;
 import org.example.QuanLyMuaVu.Repository.SeasonRepository;
 import org.example.QuanLyMuaVu.Repository.TaskRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
 import org.example.QuanLyMuaVu.Repository.VarietyRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -38,11 +40,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -63,6 +62,10 @@ public class SeasonService {
     TaskRepository taskRepository;
     FieldLogRepository fieldLogRepository;
     FarmAccessService farmAccessService;
+    SeasonOverlapService seasonOverlapService;
+    ApplicationEventPublisher eventPublisher;
+    YieldModelService yieldModelService;
+    SeasonProgressService seasonProgressService;
 
     /**
      * Legacy creation method kept for backward compatibility with existing
@@ -124,21 +127,6 @@ public class SeasonService {
         User currentUser = getCurrentUser();
 
         List<Integer> accessibleFarmIds = farmAccessService.getAccessibleFarmIdsForCurrentUser();
-        List<Season> all = new ArrayList<>();
-
-        if (!accessibleFarmIds.isEmpty()) {
-            all.addAll(seasonRepository.findAllByPlot_Farm_IdIn(accessibleFarmIds));
-        }
-        all.addAll(seasonRepository.findAllByPlot_User(currentUser));
-
-        // de-duplicate by season id while preserving order (latest first later)
-        Map<Integer, Season> byId = new LinkedHashMap<>();
-        for (Season season : all) {
-            if (season.getId() != null) {
-                byId.putIfAbsent(season.getId(), season);
-            }
-        }
-        all = new ArrayList<>(byId.values());
 
         SeasonStatus statusFilter = null;
         if (status != null && !status.isBlank()) {
@@ -149,44 +137,15 @@ public class SeasonService {
             }
         }
 
-        final Integer plotIdFilter = plotId;
-        final Integer cropIdFilter = cropId;
-        final SeasonStatus statusFilterFinal = statusFilter;
-        final LocalDate fromDate = from;
-        final LocalDate toDate = to;
-
-        List<SeasonResponse> filtered = all.stream()
-                .filter(season -> plotIdFilter == null
-                        || (season.getPlot() != null && plotIdFilter.equals(season.getPlot().getId())))
-                .filter(season -> cropIdFilter == null
-                        || (season.getCrop() != null && cropIdFilter.equals(season.getCrop().getId())))
-                .filter(season -> statusFilterFinal == null || statusFilterFinal.equals(season.getStatus()))
-                .filter(season -> {
-                    if (fromDate == null && toDate == null) {
-                        return true;
-                    }
-                    LocalDate sStart = season.getStartDate();
-                    LocalDate sEnd = season.getEndDate();
-                    if (sEnd == null) {
-                        sEnd = sStart;
-                    }
-                    LocalDate rangeStart = fromDate != null ? fromDate : sStart;
-                    LocalDate rangeEnd = toDate != null ? toDate : sEnd;
-                    return !sEnd.isBefore(rangeStart) && !sStart.isAfter(rangeEnd);
-                })
-                .sorted((s1, s2) -> Integer.compare(
-                        s2.getId() != null ? s2.getId() : 0,
-                        s1.getId() != null ? s1.getId() : 0))
-                .map(seasonMapper::toResponse)
-                .toList();
-
+        // IN () is not valid SQL; no farm has id 0, so this matches plots owned directly only
+        List<Integer> farmIds = accessibleFarmIds.isEmpty() ? List.of(0) : accessibleFarmIds;
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, filtered.size());
-        List<SeasonResponse> pageItems = fromIndex >= filtered.size() ? List.of()
-                : filtered.subList(fromIndex, toIndex);
-        Page<SeasonResponse> pageData = new PageImpl<>(pageItems, pageable, filtered.size());
+        Page<SeasonListItem> pageData = seasonRepository.findListItems(
+                farmIds, currentUser.getId(), plotId, cropId, statusFilter, from, to, pageable);
 
+        List<SeasonResponse> pageItems = pageData.getContent().stream()
+                .map(seasonMapper::toResponse)
+                .toList();
         return PageResponse.of(pageData, pageItems);
     }
 
@@ -220,7 +179,7 @@ public class SeasonService {
             throw new AppException(ErrorCode.INVALID_SEASON_DATES);
         }
 
-        validateNoOverlappingActiveOrPlannedSeasons(plot, start, request.getPlannedHarvestDate(), end, null);
+        seasonOverlapService.assertNoOverlap(plot.getId(), start, request.getPlannedHarvestDate(), end, null);
 
         Season season = Season.builder()
                 .plot(plot)
@@ -238,6 +197,8 @@ public class SeasonService {
                 .build();
 
         Season saved = seasonRepository.save(season);
+        seasonProgressService.seasonCreated(saved.getId());
+        eventPublisher.publishEvent(new SeasonCreatedEvent(saved));
         return seasonMapper.toDetailResponse(saved);
     }
 
@@ -248,6 +209,13 @@ public class SeasonService {
         return seasonMapper.toDetailResponse(season);
     }
 
+    public SeasonProgressResponse getSeasonProgressForCurrentFarmer(Integer id) {
+        Season season = seasonRepository.findById(id)
+                .orElseThrow(() -> new AppException(ErrorCode.SEASON_NOT_FOUND));
+        farmAccessService.assertCurrentUserCanAccessSeason(season);
+        return seasonProgressService.getProgress(season.getId());
+    }
+
     public SeasonDetailResponse updateSeason(Integer id, UpdateSeasonRequest request) {
         Season season = seasonRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.SEASON_NOT_FOUND));
@@ -273,8 +241,8 @@ public class SeasonService {
             throw new AppException(ErrorCode.INVALID_SEASON_DATES);
         }
 
-        validateNoOverlappingActiveOrPlannedSeasons(
-                season.getPlot(),
+        seasonOverlapService.assertNoOverlap(
+                season.getPlot().getId(),
                 start,
                 request.getPlannedHarvestDate(),
                 end,
@@ -299,6 +267,7 @@ public class SeasonService {
         }
 
         Season saved = seasonRepository.save(season);
+        yieldModelService.markSeasonChanged(saved.getId());
         return seasonMapper.toDetailResponse(saved);
     }
 
@@ -346,6 +315,7 @@ public class SeasonService {
         }
 
         Season saved = seasonRepository.save(season);
+        yieldModelService.markSeasonChanged(saved.getId());
         return seasonMapper.toResponse(saved);
     }
 
@@ -368,6 +338,7 @@ public class SeasonService {
         }
 
         seasonRepository.delete(season);
+        seasonProgressService.seasonDeleted(id);
     }
 
     private boolean isValidStatusTransition(SeasonStatus currentStatus, SeasonStatus targetStatus) {
@@ -390,67 +361,4 @@ public class SeasonService {
     private User getCurrentUser() {
         return farmAccessService.getCurrentUser();
     }
-
-    private void validateNoOverlappingActiveOrPlannedSeasons(
-            Plot plot,
-            LocalDate start,
-            LocalDate plannedHarvestDate,
-            LocalDate end,
-            Integer excludeSeasonId) {
-        if (plot == null || start == null) {
-            throw new AppException(ErrorCode.INVALID_SEASON_DATES);
-        }
-
-        LocalDate newStart = start;
-        LocalDate newEnd = end != null ? end : plannedHarvestDate;
-
-        List<Season> existing = seasonRepository.findAllByPlot_Id(plot.getId());
-        for (Season other : existing) {
-            if (excludeSeasonId != null && excludeSeasonId.equals(other.getId())) {
-                continue;
-            }
-            SeasonStatus status = other.getStatus();
-            if (status == null
-                    || (status != SeasonStatus.PLANNED && status != SeasonStatus.ACTIVE)) {
-                continue;
-            }
-
-            LocalDate otherStart = other.getStartDate();
-            LocalDate otherEnd = other.getEndDate() != null
-                    ? other.getEndDate()
-                    : other.getPlannedHarvestDate();
-
-            if (otherStart == null && otherEnd == null) {
-                // Conservatively treat undefined ranges as overlapping
-                throw new AppException(ErrorCode.SEASON_OVERLAP);
-            }
-
-            if (rangesOverlap(newStart, newEnd, otherStart, otherEnd)) {
-                throw new AppException(ErrorCode.SEASON_OVERLAP);
-            }
-        }
-    }
-
-    private boolean rangesOverlap(LocalDate start1, LocalDate end1, LocalDate start2, LocalDate end2) {
-        LocalDate s1 = start1;
-        LocalDate e1 = end1;
-        LocalDate s2 = start2;
-        LocalDate e2 = end2;
-
-        if (s1 == null || s2 == null) {
-            return true;
-        }
-
-        if (e1 != null && e2 != null) {
-            return !e1.isBefore(s2) && !e2.isBefore(s1);
-        }
-        if (e1 == null && e2 != null) {
-            return !e2.isBefore(s1);
-        }
-        if (e1 != null) { // e2 == null
-            return !e1.isBefore(s2);
-        }
-        // both open-ended
-        return true;
-    }
 }
@@ -15,10 +15,10 @@ import org.example.QuanLyMuaVu.Enums.SeasonStatus;
 import org.example.QuanLyMuaVu.Enums.TaskStatus;
 import org.example.QuanLyMuaVu.Exception.AppException;
 import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.Projection.TaskListItem;
 import org.example.QuanLyMuaVu.Repository.SeasonRepository;
 import org.example.QuanLyMuaVu.Repository.TaskRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -39,6 +39,7 @@ public class SeasonTaskService {
     TaskRepository taskRepository;
     SeasonRepository seasonRepository;
     FarmAccessService farmAccessService;
+    SeasonProgressService seasonProgressService;
 
     public PageResponse<TaskResponse> listTasksForSeason(
             Integer seasonId,
@@ -59,40 +60,13 @@ public class SeasonTaskService {
             }
         }
 
-        final TaskStatus statusFilterFinal = statusFilter;
-        final LocalDate fromFilter = from;
-        final LocalDate toFilter = to;
-
-        List<Task> all = taskRepository.findAllBySeason_Id(season.getId());
-
-        List<TaskResponse> items = all.stream()
-                .filter(task -> statusFilterFinal == null || statusFilterFinal.equals(task.getStatus()))
-                .filter(task -> {
-                    if (fromFilter == null && toFilter == null) {
-                        return true;
-                    }
-                    LocalDate date = task.getDueDate() != null ? task.getDueDate() : task.getPlannedDate();
-                    if (date == null) {
-                        return false;
-                    }
-                    boolean afterFrom = fromFilter == null || !date.isBefore(fromFilter);
-                    boolean beforeTo = toFilter == null || !date.isAfter(toFilter);
-                    return afterFrom && beforeTo;
-                })
-                .sorted((t1, t2) -> Integer.compare(
-                        t2.getId() != null ? t2.getId() : 0,
-                        t1.getId() != null ? t1.getId() : 0))
-                .map(this::toResponse)
-                .toList();
-
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, items.size());
-        List<TaskResponse> pageItems =
-                fromIndex >= items.size() ? List.of() : items.subList(fromIndex, toIndex);
-
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        Page<TaskResponse> pageData = new PageImpl<>(pageItems, pageable, items.size());
+        Page<TaskListItem> pageData = taskRepository.findListItemsBySeason(season.getId(), statusFilter, from, to,
+                pageable);
 
+        List<TaskResponse> pageItems = pageData.getContent().stream()
+                .map(this::toResponse)
+                .toList();
         return PageResponse.of(pageData, pageItems);
     }
 
@@ -117,6 +91,7 @@ public class SeasonTaskService {
                 .build();
 
         Task saved = taskRepository.save(task);
+        seasonProgressService.taskChanged(season.getId(), null, saved.getStatus());
         return toResponse(saved);
     }
 
@@ -188,6 +163,7 @@ public class SeasonTaskService {
         }
 
         Task saved = taskRepository.save(task);
+        seasonProgressService.taskChanged(saved.getSeason().getId(), currentStatus, targetStatus);
         return toResponse(saved);
     }
 
@@ -200,6 +176,7 @@ public class SeasonTaskService {
         }
 
         taskRepository.delete(task);
+        seasonProgressService.taskChanged(task.getSeason().getId(), task.getStatus(), null);
     }
 
     private boolean isValidStatusTransition(TaskStatus currentStatus, TaskStatus targetStatus) {
@@ -293,6 +270,20 @@ public class SeasonTaskService {
         return farmAccessService.getCurrentUser();
     }
 
+    private TaskResponse toResponse(TaskListItem item) {
+        return TaskResponse.builder()
+                .id(item.id())
+                .userName(item.userName())
+                .seasonName(item.seasonName())
+                .title(item.title())
+                .description(item.description())
+                .plannedDate(item.plannedDate())
+                .dueDate(item.dueDate())
+                .status(item.status() != null ? item.status().getCode() : null)
+                .createdAt(item.createdAt())
+                .build();
+    }
+
     private TaskResponse toResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
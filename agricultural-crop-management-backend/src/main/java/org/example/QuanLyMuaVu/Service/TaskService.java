@@ -23,6 +23,7 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final SeasonRepository seasonRepository;
+    private final SeasonProgressService seasonProgressService;
 
     public TaskResponse create(TaskRequest request) {
         User user = userRepository.findById(request.getUserId()).orElseThrow();
@@ -41,6 +42,7 @@ public class TaskService {
                 .status(request.getStatus() != null ? request.getStatus() : TaskStatus.PENDING)
                 .build();
         task = taskRepository.save(task);
+        seasonProgressService.taskChanged(seasonId(task), null, task.getStatus());
         return toResponse(task);
     }
 
@@ -50,6 +52,7 @@ public class TaskService {
 
     public TaskResponse update(Integer id, TaskRequest request) {
         Task task = taskRepository.findById(id).orElseThrow();
+        TaskStatus previousStatus = task.getStatus();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setPlannedDate(request.getPlannedDate());
@@ -57,11 +60,20 @@ public class TaskService {
         if (request.getStatus() != null) {
             task.setStatus(request.getStatus());
         }
-        return toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        seasonProgressService.taskChanged(seasonId(saved), previousStatus, saved.getStatus());
+        return toResponse(saved);
     }
 
     public void delete(Integer id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            seasonProgressService.taskChanged(seasonId(task), task.getStatus(), null);
+        });
+    }
+
+    private Integer seasonId(Task task) {
+        return task.getSeason() != null ? task.getSeason().getId() : null;
     }
 
     private TaskResponse toResponse(Task task) {
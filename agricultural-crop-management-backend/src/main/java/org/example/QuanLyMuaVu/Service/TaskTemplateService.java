@@ -0,0 +1,186 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.DTO.Request.CreateTaskRequest;
+import org.example.QuanLyMuaVu.DTO.Request.TaskTemplateRequest;
+import org.example.QuanLyMuaVu.DTO.Response.TaskTemplateResponse;
+import org.example.QuanLyMuaVu.Entity.Crop;
+import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Entity.Task;
+import org.example.QuanLyMuaVu.Entity.TaskTemplate;
+import org.example.QuanLyMuaVu.Entity.User;
+import org.example.QuanLyMuaVu.Entity.Variety;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Pattern.Factory.TaskFactory;
+import org.example.QuanLyMuaVu.Pattern.Observer.SeasonCreatedEvent;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.TaskTemplateRepository;
+import org.example.QuanLyMuaVu.Repository.VarietyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Crop/variety task templates and their expansion into season task lists.
+ * <p>
+ * Expansion builds tasks through {@link TaskFactory} and writes all of them,
+ * for any number of seasons, with JDBC batch inserts. Templates are loaded
+ * once per (crop, variety) pair in the batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Transactional
+public class TaskTemplateService {
+
+    static final String SQL_INSERT_TASK = "insert into tasks (user_id, season_id, title, description, "
+            + "planned_date, due_date, status, created_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    static final int BATCH_SIZE = 500;
+
+    TaskTemplateRepository taskTemplateRepository;
+    CropRepository cropRepository;
+    VarietyRepository varietyRepository;
+    TaskFactory taskFactory;
+    JdbcTemplate jdbcTemplate;
+    SeasonProgressService seasonProgressService;
+
+    @Transactional(readOnly = true)
+    public List<TaskTemplateResponse> getByCropId(Integer cropId) {
+        return taskTemplateRepository.findAllByCrop_IdOrderByOffsetDaysAscSortOrderAsc(cropId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    public TaskTemplateResponse create(TaskTemplateRequest request) {
+        TaskTemplate template = new TaskTemplate();
+        apply(template, request);
+        return toResponse(taskTemplateRepository.save(template));
+    }
+
+    public TaskTemplateResponse update(Integer id, TaskTemplateRequest request) {
+        TaskTemplate template = taskTemplateRepository.findById(id)
+                .orElseThrow(() -> new AppException(ErrorCode.RESOURCE_NOT_FOUND));
+        apply(template, request);
+        return toResponse(taskTemplateRepository.save(template));
+    }
+
+    public void delete(Integer id) {
+        if (!taskTemplateRepository.existsById(id)) {
+            throw new AppException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        taskTemplateRepository.deleteById(id);
+    }
+
+    /**
+     * Expands the applicable templates of every given season into tasks.
+     *
+     * @return number of tasks inserted
+     */
+    public int expandForSeasons(List<SeasonCreatedEvent> seasons) {
+        long startedAt = System.currentTimeMillis();
+        Map<List<Integer>, List<TaskTemplate>> templatesByCropVariety = new HashMap<>();
+        List<Task> tasks = new ArrayList<>();
+
+        for (SeasonCreatedEvent event : seasons) {
+            if (event.getSeasonId() == null || event.getCropId() == null
+                    || event.getStartDate() == null || event.getOwnerUserId() == null) {
+                continue;
+            }
+            List<TaskTemplate> templates = templatesByCropVariety.computeIfAbsent(
+                    Arrays.asList(event.getCropId(), event.getVarietyId()),
+                    key -> taskTemplateRepository.findApplicable(event.getCropId(), event.getVarietyId()));
+            if (templates.isEmpty()) {
+                continue;
+            }
+
+            // Only ids are read back, so detached stubs are enough
+            Season season = Season.builder().id(event.getSeasonId()).build();
+            User owner = User.builder().id(event.getOwnerUserId()).build();
+            for (TaskTemplate template : templates) {
+                CreateTaskRequest request = CreateTaskRequest.builder()
+                        .title(template.getTitle())
+                        .description(template.getDescription())
+                        .plannedDate(event.getStartDate().plusDays(template.getOffsetDays()))
+                        .dueDate(event.getStartDate().plusDays(
+                                (long) template.getOffsetDays() + template.getDurationDays()))
+                        .build();
+                tasks.add(taskFactory.createWithSeason(request, season, owner));
+            }
+        }
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(SQL_INSERT_TASK, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setLong(1, task.getUser().getId());
+            ps.setInt(2, task.getSeason().getId());
+            ps.setString(3, task.getTitle());
+            ps.setString(4, task.getDescription());
+            ps.setDate(5, Date.valueOf(task.getPlannedDate()));
+            ps.setDate(6, Date.valueOf(task.getDueDate()));
+            ps.setString(7, task.getStatus().name());
+            ps.setTimestamp(8, now);
+        });
+        // One counter update per season rather than per task
+        tasks.stream()
+                .collect(Collectors.groupingBy(task -> task.getSeason().getId(),
+                        Collectors.groupingBy(Task::getStatus, Collectors.counting())))
+                .forEach((seasonId, countsByStatus) -> countsByStatus.forEach((status, count) ->
+                        seasonProgressService.tasksCreated(seasonId, status, count.intValue())));
+        log.info("Expanded task templates: {} tasks for {} seasons in {} ms",
+                tasks.size(), seasons.size(), System.currentTimeMillis() - startedAt);
+        return tasks.size();
+    }
+
+    private void apply(TaskTemplate template, TaskTemplateRequest request) {
+        Crop crop = cropRepository.findById(request.getCropId())
+                .orElseThrow(() -> new AppException(ErrorCode.CROP_NOT_FOUND));
+        Variety variety = null;
+        if (request.getVarietyId() != null) {
+            variety = varietyRepository.findById(request.getVarietyId())
+                    .orElseThrow(() -> new AppException(ErrorCode.RESOURCE_NOT_FOUND));
+            if (!Objects.equals(variety.getCrop().getId(), crop.getId())) {
+                throw new AppException(ErrorCode.BAD_REQUEST);
+            }
+        }
+        template.setCrop(crop);
+        template.setVariety(variety);
+        template.setTitle(request.getTitle());
+        template.setDescription(request.getDescription());
+        template.setOffsetDays(request.getOffsetDays());
+        template.setDurationDays(request.getDurationDays());
+        template.setSortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0);
+        template.setActive(request.getActive() == null || request.getActive());
+    }
+
+    private TaskTemplateResponse toResponse(TaskTemplate template) {
+        return TaskTemplateResponse.builder()
+                .id(template.getId())
+                .cropId(template.getCrop() != null ? template.getCrop().getId() : null)
+                .varietyId(template.getVariety() != null ? template.getVariety().getId() : null)
+                .title(template.getTitle())
+                .description(template.getDescription())
+                .offsetDays(template.getOffsetDays())
+                .durationDays(template.getDurationDays())
+                .sortOrder(template.getSortOrder())
+                .active(template.getActive())
+                .build();
+    }
+}
@@ -0,0 +1,424 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Entity.Role;
+import org.example.QuanLyMuaVu.Entity.User;
+import org.example.QuanLyMuaVu.Enums.UserStatus;
+import org.example.QuanLyMuaVu.Repository.UserRepository;
+import org.example.QuanLyMuaVu.Util.TextUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory trigram index for admin user lookup over username, full name,
+ * email and phone.
+ * <p>
+ * Each indexed user gets a dense ordinal and every trigram of its folded
+ * fields points to a sorted int array of ordinals, so a keyword lookup is an
+ * intersection of a few arrays followed by a substring check on the
+ * candidates. Indexed words are padded like pg_trgm ("  a", " ab"), so a
+ * one- or two-character keyword matches word prefixes while longer keywords
+ * match anywhere inside a word. Updates append a new
+ * ordinal and tombstone the old one; the arrays are compacted once a quarter
+ * of the ordinals are dead. Updates committed while a rebuild reads its rows
+ * are replayed on top of them.
+ */
+@Slf4j
+@Service
+public class UserSearchIndex {
+
+    private static final int MIN_COMPACTION_GARBAGE = 1024;
+    private static final Pattern PHONE_LIKE = Pattern.compile("[\\d\\s+().-]{3,}");
+
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> ordinalByUserId = new HashMap<>();
+    private int dead;
+    private volatile boolean ready;
+    /**
+     * Updates made while a rebuild reads its rows; null otherwise.
+     */
+    private List<Runnable> pendingUpdates;
+
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Folded searchable fields of one user, plus the filters.
+     */
+    record Entry(long userId, UserStatus status, Set<String> roleCodes,
+            String username, String fullName, String email, String phone) {
+
+        boolean contains(String foldedKeyword, String digits) {
+            return username.contains(foldedKeyword)
+                    || fullName.contains(foldedKeyword)
+                    || email.contains(foldedKeyword)
+                    || (!digits.isEmpty() && phone.contains(digits));
+        }
+
+        int score(String foldedKeyword) {
+            if (username.equals(foldedKeyword) || email.equals(foldedKeyword)) {
+                return 100;
+            }
+            if (username.startsWith(foldedKeyword)) {
+                return 80;
+            }
+            if (fullName.startsWith(foldedKeyword) || fullName.contains(" " + foldedKeyword)) {
+                return 60;
+            }
+            if (email.startsWith(foldedKeyword)) {
+                return 50;
+            }
+            return 10;
+        }
+    }
+
+    /**
+     * One page of ranked user ids and the total number of matches.
+     */
+    public record Result(List<Long> userIds, long total) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, List<UserRepository.UserSearchRow>> rowsByUser;
+        try {
+            rowsByUser = userRepository.findAllSearchRows().stream()
+                    .collect(Collectors.groupingBy(UserRepository.UserSearchRow::getId, LinkedHashMap::new,
+                            Collectors.toList()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int trigramCount;
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            rowsByUser.forEach((userId, rows) -> {
+                UserRepository.UserSearchRow first = rows.get(0);
+                Set<String> roles = rows.stream()
+                        .map(UserRepository.UserSearchRow::getRoleCode)
+                        .filter(code -> code != null)
+                        .collect(Collectors.toUnmodifiableSet());
+                addLocked(toEntry(userId, first.getStatus(), roles, first.getUsername(), first.getFullName(),
+                        first.getEmail(), first.getPhone()));
+            });
+            // Users written while the rows were read
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+            trigramCount = postings.size();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("User search index built: {} users, {} trigrams in {} ms",
+                rowsByUser.size(), trigramCount, System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Re-indexes the user once the surrounding transaction commits, or right
+     * away when there is none.
+     */
+    public void putAfterCommit(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        Set<String> roles = user.getRoles() == null ? Set.of()
+                : user.getRoles().stream().map(Role::getCode).collect(Collectors.toUnmodifiableSet());
+        Entry entry = toEntry(user.getId(), user.getStatus(), roles, user.getUsername(), user.getFullName(),
+                user.getEmail(), user.getPhone());
+        afterCommit(() -> update(() -> {
+            removeLocked(entry.userId());
+            addLocked(entry);
+            compactIfNeededLocked();
+        }));
+    }
+
+    public void removeAfterCommit(Long userId) {
+        afterCommit(() -> update(() -> {
+            removeLocked(userId);
+            compactIfNeededLocked();
+        }));
+    }
+
+    /**
+     * Applies a change under the write lock and keeps it for replay if a
+     * rebuild is reading its rows.
+     */
+    private void update(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingUpdates != null) {
+                pendingUpdates.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param roleCode optional role filter
+     * @param status   optional status filter
+     */
+    public Result search(String keyword, String roleCode, UserStatus status, int page, int size) {
+        String folded = TextUtils.fold(keyword);
+        // Only phone-looking keywords such as "0912 345" are matched against phone digits
+        String digits = keyword != null && PHONE_LIKE.matcher(keyword.trim()).matches()
+                ? keyword.replaceAll("\\D", "")
+                : "";
+        if (folded.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            // Candidates must contain every trigram of the keyword or of its digits
+            int[] candidates = candidates(queryTrigrams(folded));
+            if (!digits.isEmpty() && !digits.equals(folded)) {
+                candidates = union(candidates, candidates(queryTrigrams(digits)));
+            }
+
+            List<Entry> matches = new ArrayList<>();
+            for (int ordinal : candidates) {
+                Entry entry = entries.get(ordinal);
+                if (entry == null
+                        || (status != null && entry.status() != status)
+                        || (roleCode != null && !entry.roleCodes().contains(roleCode))
+                        || !entry.contains(folded, digits)) {
+                    continue;
+                }
+                matches.add(entry);
+            }
+            matches.sort(Comparator.comparingInt((Entry entry) -> entry.score(folded)).reversed()
+                    .thenComparing(Comparator.comparingLong(Entry::userId).reversed()));
+
+            int from = (int) Math.min((long) page * size, matches.size());
+            int to = Math.min(from + size, matches.size());
+            List<Long> ids = matches.subList(from, to).stream().map(Entry::userId).toList();
+            return new Result(ids, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(Set<String> queryTrigrams) {
+        List<IntList> lists = new ArrayList<>(queryTrigrams.size());
+        for (String trigram : queryTrigrams) {
+            IntList list = postings.get(trigram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    private void addLocked(Entry entry) {
+        int ordinal = entries.size();
+        entries.add(entry);
+        ordinalByUserId.put(entry.userId(), ordinal);
+        Set<String> grams = new LinkedHashSet<>();
+        grams.addAll(trigrams(entry.username()));
+        grams.addAll(trigrams(entry.fullName()));
+        grams.addAll(trigrams(entry.email()));
+        grams.addAll(trigrams(entry.phone()));
+        // Ordinals only grow, so appending keeps every posting list sorted
+        grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new IntList()).add(ordinal));
+    }
+
+    private void removeLocked(Long userId) {
+        Integer ordinal = ordinalByUserId.remove(userId);
+        if (ordinal != null && entries.get(ordinal) != null) {
+            entries.set(ordinal, null);
+            dead++;
+        }
+    }
+
+    private void compactIfNeededLocked() {
+        if (dead < MIN_COMPACTION_GARBAGE || dead * 4 < entries.size()) {
+            return;
+        }
+        List<Entry> live = entries.stream().filter(entry -> entry != null).toList();
+        clearLocked();
+        live.forEach(this::addLocked);
+        log.info("User search index compacted to {} users", live.size());
+    }
+
+    private void clearLocked() {
+        postings.clear();
+        entries.clear();
+        ordinalByUserId.clear();
+        dead = 0;
+    }
+
+    private static Entry toEntry(Long userId, UserStatus status, Set<String> roles, String username,
+            String fullName, String email, String phone) {
+        return new Entry(userId, status, roles,
+                TextUtils.fold(username),
+                TextUtils.fold(fullName),
+                TextUtils.fold(email),
+                phone == null ? "" : phone.replaceAll("\\D", ""));
+    }
+
+    /**
+     * Trigrams of every word of folded text, padded at the word start: "abcd"
+     * yields "  a", " ab", "abc" and "bcd".
+     */
+    static Set<String> trigrams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : folded.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Trigrams a matching user must have: the unpadded trigrams of words of
+     * three or more characters, and the padded prefix trigram of shorter words.
+     */
+    static Set<String> queryTrigrams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : folded.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() < 3) {
+                grams.add(("  " + word).substring(word.length() - 1));
+                continue;
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            merged[n++] = next;
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Growable sorted int array.
+     */
+    static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        /**
+         * Values of {@code sorted} that are also in this list, by binary search.
+         */
+        int[] retainAll(int[] sorted) {
+            int[] kept = new int[sorted.length];
+            int n = 0;
+            int from = 0;
+            for (int value : sorted) {
+                int at = Arrays.binarySearch(data, from, size, value);
+                if (at >= 0) {
+                    kept[n++] = value;
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+            }
+            return Arrays.copyOf(kept, n);
+        }
+    }
+}
@@ -23,8 +23,10 @@ import org.example.QuanLyMuaVu.Mapper.FarmerMapper;
 import org.example.QuanLyMuaVu.Repository.RoleRepository;
 import org.example.QuanLyMuaVu.Repository.UserRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,6 +35,9 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.example.QuanLyMuaVu.DTO.Request.UserUpdateRequest;
 import org.example.QuanLyMuaVu.Repository.FarmRepository;
@@ -47,6 +52,8 @@ public class UserService {
     FarmRepository farmRepository;
     FarmerMapper farmerMapper;
     PasswordEncoder passwordEncoder;
+    UserSearchIndex userSearchIndex;
+    ApproximateCountService approximateCountService;
 
     public FarmerResponse createFarmer(FarmerCreationRequest request) {
         // Validate unique username
@@ -89,7 +96,7 @@ public class UserService {
         user.setStatus(UserStatus.ACTIVE);
 
         try {
-            user = userRepository.save(user);
+            user = saveAndIndex(user);
         } catch (DataIntegrityViolationException exception) {
             throw new AppException(ErrorCode.USER_EXISTED);
         }
@@ -112,7 +119,7 @@ public class UserService {
         user.setStatus(UserStatus.ACTIVE);
 
         try {
-            user = userRepository.save(user);
+            user = saveAndIndex(user);
         } catch (DataIntegrityViolationException exception) {
             throw new AppException(ErrorCode.USER_EXISTED);
         }
@@ -148,7 +155,7 @@ public class UserService {
         user.setStatus(UserStatus.ACTIVE);
 
         try {
-            user = userRepository.save(user);
+            user = saveAndIndex(user);
         } catch (DataIntegrityViolationException exception) {
             throw new AppException(ErrorCode.USER_EXISTED);
         }
@@ -180,7 +187,7 @@ public class UserService {
             user.setUsername(request.getUsername());
         }
 
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     public FarmerResponse changeMyPassword(FarmerUpdateRequest request) {
@@ -195,7 +202,7 @@ public class UserService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getPassword()));
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     public FarmerResponse updatePassword(Long farmerId, FarmerUpdateRequest request) {
@@ -207,7 +214,7 @@ public class UserService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getPassword()));
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     public FarmerResponse updateRoles(Long farmerId, FarmerUpdateRolesRequest request) {
@@ -235,7 +242,7 @@ public class UserService {
 
         user.setRoles(new HashSet<>(roles));
 
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     /**
@@ -256,6 +263,7 @@ public class UserService {
         }
 
         userRepository.deleteById(farmerId);
+        userSearchIndex.removeAfterCommit(farmerId);
     }
 
     public List<FarmerResponse> getFarmers() {
@@ -288,7 +296,7 @@ public class UserService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        saveAndIndex(user);
     }
 
     public PageResponse<FarmerResponse> searchFarmers(String keyword, String status, int page, int size) {
@@ -316,7 +324,9 @@ public class UserService {
             }
         }
 
-        Page<User> pageData = userRepository.searchAllUsers(searchKeyword, userStatus, pageable);
+        Page<User> pageData = searchKeyword != null && userSearchIndex.isReady()
+                ? searchIndexed(searchKeyword, null, userStatus, pageable)
+                : userRepository.searchAllUsers(searchKeyword, userStatus, pageable);
 
         List<FarmerResponse> items = pageData.getContent()
                 .stream()
@@ -326,6 +336,40 @@ public class UserService {
         return PageResponse.of(pageData, items);
     }
 
+    /**
+     * Variant of {@link #searchAllUsers} without the count query. Keyword
+     * searches served by the search index already know their total.
+     */
+    public PageResponse<FarmerResponse> sliceAllUsers(String keyword, String status, int page, int size,
+            boolean approximateTotal) {
+        String searchKeyword = (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
+        if (searchKeyword != null && userSearchIndex.isReady()) {
+            return searchAllUsers(keyword, status, page, size);
+        }
+
+        UserStatus userStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                userStatus = UserStatus.fromCode(status);
+            } catch (IllegalArgumentException ex) {
+                throw new AppException(ErrorCode.BAD_REQUEST);
+            }
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
+        Slice<User> userSlice = userRepository.sliceAllUsers(searchKeyword, userStatus, pageable);
+        PageResponse<FarmerResponse> response = PageResponse.ofSlice(userSlice, userSlice.getContent()
+                .stream()
+                .map(farmerMapper::toFarmerResponse)
+                .toList());
+        if (approximateTotal) {
+            UserStatus statusFilter = userStatus;
+            approximateCountService.fill(response, "users|" + searchKeyword + "|" + statusFilter,
+                    () -> userRepository.countAllUsers(searchKeyword, statusFilter));
+        }
+        return response;
+    }
+
     /**
      * Update user information (for admin)
      */
@@ -379,7 +423,7 @@ public class UserService {
             }
         }
 
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     public FarmerResponse adminUpdateUserProfile(Long userId, UserProfileUpdateRequest request) {
@@ -394,7 +438,7 @@ public class UserService {
             user.setUsername(request.getUsername());
         }
 
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     public FarmerResponse updateUserStatus(Long userId, UserStatusUpdateRequest request) {
@@ -409,7 +453,7 @@ public class UserService {
         }
 
         user.setStatus(newStatus);
-        return farmerMapper.toFarmerResponse(userRepository.save(user));
+        return farmerMapper.toFarmerResponse(saveAndIndex(user));
     }
 
     private PageResponse<FarmerResponse> searchUsersByRole(
@@ -433,7 +477,9 @@ public class UserService {
         }
 
         Page<User> pageData;
-        if (userStatus != null && hasKeyword) {
+        if (hasKeyword && userSearchIndex.isReady()) {
+            pageData = searchIndexed(searchKeyword, roleCode, userStatus, pageable);
+        } else if (userStatus != null && hasKeyword) {
             pageData = userRepository.findAllByRoles_CodeAndStatusAndUsernameContainingIgnoreCase(
                     roleCode, userStatus, searchKeyword, pageable);
         } else if (userStatus != null) {
@@ -453,6 +499,28 @@ public class UserService {
         return PageResponse.of(pageData, items);
     }
 
+    /**
+     * Keyword search through {@link UserSearchIndex}: ranked ids for the page,
+     * then one lookup by primary key.
+     */
+    private Page<User> searchIndexed(String keyword, String roleCode, UserStatus status, Pageable pageable) {
+        UserSearchIndex.Result result = userSearchIndex.search(
+                keyword, roleCode, status, pageable.getPageNumber(), pageable.getPageSize());
+        Map<Long, User> byId = userRepository.findAllById(result.userIds()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> content = result.userIds().stream()
+                .map(byId::get)
+                .filter(user -> user != null)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    private User saveAndIndex(User user) {
+        User saved = userRepository.save(user);
+        userSearchIndex.putAfterCommit(saved);
+        return saved;
+    }
+
     /**
      * Get user by username.
      * Used by controllers to get current user from authentication.
@@ -29,6 +29,7 @@ public class VarietyService {
     CropRepository cropRepository;
     VarietyMapper varietyMapper;
     SeasonRepository seasonRepository;
+    ReferenceDataVersionService referenceDataVersionService;
 
     public VarietyResponse create(VarietyRequest request) {
         Crop crop = cropRepository.findById(request.getCropId())
@@ -36,6 +37,7 @@ public class VarietyService {
 
         Variety variety = varietyMapper.toEntity(request, crop);
         Variety saved = varietyRepository.save(variety);
+        referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.VARIETIES);
         return varietyMapper.toResponse(saved);
     }
 
@@ -48,6 +50,7 @@ public class VarietyService {
 
         varietyMapper.update(variety, request, crop);
         Variety saved = varietyRepository.save(variety);
+        referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.VARIETIES);
         return varietyMapper.toResponse(saved);
     }
 
@@ -63,6 +66,7 @@ public class VarietyService {
         // Try delete with fallback for race condition
         try {
             varietyRepository.delete(variety);
+            referenceDataVersionService.markChanged(ReferenceDataVersionService.Table.VARIETIES);
         } catch (DataIntegrityViolationException e) {
             throw new AppException(ErrorCode.VARIETY_HAS_SEASONS);
         }
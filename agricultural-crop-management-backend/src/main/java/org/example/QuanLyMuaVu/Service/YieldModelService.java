@@ -0,0 +1,387 @@
+package org.example.QuanLyMuaVu.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.DTO.Response.YieldPredictionResponse;
+import org.example.QuanLyMuaVu.Entity.Crop;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.Projection.YieldTrainingRow;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Util.BackgroundScheduler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Yield prediction from the farm's own history.
+ * <p>
+ * Every finished season with a harvested yield is a sample
+ * {@code yieldKg ~ b0 + b1 * plotArea + b2 * initialPlantCount}. Samples are
+ * pooled per crop, crop + variety, crop + soil type and crop + variety + soil
+ * type, and each pool is fitted by least squares (with a tiny ridge term so
+ * constant columns stay solvable). A prediction uses the most specific pool
+ * with at least {@code app.yield-model.min-samples} seasons.
+ * <p>
+ * Each pool keeps only its sufficient statistics ({@code X^T X}, {@code X^T y},
+ * n), so a season whose harvest or status changes is folded in by
+ * subtracting its old sample and adding the new one; the changed pools are
+ * re-solved and published as small coefficient arrays. A prediction is a map
+ * lookup and a dot product. All training runs on one background thread: the
+ * changed seasons every refresh interval, and a full rebuild at startup and
+ * every rebuild interval (which also clears floating-point drift).
+ */
+@Slf4j
+@Service
+public class YieldModelService implements DisposableBean {
+
+    /** Flat estimate used without a fitted model, in tonnes per unit of area. */
+    static final BigDecimal DEFAULT_TON_PER_AREA = BigDecimal.valueOf(2.5);
+
+    private static final int BATCH_SIZE = 500;
+    private static final double RIDGE = 1e-6;
+
+    private final SeasonRepository seasonRepository;
+    private final CropRepository cropRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AppProperties.YieldModel config;
+    private final BackgroundScheduler trainer;
+
+    /** Seasons changed since the last refresh; filled after commit by the services. */
+    private final Set<Integer> dirtySeasons = ConcurrentHashMap.newKeySet();
+
+    // Trainer thread only
+    private final Map<ModelKey, Stats> statsByKey = new HashMap<>();
+    private final Map<Integer, Sample> sampleBySeason = new HashMap<>();
+
+    /** Published models: {b0, b1, b2, sampleCount, meanPlantCount} per pool. */
+    private volatile Map<ModelKey, double[]> models = Map.of();
+    private volatile boolean built;
+
+    public YieldModelService(SeasonRepository seasonRepository, CropRepository cropRepository,
+            PlatformTransactionManager transactionManager, AppProperties appProperties) {
+        this.seasonRepository = seasonRepository;
+        this.cropRepository = cropRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.config = appProperties.getYieldModel();
+        this.trainer = new BackgroundScheduler("yield-model");
+    }
+
+    /**
+     * Pool a model was fitted on; null variety or soil means "any".
+     */
+    record ModelKey(int cropId, Integer varietyId, String soilType) {
+    }
+
+    record Sample(int cropId, Integer varietyId, String soilType, double area, double plants, double yieldKg) {
+
+        List<ModelKey> keys() {
+            List<ModelKey> keys = new ArrayList<>(4);
+            keys.add(new ModelKey(cropId, null, null));
+            if (varietyId != null) {
+                keys.add(new ModelKey(cropId, varietyId, null));
+            }
+            if (soilType != null) {
+                keys.add(new ModelKey(cropId, null, soilType));
+            }
+            if (varietyId != null && soilType != null) {
+                keys.add(new ModelKey(cropId, varietyId, soilType));
+            }
+            return keys;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration rebuildInterval = Duration.ofMillis(Math.max(60_000, config.getRebuildInterval().toMillis()));
+        Duration refreshInterval = Duration.ofMillis(Math.max(1_000, config.getRefreshInterval().toMillis()));
+        trainer.scheduleWithFixedDelay("rebuild", this::rebuild, Duration.ZERO, rebuildInterval);
+        trainer.scheduleWithFixedDelay("refresh", this::refresh, refreshInterval, refreshInterval);
+    }
+
+    /**
+     * Queues the season to be re-read into the models once the current
+     * transaction commits, e.g. after a harvest is recorded or the season is
+     * completed.
+     */
+    public void markSeasonChanged(Integer seasonId) {
+        if (seasonId != null) {
+            markSeasonsChanged(List.of(seasonId));
+        }
+    }
+
+    /**
+     * Queues every season on the plot, for a change to the plot's area or
+     * soil type.
+     */
+    public void markPlotChanged(Integer plotId) {
+        if (plotId != null) {
+            markSeasonsChanged(seasonRepository.findIdsByPlotId(plotId));
+        }
+    }
+
+    private void markSeasonsChanged(List<Integer> seasonIds) {
+        if (seasonIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtySeasons.addAll(seasonIds);
+                }
+            });
+        } else {
+            dirtySeasons.addAll(seasonIds);
+        }
+    }
+
+    /**
+     * Estimate for a planting; falls back to the flat per-area estimate when
+     * the crop is unknown or has too little history.
+     *
+     * @param cropName   used when {@code cropId} is not given
+     * @param plantCount optional; the pool's average is used without it
+     */
+    public YieldPredictionResponse predict(String cropName, Integer cropId, Integer varietyId, String soilType,
+            BigDecimal area, Integer plantCount) {
+        Optional<Crop> crop = cropId != null
+                ? cropRepository.findById(cropId)
+                : Optional.ofNullable(cropName).filter(name -> !name.isBlank())
+                        .flatMap(name -> cropRepository.findFirstByCropNameIgnoreCase(name.trim()));
+        String displayName = crop.map(Crop::getCropName).orElse(cropName);
+
+        if (crop.isPresent() && area != null) {
+            String soil = normalizeSoil(soilType);
+            int id = crop.get().getId();
+            String[] levels = { "CROP_VARIETY_SOIL", "CROP_VARIETY", "CROP_SOIL", "CROP" };
+            ModelKey[] keys = {
+                    varietyId != null && soil != null ? new ModelKey(id, varietyId, soil) : null,
+                    varietyId != null ? new ModelKey(id, varietyId, null) : null,
+                    soil != null ? new ModelKey(id, null, soil) : null,
+                    new ModelKey(id, null, null) };
+            Map<ModelKey, double[]> current = models;
+            for (int i = 0; i < keys.length; i++) {
+                double[] model = keys[i] != null ? current.get(keys[i]) : null;
+                if (model == null || model[3] < config.getMinSamples()) {
+                    continue;
+                }
+                double plants = plantCount != null ? plantCount : model[4];
+                double kg = Math.max(0, model[0] + model[1] * area.doubleValue() + model[2] * plants);
+                BigDecimal estimatedKg = BigDecimal.valueOf(kg).setScale(2, RoundingMode.HALF_UP);
+                return YieldPredictionResponse.builder()
+                        .crop(displayName)
+                        .area(area)
+                        .estimatedYieldKg(estimatedKg)
+                        .estimatedYieldTon(estimatedKg.movePointLeft(3).setScale(3, RoundingMode.HALF_UP))
+                        .model(levels[i])
+                        .sampleCount((long) model[3])
+                        .build();
+            }
+        }
+
+        BigDecimal estimatedTon = area != null ? area.multiply(DEFAULT_TON_PER_AREA) : null;
+        return YieldPredictionResponse.builder()
+                .crop(displayName)
+                .area(area)
+                .estimatedYieldTon(estimatedTon)
+                .estimatedYieldKg(estimatedTon != null ? estimatedTon.movePointRight(3) : null)
+                .model("DEFAULT")
+                .sampleCount(0)
+                .build();
+    }
+
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        // Changes that commit from here on are picked up by the next refresh
+        dirtySeasons.clear();
+        statsByKey.clear();
+        sampleBySeason.clear();
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            try (Stream<YieldTrainingRow> rows = seasonRepository.streamYieldTrainingRows()) {
+                rows.forEach(row -> add(toSample(row), row.seasonId()));
+            }
+        });
+
+        Map<ModelKey, double[]> fitted = new HashMap<>(statsByKey.size() * 2);
+        statsByKey.forEach((key, stats) -> fitted.put(key, stats.solve()));
+        models = Map.copyOf(fitted);
+        built = true;
+        log.info("Yield models rebuilt: {} seasons, {} models in {} ms", sampleBySeason.size(), fitted.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    void refresh() {
+        if (!built || dirtySeasons.isEmpty()) {
+            return;
+        }
+        List<Integer> seasonIds = new ArrayList<>(dirtySeasons);
+        dirtySeasons.removeAll(seasonIds);
+
+        // One read-only transaction: a consistent snapshot, served by a replica when there is one
+        List<YieldTrainingRow> rows;
+        try {
+            rows = readOnlyTransaction.execute(tx -> {
+                List<YieldTrainingRow> changed = new ArrayList<>();
+                for (int from = 0; from < seasonIds.size(); from += BATCH_SIZE) {
+                    changed.addAll(seasonRepository.findYieldTrainingRows(
+                            seasonIds.subList(from, Math.min(from + BATCH_SIZE, seasonIds.size()))));
+                }
+                return changed;
+            });
+        } catch (RuntimeException e) {
+            // Nothing was folded in yet; try these seasons again next time
+            dirtySeasons.addAll(seasonIds);
+            throw e;
+        }
+
+        Set<ModelKey> touched = new HashSet<>();
+        for (Integer seasonId : seasonIds) {
+            Sample previous = sampleBySeason.remove(seasonId);
+            if (previous != null) {
+                touched.addAll(previous.keys());
+                previous.keys().forEach(key -> statsByKey.get(key).add(previous, -1));
+            }
+        }
+        for (YieldTrainingRow row : rows) {
+            Sample sample = toSample(row);
+            touched.addAll(sample.keys());
+            add(sample, row.seasonId());
+        }
+
+        Map<ModelKey, double[]> next = new HashMap<>(models);
+        for (ModelKey key : touched) {
+            Stats stats = statsByKey.get(key);
+            if (stats == null || stats.count <= 0) {
+                statsByKey.remove(key);
+                next.remove(key);
+            } else {
+                next.put(key, stats.solve());
+            }
+        }
+        models = Map.copyOf(next);
+        log.debug("Yield models refreshed for {} seasons, {} models re-fitted", seasonIds.size(), touched.size());
+    }
+
+    private void add(Sample sample, Integer seasonId) {
+        sampleBySeason.put(seasonId, sample);
+        for (ModelKey key : sample.keys()) {
+            statsByKey.computeIfAbsent(key, k -> new Stats()).add(sample, 1);
+        }
+    }
+
+    private static Sample toSample(YieldTrainingRow row) {
+        return new Sample(row.cropId(), row.varietyId(), normalizeSoil(row.soilType()),
+                row.area().doubleValue(),
+                row.initialPlantCount() != null ? row.initialPlantCount() : 0,
+                row.actualYieldKg().doubleValue());
+    }
+
+    private static String normalizeSoil(String soilType) {
+        if (soilType == null || soilType.isBlank()) {
+            return null;
+        }
+        return soilType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() {
+        trainer.shutdown();
+    }
+
+    /**
+     * Least-squares sufficient statistics for features {1, area, plants}.
+     */
+    static final class Stats {
+        /** Upper triangle of X^T X: 00, 01, 02, 11, 12, 22. */
+        final double[] xtx = new double[6];
+        final double[] xty = new double[3];
+        long count;
+
+        void add(Sample sample, int sign) {
+            double a = sample.area();
+            double p = sample.plants();
+            double y = sample.yieldKg();
+            xtx[0] += sign;
+            xtx[1] += sign * a;
+            xtx[2] += sign * p;
+            xtx[3] += sign * a * a;
+            xtx[4] += sign * a * p;
+            xtx[5] += sign * p * p;
+            xty[0] += sign * y;
+            xty[1] += sign * a * y;
+            xty[2] += sign * p * y;
+            count += sign;
+        }
+
+        /**
+         * {b0, b1, b2, sampleCount, meanPlantCount}.
+         */
+        double[] solve() {
+            double[][] m = {
+                    { xtx[0], xtx[1], xtx[2], xty[0] },
+                    { xtx[1], xtx[3] * (1 + RIDGE) + RIDGE, xtx[4], xty[1] },
+                    { xtx[2], xtx[4], xtx[5] * (1 + RIDGE) + RIDGE, xty[2] } };
+            // Gaussian elimination with partial pivoting on the 3x4 augmented matrix
+            for (int col = 0; col < 3; col++) {
+                int pivot = col;
+                for (int row = col + 1; row < 3; row++) {
+                    if (Math.abs(m[row][col]) > Math.abs(m[pivot][col])) {
+                        pivot = row;
+                    }
+                }
+                double[] swap = m[col];
+                m[col] = m[pivot];
+                m[pivot] = swap;
+                if (Math.abs(m[col][col]) < 1e-12) {
+                    return meanOnly();
+                }
+                for (int row = col + 1; row < 3; row++) {
+                    double factor = m[row][col] / m[col][col];
+                    for (int k = col; k < 4; k++) {
+                        m[row][k] -= factor * m[col][k];
+                    }
+                }
+            }
+            double[] b = new double[3];
+            for (int row = 2; row >= 0; row--) {
+                double sum = m[row][3];
+                for (int k = row + 1; k < 3; k++) {
+                    sum -= m[row][k] * b[k];
+                }
+                b[row] = sum / m[row][row];
+            }
+            if (!Double.isFinite(b[0]) || !Double.isFinite(b[1]) || !Double.isFinite(b[2])) {
+                return meanOnly();
+            }
+            return new double[] { b[0], b[1], b[2], count, meanPlants() };
+        }
+
+        private double[] meanOnly() {
+            return new double[] { count > 0 ? xty[0] / count : 0, 0, 0, count, meanPlants() };
+        }
+
+        private double meanPlants() {
+            return count > 0 ? xtx[2] / count : 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.QuanLyMuaVu.Util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One daemon thread running a component's periodic jobs, e.g. the yield
+ * model refresh or the notification dispatch.
+ * <p>
+ * A job that throws is logged and runs again at its next time; left to the
+ * executor, the exception would cancel the schedule.
+ */
+@Slf4j
+public final class BackgroundScheduler {
+
+    private final String name;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * @param name thread name prefix and log label, e.g. {@code yield-model}
+     */
+    public BackgroundScheduler(String name) {
+        this.name = name;
+        this.executor = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named(name + "-", false));
+    }
+
+    public void scheduleWithFixedDelay(String job, Runnable task, Duration initialDelay, Duration delay) {
+        executor.scheduleWithFixedDelay(() -> runSafely(job, task), initialDelay.toMillis(), delay.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the thread, interrupting a job that is running.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runSafely(String job, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("{} {} failed: {}", name, job, e.getMessage(), e);
+        }
+    }
+}
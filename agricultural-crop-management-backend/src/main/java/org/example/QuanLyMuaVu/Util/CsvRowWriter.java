@@ -0,0 +1,73 @@
+package org.example.QuanLyMuaVu.Util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8. Starts with a byte order mark so that Excel reads
+ * Vietnamese names correctly.
+ * <p>
+ * Text that a spreadsheet would take for a formula (starting with {@code =},
+ * {@code +}, {@code -}, {@code @}, tab or carriage return) is prefixed with
+ * {@code '} and quoted, so user-entered names and notes open as plain text.
+ * Numbers are written as they are.
+ */
+class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+
+    CsvRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        boolean formula = !(value instanceof Number) && startsFormula(text);
+        if (formula) {
+            text = "'" + text;
+        }
+        boolean quote = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
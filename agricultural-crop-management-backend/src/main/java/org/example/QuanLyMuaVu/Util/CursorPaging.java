@@ -0,0 +1,187 @@
+package org.example.QuanLyMuaVu.Util;
+
+import org.example.QuanLyMuaVu.DTO.Common.PageResponse;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset ("seek") paging for list endpoints.
+ * <p>
+ * Instead of {@code OFFSET n} the query continues after the sort key of the
+ * last row it returned ({@code WHERE (created_at, id) < (?, ?)}), so deep pages
+ * cost the same as the first one and no count query runs. The position is
+ * handed to the client as an opaque base64url cursor; the sort must end with
+ * {@code id} so that every position is unique.
+ */
+public final class CursorPaging {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorPaging() {
+    }
+
+    /**
+     * @param cursor {@code null} or empty for the first page, otherwise a
+     *               {@code nextCursor}/{@code prevCursor} from an earlier response
+     */
+    public static <E, R> PageResponse<R> scroll(
+            JpaSpecificationExecutor<E> repository,
+            Class<E> entityType,
+            Specification<E> spec,
+            Sort sort,
+            String cursor,
+            int size,
+            Function<E, R> mapper) {
+        int limit = Math.max(size, 1);
+        KeysetScrollPosition position = decode(cursor, sort, entityType);
+        Window<E> window = repository.findBy(spec, query -> query.sortBy(sort).limit(limit).scroll(position));
+
+        // Backward windows come back in display order; hasNext() then means "more before"
+        boolean backward = position.scrollsBackward();
+        String next = null;
+        String prev = null;
+        if (!window.isEmpty()) {
+            Map<String, Object> first = ((KeysetScrollPosition) window.positionAt(0)).getKeys();
+            Map<String, Object> last = ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys();
+            if (backward || window.hasNext()) {
+                next = encode(ScrollPosition.forward(last));
+            }
+            if (backward ? window.hasNext() : !position.isInitial()) {
+                prev = encode(ScrollPosition.backward(first));
+            }
+        } else if (!position.isInitial()) {
+            // Ran past one end: offer the way back
+            if (backward) {
+                next = encode(ScrollPosition.forward(position.getKeys()));
+            } else {
+                prev = encode(ScrollPosition.backward(position.getKeys()));
+            }
+        }
+
+        List<R> items = window.getContent().stream().map(mapper).toList();
+        PageResponse<R> response = PageResponse.ofCursor(items, limit, next, prev);
+        response.setNext(link(next));
+        response.setPrev(link(prev));
+        return response;
+    }
+
+    static String encode(KeysetScrollPosition position) {
+        String body = position.getKeys().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + encodeValue(entry.getValue()))
+                .collect(Collectors.joining("&"));
+        String direction = position.scrollsBackward() ? "b" : "f";
+        return ENCODER.encodeToString((direction + "?" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws AppException INVALID_CURSOR when the cursor is malformed, was
+     *                      issued for a different sort or holds a value of the
+     *                      wrong type for its sort property
+     */
+    static KeysetScrollPosition decode(String cursor, Sort sort, Class<?> entityType) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String text = new String(DECODER.decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = text.indexOf('?');
+            String direction = text.substring(0, separator);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String pair : text.substring(separator + 1).split("&")) {
+                int eq = pair.indexOf('=');
+                keys.put(pair.substring(0, eq), decodeValue(pair.substring(eq + 1)));
+            }
+
+            Set<String> expected = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+            if (!keys.keySet().equals(expected)) {
+                throw new AppException(ErrorCode.INVALID_CURSOR);
+            }
+            keys.forEach((property, value) -> {
+                Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(
+                        PropertyPath.from(property, entityType).getLeafType());
+                if (!type.isInstance(value)) {
+                    throw new AppException(ErrorCode.INVALID_CURSOR);
+                }
+            });
+            return switch (direction) {
+                case "f" -> ScrollPosition.forward(keys);
+                case "b" -> ScrollPosition.backward(keys);
+                default -> throw new AppException(ErrorCode.INVALID_CURSOR);
+            };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static String encodeValue(Object value) {
+        String tagged;
+        if (value instanceof Integer) {
+            tagged = "i:" + value;
+        } else if (value instanceof Long) {
+            tagged = "l:" + value;
+        } else if (value instanceof LocalDateTime) {
+            tagged = "t:" + value;
+        } else if (value instanceof LocalDate) {
+            tagged = "d:" + value;
+        } else if (value instanceof BigDecimal decimal) {
+            tagged = "b:" + decimal.toPlainString();
+        } else if (value instanceof String) {
+            tagged = "s:" + value;
+        } else {
+            throw new IllegalStateException("Unsupported cursor key type: "
+                    + (value == null ? "null" : value.getClass().getName()));
+        }
+        return URLEncoder.encode(tagged, StandardCharsets.UTF_8);
+    }
+
+    private static Object decodeValue(String encoded) {
+        String tagged = URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+        String value = tagged.substring(2);
+        return switch (tagged.substring(0, 2)) {
+            case "i:" -> Integer.valueOf(value);
+            case "l:" -> Long.valueOf(value);
+            case "t:" -> LocalDateTime.parse(value);
+            case "d:" -> LocalDate.parse(value);
+            case "b:" -> new BigDecimal(value);
+            case "s:" -> value;
+            default -> throw new IllegalArgumentException("Unknown cursor value type");
+        };
+    }
+
+    private static String link(String cursor) {
+        if (cursor == null || RequestContextHolder.getRequestAttributes() == null) {
+            return null;
+        }
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page")
+                .replaceQueryParam("cursor", cursor)
+                .build()
+                .toUriString();
+    }
+}
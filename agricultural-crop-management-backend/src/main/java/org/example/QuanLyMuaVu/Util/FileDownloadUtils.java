@@ -0,0 +1,156 @@
+package org.example.QuanLyMuaVu.Util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes a file to the HTTP response without copying it through the heap.
+ * <p>
+ * Supports a single byte range ({@code Range: bytes=a-b}, {@code bytes=a-},
+ * {@code bytes=-n}) with {@code If-Range}, and conditional GETs on a strong
+ * ETag. On Tomcat the body is handed to the connector's sendfile; elsewhere it
+ * is written with {@link FileChannel#transferTo}. Multi-range requests get the
+ * whole file, which RFC 9110 allows.
+ */
+public final class FileDownloadUtils {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileDownloadUtils() {
+    }
+
+    /**
+     * @param etag strong entity tag without quotes, e.g. the content hash
+     */
+    public static void serve(Path file, String contentType, String filename, String etag,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(file);
+        String quotedEtag = "\"" + etag + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=0, must-revalidate");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), quotedEtag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        if (filename != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                    .filename(filename, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.trim().equals(quotedEtag))) {
+            Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+            if (matcher.matches()) {
+                long[] bounds = parseRange(matcher.group(1), matcher.group(2), length);
+                if (bounds == null) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+        if (count <= 0 || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector streams the file with sendfile(2) after the servlet returns
+            request.setAttribute(SENDFILE_FILENAME, file.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * @return inclusive [start, end], or null when the range is not satisfiable
+     */
+    static long[] parseRange(String first, String last, long length) {
+        try {
+            if (first.isEmpty() && last.isEmpty()) {
+                return null;
+            }
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || length == 0) {
+                    return null;
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+            long start = Long.parseLong(first);
+            if (start >= length) {
+                return null;
+            }
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            return end < start ? null : new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String quotedEtag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(quotedEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.QuanLyMuaVu.Util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.QuanLyMuaVu.DTO.Common.ApiResponse;
+import org.example.QuanLyMuaVu.Service.ReferenceDataVersionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for versioned reference data.
+ */
+public final class HttpCacheUtils {
+
+    private HttpCacheUtils() {
+    }
+
+    /**
+     * Answers {@code 304 Not Modified} when the client already holds the current
+     * version, otherwise loads the body and returns it with validators attached.
+     * The loader is only invoked for a full response.
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> conditional(
+            HttpServletRequest request,
+            String scope,
+            ReferenceDataVersionService.Version version,
+            CacheControl cacheControl,
+            Supplier<T> loader) {
+        String etag = "\"" + scope + "-" + version.counter() + "\"";
+
+        if (isNotModified(request, etag, version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(version.lastModified())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(version.lastModified())
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(loader.get()));
+    }
+
+    static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (StringUtils.hasText(ifNoneMatch)) {
+            // If-None-Match takes precedence over If-Modified-Since (RFC 9110)
+            for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || etag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            // Unparseable date: serve the full response
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.QuanLyMuaVu.Util;
+
+import org.example.QuanLyMuaVu.Enums.ExportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes tabular rows straight to an output stream, one row at a time, so an
+ * export never holds more than the current row and a small write buffer.
+ * <p>
+ * Values may be {@code null}, numbers, booleans, dates or anything with a
+ * useful {@code toString()}. Closing finishes the file but leaves the
+ * underlying stream open for the container to close.
+ */
+public interface RowWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+
+    /**
+     * Opens a writer and writes the header row.
+     */
+    static RowWriter open(ExportFormat format, OutputStream out, String sheetName, List<String> headers)
+            throws IOException {
+        RowWriter writer = switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case XLSX -> new XlsxRowWriter(out, sheetName);
+        };
+        writer.writeRow(headers);
+        return writer;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.QuanLyMuaVu.Util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization helpers for search.
+ */
+public final class TextUtils {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?])\\s+|\\s*\\n\\s*\\n\\s*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextUtils() {
+    }
+
+    /**
+     * Folds Vietnamese (and other Latin) text for accent-insensitive matching:
+     * strips diacritics, maps "đ" to "d", lower-cases and collapses punctuation
+     * and whitespace to single spaces. {@code "Thành phố Hà Nội"} becomes
+     * {@code "thanh pho ha noi"}.
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT);
+        return NON_ALPHANUMERIC.matcher(stripped).replaceAll(" ").trim();
+    }
+
+    /**
+     * Splits text into sentences at terminal punctuation and blank lines,
+     * with whitespace inside each sentence collapsed to single spaces.
+     */
+    public static List<String> sentences(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> sentences = new ArrayList<>();
+        for (String part : SENTENCE_BREAK.split(text)) {
+            String sentence = WHITESPACE.matcher(part).replaceAll(" ").trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.QuanLyMuaVu.Util;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the application's own executors.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    /**
+     * Daemon threads named {@code prefix1}, {@code prefix2}, ...; virtual
+     * threads (named from {@code prefix0}) when {@code virtual} is set, which
+     * needs a Java 21+ runtime.
+     */
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
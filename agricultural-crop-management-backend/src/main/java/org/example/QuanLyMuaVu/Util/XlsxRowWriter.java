@@ -0,0 +1,205 @@
+package org.example.QuanLyMuaVu.Util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Single-sheet XLSX written as it goes.
+ * <p>
+ * The fixed package parts are written up front and the worksheet XML is then
+ * streamed through the zip deflater row by row, so memory stays at the size of
+ * the write buffers whatever the row count. Strings are stored inline rather
+ * than in a shared string table (which would have to be kept until the end);
+ * the header row is bold and frozen.
+ */
+class XlsxRowWriter implements RowWriter {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String CONTENT_TYPES = XML_DECLARATION + """
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Override PartName="/xl/workbook.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+            <Override PartName="/xl/worksheets/sheet1.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+            <Override PartName="/xl/styles.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>\
+            </Types>""";
+
+    private static final String ROOT_RELS = XML_DECLARATION + """
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" \
+            Target="xl/workbook.xml"/>\
+            </Relationships>""";
+
+    private static final String WORKBOOK = XML_DECLARATION + """
+            <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+            xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+            <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets>\
+            </workbook>""";
+
+    private static final String WORKBOOK_RELS = XML_DECLARATION + """
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" \
+            Target="worksheets/sheet1.xml"/>\
+            <Relationship Id="rId2" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" \
+            Target="styles.xml"/>\
+            </Relationships>""";
+
+    private static final String STYLES = XML_DECLARATION + """
+            <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <fonts count="2">\
+            <font><sz val="11"/><name val="Calibri"/></font>\
+            <font><b/><sz val="11"/><name val="Calibri"/></font>\
+            </fonts>\
+            <fills count="2">\
+            <fill><patternFill patternType="none"/></fill>\
+            <fill><patternFill patternType="gray125"/></fill>\
+            </fills>\
+            <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>\
+            <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>\
+            <cellXfs count="2">\
+            <xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>\
+            <xf numFmtId="0" fontId="1" fillId="0" borderId="0" xfId="0" applyFont="1"/>\
+            </cellXfs>\
+            <cellStyles count="1"><cellStyle name="Normal" xfId="0" builtinId="0"/></cellStyles>\
+            </styleSheet>""";
+
+    private static final String SHEET_START = XML_DECLARATION + """
+            <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <sheetViews><sheetView workbookViewId="0">\
+            <pane ySplit="1" topLeftCell="A2" activePane="bottomLeft" state="frozen"/>\
+            </sheetView></sheetViews>\
+            <sheetData>""";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    /** Style index of the bold header cells in {@link #STYLES}. */
+    private static final int HEADER_STYLE = 1;
+
+    private final ZipOutputStream zip;
+    private final Writer sheet;
+    private int rowNumber;
+
+    XlsxRowWriter(OutputStream out, String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", ROOT_RELS);
+        writeEntry("xl/workbook.xml", WORKBOOK.formatted(escape(sheetName(sheetName))));
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        writeEntry("xl/styles.xml", STYLES);
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        this.sheet = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        sheet.write(SHEET_START);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        rowNumber++;
+        sheet.write("<row r=\"");
+        sheet.write(Integer.toString(rowNumber));
+        sheet.write("\">");
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                writeCell(columnName(i) + rowNumber, value);
+            }
+        }
+        sheet.write("</row>");
+    }
+
+    private void writeCell(String ref, Object value) throws IOException {
+        sheet.write("<c r=\"");
+        sheet.write(ref);
+        sheet.write('"');
+        if (rowNumber == 1) {
+            sheet.write(" s=\"" + HEADER_STYLE + "\"");
+        }
+        if (value instanceof BigDecimal decimal) {
+            sheet.write("><v>" + decimal.toPlainString() + "</v></c>");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            sheet.write("><v>" + value + "</v></c>");
+        } else if (value instanceof Double number && Double.isFinite(number)) {
+            sheet.write("><v>" + number + "</v></c>");
+        } else if (value instanceof Boolean flag) {
+            sheet.write(" t=\"b\"><v>" + (flag ? 1 : 0) + "</v></c>");
+        } else {
+            sheet.write(" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            sheet.write(escape(value.toString()));
+            sheet.write("</t></is></c>");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sheet.write(SHEET_END);
+        sheet.flush();
+        zip.closeEntry();
+        // finish() rather than close(): the response stream belongs to the container
+        zip.finish();
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /**
+     * 0 -> A, 25 -> Z, 26 -> AA.
+     */
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Excel sheet names are at most 31 characters and cannot contain {@code []:*?/\}.
+     */
+    private static String sheetName(String name) {
+        String cleaned = name == null ? "" : name.replaceAll("[\\[\\]:*?/\\\\]", " ").trim();
+        if (cleaned.isEmpty()) {
+            return "Sheet1";
+        }
+        return cleaned.length() > 31 ? cleaned.substring(0, 31) : cleaned;
+    }
+
+    /**
+     * Escapes markup and drops characters that XML 1.0 does not allow at all.
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                default -> {
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF || c == '\t' || c == '\n' || c == '\r') {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
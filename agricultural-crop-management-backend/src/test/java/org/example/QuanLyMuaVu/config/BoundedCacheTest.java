@@ -0,0 +1,63 @@
+package org.example.QuanLyMuaVu.config;
+
+import org.example.QuanLyMuaVu.Config.BoundedCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedCacheTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        BoundedCache cache = new BoundedCache("provinces", 10, Duration.ofMinutes(5), false);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<String>> callers = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                callers.add(pool.submit(() -> cache.get("ha noi", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "Hà Nội";
+                })));
+            }
+            // Let every caller reach the cache before the load finishes
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> caller : callers) {
+                assertEquals("Hà Nội", caller.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        BoundedCache cache = new BoundedCache("wards", 10, Duration.ofMinutes(5), false);
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("x", () -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        assertEquals("ok", cache.get("x", () -> "ok"));
+    }
+}
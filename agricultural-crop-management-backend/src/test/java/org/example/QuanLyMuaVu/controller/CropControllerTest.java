@@ -4,23 +4,30 @@ import org.example.QuanLyMuaVu.Controller.CropController;
 import org.example.QuanLyMuaVu.DTO.Request.CropRequest;
 import org.example.QuanLyMuaVu.DTO.Response.CropResponse;
 import org.example.QuanLyMuaVu.Service.CropService;
+import org.example.QuanLyMuaVu.Service.ReferenceDataVersionService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = CropController.class)
+@Import(ReferenceDataVersionService.class)
 class CropControllerTest {
 
     @Autowired
@@ -29,6 +36,9 @@ class CropControllerTest {
     @MockBean
     private CropService cropService;
 
+    @Autowired
+    private ReferenceDataVersionService referenceDataVersionService;
+
     @Test
     void list_returnsCrops() throws Exception {
         when(cropService.getAll()).thenReturn(List.of(
@@ -41,4 +51,17 @@ class CropControllerTest {
                 .andExpect(jsonPath("$.result", hasSize(2)))
                 .andExpect(jsonPath("$.result[0].cropName").value("Rice"));
     }
+
+    @Test
+    void list_withCurrentEtag_returnsNotModifiedWithoutLoading() throws Exception {
+        long version = referenceDataVersionService.getVersion(ReferenceDataVersionService.Table.CROPS).counter();
+
+        mockMvc.perform(get("/api/v1/crops")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"crops-" + version + "\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"crops-" + version + "\""));
+
+        verify(cropService, never()).getAll();
+    }
 }
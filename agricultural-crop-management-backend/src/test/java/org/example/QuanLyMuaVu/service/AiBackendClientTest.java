@@ -0,0 +1,190 @@
+package org.example.QuanLyMuaVu.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Service.AiBackendClient;
+import org.example.QuanLyMuaVu.Service.AiBackendClient.Suggestions;
+import org.example.QuanLyMuaVu.Util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the client against a JDK HTTP server standing in for the AI service.
+ */
+class AiBackendClientTest {
+
+    private static final String REPLY = "{\"suggestions\":[\"Bón lót phân chuồng\",\"Tưới rãnh\"]}";
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    /** Status the stub answers with; 200 sends {@link #REPLY}. */
+    private volatile int status = 200;
+    /** When set, the stub counts down {@code received} and waits for this before answering. */
+    private volatile CountDownLatch hold;
+    private final CountDownLatch received = new CountDownLatch(1);
+
+    private ExecutorService serverThreads;
+    private HttpServer server;
+    private AiBackendClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        serverThreads = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/suggestions", this::answer);
+        server.setExecutor(serverThreads);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (client != null) {
+            client.destroy();
+        }
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void opensAfterRepeatedFailuresAndClosesOnASuccessfulTrial() throws InterruptedException {
+        client = client(3, 10);
+        status = 503;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("local", ask("lúa").source());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+        assertEquals("local", ask("lúa").source());
+        assertEquals(3, calls.get(), "an open circuit must not call the service");
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 100);
+        status = 200;
+        Suggestions trial = ask("lúa");
+
+        assertEquals("ai", trial.source());
+        assertEquals(List.of("Bón lót phân chuồng", "Tưới rãnh"), trial.suggestions());
+        assertEquals(4, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void failedTrialOpensTheCircuitAgain() throws InterruptedException {
+        client = client(1, 10);
+        status = 500;
+        ask("lúa");
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 100);
+        assertEquals("local", ask("lúa").source());
+
+        assertEquals(2, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+    }
+
+    @Test
+    void answersLocallyWhileTheBulkheadIsFull() throws Exception {
+        client = client(3, 1);
+        hold = new CountDownLatch(1);
+
+        CompletableFuture<Suggestions> first = client.suggestions("lúa", "phù sa", "đông xuân").toFuture();
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        Suggestions second = ask("ngô");
+        hold.countDown();
+
+        assertEquals("local", second.source());
+        assertEquals("ai", first.get(5, TimeUnit.SECONDS).source());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void unsubscribedCallsHoldNoPermits() {
+        client = client(3, 1);
+
+        for (int i = 0; i < 5; i++) {
+            // Assembled but never subscribed
+            client.suggestions("lúa", "phù sa", "đông xuân");
+        }
+
+        assertEquals("ai", ask("ngô").source());
+    }
+
+    @Test
+    void answersRepeatedQuestionsFromTheCache() {
+        client = client(3, 10);
+
+        assertEquals("ai", ask("lúa").source());
+        Suggestions again = client.suggestions("LÚA", "Phù Sa", "Đông Xuân").block();
+
+        assertEquals("cache", again.source());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheCircuit() {
+        client = client(2, 10);
+        status = 400;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("local", ask("lúa").source());
+        }
+
+        assertEquals(5, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    private Suggestions ask(String crop) {
+        return client.suggestions(crop, "phù sa", "đông xuân").block(Duration.ofSeconds(5));
+    }
+
+    private AiBackendClient client(int failureThreshold, int maxConcurrentCalls) {
+        AppProperties properties = new AppProperties();
+        AppProperties.Ai ai = properties.getAi();
+        ai.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        ai.setCallTimeout(Duration.ofSeconds(3));
+        ai.setFailureThreshold(failureThreshold);
+        ai.setOpenDuration(OPEN_DURATION);
+        ai.setMaxConcurrentCalls(maxConcurrentCalls);
+        return new AiBackendClient(properties, WebClient.builder(),
+                new ConcurrentMapCacheManager("ai-suggestions"));
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        CountDownLatch latch = hold;
+        if (latch != null) {
+            received.countDown();
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = (status == 200 ? REPLY : "{}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
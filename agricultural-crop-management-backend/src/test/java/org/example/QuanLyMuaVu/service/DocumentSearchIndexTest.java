@@ -0,0 +1,75 @@
+package org.example.QuanLyMuaVu.service;
+
+import org.example.QuanLyMuaVu.Service.DocumentSearchIndex;
+import org.example.QuanLyMuaVu.Service.PassageIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentSearchIndexTest {
+
+    @Test
+    void writesDuringRebuildAreReplayedOnTheSnapshot() {
+        DocumentSearchIndex<Long, String> index = new DocumentSearchIndex<>(true);
+        index.put(1L, List.of(entry(1L, "Phân bón lúa")));
+
+        index.rebuild(() -> {
+            // Committed after the snapshot was read
+            index.put(2L, List.of(entry(2L, "Phân bón cà phê")));
+            index.remove(1L);
+            return List.of(entry(1L, "Phân bón lúa"));
+        });
+
+        assertEquals(List.of(2L), keys(index.search("phan bon", value -> true, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void onlyTheLastTermMatchesAsPrefix() {
+        DocumentSearchIndex<Long, String> index = new DocumentSearchIndex<>(true);
+        index.put(1L, List.of(entry(1L, "Phân bón")));
+        index.put(2L, List.of(entry(2L, "Phân vi sinh")));
+
+        assertEquals(List.of(1L), keys(index.search("bo", value -> true, 10)));
+        // "ph" is not the last term, so it does not match "phan"
+        assertEquals(List.of(1L), keys(index.search("ph bon", value -> true, 10)));
+    }
+
+    @Test
+    void filterAndLimitApplyToTheRanking() {
+        DocumentSearchIndex<Long, String> index = new DocumentSearchIndex<>(true);
+        index.put(1L, List.of(entry(1L, "Phân bón lúa")));
+        index.put(2L, List.of(entry(2L, "Phân bón lúa lúa")));
+        index.put(3L, List.of(entry(3L, "Phân bón")));
+
+        assertEquals(List.of(2L), keys(index.search("lua", value -> true, 1)));
+        assertEquals(List.of(3L, 1L), keys(index.search("phan bon", value -> !value.contains("lúa lúa"), 10)));
+        assertEquals(2, index.count("lua", value -> true));
+    }
+
+    @Test
+    void passagesOfADocumentAreReplacedTogether() {
+        PassageIndex passages = new PassageIndex();
+        passages.put(new PassageIndex.Source(1L, "Lúa", null, List.of("Bón phân đạm.", "Tưới nước đều.")));
+        passages.put(new PassageIndex.Source(1L, "Lúa", null, List.of("Phòng rầy nâu.")));
+
+        List<PassageIndex.Hit> hits = passages.search("lua ray nau", 5);
+
+        assertEquals(1, passages.size());
+        assertEquals(1, hits.size());
+        assertEquals("Phòng rầy nâu.", hits.get(0).text());
+        assertEquals(List.of(), passages.search("tuoi nuoc", 5));
+    }
+
+    private static DocumentSearchIndex.Entry<Long, String> entry(Long documentId, String title) {
+        return new DocumentSearchIndex.Entry<>(documentId, documentId, title,
+                DocumentSearchIndex.countTerms(new HashMap<>(), title, 1));
+    }
+
+    private static List<Long> keys(List<DocumentSearchIndex.Match<Long, String>> matches) {
+        return matches.stream().map(DocumentSearchIndex.Match::key).toList();
+    }
+}
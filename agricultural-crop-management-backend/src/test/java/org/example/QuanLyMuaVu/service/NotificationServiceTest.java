@@ -0,0 +1,325 @@
+package org.example.QuanLyMuaVu.service;
+
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.Entity.Notification;
+import org.example.QuanLyMuaVu.Enums.NotificationStatus;
+import org.example.QuanLyMuaVu.Repository.NotificationRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dispatches against a minimal SMTP server on a local socket, so the real
+ * JavaMailSender batch and its per-message failures are exercised.
+ */
+class NotificationServiceTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final AppProperties appProperties = new AppProperties();
+    /** Statuses of the rows at each saveAll, in call order. */
+    private final List<List<NotificationStatus>> savedStatuses = new ArrayList<>();
+
+    private SmtpStandIn smtp;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        appProperties.getMail().setFrom("no-reply@acm.local");
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Notification> rows = invocation.getArgument(0);
+            savedStatuses.add(rows.stream().map(Notification::getStatus).toList());
+            return rows;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.destroy();
+        }
+        if (smtp != null) {
+            smtp.close();
+        }
+    }
+
+    @Test
+    void sendsOneDigestPerRecipient() throws IOException {
+        smtp = new SmtpStandIn();
+        List<Notification> due = List.of(
+                pending(1, "farmer@acm.local", "Task completed: Weeding"),
+                pending(2, " Farmer@ACM.local", "High-severity incident reported"),
+                pending(3, "other@acm.local", "Season created: Winter rice"));
+        when(notificationRepository.lockDue(any(), any())).thenReturn(due);
+        service = service(smtp.port());
+
+        assertEquals(3, service.dispatchBatch(10));
+
+        assertEquals(2, smtp.messages.size());
+        assertEquals(List.of("farmer@acm.local"), smtp.messages.get(0).recipients());
+        assertTrue(smtp.messages.get(0).data().contains("Subject: 2 new notifications"));
+        assertTrue(smtp.messages.get(0).data().contains("Task completed: Weeding"));
+        assertTrue(smtp.messages.get(0).data().contains("High-severity incident reported"));
+        assertEquals(List.of("other@acm.local"), smtp.messages.get(1).recipients());
+        assertTrue(smtp.messages.get(1).data().contains("Subject: Season created: Winter rice"));
+        due.forEach(notification -> {
+            assertEquals(NotificationStatus.SENT, notification.getStatus());
+            assertNotNull(notification.getSentAt());
+        });
+    }
+
+    @Test
+    void claimsTheRowsBeforeSending() throws IOException {
+        smtp = new SmtpStandIn();
+        LocalDateTime before = LocalDateTime.now();
+        List<Notification> due = List.of(pending(1, "farmer@acm.local", "Task completed: Weeding"));
+        when(notificationRepository.lockDue(any(), any())).thenAnswer(invocation -> {
+            // The claim must not look at rows that are not due yet
+            assertFalse(((LocalDateTime) invocation.getArgument(0)).isBefore(before));
+            return due;
+        });
+        service = service(smtp.port());
+
+        service.dispatchBatch(10);
+
+        assertEquals(List.of(List.of(NotificationStatus.SENDING), List.of(NotificationStatus.SENT)), savedStatuses);
+    }
+
+    @Test
+    void retriesOnlyTheDigestsTheServerRejected() throws IOException {
+        smtp = new SmtpStandIn("gone@acm.local");
+        Notification delivered = pending(1, "farmer@acm.local", "Task completed: Weeding");
+        Notification rejected = pending(2, "gone@acm.local", "Task completed: Spraying");
+        Notification rejectedToo = pending(3, "gone@acm.local", "Season created: Winter rice");
+        when(notificationRepository.lockDue(any(), any())).thenReturn(List.of(delivered, rejected, rejectedToo));
+        service = service(smtp.port());
+        LocalDateTime before = LocalDateTime.now();
+
+        assertEquals(3, service.dispatchBatch(10));
+
+        assertEquals(1, smtp.messages.size());
+        assertEquals(NotificationStatus.SENT, delivered.getStatus());
+        for (Notification notification : List.of(rejected, rejectedToo)) {
+            assertEquals(NotificationStatus.PENDING, notification.getStatus());
+            assertEquals(1, notification.getAttempts());
+            assertNotNull(notification.getLastError());
+            assertFalse(notification.getNextAttemptAt().isBefore(before.plus(Duration.ofMinutes(1))));
+        }
+    }
+
+    @Test
+    void retriesEverythingWhenTheServerIsDownAndGivesUpAtMaxAttempts() throws IOException {
+        Notification fresh = pending(1, "farmer@acm.local", "Task completed: Weeding");
+        Notification lastTry = pending(2, "other@acm.local", "Season created: Winter rice");
+        lastTry.setAttempts(appProperties.getMail().getMaxAttempts() - 1);
+        when(notificationRepository.lockDue(any(), any())).thenReturn(List.of(fresh, lastTry));
+        service = service(closedPort());
+
+        service.dispatchBatch(10);
+
+        assertEquals(NotificationStatus.PENDING, fresh.getStatus());
+        assertEquals(1, fresh.getAttempts());
+        assertEquals(NotificationStatus.FAILED, lastTry.getStatus());
+    }
+
+    @Test
+    void backoffDoublesFromRetryBackoffUpToMaxBackoff() throws IOException {
+        appProperties.getMail().setRetryBackoff(Duration.ofMinutes(1));
+        appProperties.getMail().setMaxBackoff(Duration.ofHours(1));
+        appProperties.getMail().setMaxAttempts(100);
+        Map<Integer, Duration> expected = new LinkedHashMap<>();
+        expected.put(1, Duration.ofMinutes(1));
+        expected.put(2, Duration.ofMinutes(2));
+        expected.put(3, Duration.ofMinutes(4));
+        expected.put(6, Duration.ofMinutes(32));
+        expected.put(7, Duration.ofHours(1));
+        expected.put(40, Duration.ofHours(1));
+        List<Notification> due = new ArrayList<>();
+        expected.keySet().forEach(attempt -> {
+            Notification notification = pending(attempt, "farmer" + attempt + "@acm.local", "Attempt " + attempt);
+            notification.setAttempts(attempt - 1);
+            due.add(notification);
+        });
+        when(notificationRepository.lockDue(any(), any())).thenReturn(due);
+        service = service(closedPort());
+
+        LocalDateTime before = LocalDateTime.now();
+        service.dispatchBatch(10);
+        LocalDateTime after = LocalDateTime.now();
+
+        for (Notification notification : due) {
+            Duration delay = expected.get(notification.getAttempts());
+            String attempt = "attempt " + notification.getAttempts();
+            assertEquals(NotificationStatus.PENDING, notification.getStatus(), attempt);
+            assertFalse(notification.getNextAttemptAt().isBefore(before.plus(delay)), attempt);
+            assertFalse(notification.getNextAttemptAt().isAfter(after.plus(delay)), attempt);
+        }
+    }
+
+    @Test
+    void digestListsEveryNotificationInOrder() throws IOException {
+        smtp = new SmtpStandIn();
+        Notification first = pending(1, "farmer@acm.local", "Task completed: Weeding");
+        Notification second = pending(2, "farmer@acm.local", "High-severity incident reported");
+        when(notificationRepository.lockDue(any(), any())).thenReturn(List.of(first, second));
+        service = service(smtp.port());
+
+        service.dispatchBatch(10);
+
+        assertEquals(1, smtp.messages.size());
+        String data = smtp.messages.get(0).data();
+        assertTrue(data.contains("Subject: 2 new notifications"));
+        assertTrue(data.contains(first.getSubject() + "\n\n" + first.getBody() + "\n\n" + "-".repeat(40) + "\n\n"
+                + second.getSubject() + "\n\n" + second.getBody()));
+    }
+
+    private NotificationService service(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "5000");
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "5000");
+        return new NotificationService(notificationRepository, mock(SeasonRepository.class),
+                new StaticListableBeanFactory(Map.of("mailSender", mailSender)).getBeanProvider(JavaMailSender.class),
+                appProperties, mock(PlatformTransactionManager.class));
+    }
+
+    /**
+     * A local port nothing listens on, so connecting fails at once.
+     */
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Notification pending(long id, String recipient, String subject) {
+        return Notification.builder()
+                .id(id)
+                .recipientEmail(recipient)
+                .subject(subject)
+                .body(subject + " (season 7)")
+                .status(NotificationStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Accepts mail for everyone except the rejected recipients, which get a
+     * 550 at RCPT TO, and records what it accepted.
+     */
+    private static final class SmtpStandIn implements AutoCloseable {
+
+        record Received(List<String> recipients, String data) {
+        }
+
+        final List<Received> messages = new CopyOnWriteArrayList<>();
+        private final Set<String> rejected;
+        private final ServerSocket serverSocket;
+
+        SmtpStandIn(String... rejected) throws IOException {
+            this.rejected = Set.of(rejected);
+            this.serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this::serve, "smtp-stand-in");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void serve() {
+            while (!serverSocket.isClosed()) {
+                try (Socket client = serverSocket.accept()) {
+                    session(client);
+                } catch (IOException e) {
+                    // Closed by the test, or the client hung up
+                }
+            }
+        }
+
+        private void session(Socket client) throws IOException {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8);
+            reply(out, "220 localhost ESMTP stand-in");
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("RCPT TO:")) {
+                    String address = line.substring("RCPT TO:".length()).trim().replaceAll("[<>]", "");
+                    if (rejected.contains(address)) {
+                        reply(out, "550 5.1.1 No such user");
+                    } else {
+                        recipients.add(address);
+                        reply(out, "250 OK");
+                    }
+                } else if (command.startsWith("MAIL FROM:") || command.startsWith("RSET")) {
+                    recipients.clear();
+                    reply(out, "250 OK");
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    StringBuilder data = new StringBuilder();
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        data.append(line).append('\n');
+                    }
+                    messages.add(new Received(List.copyOf(recipients), data.toString()));
+                    recipients.clear();
+                    reply(out, "250 OK");
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    // EHLO, HELO, NOOP
+                    reply(out, "250 OK");
+                }
+            }
+        }
+
+        private static void reply(Writer out, String line) throws IOException {
+            out.write(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.QuanLyMuaVu.service;
+
+import org.example.QuanLyMuaVu.Entity.Season;
+import org.example.QuanLyMuaVu.Enums.SeasonStatus;
+import org.example.QuanLyMuaVu.Exception.AppException;
+import org.example.QuanLyMuaVu.Exception.ErrorCode;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.PlotRepository;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Service.SeasonOverlapService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two transactions creating overlapping seasons on the same plot at the same
+ * time: the plot lock must make the second one see the first one's season.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:season-overlap;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SeasonOverlapService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeasonOverlapServiceConcurrencyTest {
+
+    private static final int PLOT_ID = 1;
+    private static final int CROP_ID = 1;
+
+    @Autowired
+    private SeasonOverlapService seasonOverlapService;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private PlotRepository plotRepository;
+
+    @Autowired
+    private CropRepository cropRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // Owner, province and ward rows are irrelevant to the overlap rule
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("insert into farms (farm_id, owner_id, farm_name, province_id, ward_id, area, active) "
+                + "values (?, 1, 'Farm', 1, 1, 10, true)", PLOT_ID);
+        jdbcTemplate.update("insert into plots (plot_id, farm_id, plot_name, area, status) "
+                + "values (?, 1, 'Plot', 100, 'IN_USE')", PLOT_ID);
+        jdbcTemplate.update("insert into crops (crop_id, crop_name) values (?, 'Lua')", CROP_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from seasons");
+        jdbcTemplate.update("delete from plots");
+        jdbcTemplate.update("delete from farms");
+        jdbcTemplate.update("delete from crops");
+    }
+
+    @Test
+    void concurrentOverlappingCreates_onlyOneSucceeds() throws Exception {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        LocalDate harvest = start.plusDays(90);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstChecked = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> first = pool.submit(() -> tx.executeWithoutResult(status -> {
+                seasonOverlapService.assertNoOverlap(PLOT_ID, start, harvest, null, null);
+                firstChecked.countDown();
+                // Keep the plot lock while the second transaction runs its check
+                sleep(300);
+                saveSeason("First", start, harvest);
+            }));
+
+            Future<?> second = pool.submit(() -> {
+                await(firstChecked);
+                tx.executeWithoutResult(status -> {
+                    seasonOverlapService.assertNoOverlap(PLOT_ID, start.plusDays(30), harvest.plusDays(30), null, null);
+                    saveSeason("Second", start.plusDays(30), harvest.plusDays(30));
+                });
+            });
+
+            first.get(10, TimeUnit.SECONDS);
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> second.get(10, TimeUnit.SECONDS));
+            AppException appException = assertInstanceOf(AppException.class, failure.getCause());
+            assertEquals(ErrorCode.SEASON_OVERLAP, appException.getErrorCode());
+            assertEquals(1, seasonRepository.count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void consecutiveSeasons_doNotOverlap() {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        LocalDate harvest = start.plusDays(90);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            seasonOverlapService.assertNoOverlap(PLOT_ID, start, harvest, null, null);
+            saveSeason("Spring", start, harvest);
+        });
+        tx.executeWithoutResult(status -> {
+            seasonOverlapService.assertNoOverlap(PLOT_ID, harvest.plusDays(1), harvest.plusDays(91), null, null);
+            saveSeason("Summer", harvest.plusDays(1), harvest.plusDays(91));
+        });
+
+        assertEquals(2, seasonRepository.count());
+        assertTrue(seasonRepository.findAll().stream()
+                .allMatch(season -> season.getEffectiveEndDate().equals(season.getPlannedHarvestDate())));
+    }
+
+    private void saveSeason(String name, LocalDate start, LocalDate plannedHarvest) {
+        seasonRepository.save(Season.builder()
+                .seasonName(name)
+                .plot(plotRepository.getReferenceById(PLOT_ID))
+                .crop(cropRepository.getReferenceById(CROP_ID))
+                .startDate(start)
+                .plannedHarvestDate(plannedHarvest)
+                .status(SeasonStatus.PLANNED)
+                .initialPlantCount(100)
+                .currentPlantCount(100)
+                .build());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.QuanLyMuaVu.service;
+
+import org.example.QuanLyMuaVu.DTO.Response.SeasonProgressResponse;
+import org.example.QuanLyMuaVu.Enums.IncidentStatus;
+import org.example.QuanLyMuaVu.Enums.TaskStatus;
+import org.example.QuanLyMuaVu.Service.SeasonProgressService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counter updates from transactions running side by side, and from one that
+ * is still open while the progress is first read: every change must end up
+ * in the counters exactly once.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:season-progress;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SeasonProgressService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeasonProgressServiceConcurrencyTest {
+
+    private static final int SEASON_ID = 1;
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private SeasonProgressService seasonProgressService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        // Plot, crop and user rows are irrelevant to the counters
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from incidents");
+        jdbcTemplate.update("delete from tasks");
+        jdbcTemplate.update("delete from season_progress");
+        jdbcTemplate.update("delete from seasons");
+    }
+
+    @Test
+    void concurrentChanges_allAddUp() throws Exception {
+        tx.executeWithoutResult(status -> {
+            insertSeason(SEASON_ID);
+            seasonProgressService.seasonCreated(SEASON_ID);
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                writers.add(pool.submit(() -> {
+                    await(start);
+                    tx.executeWithoutResult(status -> {
+                        seasonProgressService.tasksCreated(SEASON_ID, TaskStatus.PENDING, 2);
+                        seasonProgressService.taskChanged(SEASON_ID, TaskStatus.PENDING, TaskStatus.DONE);
+                        seasonProgressService.incidentChanged(SEASON_ID, null, IncidentStatus.OPEN);
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        SeasonProgressResponse progress = seasonProgressService.getProgress(SEASON_ID);
+        assertEquals(2 * WRITERS, progress.getTotalTasks());
+        assertEquals(WRITERS, progress.getDoneTasks());
+        assertEquals(WRITERS, progress.getOpenIncidents());
+        assertEquals(50.0, progress.getProgressPercent());
+    }
+
+    @Test
+    void firstReadWhileTasksAreBeingAdded_losesNothing() throws Exception {
+        // As in a season rollout: the season commits, then its tasks are added asynchronously
+        tx.executeWithoutResult(status -> {
+            insertSeason(SEASON_ID);
+            seasonProgressService.seasonCreated(SEASON_ID);
+        });
+        CountDownLatch tasksInserted = new CountDownLatch(1);
+        CountDownLatch firstReadDone = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> expansion = pool.submit(() -> tx.executeWithoutResult(status -> {
+                for (int i = 0; i < 5; i++) {
+                    insertTask(SEASON_ID, TaskStatus.PENDING);
+                }
+                seasonProgressService.tasksCreated(SEASON_ID, TaskStatus.PENDING, 5);
+                tasksInserted.countDown();
+                // Commit only after the progress has been read once
+                await(firstReadDone);
+            }));
+
+            await(tasksInserted);
+            assertEquals(0, seasonProgressService.getProgress(SEASON_ID).getTotalTasks());
+            firstReadDone.countDown();
+            expansion.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(5, seasonProgressService.getProgress(SEASON_ID).getTotalTasks());
+    }
+
+    @Test
+    void existingSeasonsWithoutCounters_areCountedAtStartup() {
+        insertSeason(SEASON_ID);
+        insertTask(SEASON_ID, TaskStatus.DONE);
+        insertTask(SEASON_ID, TaskStatus.DONE);
+        insertTask(SEASON_ID, TaskStatus.OVERDUE);
+        insertTask(SEASON_ID, TaskStatus.CANCELLED);
+        insertTask(SEASON_ID, TaskStatus.PENDING);
+        insertIncident(SEASON_ID, IncidentStatus.OPEN);
+        insertIncident(SEASON_ID, IncidentStatus.RESOLVED);
+
+        seasonProgressService.afterSingletonsInstantiated();
+        // Counted once: a later change is an increment on the new row
+        tx.executeWithoutResult(status -> {
+            insertTask(SEASON_ID, TaskStatus.PENDING);
+            seasonProgressService.taskChanged(SEASON_ID, null, TaskStatus.PENDING);
+        });
+
+        SeasonProgressResponse progress = seasonProgressService.getProgress(SEASON_ID);
+        assertEquals(6, progress.getTotalTasks());
+        assertEquals(2, progress.getDoneTasks());
+        assertEquals(1, progress.getOverdueTasks());
+        assertEquals(1, progress.getCancelledTasks());
+        assertEquals(1, progress.getOpenIncidents());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from season_progress", Integer.class));
+    }
+
+    private void insertSeason(int seasonId) {
+        jdbcTemplate.update("insert into seasons (season_id, season_name, plot_id, crop_id, start_date, status, "
+                + "initial_plant_count) values (?, 'Dong xuan', 1, 1, '2026-03-01', 'ACTIVE', 100)", seasonId);
+    }
+
+    private void insertTask(int seasonId, TaskStatus status) {
+        jdbcTemplate.update("insert into tasks (user_id, season_id, title, status) values (1, ?, 'Task', ?)",
+                seasonId, status.name());
+    }
+
+    private void insertIncident(int seasonId, IncidentStatus status) {
+        jdbcTemplate.update("insert into incidents (season_id, incident_type, status) values (?, 'PEST', ?)",
+                seasonId, status.name());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.QuanLyMuaVu.service;
+
+import org.example.QuanLyMuaVu.Config.AppProperties;
+import org.example.QuanLyMuaVu.DTO.Response.YieldPredictionResponse;
+import org.example.QuanLyMuaVu.Entity.Crop;
+import org.example.QuanLyMuaVu.Repository.CropRepository;
+import org.example.QuanLyMuaVu.Repository.Projection.YieldTrainingRow;
+import org.example.QuanLyMuaVu.Repository.SeasonRepository;
+import org.example.QuanLyMuaVu.Service.YieldModelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Trains through the service's own background thread and checks the
+ * published predictions.
+ */
+class YieldModelServiceTest {
+
+    private static final int CROP_ID = 1;
+
+    private final List<YieldModelService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(YieldModelService::destroy);
+    }
+
+    @Test
+    void fitsAnExactLinearRelation() throws InterruptedException {
+        List<YieldTrainingRow> rows = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            double area = 1 + i % 5;
+            int plants = 100 + 10 * (i % 7);
+            rows.add(row(i + 1, area, plants, 100 + 20 * area + 0.5 * plants));
+        }
+        YieldModelService service = started(seasonRepository(rows));
+
+        YieldPredictionResponse withPlants = awaitPrediction(service, 150, fitted());
+        // Without a plant count the pool's mean (130) is used
+        YieldPredictionResponse withoutPlants = service.predict(null, CROP_ID, null, null, BigDecimal.valueOf(2),
+                null);
+
+        assertEquals("CROP", withPlants.getModel());
+        assertEquals(35, withPlants.getSampleCount());
+        assertEquals(215, withPlants.getEstimatedYieldKg().doubleValue(), 0.05);
+        assertEquals(205, withoutPlants.getEstimatedYieldKg().doubleValue(), 0.05);
+    }
+
+    @Test
+    void fitsAreaAloneWhenNoPlantCountsAreKnown() throws InterruptedException {
+        List<YieldTrainingRow> rows = new ArrayList<>();
+        for (int area = 1; area <= 6; area++) {
+            rows.add(row(area, area, 0, 50 + 30 * area));
+        }
+        YieldModelService service = started(seasonRepository(rows));
+
+        YieldPredictionResponse prediction = awaitPrediction(service, null, fitted());
+
+        assertEquals("CROP", prediction.getModel());
+        assertEquals(110, prediction.getEstimatedYieldKg().doubleValue(), 0.05);
+    }
+
+    @Test
+    void refreshFoldsChangedSeasonsInLikeARebuild() throws InterruptedException {
+        List<YieldTrainingRow> before = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            before.add(row(id, 1 + id % 3, 100 + 20 * id, 1_000 + 250 * id));
+        }
+        // Season 6 is re-harvested and season 5 is reopened, so it leaves the samples
+        YieldTrainingRow changed = row(6, 3, 220, 9_000);
+        List<YieldTrainingRow> after = new ArrayList<>(before.subList(0, 4));
+        after.add(changed);
+
+        SeasonRepository seasonRepository = seasonRepository(before);
+        when(seasonRepository.findYieldTrainingRows(anyCollection())).thenReturn(List.of(changed));
+        YieldModelService refreshed = started(seasonRepository);
+        YieldModelService rebuilt = started(seasonRepository(after));
+
+        YieldPredictionResponse expected = awaitPrediction(rebuilt, 150, fitted());
+        awaitPrediction(refreshed, 150, prediction -> prediction.getSampleCount() == 6);
+        refreshed.markSeasonChanged(5);
+        refreshed.markSeasonChanged(6);
+        YieldPredictionResponse actual = awaitPrediction(refreshed, 150,
+                prediction -> prediction.getSampleCount() == 5);
+
+        assertEquals("CROP", actual.getModel());
+        assertEquals(5, actual.getSampleCount());
+        assertEquals(expected.getEstimatedYieldKg().doubleValue(), actual.getEstimatedYieldKg().doubleValue(), 0.01);
+    }
+
+    private YieldModelService started(SeasonRepository seasonRepository) {
+        CropRepository cropRepository = mock(CropRepository.class);
+        when(cropRepository.findById(CROP_ID))
+                .thenReturn(Optional.of(Crop.builder().id(CROP_ID).cropName("Lúa").build()));
+        AppProperties appProperties = new AppProperties();
+        appProperties.getYieldModel().setRefreshInterval(Duration.ofSeconds(1));
+        // Without a transaction manager behind it the template just runs the callback
+        YieldModelService service = new YieldModelService(seasonRepository, cropRepository,
+                mock(PlatformTransactionManager.class), appProperties);
+        services.add(service);
+        service.start();
+        return service;
+    }
+
+    /**
+     * Polls until the trainer thread has published a model the check accepts.
+     */
+    private static YieldPredictionResponse awaitPrediction(YieldModelService service, Integer plants,
+            Predicate<YieldPredictionResponse> ready) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        YieldPredictionResponse prediction = service.predict(null, CROP_ID, null, null, BigDecimal.valueOf(2), plants);
+        while (!ready.test(prediction) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            prediction = service.predict(null, CROP_ID, null, null, BigDecimal.valueOf(2), plants);
+        }
+        return prediction;
+    }
+
+    private static Predicate<YieldPredictionResponse> fitted() {
+        return prediction -> !"DEFAULT".equals(prediction.getModel());
+    }
+
+    private static SeasonRepository seasonRepository(List<YieldTrainingRow> rows) {
+        SeasonRepository seasonRepository = mock(SeasonRepository.class);
+        when(seasonRepository.streamYieldTrainingRows()).thenAnswer(invocation -> rows.stream());
+        return seasonRepository;
+    }
+
+    private static YieldTrainingRow row(int seasonId, double area, int plants, double yieldKg) {
+        return new YieldTrainingRow(seasonId, CROP_ID, null, null, BigDecimal.valueOf(area), plants,
+                BigDecimal.valueOf(yieldKg));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.QuanLyMuaVu.util;
+
+import org.example.QuanLyMuaVu.Enums.ExportFormat;
+import org.example.QuanLyMuaVu.Util.RowWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowWriterTest {
+
+    @Test
+    void prefixesAndQuotesTextThatStartsLikeAFormula() throws IOException {
+        String csv = write(List.of("=HYPERLINK(\"http://x\")", "+1", "-cmd", "@SUM(A1)", "\tx", "\rx"));
+
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\",\"'+1\",\"'-cmd\",\"'@SUM(A1)\",\"'\tx\",\"'\rx\"\r\n",
+                csv);
+    }
+
+    @Test
+    void leavesNumbersAndPlainTextAlone() throws IOException {
+        String csv = write(Arrays.asList(-5, new BigDecimal("-12.50"), "Lúa, vụ đông", "a=b", null, ""));
+
+        assertEquals("-5,-12.50,\"Lúa, vụ đông\",a=b,,\r\n", csv);
+    }
+
+    private static String write(List<?> row) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RowWriter writer = RowWriter.open(ExportFormat.CSV, out, "test", List.of("h"))) {
+            writer.writeRow(row);
+        }
+        String text = out.toString(StandardCharsets.UTF_8);
+        // Drop the byte order mark and the header row
+        return text.substring(text.indexOf("\r\n") + 2);
+    }
+}